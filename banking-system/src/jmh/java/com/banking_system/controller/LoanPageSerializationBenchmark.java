@@ -0,0 +1,81 @@
+package com.banking_system.controller;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import com.banking_system.model.Loan;
+import com.banking_system.model.LoanStatus;
+import com.banking_system.model.dto.LoanResponse;
+import com.banking_system.model.dto.PricingResponse;
+
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Jackson serialization of a {@code GET /api/loans/paginated} response body.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoanPageSerializationBenchmark {
+
+	@Param({ "20", "100" })
+	public int pageSize;
+
+	private final JsonMapper jsonMapper = JsonMapper.builder().build();
+	private Page<LoanResponse> page;
+
+	@Setup
+	public void setUp() {
+		Instant now = Instant.now();
+		String user = new ObjectId().toHexString();
+		List<LoanResponse> content = new ArrayList<>(pageSize);
+		for (int i = 0; i < pageSize; i++) {
+			content.add(new LoanResponse(
+					new ObjectId().toHexString(),
+					"Client " + i + " Pvt Ltd",
+					i % 2 == 0 ? "TermLoan" : "WorkingCapital",
+					10_000_000.0 + 250_000.0 * i,
+					11.5,
+					36,
+					new Loan.Financials(120_000_000.0, 14_000_000.0, "B"),
+					LoanStatus.SUBMITTED,
+					null,
+					null,
+					user,
+					user,
+					null,
+					null,
+					now,
+					now,
+					new PricingResponse(12.0, 332_143.1, 1_957_151.6, "MEDIUM"),
+					new Loan.CreditScore(71.4, "B", 0x5DEECE66DL, "linear-v1", now)));
+		}
+		page = new PageImpl<>(content, PageRequest.of(0, pageSize), 10_000);
+	}
+
+	@Benchmark
+	public byte[] serializePage() {
+		return jsonMapper.writeValueAsBytes(page);
+	}
+}
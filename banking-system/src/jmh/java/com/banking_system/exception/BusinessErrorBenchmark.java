@@ -0,0 +1,96 @@
+package com.banking_system.exception;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * The 4xx path end to end: throw from {@code depth} frames down (a Spring MVC request
+ * is well over a hundred frames deep by the time a service throws), catch, build the
+ * {@link ApiError} and serialize it. {@code stackless} throws a {@link BusinessException};
+ * {@code stackTrace} throws an otherwise identical exception that captures its stack, as
+ * the business exceptions did before.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BusinessErrorBenchmark {
+
+	@Param({ "16", "128" })
+	public int depth;
+
+	private GlobalExceptionHandler handler;
+	private MockHttpServletRequest request;
+	private JsonMapper mapper;
+
+	@Setup
+	public void setUp() {
+		handler = new GlobalExceptionHandler(new SimpleMeterRegistry());
+		request = new MockHttpServletRequest("POST", "/api/accounts/transfer");
+		mapper = JsonMapper.builder().build();
+	}
+
+	@Benchmark
+	public byte[] stackless() {
+		try {
+			throwFrom(depth, true);
+			throw new AssertionError();
+		} catch (BusinessException ex) {
+			return mapper.writeValueAsBytes(handler.handleBusiness(ex, request).getBody());
+		}
+	}
+
+	@Benchmark
+	public byte[] stackTrace() {
+		try {
+			throwFrom(depth, false);
+			throw new AssertionError();
+		} catch (StackCapturingException ex) {
+			ResponseEntity<ApiError> response = ResponseEntity.badRequest().body(new ApiError(
+					Instant.now(),
+					HttpStatus.BAD_REQUEST.value(),
+					HttpStatus.BAD_REQUEST.getReasonPhrase(),
+					ex.getMessage(),
+					request.getRequestURI(),
+					null));
+			return mapper.writeValueAsBytes(response.getBody());
+		}
+	}
+
+	private static void throwFrom(int frames, boolean stackless) {
+		if (frames > 0) {
+			throwFrom(frames - 1, stackless);
+			return;
+		}
+		if (stackless) {
+			throw new InsufficientBalanceException();
+		}
+		throw new StackCapturingException("Insufficient balance");
+	}
+
+	private static final class StackCapturingException extends RuntimeException {
+		StackCapturingException(String message) {
+			super(message);
+		}
+	}
+}
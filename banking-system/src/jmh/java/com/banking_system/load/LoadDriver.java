@@ -0,0 +1,147 @@
+package com.banking_system.load;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Closed-loop HTTP load driver: {@code load.concurrency} connections each keep exactly
+ * one GET in flight against {@code load.url} for {@code load.duration} seconds, after a
+ * {@code load.warmup} whose requests are not recorded. Requests are sent with the
+ * asynchronous {@link HttpClient} on a small pool, so 10k concurrent connections do not
+ * need 10k client threads and the driver runs on Java 17.
+ *
+ * Used to compare the server's platform- and virtual-thread modes and the MVC and
+ * reactive loan endpoints (see the README). {@code load.url} may list several URLs,
+ * comma-separated; they are run one after another under the same settings. Each run
+ * prints throughput, error counts and latency percentiles.
+ */
+public final class LoadDriver {
+
+	// Latency samples kept for percentiles; later samples are counted but not kept
+	private static final int MAX_SAMPLES = 5_000_000;
+
+	private final HttpClient client;
+	private final HttpRequest request;
+	private final int concurrency;
+	private final AtomicLongArray samples = new AtomicLongArray(MAX_SAMPLES);
+	private final AtomicInteger sampleCount = new AtomicInteger();
+	private final AtomicLong completed = new AtomicLong();
+	private final AtomicLong non2xx = new AtomicLong();
+	private final AtomicLong failures = new AtomicLong();
+	private final AtomicInteger inFlight = new AtomicInteger();
+	private volatile boolean recording;
+	private volatile boolean running = true;
+
+	private LoadDriver(HttpClient client, HttpRequest request, int concurrency) {
+		this.client = client;
+		this.request = request;
+		this.concurrency = concurrency;
+	}
+
+	public static void main(String[] args) throws InterruptedException {
+		String urls = System.getProperty("load.url", "http://localhost:8080/api/loans?page=0&size=20");
+		String token = System.getProperty("load.token", "");
+		int concurrency = Integer.getInteger("load.concurrency", 10_000);
+		int warmupSeconds = Integer.getInteger("load.warmup", 10);
+		int durationSeconds = Integer.getInteger("load.duration", 30);
+
+		ExecutorService pool = Executors.newFixedThreadPool(Math.max(2, Runtime.getRuntime().availableProcessors()));
+		HttpClient client = HttpClient.newBuilder()
+				.version(HttpClient.Version.HTTP_1_1)
+				.connectTimeout(Duration.ofSeconds(30))
+				.executor(pool)
+				.build();
+		for (String url : urls.split(",")) {
+			HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url.trim()))
+					.timeout(Duration.ofSeconds(60))
+					.GET();
+			if (!token.isBlank()) {
+				builder.header("Authorization", "Bearer " + token);
+			}
+			System.out.printf(Locale.ROOT, "GET %s with %d connections: %ds warmup, %ds measured%n",
+					url.trim(), concurrency, warmupSeconds, durationSeconds);
+			new LoadDriver(client, builder.build(), concurrency).run(warmupSeconds, durationSeconds);
+		}
+		pool.shutdownNow();
+	}
+
+	private void run(int warmupSeconds, int durationSeconds) throws InterruptedException {
+		for (int i = 0; i < concurrency; i++) {
+			send();
+		}
+		TimeUnit.SECONDS.sleep(warmupSeconds);
+		recording = true;
+		long started = System.nanoTime();
+		TimeUnit.SECONDS.sleep(durationSeconds);
+		recording = false;
+		double elapsed = (System.nanoTime() - started) / 1e9;
+		running = false;
+		report(elapsed);
+
+		// Let the outstanding requests finish so they do not load the next URL's run
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+		while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+			TimeUnit.MILLISECONDS.sleep(100);
+		}
+	}
+
+	private void send() {
+		if (!running) {
+			return;
+		}
+		long started = System.nanoTime();
+		inFlight.incrementAndGet();
+		client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, error) -> {
+			inFlight.decrementAndGet();
+			if (recording) {
+				completed.incrementAndGet();
+				if (error != null) {
+					failures.incrementAndGet();
+				} else {
+					if (response.statusCode() / 100 != 2) {
+						non2xx.incrementAndGet();
+					}
+					int slot = sampleCount.getAndIncrement();
+					if (slot < MAX_SAMPLES) {
+						samples.set(slot, System.nanoTime() - started);
+					}
+				}
+			}
+			send();
+		});
+	}
+
+	private void report(double elapsedSeconds) {
+		int kept = Math.min(sampleCount.get(), MAX_SAMPLES);
+		long[] latencies = new long[kept];
+		for (int i = 0; i < kept; i++) {
+			latencies[i] = samples.get(i);
+		}
+		Arrays.sort(latencies);
+		System.out.printf(Locale.ROOT, "connections  %d%n", concurrency);
+		System.out.printf(Locale.ROOT, "requests     %d (%.0f/s)%n", completed.get(), completed.get() / elapsedSeconds);
+		System.out.printf(Locale.ROOT, "non-2xx      %d%n", non2xx.get());
+		System.out.printf(Locale.ROOT, "failures     %d%n", failures.get());
+		if (kept > 0) {
+			System.out.printf(Locale.ROOT, "latency ms   p50 %.1f  p95 %.1f  p99 %.1f  max %.1f%n",
+					percentile(latencies, 0.50), percentile(latencies, 0.95), percentile(latencies, 0.99),
+					latencies[kept - 1] / 1e6);
+		}
+	}
+
+	private static double percentile(long[] sorted, double p) {
+		int index = (int) Math.ceil(p * sorted.length) - 1;
+		return sorted[Math.max(0, index)] / 1e6;
+	}
+}
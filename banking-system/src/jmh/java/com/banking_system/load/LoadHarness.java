@@ -0,0 +1,136 @@
+package com.banking_system.load;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.banking_system.BankingSystemApplication;
+
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Boots the application in-process on an in-memory MongoDB stand-in (mongo-java-server,
+ * which speaks the wire protocol on a local port) and runs {@link LoadScenario} against
+ * it, so throughput changes can be measured reproducibly without a database install.
+ *
+ * Settings are system properties, set from the {@code load.*} properties of the
+ * {@code benchmarks} profile; any other system property (such as
+ * {@code spring.threads.virtual.enabled}) reaches the application as usual. Prints a table
+ * and writes the JSON summary to {@code load.summary}.
+ *
+ * The stand-in has no query planner, indexes or journaling, so absolute numbers are not
+ * production numbers; use the harness to compare builds and settings with each other.
+ */
+public final class LoadHarness {
+
+	private static final String ADMIN_EMAIL = "load-admin@bank.test";
+	private static final String ADMIN_PASSWORD = "LoadAdmin@12345";
+
+	private LoadHarness() {
+	}
+
+	public static void main(String[] args) {
+		// DevTools is on the test classpath; its restart would boot the application twice
+		System.setProperty("spring.devtools.restart.enabled", "false");
+		// The stand-in does not release every Netty buffer; leak tracking only adds noise and cost
+		System.setProperty("io.netty.leakDetection.level", "disabled");
+		int status = 0;
+		try {
+			run(args);
+		} catch (Exception e) {
+			e.printStackTrace();
+			status = 1;
+		}
+		// The stand-in's event loop threads are not daemons
+		System.exit(status);
+	}
+
+	private static void run(String[] args) throws Exception {
+		double rps = Double.parseDouble(System.getProperty("load.rps", "500"));
+		int clients = Integer.getInteger("load.clients", 200);
+		int users = Integer.getInteger("load.users", 50);
+		int accounts = Math.max(2, Integer.getInteger("load.accounts", 200));
+		int warmupSeconds = Integer.getInteger("load.warmup", 10);
+		int durationSeconds = Integer.getInteger("load.duration", 30);
+		String mix = System.getProperty("load.mix",
+				"login=5,createLoan=15,getLoan=20,listLoans=15,updateLoan=5,advanceStatus=10,pricing=15,transfer=15");
+		Path summaryFile = Path.of(System.getProperty("load.summary", "target/load-summary.json"));
+
+		MongoServer mongo = new MongoServer(new MemoryBackend());
+		InetSocketAddress mongoAddress = mongo.bind();
+		String mongoUri = "mongodb://" + mongoAddress.getHostString() + ":" + mongoAddress.getPort() + "/bankingsystem";
+		ConfigurableApplicationContext app = null;
+		try {
+			// Command-line arguments, so they override application.yml and its environment defaults
+			List<String> arguments = new ArrayList<>(List.of(
+					"--spring.mongodb.uri=" + mongoUri,
+					"--spring.data.mongodb.uri=" + mongoUri,
+					"--server.port=0",
+					"--management.server.port=0",
+					"--app.bootstrap.admin.enabled=true",
+					"--app.bootstrap.admin.email=" + ADMIN_EMAIL,
+					"--app.bootstrap.admin.password=" + ADMIN_PASSWORD,
+					"--logging.level.root=WARN",
+					"--logging.level.com.banking_system=WARN"));
+			arguments.addAll(List.of(args));
+			app = new SpringApplicationBuilder(BankingSystemApplication.class)
+					.run(arguments.toArray(String[]::new));
+			int port = app.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+
+			HttpClient client = HttpClient.newBuilder()
+					.version(HttpClient.Version.HTTP_1_1)
+					.connectTimeout(Duration.ofSeconds(30))
+					.build();
+			LoadScenario scenario = new LoadScenario(URI.create("http://localhost:" + port), client,
+					LoadScenario.parseMix(mix));
+			System.out.printf(Locale.ROOT, "Seeding %d users and %d accounts%n", users, accounts);
+			scenario.seed(ADMIN_EMAIL, ADMIN_PASSWORD, users, accounts);
+
+			System.out.printf(Locale.ROOT, "%.0f req/s, up to %d in flight: %ds warmup, %ds measured%n",
+					rps, clients, warmupSeconds, durationSeconds);
+			LoadSummary summary = scenario.run(rps, clients,
+					Duration.ofSeconds(warmupSeconds), Duration.ofSeconds(durationSeconds), new LoadSummary());
+
+			Map<String, Object> run = new LinkedHashMap<>();
+			run.put("targetRps", rps);
+			run.put("clients", clients);
+			run.put("users", users);
+			run.put("accounts", accounts);
+			run.put("warmupSeconds", warmupSeconds);
+			run.put("durationSeconds", durationSeconds);
+			run.put("mix", mix);
+			run.put("java", Runtime.version().toString());
+			run.put("threads", Threading.VIRTUAL.isActive(app.getEnvironment()) ? "virtual" : "platform");
+			run.put("mongo", "mongo-java-server (in-memory)");
+
+			System.out.print(summary.table(durationSeconds));
+			Map<String, Object> json = summary.toMap(run, durationSeconds, scenario.unsent());
+			if (summaryFile.getParent() != null) {
+				Files.createDirectories(summaryFile.getParent());
+			}
+			Files.writeString(summaryFile, JsonMapper.builder().build()
+					.writerWithDefaultPrettyPrinter()
+					.writeValueAsString(json));
+			System.out.println("Summary written to " + summaryFile.toAbsolutePath());
+		} finally {
+			if (app != null) {
+				app.close();
+			}
+			mongo.shutdownNow();
+		}
+	}
+}
@@ -0,0 +1,370 @@
+package com.banking_system.load;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Mixed banking workload driven open-loop at a fixed rate: requests are scheduled every
+ * {@code 1 / rps} seconds whether or not earlier ones have completed, with at most
+ * {@code clients} in flight. Scheduled requests beyond that limit wait in a backlog and
+ * their latency keeps running from the scheduled time.
+ *
+ * Operations keep the state they need between calls: logins refresh a user's token,
+ * created loans feed reads, edits and the DRAFT to APPROVED/REJECTED pipeline, and
+ * transfers move small amounts between the seeded accounts. An operation whose input is
+ * not available yet (no draft to edit, say) falls back to creating a loan.
+ */
+final class LoadScenario {
+
+	enum Operation {
+		LOGIN("login"),
+		CREATE_LOAN("createLoan"),
+		GET_LOAN("getLoan"),
+		LIST_LOANS("listLoans"),
+		UPDATE_LOAN("updateLoan"),
+		ADVANCE_STATUS("advanceStatus"),
+		PRICING("pricing"),
+		TRANSFER("transfer");
+
+		final String key;
+
+		Operation(String key) {
+			this.key = key;
+		}
+
+		static Operation of(String key) {
+			for (Operation op : values()) {
+				if (op.key.equals(key)) {
+					return op;
+				}
+			}
+			throw new IllegalArgumentException("Unknown operation in load.mix: " + key);
+		}
+	}
+
+	static final String USER_PASSWORD = "Load@12345";
+	private static final String[] LOAN_TYPES = { "TermLoan", "WorkingCapital", "Overdraft" };
+	private static final String[] RATINGS = { "A", "B", "C", "D" };
+	// Recently created loans that reads and pricing pick from
+	private static final int RECENT_LOANS = 4096;
+
+	private final URI baseUri;
+	private final HttpClient client;
+	private final JsonMapper mapper = JsonMapper.builder().build();
+	private final Operation[] schedule;
+
+	private final List<Session> users = new ArrayList<>();
+	private final List<String> accounts = new ArrayList<>();
+	private volatile String adminToken;
+	private final AtomicReferenceArray<String> recentLoans = new AtomicReferenceArray<>(RECENT_LOANS);
+	private final AtomicLong loansCreated = new AtomicLong();
+	private final Queue<Draft> drafts = new ConcurrentLinkedQueue<>();
+	private final Queue<String> submitted = new ConcurrentLinkedQueue<>();
+	private final Queue<String> underReview = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger inFlight = new AtomicInteger();
+	private long unsent;
+
+	LoadScenario(URI baseUri, HttpClient client, Map<Operation, Integer> mix) {
+		this.baseUri = baseUri;
+		this.client = client;
+		List<Operation> weighted = new ArrayList<>();
+		mix.forEach((op, weight) -> {
+			for (int i = 0; i < weight; i++) {
+				weighted.add(op);
+			}
+		});
+		if (weighted.isEmpty()) {
+			throw new IllegalArgumentException("load.mix has no positive weights");
+		}
+		this.schedule = weighted.toArray(Operation[]::new);
+	}
+
+	/** Parses {@code login=5,createLoan=15,...}; operations left out get no traffic. */
+	static Map<Operation, Integer> parseMix(String mix) {
+		Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+		for (String part : mix.split(",")) {
+			String[] pair = part.trim().split("=");
+			if (pair.length != 2) {
+				throw new IllegalArgumentException("Expected operation=weight in load.mix: " + part);
+			}
+			weights.put(Operation.of(pair[0].trim()), Integer.parseInt(pair[1].trim()));
+		}
+		return weights;
+	}
+
+	/**
+	 * Creates the users, funded accounts and a first batch of loans the workload runs on,
+	 * synchronously and outside the measurement.
+	 */
+	void seed(String adminEmail, String adminPassword, int userCount, int accountCount) throws Exception {
+		adminToken = login(adminEmail, adminPassword);
+		for (int i = 0; i < userCount; i++) {
+			String email = "load-user-" + i + "@bank.test";
+			send(post("/api/admin/users", adminToken,
+					Map.of("email", email, "password", USER_PASSWORD, "role", "USER")));
+			users.add(new Session(email, login(email, USER_PASSWORD)));
+		}
+		for (int i = 0; i < accountCount; i++) {
+			JsonNode account = send(post("/api/accounts", adminToken, Map.of("holderName", "Load Holder " + i)));
+			String number = account.path("accountNumber").asString();
+			send(put("/api/accounts/" + number + "/deposit", adminToken, Map.of("amount", 1_000_000.0)));
+			accounts.add(number);
+		}
+		for (Session user : users) {
+			for (int i = 0; i < 2; i++) {
+				loanCreated(send(post("/api/loans", user.token, newLoan())), user);
+			}
+		}
+	}
+
+	/**
+	 * Runs {@code warmup} then {@code duration} at {@code rps}; only requests scheduled in
+	 * the measured window are recorded.
+	 */
+	LoadSummary run(double rps, int clients, Duration warmup, Duration duration, LoadSummary summary) {
+		long intervalNanos = Math.max(1L, (long) (1e9 / rps));
+		long start = System.nanoTime();
+		long measureFrom = start + warmup.toNanos();
+		long end = measureFrom + duration.toNanos();
+		long next = start;
+		ArrayDeque<Long> backlog = new ArrayDeque<>();
+
+		long now;
+		while ((now = System.nanoTime()) < end) {
+			while (next <= now) {
+				backlog.add(next);
+				next += intervalNanos;
+			}
+			while (!backlog.isEmpty() && inFlight.get() < clients) {
+				long scheduled = backlog.poll();
+				dispatch(scheduled, scheduled >= measureFrom ? summary : null);
+			}
+			LockSupport.parkNanos(Math.max(50_000L, Math.min(next - System.nanoTime(), 1_000_000L)));
+		}
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+		while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+			LockSupport.parkNanos(10_000_000L);
+		}
+		unsent = backlog.stream().filter(scheduled -> scheduled >= measureFrom).count();
+		return summary;
+	}
+
+	long unsent() {
+		return unsent;
+	}
+
+	private void dispatch(long scheduledNanos, LoadSummary summary) {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		Call call = call(schedule[random.nextInt(schedule.length)], random);
+		inFlight.incrementAndGet();
+		client.sendAsync(call.request, HttpResponse.BodyHandlers.ofString()).whenComplete((response, error) -> {
+			inFlight.decrementAndGet();
+			int status = error != null ? -1 : response.statusCode();
+			if (summary != null) {
+				summary.record(call.operation.key, System.nanoTime() - scheduledNanos, status);
+			}
+			if (status / 100 == 2) {
+				if (call.onSuccess != null) {
+					call.onSuccess.accept(mapper.readTree(response.body()));
+				}
+			} else if (call.onFailure != null) {
+				call.onFailure.run();
+			}
+		});
+	}
+
+	private Call call(Operation operation, ThreadLocalRandom random) {
+		Session user = users.get(random.nextInt(users.size()));
+		String loanId = randomLoan(random);
+		switch (operation) {
+			case LOGIN:
+				return new Call(operation, post("/api/auth/login", null,
+						Map.of("email", user.email, "password", USER_PASSWORD)),
+						body -> user.token = body.path("accessToken").asString(), null);
+			case GET_LOAN:
+				if (loanId != null) {
+					return new Call(operation, get("/api/loans/" + loanId, user.token), null, null);
+				}
+				break;
+			case LIST_LOANS:
+				return new Call(operation, get("/api/loans/paginated?page=" + random.nextInt(5) + "&size=20", user.token),
+						null, null);
+			case UPDATE_LOAN: {
+				Draft draft = drafts.poll();
+				if (draft != null) {
+					return new Call(operation, put("/api/loans/" + draft.loanId, draft.owner.token,
+							Map.of("requestedAmount", amount(random), "proposedInterestRate", rate(random))),
+							body -> drafts.add(draft), () -> drafts.add(draft));
+				}
+				break;
+			}
+			case ADVANCE_STATUS: {
+				Call advance = advance(random);
+				if (advance != null) {
+					return advance;
+				}
+				break;
+			}
+			case PRICING:
+				if (loanId != null) {
+					return new Call(operation, get("/api/loans/" + loanId + "/pricing", user.token), null, null);
+				}
+				break;
+			case TRANSFER: {
+				int from = random.nextInt(accounts.size());
+				int to = (from + 1 + random.nextInt(accounts.size() - 1)) % accounts.size();
+				return new Call(operation, post("/api/accounts/transfer", user.token, Map.of(
+						"sourceAccount", accounts.get(from),
+						"destinationAccount", accounts.get(to),
+						"amount", (double) (1 + random.nextInt(100)))), null, null);
+			}
+			case CREATE_LOAN:
+				break;
+		}
+		return new Call(Operation.CREATE_LOAN, post("/api/loans", user.token, newLoan()),
+				body -> loanCreated(body, user), null);
+	}
+
+	/** Moves one loan a step along DRAFT, SUBMITTED, UNDER_REVIEW, then APPROVED or REJECTED. */
+	private Call advance(ThreadLocalRandom random) {
+		String reviewed = underReview.poll();
+		if (reviewed != null) {
+			String decision = random.nextInt(4) == 0 ? "REJECTED" : "APPROVED";
+			return statusChange(reviewed, adminToken, decision, null, () -> underReview.add(reviewed));
+		}
+		String pending = submitted.poll();
+		if (pending != null) {
+			return statusChange(pending, adminToken, "UNDER_REVIEW", () -> underReview.add(pending),
+					() -> submitted.add(pending));
+		}
+		Draft draft = drafts.poll();
+		if (draft != null) {
+			return statusChange(draft.loanId, draft.owner.token, "SUBMITTED", () -> submitted.add(draft.loanId),
+					() -> drafts.add(draft));
+		}
+		return null;
+	}
+
+	private Call statusChange(String loanId, String token, String status, Runnable onSuccess, Runnable onFailure) {
+		return new Call(Operation.ADVANCE_STATUS,
+				patch("/api/loans/" + loanId + "/status", token, Map.of("status", status, "comments", "load test")),
+				onSuccess != null ? body -> onSuccess.run() : null, onFailure);
+	}
+
+	private void loanCreated(JsonNode loan, Session owner) {
+		String id = loan.path("id").asString();
+		recentLoans.set((int) (loansCreated.getAndIncrement() % RECENT_LOANS), id);
+		drafts.add(new Draft(id, owner));
+	}
+
+	private String randomLoan(ThreadLocalRandom random) {
+		long created = loansCreated.get();
+		if (created == 0) {
+			return null;
+		}
+		return recentLoans.get(random.nextInt((int) Math.min(created, RECENT_LOANS)));
+	}
+
+	private static Map<String, Object> newLoan() {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		double revenue = 5_000_000.0 + random.nextDouble(500_000_000.0);
+		return Map.of(
+				"clientName", "Load Client " + random.nextInt(100_000),
+				"loanType", LOAN_TYPES[random.nextInt(LOAN_TYPES.length)],
+				"requestedAmount", amount(random),
+				"proposedInterestRate", rate(random),
+				"tenureMonths", 12 + random.nextInt(349),
+				"financials", Map.of(
+						"revenue", revenue,
+						"ebitda", revenue * (0.05 + random.nextDouble(0.25)),
+						"rating", RATINGS[random.nextInt(RATINGS.length)]));
+	}
+
+	private static double amount(ThreadLocalRandom random) {
+		return Math.round(1_000_000.0 + random.nextDouble(99_000_000.0));
+	}
+
+	private static double rate(ThreadLocalRandom random) {
+		return Math.round((8.0 + random.nextDouble(6.0)) * 100.0) / 100.0;
+	}
+
+	private String login(String email, String password) throws Exception {
+		return send(post("/api/auth/login", null, Map.of("email", email, "password", password)))
+				.path("accessToken").asString();
+	}
+
+	private JsonNode send(HttpRequest request) throws Exception {
+		HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+		if (response.statusCode() / 100 != 2) {
+			throw new IllegalStateException(request.method() + " " + request.uri() + " returned "
+					+ response.statusCode() + ": " + response.body());
+		}
+		return mapper.readTree(response.body());
+	}
+
+	private HttpRequest get(String path, String token) {
+		return request(path, token).GET().build();
+	}
+
+	private HttpRequest post(String path, String token, Object body) {
+		return request(path, token).POST(json(body)).build();
+	}
+
+	private HttpRequest put(String path, String token, Object body) {
+		return request(path, token).PUT(json(body)).build();
+	}
+
+	private HttpRequest patch(String path, String token, Object body) {
+		return request(path, token).method("PATCH", json(body)).build();
+	}
+
+	private HttpRequest.Builder request(String path, String token) {
+		HttpRequest.Builder builder = HttpRequest.newBuilder(baseUri.resolve(path))
+				.timeout(Duration.ofSeconds(60))
+				.header("Content-Type", "application/json");
+		if (token != null) {
+			builder.header("Authorization", "Bearer " + token);
+		}
+		return builder;
+	}
+
+	private HttpRequest.BodyPublisher json(Object body) {
+		return HttpRequest.BodyPublishers.ofString(mapper.writeValueAsString(body));
+	}
+
+	private static final class Session {
+		final String email;
+		volatile String token;
+
+		Session(String email, String token) {
+			this.email = email;
+			this.token = token;
+		}
+	}
+
+	private record Draft(String loanId, Session owner) {
+	}
+
+	private record Call(Operation operation, HttpRequest request, Consumer<JsonNode> onSuccess, Runnable onFailure) {
+	}
+}
@@ -0,0 +1,138 @@
+package com.banking_system.load;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Per-operation latency histograms and outcome counts for one {@link LoadScenario} run.
+ *
+ * Latencies are recorded in microseconds from the moment a request was scheduled, not
+ * when it was sent, so time spent waiting behind a saturated server counts (no
+ * coordinated omission). 2xx responses are successes, 4xx are rejections (business
+ * refusals such as insufficient balance), 5xx and transport failures are errors.
+ */
+final class LoadSummary {
+
+	private static final double[] PERCENTILES = { 50.0, 75.0, 90.0, 95.0, 99.0, 99.9, 99.99 };
+
+	private final Map<String, Outcomes> operations = new ConcurrentHashMap<>();
+
+	void record(String operation, long latencyNanos, int status) {
+		operations.computeIfAbsent(operation, op -> new Outcomes()).record(latencyNanos, status);
+	}
+
+	/** Machine-readable summary; histograms are HdrHistogram's compressed base64 encoding. */
+	Map<String, Object> toMap(Map<String, Object> run, double elapsedSeconds, long unsent) {
+		Histogram total = new Histogram(3);
+		long requests = 0;
+		long errors = 0;
+		long rejections = 0;
+		Map<String, Object> perOperation = new TreeMap<>();
+		for (Map.Entry<String, Outcomes> entry : operations.entrySet()) {
+			Outcomes outcomes = entry.getValue();
+			total.add(outcomes.latency);
+			requests += outcomes.count.sum();
+			errors += outcomes.errors.sum();
+			rejections += outcomes.rejections.sum();
+			perOperation.put(entry.getKey(), outcomes.toMap(elapsedSeconds));
+		}
+
+		Map<String, Object> summary = new LinkedHashMap<>();
+		summary.put("finishedAt", Instant.now().toString());
+		summary.put("run", run);
+		summary.put("elapsedSeconds", elapsedSeconds);
+		summary.put("requests", requests);
+		summary.put("throughputPerSecond", requests / elapsedSeconds);
+		summary.put("errors", errors);
+		summary.put("errorRate", rate(errors, requests));
+		summary.put("rejections", rejections);
+		summary.put("rejectionRate", rate(rejections, requests));
+		// Scheduled requests never sent because the client limit was reached until the end
+		summary.put("unsent", unsent);
+		summary.put("latencyMicros", latency(total));
+		summary.put("operations", perOperation);
+		return summary;
+	}
+
+	String table(double elapsedSeconds) {
+		StringBuilder out = new StringBuilder(String.format(Locale.ROOT,
+				"%-14s %9s %9s %7s %7s %9s %9s %9s %9s%n",
+				"operation", "requests", "req/s", "err%", "rej%", "p50 ms", "p99 ms", "p99.9 ms", "max ms"));
+		new TreeMap<>(operations).forEach((name, o) -> {
+			long count = o.count.sum();
+			out.append(String.format(Locale.ROOT, "%-14s %9d %9.1f %7.2f %7.2f %9.2f %9.2f %9.2f %9.2f%n",
+					name, count, count / elapsedSeconds,
+					100.0 * rate(o.errors.sum(), count), 100.0 * rate(o.rejections.sum(), count),
+					o.latency.getValueAtPercentile(50.0) / 1e3, o.latency.getValueAtPercentile(99.0) / 1e3,
+					o.latency.getValueAtPercentile(99.9) / 1e3, o.latency.getMaxValue() / 1e3));
+		});
+		return out.toString();
+	}
+
+	private static double rate(long part, long whole) {
+		return whole == 0 ? 0.0 : (double) part / whole;
+	}
+
+	private static Map<String, Object> latency(Histogram histogram) {
+		Map<String, Object> latency = new LinkedHashMap<>();
+		latency.put("min", histogram.getMinValue());
+		latency.put("mean", histogram.getMean());
+		for (double p : PERCENTILES) {
+			latency.put("p" + (p == Math.rint(p) ? String.valueOf((long) p) : String.valueOf(p)),
+					histogram.getValueAtPercentile(p));
+		}
+		latency.put("max", histogram.getMaxValue());
+		ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+		int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+		latency.put("histogram", Base64.getEncoder().encodeToString(Arrays.copyOf(buffer.array(), length)));
+		return latency;
+	}
+
+	private static final class Outcomes {
+		// Auto-resizing, three significant digits
+		private final ConcurrentHistogram latency = new ConcurrentHistogram(3);
+		private final LongAdder count = new LongAdder();
+		private final LongAdder errors = new LongAdder();
+		private final LongAdder rejections = new LongAdder();
+		private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+
+		void record(long latencyNanos, int status) {
+			latency.recordValue(Math.max(1, latencyNanos / 1_000));
+			count.increment();
+			statuses.computeIfAbsent(status, s -> new LongAdder()).increment();
+			if (status < 0 || status >= 500) {
+				errors.increment();
+			} else if (status >= 400) {
+				rejections.increment();
+			}
+		}
+
+		Map<String, Object> toMap(double elapsedSeconds) {
+			long requests = count.sum();
+			Map<String, Object> map = new LinkedHashMap<>();
+			map.put("requests", requests);
+			map.put("throughputPerSecond", requests / elapsedSeconds);
+			map.put("errors", errors.sum());
+			map.put("errorRate", rate(errors.sum(), requests));
+			map.put("rejections", rejections.sum());
+			map.put("rejectionRate", rate(rejections.sum(), requests));
+			Map<String, Long> byStatus = new TreeMap<>();
+			// -1 is a transport failure (connect, timeout)
+			statuses.forEach((status, n) -> byStatus.put(String.valueOf(status), n.sum()));
+			map.put("statuses", byStatus);
+			map.put("latencyMicros", latency(latency));
+			return map;
+		}
+	}
+}
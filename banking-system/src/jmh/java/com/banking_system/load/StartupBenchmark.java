@@ -0,0 +1,198 @@
+package com.banking_system.load;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Measures time to first successful request of the packaged application: from launching
+ * the JVM to the first {@code 200} from {@code POST /api/auth/login} as the bootstrap
+ * admin. That request needs the web server, the security filter chain, the Mongo
+ * repositories and the seeded admin, so it is a fair stand-in for "ready for traffic".
+ *
+ * Each mode starts the extracted jar of the {@code fast-startup} profile in a fresh JVM
+ * against a fresh in-memory Mongo stand-in, {@code startup.runs} times:
+ * <ul>
+ * <li>{@code jar}: the extracted jar as is</li>
+ * <li>{@code aot}: with {@code -Dspring.aot.enabled=true}, using the AOT-generated bean
+ * definitions and repository implementations</li>
+ * <li>{@code aot-cds}: AOT plus the AppCDS archive recorded by the profile's training run</li>
+ * </ul>
+ * Prints min, median and max per mode and writes them to {@code startup.summary}.
+ */
+public final class StartupBenchmark {
+
+	private static final String ADMIN_EMAIL = "startup-admin@bank.test";
+	private static final String ADMIN_PASSWORD = "StartupAdmin@12345";
+	private static final Duration TIMEOUT = Duration.ofSeconds(120);
+
+	private StartupBenchmark() {
+	}
+
+	public static void main(String[] args) {
+		int status = 0;
+		try {
+			run();
+		} catch (Exception e) {
+			e.printStackTrace();
+			status = 1;
+		}
+		// The stand-in's event loop threads are not daemons
+		System.exit(status);
+	}
+
+	private static void run() throws Exception {
+		Path jar = Path.of(System.getProperty("startup.jar", "target/fast-startup/banking-system-0.0.1-SNAPSHOT.jar"));
+		Path archive = Path.of(System.getProperty("startup.archive", "target/fast-startup/application.jsa"));
+		int runs = Integer.getInteger("startup.runs", 5);
+		List<String> modes = Arrays.stream(System.getProperty("startup.modes", "jar,aot,aot-cds").split(","))
+				.map(String::trim)
+				.toList();
+		Path summaryFile = Path.of(System.getProperty("startup.summary", "target/startup-summary.json"));
+		if (!Files.isRegularFile(jar)) {
+			throw new IllegalStateException(jar + " not found; build it with -Pfast-startup package first");
+		}
+
+		HttpClient client = HttpClient.newBuilder()
+				.version(HttpClient.Version.HTTP_1_1)
+				.connectTimeout(Duration.ofSeconds(1))
+				.build();
+		Map<String, Object> results = new LinkedHashMap<>();
+		System.out.printf(Locale.ROOT, "%-8s %5s %10s %10s %10s%n", "mode", "runs", "min ms", "median ms", "max ms");
+		for (String mode : modes) {
+			List<String> jvmOptions = jvmOptions(mode, archive);
+			if (jvmOptions == null) {
+				System.out.printf(Locale.ROOT, "%-8s skipped: %s not found%n", mode, archive);
+				continue;
+			}
+			long[] millis = new long[runs];
+			for (int i = 0; i < runs; i++) {
+				millis[i] = timeToFirstRequest(jar, jvmOptions, client);
+			}
+			Arrays.sort(millis);
+			long median = millis[runs / 2];
+			System.out.printf(Locale.ROOT, "%-8s %5d %10d %10d %10d%n", mode, runs, millis[0], median, millis[runs - 1]);
+
+			Map<String, Object> result = new LinkedHashMap<>();
+			result.put("jvmOptions", jvmOptions);
+			result.put("minMillis", millis[0]);
+			result.put("medianMillis", median);
+			result.put("maxMillis", millis[runs - 1]);
+			result.put("runsMillis", millis);
+			results.put(mode, result);
+		}
+
+		Map<String, Object> json = new LinkedHashMap<>();
+		json.put("java", Runtime.version().toString());
+		json.put("jar", jar.toString());
+		json.put("runs", runs);
+		json.put("metric", "JVM launch to first 200 from POST /api/auth/login");
+		json.put("modes", results);
+		if (summaryFile.getParent() != null) {
+			Files.createDirectories(summaryFile.getParent());
+		}
+		Files.writeString(summaryFile, JsonMapper.builder().build()
+				.writerWithDefaultPrettyPrinter()
+				.writeValueAsString(json));
+		System.out.println("Summary written to " + summaryFile.toAbsolutePath());
+	}
+
+	// Null when the mode needs an archive that was not built
+	private static List<String> jvmOptions(String mode, Path archive) {
+		List<String> options = new ArrayList<>(List.of("--add-modules", "jdk.incubator.vector"));
+		switch (mode) {
+			case "jar" -> {
+			}
+			case "aot" -> options.add("-Dspring.aot.enabled=true");
+			case "aot-cds" -> {
+				if (!Files.isRegularFile(archive)) {
+					return null;
+				}
+				options.add("-Dspring.aot.enabled=true");
+				options.add("-XX:SharedArchiveFile=" + archive);
+			}
+			default -> throw new IllegalArgumentException("Unknown mode: " + mode + " (use jar, aot or aot-cds)");
+		}
+		return options;
+	}
+
+	private static long timeToFirstRequest(Path jar, List<String> jvmOptions, HttpClient client) throws Exception {
+		MongoServer mongo = new MongoServer(new MemoryBackend());
+		InetSocketAddress mongoAddress = mongo.bind();
+		String mongoUri = "mongodb://" + mongoAddress.getHostString() + ":" + mongoAddress.getPort() + "/bankingsystem";
+		int port = freePort();
+
+		List<String> command = new ArrayList<>();
+		command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+		command.addAll(jvmOptions);
+		command.addAll(List.of(
+				"-jar", jar.toString(),
+				"--spring.mongodb.uri=" + mongoUri,
+				"--spring.data.mongodb.uri=" + mongoUri,
+				"--server.port=" + port,
+				"--management.server.port=0",
+				"--app.bootstrap.admin.enabled=true",
+				"--app.bootstrap.admin.email=" + ADMIN_EMAIL,
+				"--app.bootstrap.admin.password=" + ADMIN_PASSWORD,
+				"--logging.level.root=WARN"));
+		HttpRequest login = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/auth/login"))
+				.header("Content-Type", "application/json")
+				.timeout(Duration.ofSeconds(5))
+				.POST(HttpRequest.BodyPublishers.ofString(
+						"{\"email\":\"" + ADMIN_EMAIL + "\",\"password\":\"" + ADMIN_PASSWORD + "\"}"))
+				.build();
+
+		long started = System.nanoTime();
+		Process app = new ProcessBuilder(command)
+				.redirectErrorStream(true)
+				.redirectOutput(ProcessBuilder.Redirect.DISCARD)
+				.start();
+		try {
+			long deadline = started + TIMEOUT.toNanos();
+			while (System.nanoTime() < deadline) {
+				if (!app.isAlive()) {
+					throw new IllegalStateException("Application exited with status " + app.exitValue());
+				}
+				try {
+					if (client.send(login, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+						return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+					}
+				} catch (IOException notListeningYet) {
+					// Connection refused until Tomcat binds the port
+				}
+				Thread.sleep(5);
+			}
+			throw new IllegalStateException("No successful login within " + TIMEOUT);
+		} finally {
+			app.destroy();
+			if (!app.waitFor(30, TimeUnit.SECONDS)) {
+				app.destroyForcibly();
+			}
+			mongo.shutdownNow();
+		}
+	}
+
+	private static int freePort() throws IOException {
+		try (ServerSocket socket = new ServerSocket(0)) {
+			return socket.getLocalPort();
+		}
+	}
+}
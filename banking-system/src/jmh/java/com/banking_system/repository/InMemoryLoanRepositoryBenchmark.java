@@ -0,0 +1,107 @@
+package com.banking_system.repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import com.banking_system.model.Loan;
+import com.banking_system.model.LoanStatus;
+
+/**
+ * Query paths of the in-memory loan repository over a seeded book: a point read, the
+ * status and client-name filtered list pages, and a save, all from several threads at
+ * once. Setup takes milliseconds, so query and service benchmarks can use it in place
+ * of a database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class InMemoryLoanRepositoryBenchmark {
+
+	private static final String[] CLIENTS = { "Acme", "Omni", "Globex", "Initech", "Umbrella", "Stark", "Wayne", "Tyrell" };
+	private static final String[] SECTORS = { "Steel", "Foods", "Mining", "Labs", "Air", "Retail", "Energy", "Health" };
+	private static final LoanStatus[] STATUSES = LoanStatus.values();
+	private static final Pageable PAGE = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+	@Param({ "10000" })
+	public int loans;
+
+	private InMemoryLoanRepository repository;
+	private ObjectId[] ids;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		repository = new InMemoryLoanRepository(InMemoryMongoRepository.standaloneConverter());
+		SplittableRandom random = new SplittableRandom(42);
+		ids = new ObjectId[loans];
+		for (int i = 0; i < loans; i++) {
+			ids[i] = repository.save(loan(random)).getId();
+		}
+	}
+
+	@Benchmark
+	public Loan findById(Cursor cursor) {
+		return repository.findById(ids[cursor.next(ids.length)]).orElseThrow();
+	}
+
+	@Benchmark
+	public Page<Loan> pageByStatus(Cursor cursor) {
+		return repository.findByDeletedAndStatus(false, STATUSES[cursor.next(STATUSES.length)], PAGE);
+	}
+
+	@Benchmark
+	public Page<Loan> pageByClientName(Cursor cursor) {
+		String client = CLIENTS[cursor.next(CLIENTS.length)].toLowerCase();
+		String sector = SECTORS[cursor.next(SECTORS.length)].substring(0, 3).toLowerCase();
+		return repository.findByDeletedAndClientNameTokensAll(false, List.of(client, sector), PAGE);
+	}
+
+	@Benchmark
+	public Loan save(Cursor cursor) {
+		Loan loan = repository.findById(ids[cursor.next(ids.length)]).orElseThrow();
+		loan.setStatus(STATUSES[cursor.next(STATUSES.length)]);
+		return repository.save(loan);
+	}
+
+	private static Loan loan(SplittableRandom random) {
+		Instant createdAt = Instant.parse("2025-01-01T00:00:00Z").plusSeconds(random.nextLong(31_536_000L));
+		return new Loan(
+				null, CLIENTS[random.nextInt(CLIENTS.length)] + " " + SECTORS[random.nextInt(SECTORS.length)],
+				"TermLoan", 1_000_000.0 + random.nextDouble(9_000_000.0), 10.0, 12 + random.nextInt(349), null,
+				STATUSES[random.nextInt(STATUSES.length)], null, null, new ObjectId(), null, null, null,
+				createdAt, createdAt, false, null);
+	}
+
+	@State(Scope.Thread)
+	public static class Cursor {
+		private final SplittableRandom random = new SplittableRandom();
+
+		int next(int bound) {
+			return random.nextInt(bound);
+		}
+	}
+}
@@ -0,0 +1,56 @@
+package com.banking_system.security;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.banking_system.config.JwtProperties;
+import com.banking_system.model.User;
+import com.banking_system.model.UserRole;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * Token issue on login and the signature check and claim parse done on every
+ * authenticated request.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+
+	private JwtService jwtService;
+	private User user;
+	private String token;
+
+	@Setup
+	public void setUp() {
+		jwtService = new JwtService(new JwtProperties("benchmark-secret-benchmark-secret-benchmark-secret-0123456789", 60));
+		user = new User(new ObjectId(), "analyst@bank.com", "hash", UserRole.USER, true, Instant.now(), Instant.now());
+		token = jwtService.generateToken(user);
+	}
+
+	@Benchmark
+	public String generateToken() {
+		return jwtService.generateToken(user);
+	}
+
+	@Benchmark
+	public Claims validateAndParseClaims() {
+		return jwtService.validateAndParseClaims(token);
+	}
+}
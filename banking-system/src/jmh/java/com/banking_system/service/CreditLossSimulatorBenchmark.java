@@ -0,0 +1,61 @@
+package com.banking_system.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.banking_system.model.dto.CreditRiskParameters;
+
+/**
+ * Scaling of the Monte Carlo credit-loss run with worker threads; {@code parallelism}
+ * 0 is the common pool.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CreditLossSimulatorBenchmark {
+
+	@Param({ "1", "2", "4", "0" })
+	public int parallelism;
+
+	@Param({ "500" })
+	public int loans;
+
+	@Param({ "50000" })
+	public int paths;
+
+	private final CreditLossSimulator simulator = new CreditLossSimulator();
+	private List<CreditRiskParameters> exposures;
+
+	@Setup
+	public void setUp() {
+		SplittableRandom random = new SplittableRandom(7);
+		exposures = new ArrayList<>(loans);
+		for (int i = 0; i < loans; i++) {
+			double pd = 0.005 + random.nextDouble(0.1);
+			exposures.add(new CreditRiskParameters(null, 1_000_000.0 + random.nextDouble(50_000_000.0),
+					pd, 0.45, CreditLossService.assetCorrelation(pd)));
+		}
+	}
+
+	@Benchmark
+	public CreditLossSimulator.Result simulate() {
+		return simulator.simulate(exposures, paths, 42L, 0.999, parallelism);
+	}
+}
@@ -0,0 +1,79 @@
+package com.banking_system.service;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Batch EMI over a repricing-sized chunk: the Math.pow scalar path against the kernel
+ * (Vector API when built with {@code -Pbenchmarks,vector}; the benchmarks profile adds
+ * the module at run time), and the full batch pricing path including rule lookups.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmiKernelBenchmark {
+
+	private static final String[] RATINGS = { "A", "B", "C", "D" };
+
+	@Param({ "512", "4096" })
+	public int rows;
+
+	private double[] principal;
+	private double[] rate;
+	private int[] tenure;
+	private double[] emi;
+	private double[] interest;
+	private PricingService pricingService;
+	private PricingBatch batch;
+
+	@Setup
+	public void setUp() {
+		SplittableRandom random = new SplittableRandom(3);
+		principal = new double[rows];
+		rate = new double[rows];
+		tenure = new int[rows];
+		emi = new double[rows];
+		interest = new double[rows];
+		pricingService = new PricingService();
+		batch = new PricingBatch(rows);
+		for (int i = 0; i < rows; i++) {
+			principal[i] = 1_000_000.0 + random.nextDouble(100_000_000.0);
+			rate[i] = 8.0 + random.nextDouble(6.0);
+			tenure[i] = 12 + random.nextInt(349);
+			batch.set(i, principal[i], rate[i], tenure[i], RATINGS[i & 3], "TermLoan");
+		}
+	}
+
+	@Benchmark
+	public double[] scalar() {
+		EmiKernel.computeScalar(principal, rate, tenure, emi, interest, 0, rows);
+		return emi;
+	}
+
+	@Benchmark
+	public double[] kernel() {
+		EmiKernel.compute(principal, rate, tenure, emi, interest, 0, rows);
+		return emi;
+	}
+
+	@Benchmark
+	public PricingBatch priceBatch() {
+		pricingService.priceBatch(batch);
+		return batch;
+	}
+}
@@ -0,0 +1,63 @@
+package com.banking_system.service;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.banking_system.model.Loan;
+import com.banking_system.model.LoanStatus;
+import com.banking_system.model.dto.LoanResponse;
+
+/**
+ * Entity-to-DTO mapping behind every loan read: a fresh draft, and an approved loan
+ * with approval metadata and a stored pricing snapshot.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoanMappingBenchmark {
+
+	private LoanService loanService;
+	private Loan draft;
+	private Loan approved;
+
+	@Setup
+	public void setUp() {
+		// toResponse touches none of the collaborators
+		loanService = new LoanService(null, null, null, null, null, null, null);
+		Instant now = Instant.now();
+		ObjectId user = new ObjectId();
+		draft = new Loan(
+				new ObjectId(), "OmniTech Pvt Ltd", "TermLoan", 50_000_000.0, 11.5, 36, null,
+				LoanStatus.DRAFT, null, null, user, user, null, null, now, now, false, null);
+		approved = new Loan(
+				new ObjectId(), "OmniTech Pvt Ltd", "TermLoan", 50_000_000.0, 11.5, 36,
+				new Loan.Financials(120_000_000.0, 14_000_000.0, "A"),
+				LoanStatus.APPROVED, 45_000_000.0, 11.25, user, user, user, now, now, now, false, null);
+		approved.setPricing(new Loan.PricingSnapshot(11.5, 1_648_774.12, 9_355_868.32, "LOW", 42L, 1L, now));
+	}
+
+	@Benchmark
+	public LoanResponse toResponse_draft() {
+		return loanService.toResponse(draft);
+	}
+
+	@Benchmark
+	public LoanResponse toResponse_approvedWithPricing() {
+		return loanService.toResponse(approved);
+	}
+}
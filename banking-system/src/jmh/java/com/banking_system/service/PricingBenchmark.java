@@ -0,0 +1,76 @@
+package com.banking_system.service;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.banking_system.model.dto.PricingGridResponse;
+import com.banking_system.model.dto.PricingRequest;
+import com.banking_system.model.dto.PricingResponse;
+
+/**
+ * Single-loan pricing against the built-in rule table, cycling through a fixed set of
+ * requests so the JIT cannot fold the inputs, plus a 10x10x10 what-if grid.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PricingBenchmark {
+
+	private static final String[] RATINGS = { "A", "B", "C", "D" };
+	private static final int REQUESTS = 1024;
+
+	private PricingService pricingService;
+	private PricingRequest[] requests;
+	private double[] gridRates;
+	private int[] gridTenures;
+	private double[] gridAmounts;
+	private int next;
+
+	@Setup
+	public void setUp() {
+		pricingService = new PricingService();
+		SplittableRandom random = new SplittableRandom(42);
+		requests = new PricingRequest[REQUESTS];
+		for (int i = 0; i < REQUESTS; i++) {
+			requests[i] = new PricingRequest(
+					1_000_000.0 + random.nextDouble(100_000_000.0),
+					8.0 + random.nextDouble(6.0),
+					12 + random.nextInt(349),
+					RATINGS[random.nextInt(RATINGS.length)],
+					"TermLoan");
+		}
+		gridRates = new double[10];
+		gridTenures = new int[10];
+		gridAmounts = new double[10];
+		for (int i = 0; i < 10; i++) {
+			gridRates[i] = 9.0 + 0.25 * i;
+			gridTenures[i] = 12 * (i + 1);
+			gridAmounts[i] = 5_000_000.0 * (i + 1);
+		}
+	}
+
+	@Benchmark
+	public PricingResponse calculatePricing() {
+		return pricingService.calculatePricing(requests[next++ & (REQUESTS - 1)]);
+	}
+
+	@Benchmark
+	@OutputTimeUnit(TimeUnit.MICROSECONDS)
+	public PricingGridResponse priceGrid() {
+		return pricingService.priceGrid("bench", "B", "TermLoan", gridRates, gridTenures, gridAmounts);
+	}
+}
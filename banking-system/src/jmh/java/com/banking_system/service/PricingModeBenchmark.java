@@ -0,0 +1,66 @@
+package com.banking_system.service;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.banking_system.model.dto.PricingRequest;
+import com.banking_system.model.dto.PricingResponse;
+import com.banking_system.model.dto.RegulatoryPricingResponse;
+
+/**
+ * Cost of the fixed-precision (decimal, half-even) pricing mode against the double
+ * screening path on the same single-loan requests. The decimal path runs on
+ * {@code BigInteger} arithmetic, which takes longer to reach steady state, hence the
+ * longer warmup.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 8, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PricingModeBenchmark {
+
+	private static final String[] RATINGS = { "A", "B", "C", "D" };
+	private static final int REQUESTS = 1024;
+
+	private PricingService pricingService;
+	private PricingRequest[] requests;
+	private int next;
+
+	@Setup
+	public void setUp() {
+		pricingService = new PricingService();
+		SplittableRandom random = new SplittableRandom(42);
+		requests = new PricingRequest[REQUESTS];
+		for (int i = 0; i < REQUESTS; i++) {
+			requests[i] = new PricingRequest(
+					Math.round((1_000_000.0 + random.nextDouble(100_000_000.0)) * 100.0) / 100.0,
+					Math.round((8.0 + random.nextDouble(6.0)) * 100.0) / 100.0,
+					12 + random.nextInt(349),
+					RATINGS[random.nextInt(RATINGS.length)],
+					"TermLoan");
+		}
+	}
+
+	@Benchmark
+	public PricingResponse fast() {
+		return pricingService.calculatePricing(requests[next++ & (REQUESTS - 1)]);
+	}
+
+	@Benchmark
+	public RegulatoryPricingResponse regulatory() {
+		return pricingService.calculateRegulatoryPricing(requests[next++ & (REQUESTS - 1)]);
+	}
+}
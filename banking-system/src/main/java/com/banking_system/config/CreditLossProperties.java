@@ -0,0 +1,9 @@
+package com.banking_system.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.credit-loss")
+public record CreditLossProperties(
+		int parallelism
+) {
+}
@@ -0,0 +1,11 @@
+package com.banking_system.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.credit-scoring")
+public record CreditScoringProperties(
+		boolean enabled,
+		long cacheMaxEntries,
+		int batchSize
+) {
+}
@@ -0,0 +1,13 @@
+package com.banking_system.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.flight-recording")
+public record FlightRecordingProperties(
+		String settings,
+		Duration maxDuration,
+		long maxSizeBytes
+) {
+}
@@ -0,0 +1,16 @@
+package com.banking_system.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.loan-events")
+public record LoanEventsProperties(
+		int subscriberBufferSize,
+		int replayBufferSize,
+		Duration emitterTimeout,
+		boolean changeStreamEnabled,
+		int fanOutThreads,
+		Duration sendTimeout
+) {
+}
@@ -0,0 +1,72 @@
+package com.banking_system.config;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import com.banking_system.model.ClientNameTokens;
+import com.banking_system.model.Loan;
+
+/**
+ * Populates clientNameNormalized/clientNameTokens on loans written before the search
+ * fields existed. New and updated loans get them through {@link Loan#setClientName}.
+ * The in-memory repositories start empty, so there is nothing to backfill there.
+ */
+@Component
+@Profile("!inmemory")
+public class LoanSearchIndexBackfill implements ApplicationRunner {
+	private static final Logger log = LoggerFactory.getLogger(LoanSearchIndexBackfill.class);
+	private static final int BATCH_SIZE = 500;
+
+	private final MongoTemplate mongoTemplate;
+
+	public LoanSearchIndexBackfill(MongoTemplate mongoTemplate) {
+		this.mongoTemplate = mongoTemplate;
+	}
+
+	@Override
+	public void run(ApplicationArguments args) {
+		Query missing = query(where("clientNameTokens").exists(false));
+		missing.fields().include("clientName");
+
+		int updated = 0;
+		BulkOperations bulk = null;
+		int pending = 0;
+		try (var loans = mongoTemplate.stream(missing, Loan.class)) {
+			for (Loan loan : (Iterable<Loan>) loans::iterator) {
+				if (bulk == null) {
+					bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Loan.class);
+				}
+				List<String> tokens = ClientNameTokens.tokenize(loan.getClientName());
+				bulk.updateOne(
+						query(where("_id").is(loan.getId())),
+						new Update()
+								.set("clientNameNormalized", ClientNameTokens.normalize(loan.getClientName()))
+								.set("clientNameTokens", tokens));
+				if (++pending == BATCH_SIZE) {
+					updated += bulk.execute().getModifiedCount();
+					bulk = null;
+					pending = 0;
+				}
+			}
+		}
+		if (bulk != null && pending > 0) {
+			updated += bulk.execute().getModifiedCount();
+		}
+		if (updated > 0) {
+			log.info("Backfilled client name search tokens on {} loans", updated);
+		}
+	}
+}
@@ -0,0 +1,113 @@
+package com.banking_system.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.stereotype.Component;
+
+import com.banking_system.model.Account;
+import com.banking_system.model.Loan;
+import com.banking_system.model.RepricingJob;
+import com.banking_system.model.Transaction;
+import com.banking_system.model.User;
+import com.banking_system.service.ExplainPlan;
+
+/**
+ * Creates the indexes the queries rely on instead of leaving it to
+ * {@code auto-index-creation}, which is off by default. The indexes are declared with
+ * {@code @Indexed} and {@code @CompoundIndex} on the entities, and this class creates
+ * them. Creating an index that already exists with the same definition is a no-op.
+ *
+ * By default the indexes are built on the task executor, so startup does not wait for
+ * them. In verification mode ({@code app.indexes.verify}), they are built before the
+ * app takes traffic. Then every shape in {@link RepositoryQueryShapes} is explained,
+ * and startup fails if any would scan the whole collection. Use this mode in CI and
+ * staging against a copy of production indexes.
+ *
+ * Not active under the {@code inmemory} profile, where there is no database.
+ */
+@Component
+@Profile("!inmemory")
+public class MongoIndexManager implements ApplicationRunner {
+	private static final Logger log = LoggerFactory.getLogger(MongoIndexManager.class);
+
+	static final List<Class<?>> INDEXED_ENTITIES = List.of(
+			Loan.class, Transaction.class, User.class, Account.class, RepricingJob.class);
+
+	private final MongoTemplate mongoTemplate;
+	private final IndexManagementProperties props;
+	private final TaskExecutor taskExecutor;
+
+	public MongoIndexManager(
+			MongoTemplate mongoTemplate,
+			IndexManagementProperties props,
+			@Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor) {
+		this.mongoTemplate = mongoTemplate;
+		this.props = props;
+		this.taskExecutor = taskExecutor;
+	}
+
+	@Override
+	public void run(ApplicationArguments args) {
+		if (props.verify()) {
+			createIndexes();
+			verifyQueryPlans();
+		} else if (props.create()) {
+			taskExecutor.execute(() -> {
+				try {
+					createIndexes();
+				} catch (RuntimeException e) {
+					log.error("Index creation failed; queries may scan whole collections", e);
+				}
+			});
+		}
+	}
+
+	public void createIndexes() {
+		IndexResolver resolver = IndexResolver.create(mongoTemplate.getConverter().getMappingContext());
+		int created = 0;
+		for (Class<?> entity : INDEXED_ENTITIES) {
+			IndexOperations indexOps = mongoTemplate.indexOps(entity);
+			for (IndexDefinition index : resolver.resolveIndexFor(entity)) {
+				indexOps.createIndex(index);
+				created++;
+			}
+		}
+		log.info("Ensured {} indexes on {} collections", created, INDEXED_ENTITIES.size());
+	}
+
+	/**
+	 * Explains every repository query shape and fails if any plan is a collection scan.
+	 *
+	 * @throws IllegalStateException listing the shapes that scan a whole collection
+	 */
+	public void verifyQueryPlans() {
+		List<String> scans = new ArrayList<>();
+		for (RepositoryQueryShapes.Shape shape : RepositoryQueryShapes.ALL) {
+			Document explain = mongoTemplate.getDb().runCommand(
+					new Document("explain", shape.command()).append("verbosity", "queryPlanner"));
+			ExplainPlan plan = ExplainPlan.of(explain);
+			if (plan.collectionScan()) {
+				scans.add(shape.method() + " -> " + plan.summary());
+			} else {
+				log.debug("{} -> {}", shape.method(), plan.summary());
+			}
+		}
+		if (!scans.isEmpty()) {
+			throw new IllegalStateException("Queries without a usable index: " + String.join("; ", scans));
+		}
+		log.info("Verified query plans of {} repository query shapes: no collection scans", RepositoryQueryShapes.ALL.size());
+	}
+}
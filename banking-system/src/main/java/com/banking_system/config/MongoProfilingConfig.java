@@ -0,0 +1,22 @@
+package com.banking_system.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.mongodb.autoconfigure.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.banking_system.service.SlowQueryMonitor;
+
+/**
+ * Adds the {@link SlowQueryMonitor} to the Mongo clients Boot builds, blocking and
+ * reactive alike, next to the driver's own command metrics.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.mongo-profiling", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class MongoProfilingConfig {
+
+	@Bean
+	MongoClientSettingsBuilderCustomizer slowQueryListener(SlowQueryMonitor slowQueryMonitor) {
+		return settings -> settings.addCommandListener(slowQueryMonitor);
+	}
+}
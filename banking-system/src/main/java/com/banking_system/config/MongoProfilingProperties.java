@@ -0,0 +1,16 @@
+package com.banking_system.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.mongo-profiling")
+public record MongoProfilingProperties(
+		boolean enabled,
+		Duration slowThreshold,
+		boolean explainSlow,
+		int topN,
+		Duration window,
+		int maxShapes
+) {
+}
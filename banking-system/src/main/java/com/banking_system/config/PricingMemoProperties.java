@@ -0,0 +1,10 @@
+package com.banking_system.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.pricing-memo")
+public record PricingMemoProperties(
+		boolean enabled,
+		long maxEntries
+) {
+}
@@ -0,0 +1,15 @@
+package com.banking_system.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * @param source {@code file} to read {@code file}, or {@code mongo} to read the
+ *        {@code pricing_rules} collection (falling back to the file while it is empty)
+ * @param file Spring resource location of the JSON rule list
+ */
+@ConfigurationProperties(prefix = "app.pricing-rules")
+public record PricingRulesProperties(
+		String source,
+		String file
+) {
+}
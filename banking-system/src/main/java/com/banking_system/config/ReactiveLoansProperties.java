@@ -0,0 +1,10 @@
+package com.banking_system.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.reactive")
+public record ReactiveLoansProperties(
+		boolean enabled,
+		int prefetch
+) {
+}
@@ -0,0 +1,101 @@
+package com.banking_system.config;
+
+import java.util.List;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+
+/**
+ * One command per query method declared on the repositories, written out the way Spring
+ * Data issues it, with sample values. Paged finders use the default {@code createdAt}
+ * descending sort of the loan list endpoint; their count query has the same filter.
+ *
+ * {@link MongoIndexManager} explains each of these in verification mode. Inherited
+ * CRUD methods are keyed on {@code _id}, and deliberate full reads such as
+ * {@code findAll} are left out. {@code RepositoryQueryShapesTest} fails when a
+ * repository gains a query method without a shape here.
+ */
+final class RepositoryQueryShapes {
+
+	record Shape(String method, Document command) {
+	}
+
+	private static final ObjectId SAMPLE_ID = new ObjectId("65a000000000000000000001");
+	private static final List<String> OPEN = List.of("DRAFT", "SUBMITTED", "UNDER_REVIEW");
+	private static final Document NEWEST_FIRST = new Document("createdAt", -1);
+
+	static final List<Shape> ALL = List.of(
+			find("LoanRepository.findByDeletedFalse", "loans", new Document("deleted", false), null),
+			find("LoanRepository.findByCreatedBy", "loans", new Document("createdBy", SAMPLE_ID), null),
+			find("LoanRepository.findByDeleted", "loans", new Document("deleted", false), NEWEST_FIRST),
+			find("LoanRepository.findByDeletedAndStatus", "loans",
+					new Document("deleted", false).append("status", "SUBMITTED"), NEWEST_FIRST),
+			find("LoanRepository.findByDeletedAndClientNameTokensAll", "loans",
+					new Document("deleted", false).append("clientNameTokens", all("acme")), NEWEST_FIRST),
+			find("LoanRepository.findByDeletedAndLoanType", "loans",
+					new Document("deleted", false).append("loanType", "TERM_LOAN"), NEWEST_FIRST),
+			find("LoanRepository.findByDeletedAndStatusAndClientNameTokensAll", "loans",
+					new Document("deleted", false).append("status", "SUBMITTED").append("clientNameTokens", all("acme")),
+					NEWEST_FIRST),
+			find("LoanRepository.findByDeletedAndStatusAndLoanType", "loans",
+					new Document("deleted", false).append("status", "SUBMITTED").append("loanType", "TERM_LOAN"),
+					NEWEST_FIRST),
+			find("LoanRepository.findByDeletedAndClientNameTokensAllAndLoanType", "loans",
+					new Document("deleted", false).append("clientNameTokens", all("acme")).append("loanType", "TERM_LOAN"),
+					NEWEST_FIRST),
+			find("LoanRepository.findByDeletedAndStatusAndClientNameTokensAllAndLoanType", "loans",
+					new Document("deleted", false).append("status", "SUBMITTED").append("clientNameTokens", all("acme"))
+							.append("loanType", "TERM_LOAN"),
+					NEWEST_FIRST),
+			find("LoanRepository.searchByClientNameTokens", "loans",
+					new Document("deleted", false).append("clientNameTokens", all("acme")), null),
+			find("LoanRepository.searchByClientNameRange", "loans",
+					new Document("deleted", false).append("clientNameNormalized",
+							new Document("$gte", "acme").append("$lt", "acme\uffff")),
+					new Document("clientNameNormalized", 1)),
+			find("LoanRepository.updatePricingById", "loans", new Document("_id", SAMPLE_ID), null),
+			find("LoanRepository.streamForRepricing", "loans", repricingFilter(), new Document("_id", 1)),
+			count("LoanRepository.countForRepricing", "loans", repricingFilter()),
+			find("TransactionRepository.findBySourceAccount", "transactions",
+					new Document("sourceAccount", "ACC-1"), null),
+			find("TransactionRepository.findByDestinationAccount", "transactions",
+					new Document("destinationAccount", "ACC-1"), null),
+			find("TransactionRepository.findBySourceAccountOrDestinationAccount", "transactions",
+					new Document("$or", List.of(
+							new Document("sourceAccount", "ACC-1"),
+							new Document("destinationAccount", "ACC-1"))),
+					null),
+			find("UserRepository.findByEmail", "users", new Document("email", "admin@example.com"), null),
+			find("UserRepository.existsByEmail", "users", new Document("email", "admin@example.com"), null),
+			find("AccountRepository.findByAccountNumber", "accounts", new Document("accountNumber", "ACC-1"), null),
+			find("AccountRepository.existsByAccountNumber", "accounts", new Document("accountNumber", "ACC-1"), null),
+			find("RepricingJobRepository.findByStateOrderByStartedAtAsc", "repricing_jobs",
+					new Document("state", "RUNNING"), new Document("startedAt", 1)),
+			find("RepricingJobRepository.findFirstByOrderByStartedAtDesc", "repricing_jobs",
+					new Document(), new Document("startedAt", -1)));
+
+	private RepositoryQueryShapes() {
+	}
+
+	private static Shape find(String method, String collection, Document filter, Document sort) {
+		Document command = new Document("find", collection).append("filter", filter);
+		if (sort != null) {
+			command.append("sort", sort);
+		}
+		return new Shape(method, command);
+	}
+
+	private static Shape count(String method, String collection, Document query) {
+		return new Shape(method, new Document("count", collection).append("query", query));
+	}
+
+	private static Document all(String... tokens) {
+		return new Document("$all", List.of(tokens));
+	}
+
+	private static Document repricingFilter() {
+		return new Document("deleted", false)
+				.append("status", new Document("$in", OPEN))
+				.append("_id", new Document("$gt", SAMPLE_ID));
+	}
+}
@@ -0,0 +1,15 @@
+package com.banking_system.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "app.repricing")
+public record RepricingProperties(
+		int chunkSize,
+		int parallelism,
+		int maxLoansPerSecond,
+		boolean onRuleChange,
+		Duration lease
+) {
+}
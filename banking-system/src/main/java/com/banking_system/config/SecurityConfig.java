@@ -17,6 +17,8 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import com.banking_system.security.JwtAuthenticationFilter;
 
+import jakarta.servlet.DispatcherType;
+
 import java.util.Arrays;
 import java.util.List;
 
@@ -40,6 +42,11 @@ public class SecurityConfig {
 				.sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
 				.authorizeHttpRequests(auth -> auth
 						.requestMatchers("/api/auth/**").permitAll()
+						// Liveness probes and the Prometheus scraper, on the internal management port only
+						.requestMatchers("/actuator/health/**", "/actuator/prometheus").permitAll()
+						.requestMatchers("/actuator/**").hasRole("ADMIN")
+						// SSE completion re-dispatches without the JWT; the original request was authorized
+						.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
 						.anyRequest().authenticated()
 				)
 				.addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
@@ -0,0 +1,37 @@
+package com.banking_system.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * Logs whether requests run on virtual threads. Spring Boot silently ignores
+ * {@code spring.threads.virtual.enabled} below Java 21, so a build without the
+ * {@code java21} profile gets a warning instead of a quiet fallback.
+ */
+@Component
+public class ThreadingModeReporter implements ApplicationRunner {
+	private static final Logger log = LoggerFactory.getLogger(ThreadingModeReporter.class);
+
+	private final Environment environment;
+
+	public ThreadingModeReporter(Environment environment) {
+		this.environment = environment;
+	}
+
+	@Override
+	public void run(ApplicationArguments args) {
+		boolean requested = environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+		if (Threading.VIRTUAL.isActive(environment)) {
+			log.info("Serving requests on virtual threads (Java {})", Runtime.version().feature());
+		} else if (requested) {
+			log.warn("spring.threads.virtual.enabled is set but Java {} has no virtual threads; "
+					+ "serving requests on platform threads (run on Java 21, built with -Pjava21)",
+					Runtime.version().feature());
+		}
+	}
+}
@@ -1,11 +1,17 @@
 package com.banking_system.controller;
 
 import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 
+import org.springframework.context.annotation.Lazy;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -13,24 +19,69 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.banking_system.model.dto.CacheStatsResponse;
 import com.banking_system.model.dto.CreateUserRequest;
+import com.banking_system.model.dto.CreditRescoreResult;
+import com.banking_system.model.dto.FlightRecordingStatus;
+import com.banking_system.model.dto.LoanKpiResponse;
+import com.banking_system.model.dto.LoanStatsConsistencyReport;
+import com.banking_system.model.dto.PricingRulesStatus;
+import com.banking_system.model.dto.RepricingJobStatus;
+import com.banking_system.model.dto.SlowQueryReport;
+import com.banking_system.model.dto.StartFlightRecordingRequest;
+import com.banking_system.model.dto.StartRepricingRequest;
 import com.banking_system.model.dto.UpdateUserStatusRequest;
 import com.banking_system.model.dto.UserResponse;
+import com.banking_system.service.CreditScoringService;
+import com.banking_system.service.FlightRecordingService;
+import com.banking_system.service.LoanCache;
+import com.banking_system.service.LoanStatsService;
+import com.banking_system.service.PricingMemo;
+import com.banking_system.service.PricingRuleEngine;
+import com.banking_system.service.RepricingJobService;
+import com.banking_system.service.SlowQueryMonitor;
 import com.banking_system.service.UserService;
 
 import jakarta.validation.Valid;
 
 @RestController
+@Lazy
 @RequestMapping("/api/admin")
 @Validated
 @PreAuthorize("hasRole('ADMIN')")
 public class AdminController {
 
 	private final UserService userService;
+	private final LoanCache loanCache;
+	private final LoanStatsService loanStatsService;
+	private final PricingRuleEngine pricingRuleEngine;
+	private final PricingMemo pricingMemo;
+	private final RepricingJobService repricingJobService;
+	private final CreditScoringService creditScoringService;
+	private final FlightRecordingService flightRecordingService;
+	private final SlowQueryMonitor slowQueryMonitor;
 
-	public AdminController(UserService userService) {
+	public AdminController(
+			UserService userService,
+			LoanCache loanCache,
+			LoanStatsService loanStatsService,
+			PricingRuleEngine pricingRuleEngine,
+			PricingMemo pricingMemo,
+			RepricingJobService repricingJobService,
+			CreditScoringService creditScoringService,
+			FlightRecordingService flightRecordingService,
+			SlowQueryMonitor slowQueryMonitor) {
 		this.userService = userService;
+		this.loanCache = loanCache;
+		this.loanStatsService = loanStatsService;
+		this.pricingRuleEngine = pricingRuleEngine;
+		this.pricingMemo = pricingMemo;
+		this.repricingJobService = repricingJobService;
+		this.creditScoringService = creditScoringService;
+		this.flightRecordingService = flightRecordingService;
+		this.slowQueryMonitor = slowQueryMonitor;
 	}
 
 	@GetMapping("/users")
@@ -54,4 +105,124 @@ public class AdminController {
 		UserResponse updated = userService.updateUserStatus(id, request);
 		return ResponseEntity.ok(updated);
 	}
+
+	@GetMapping("/cache/loans")
+	public ResponseEntity<CacheStatsResponse> getLoanCacheStats() {
+		return ResponseEntity.ok(loanCache.stats());
+	}
+
+	@DeleteMapping("/cache/loans")
+	public ResponseEntity<Void> clearLoanCache() {
+		loanCache.invalidateAll();
+		return ResponseEntity.noContent().build();
+	}
+
+	@GetMapping("/cache/pricing")
+	public ResponseEntity<CacheStatsResponse> getPricingMemoStats() {
+		return ResponseEntity.ok(pricingMemo.stats());
+	}
+
+	@DeleteMapping("/cache/pricing")
+	public ResponseEntity<Void> clearPricingMemo() {
+		pricingMemo.invalidateAll();
+		return ResponseEntity.noContent().build();
+	}
+
+	@GetMapping("/cache/credit-scores")
+	public ResponseEntity<CacheStatsResponse> getCreditScoreCacheStats() {
+		return ResponseEntity.ok(creditScoringService.stats());
+	}
+
+	@DeleteMapping("/cache/credit-scores")
+	public ResponseEntity<Void> clearCreditScoreCache() {
+		creditScoringService.invalidateAll();
+		return ResponseEntity.noContent().build();
+	}
+
+	@PostMapping("/credit-scores/rescore")
+	public ResponseEntity<CreditRescoreResult> rescoreLoans() {
+		return ResponseEntity.ok(creditScoringService.rescoreBook());
+	}
+
+	@PostMapping("/loan-stats/rebuild")
+	public ResponseEntity<LoanKpiResponse> rebuildLoanStats() {
+		return ResponseEntity.ok(loanStatsService.rebuild());
+	}
+
+	@GetMapping("/loan-stats/consistency")
+	public ResponseEntity<LoanStatsConsistencyReport> checkLoanStatsConsistency() {
+		return ResponseEntity.ok(loanStatsService.checkConsistency());
+	}
+
+	@GetMapping("/pricing-rules")
+	public ResponseEntity<PricingRulesStatus> getPricingRulesStatus() {
+		return ResponseEntity.ok(pricingRuleEngine.status());
+	}
+
+	@PostMapping("/pricing-rules/reload")
+	public ResponseEntity<PricingRulesStatus> reloadPricingRules() {
+		return ResponseEntity.ok(pricingRuleEngine.reload());
+	}
+
+	@GetMapping("/repricing")
+	public ResponseEntity<RepricingJobStatus> getRepricingJob() {
+		return repricingJobService.status()
+				.map(ResponseEntity::ok)
+				.orElseGet(() -> ResponseEntity.noContent().build());
+	}
+
+	@PostMapping("/repricing")
+	public ResponseEntity<RepricingJobStatus> startRepricingJob(
+			@Valid @RequestBody(required = false) StartRepricingRequest request) {
+		return ResponseEntity.accepted().body(repricingJobService.start(request));
+	}
+
+	@PostMapping("/repricing/cancel")
+	public ResponseEntity<RepricingJobStatus> cancelRepricingJob() {
+		return ResponseEntity.accepted().body(repricingJobService.cancel());
+	}
+
+	@GetMapping("/slow-queries")
+	public ResponseEntity<SlowQueryReport> getSlowQueries() {
+		return ResponseEntity.ok(slowQueryMonitor.report());
+	}
+
+	@DeleteMapping("/slow-queries")
+	public ResponseEntity<Void> clearSlowQueries() {
+		slowQueryMonitor.reset();
+		return ResponseEntity.noContent().build();
+	}
+
+	@GetMapping("/flight-recording")
+	public ResponseEntity<FlightRecordingStatus> getFlightRecording() {
+		return flightRecordingService.status()
+				.map(ResponseEntity::ok)
+				.orElseGet(() -> ResponseEntity.noContent().build());
+	}
+
+	@PostMapping("/flight-recording")
+	public ResponseEntity<FlightRecordingStatus> startFlightRecording(
+			@Valid @RequestBody(required = false) StartFlightRecordingRequest request) {
+		return ResponseEntity.accepted().body(flightRecordingService.start(request));
+	}
+
+	/**
+	 * Stops the recording and returns it as a {@code .jfr} file for JDK Mission Control
+	 * or {@code jfr print}. The temporary dump is deleted once sent.
+	 */
+	@PostMapping("/flight-recording/stop")
+	public ResponseEntity<StreamingResponseBody> stopFlightRecording() {
+		Path file = flightRecordingService.stop();
+		StreamingResponseBody body = out -> {
+			try {
+				Files.copy(file, out);
+			} finally {
+				Files.deleteIfExists(file);
+			}
+		};
+		return ResponseEntity.ok()
+				.contentType(MediaType.APPLICATION_OCTET_STREAM)
+				.header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + file.getFileName() + "\"")
+				.body(body);
+	}
 }
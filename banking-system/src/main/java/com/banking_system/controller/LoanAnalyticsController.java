@@ -0,0 +1,75 @@
+package com.banking_system.controller;
+
+import java.time.Instant;
+
+import org.springframework.context.annotation.Lazy;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.banking_system.model.LoanStatus;
+import com.banking_system.model.dto.CreditLossResponse;
+import com.banking_system.model.dto.LoanKpiResponse;
+import com.banking_system.model.dto.PortfolioAnalyticsResponse;
+import com.banking_system.service.CreditLossService;
+import com.banking_system.service.LoanAnalyticsService;
+import com.banking_system.service.LoanStatsService;
+
+@RestController
+@Lazy
+@RequestMapping("/api/loans/analytics")
+@Validated
+public class LoanAnalyticsController {
+
+	private final LoanAnalyticsService loanAnalyticsService;
+	private final LoanStatsService loanStatsService;
+	private final CreditLossService creditLossService;
+
+	public LoanAnalyticsController(
+			LoanAnalyticsService loanAnalyticsService,
+			LoanStatsService loanStatsService,
+			CreditLossService creditLossService) {
+		this.loanAnalyticsService = loanAnalyticsService;
+		this.loanStatsService = loanStatsService;
+		this.creditLossService = creditLossService;
+	}
+
+	@GetMapping("/kpis")
+	public ResponseEntity<LoanKpiResponse> getKpis() {
+		return ResponseEntity.ok(loanStatsService.getKpis());
+	}
+
+	@GetMapping("/portfolio")
+	public ResponseEntity<PortfolioAnalyticsResponse> getPortfolioAnalytics(
+			@RequestParam(required = false) Instant createdFrom,
+			@RequestParam(required = false) Instant createdTo) {
+		PortfolioAnalyticsResponse analytics = loanAnalyticsService.getPortfolioAnalytics(createdFrom, createdTo);
+		return ResponseEntity.ok(analytics);
+	}
+
+	// CPU-heavy: admins only, and bounded by CreditLossService's caps and shared pool
+	@PreAuthorize("hasRole('ADMIN')")
+	@GetMapping("/credit-loss")
+	public ResponseEntity<CreditLossResponse> simulatePortfolioCreditLoss(
+			@RequestParam(required = false) LoanStatus status,
+			@RequestParam(defaultValue = "100000") int paths,
+			@RequestParam(defaultValue = "42") long seed,
+			@RequestParam(defaultValue = "0.999") double confidence) {
+		return ResponseEntity.ok(creditLossService.simulatePortfolio(status, paths, seed, confidence));
+	}
+
+	@PreAuthorize("hasRole('ADMIN')")
+	@GetMapping("/credit-loss/{loanId}")
+	public ResponseEntity<CreditLossResponse> simulateLoanCreditLoss(
+			@PathVariable String loanId,
+			@RequestParam(defaultValue = "100000") int paths,
+			@RequestParam(defaultValue = "42") long seed,
+			@RequestParam(defaultValue = "0.999") double confidence) {
+		return ResponseEntity.ok(creditLossService.simulateLoan(loanId, paths, seed, confidence));
+	}
+}
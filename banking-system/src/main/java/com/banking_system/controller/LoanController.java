@@ -1,8 +1,14 @@
 package com.banking_system.controller;
 
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -14,21 +20,34 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 
+import com.banking_system.exception.InvalidScheduleException;
+import com.banking_system.model.LoanStatus;
+import com.banking_system.model.RepaymentStructure;
 import com.banking_system.model.User;
 import com.banking_system.model.dto.ChangeStatusRequest;
 import com.banking_system.model.dto.CreateLoanRequest;
 import com.banking_system.model.dto.LoanResponse;
+import com.banking_system.model.dto.LoanSearchResult;
+import com.banking_system.model.dto.PricingGridRequest;
+import com.banking_system.model.dto.PricingGridResponse;
 import com.banking_system.model.dto.PricingResponse;
+import com.banking_system.model.dto.RegulatoryPricingResponse;
 import com.banking_system.model.dto.UpdateLoanAdminRequest;
 import com.banking_system.model.dto.UpdateLoanRequest;
+import com.banking_system.service.AmortizationSchedule;
+import com.banking_system.service.AmortizationScheduleWriter;
+import com.banking_system.service.LoanEventBroadcaster;
 import com.banking_system.service.LoanService;
 
 import jakarta.validation.Valid;
@@ -39,9 +58,11 @@ import jakarta.validation.Valid;
 public class LoanController {
 
 	private final LoanService loanService;
+	private final LoanEventBroadcaster loanEventBroadcaster;
 
-	public LoanController(LoanService loanService) {
+	public LoanController(LoanService loanService, LoanEventBroadcaster loanEventBroadcaster) {
 		this.loanService = loanService;
+		this.loanEventBroadcaster = loanEventBroadcaster;
 	}
 
 	@PostMapping
@@ -98,6 +119,29 @@ public class LoanController {
 		return ResponseEntity.ok(loans);
 	}
 
+	@GetMapping("/search")
+	@PreAuthorize("hasRole('ADMIN') or !#includeDeleted")
+	public ResponseEntity<List<LoanSearchResult>> searchLoans(
+			@RequestParam String q,
+			@RequestParam(defaultValue = "false") boolean includeDeleted,
+			@RequestParam(defaultValue = "10") int limit) {
+		List<LoanSearchResult> results = loanService.searchLoans(q, includeDeleted, limit);
+		return ResponseEntity.ok(results);
+	}
+
+	/**
+	 * Live feed of loan lifecycle events. Reconnecting clients send {@code Last-Event-ID}
+	 * (browsers do this automatically; {@code lastEventId} works where headers cannot be set).
+	 */
+	@GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter streamEvents(
+			@RequestHeader(value = "Last-Event-ID", required = false) String lastEventIdHeader,
+			@RequestParam(required = false) String lastEventId,
+			@RequestParam(required = false) LoanStatus status) {
+		String resumeFrom = lastEventIdHeader != null ? lastEventIdHeader : lastEventId;
+		return loanEventBroadcaster.subscribe(resumeFrom, status);
+	}
+
 	@PutMapping("/{id}")
 	public ResponseEntity<LoanResponse> updateLoan(
 			@PathVariable String id,
@@ -131,4 +175,56 @@ public class LoanController {
 		PricingResponse pricing = loanService.calculatePricing(id);
 		return ResponseEntity.ok(pricing);
 	}
+
+	@GetMapping("/{id}/pricing/regulatory")
+	public ResponseEntity<RegulatoryPricingResponse> calculateRegulatoryPricing(@PathVariable String id) {
+		RegulatoryPricingResponse pricing = loanService.calculateRegulatoryPricing(id);
+		return ResponseEntity.ok(pricing);
+	}
+
+	@PostMapping("/{id}/pricing/grid")
+	public ResponseEntity<PricingGridResponse> calculatePricingGrid(
+			@PathVariable String id,
+			@Valid @RequestBody PricingGridRequest request) {
+		PricingGridResponse grid = loanService.calculatePricingGrid(id, request);
+		return ResponseEntity.ok(grid);
+	}
+
+	/**
+	 * Month-by-month repayment schedule, streamed as it is computed.
+	 * {@code format} is {@code json} (default) or {@code csv}.
+	 */
+	@GetMapping("/{id}/schedule")
+	public ResponseEntity<StreamingResponseBody> getSchedule(
+			@PathVariable String id,
+			@RequestParam(defaultValue = "json") String format,
+			@RequestParam(defaultValue = "STANDARD") RepaymentStructure structure,
+			@RequestParam(defaultValue = "0") double balloonPercent,
+			@RequestParam(defaultValue = "0") int moratoriumMonths) {
+		boolean csv = "csv".equalsIgnoreCase(format);
+		if (!csv && !"json".equalsIgnoreCase(format)) {
+			throw new InvalidScheduleException("Unsupported format: " + format + " (use csv or json)");
+		}
+		// Resolved before streaming starts so a missing loan or bad terms still map to 4xx
+		AmortizationSchedule schedule = loanService.getAmortizationSchedule(
+				id, structure, balloonPercent, moratoriumMonths);
+
+		StreamingResponseBody body = out -> {
+			Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+			if (csv) {
+				AmortizationScheduleWriter.writeCsv(schedule, writer);
+			} else {
+				AmortizationScheduleWriter.writeJson(id, schedule, writer);
+			}
+		};
+		if (csv) {
+			return ResponseEntity.ok()
+					.contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+					.header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"loan-" + id + "-schedule.csv\"")
+					.body(body);
+		}
+		return ResponseEntity.ok()
+				.contentType(MediaType.APPLICATION_JSON)
+				.body(body);
+	}
 }
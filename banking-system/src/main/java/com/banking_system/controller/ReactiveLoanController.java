@@ -0,0 +1,80 @@
+package com.banking_system.controller;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.banking_system.model.dto.LoanResponse;
+import com.banking_system.service.ReactiveLoanService;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive variant of the loan read endpoints, enabled with {@code app.reactive.enabled}
+ * and served next to {@link LoanController} by Spring MVC's reactive return-value support.
+ *
+ * {@code Flux} results requested as {@code application/x-ndjson} are streamed one loan per
+ * line, each written before the next is requested; as {@code application/json} they are
+ * collected into an array like the MVC endpoints.
+ */
+@RestController
+@RequestMapping("/api/reactive/loans")
+@ConditionalOnProperty(prefix = "app.reactive", name = "enabled", havingValue = "true")
+public class ReactiveLoanController {
+
+	private final ReactiveLoanService loanService;
+
+	public ReactiveLoanController(ReactiveLoanService loanService) {
+		this.loanService = loanService;
+	}
+
+	@GetMapping("/{id}")
+	public Mono<LoanResponse> getLoan(@PathVariable String id) {
+		return loanService.getLoanById(id);
+	}
+
+	@GetMapping(produces = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE })
+	@PreAuthorize("hasRole('ADMIN') or !#includeDeleted")
+	public Flux<LoanResponse> getAllLoans(
+			@RequestParam(defaultValue = "false") boolean includeDeleted) {
+		return loanService.getAllLoans(includeDeleted);
+	}
+
+	@GetMapping("/paginated")
+	@PreAuthorize("hasRole('ADMIN') or !#includeDeleted")
+	public Mono<Page<LoanResponse>> getAllLoansPaginated(
+			@RequestParam(defaultValue = "false") boolean includeDeleted,
+			@RequestParam(required = false) String status,
+			@RequestParam(required = false) String clientName,
+			@RequestParam(required = false) String loanType,
+			@RequestParam(defaultValue = "0") int page,
+			@RequestParam(defaultValue = "10") int size,
+			@RequestParam(defaultValue = "createdAt") String sortBy,
+			@RequestParam(defaultValue = "DESC") String sortDirection) {
+
+		Sort.Direction direction = sortDirection.equalsIgnoreCase("ASC")
+				? Sort.Direction.ASC
+				: Sort.Direction.DESC;
+		Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
+		return loanService.getAllLoans(includeDeleted, status, clientName, loanType, pageable);
+	}
+
+	/**
+	 * Streams every non-deleted loan as NDJSON in id order. After a dropped connection, pass
+	 * the id of the last loan received as {@code after} to continue from there.
+	 */
+	@GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public Flux<LoanResponse> exportLoans(@RequestParam(required = false) String after) {
+		return loanService.exportLoans(after);
+	}
+}
@@ -1,7 +1,7 @@
 package com.banking_system.exception;
 
-public class AccountNotFoundException extends RuntimeException {
+public class AccountNotFoundException extends BusinessException {
 	public AccountNotFoundException(String accountNumber) {
-		super("Account not found: " + accountNumber);
+		super(ErrorCode.ACCOUNT_NOT_FOUND, "Account not found: " + accountNumber);
 	}
 }
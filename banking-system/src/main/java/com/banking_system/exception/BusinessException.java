@@ -0,0 +1,24 @@
+package com.banking_system.exception;
+
+/**
+ * Base of the exceptions for requests a business rule refuses or that name something
+ * that does not exist. They are ordinary control flow, answered from their
+ * {@link ErrorCode} by {@link GlobalExceptionHandler} and never logged, so they skip
+ * stack trace capture and suppression, which dominate the cost of throwing.
+ */
+public abstract class BusinessException extends RuntimeException {
+	private final ErrorCode code;
+
+	protected BusinessException(ErrorCode code, String message) {
+		this(code, message, null);
+	}
+
+	protected BusinessException(ErrorCode code, String message, Throwable cause) {
+		super(message, cause, false, false);
+		this.code = code;
+	}
+
+	public ErrorCode getCode() {
+		return code;
+	}
+}
@@ -0,0 +1,53 @@
+package com.banking_system.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * What a {@link BusinessException} answers with: the HTTP status and, for refusals worth
+ * tracking, the {@code reason} tag of the {@code banking.business.rejections} counter.
+ * Resolved once per constant, so the error path only fills in the message and path.
+ */
+public enum ErrorCode {
+	ACCOUNT_NOT_FOUND(HttpStatus.NOT_FOUND),
+	USER_NOT_FOUND(HttpStatus.NOT_FOUND),
+	LOAN_NOT_FOUND(HttpStatus.NOT_FOUND),
+	LOAN_EDIT_NOT_ALLOWED(HttpStatus.FORBIDDEN),
+	STATUS_CHANGE_NOT_ALLOWED(HttpStatus.FORBIDDEN, "invalid_transition"),
+	USER_ALREADY_EXISTS(HttpStatus.CONFLICT),
+	REPRICING_JOB_CONFLICT(HttpStatus.CONFLICT),
+	FLIGHT_RECORDING_CONFLICT(HttpStatus.CONFLICT),
+	INVALID_CREDENTIALS(HttpStatus.UNAUTHORIZED),
+	INSUFFICIENT_BALANCE(HttpStatus.BAD_REQUEST, "insufficient_balance"),
+	INVALID_AMOUNT(HttpStatus.BAD_REQUEST),
+	INVALID_SCHEDULE(HttpStatus.BAD_REQUEST),
+	INVALID_SIMULATION(HttpStatus.BAD_REQUEST),
+	INVALID_PRICING_RULES(HttpStatus.BAD_REQUEST),
+	INVALID_PRICING_GRID(HttpStatus.BAD_REQUEST);
+
+	private final HttpStatus status;
+	private final String reasonPhrase;
+	private final String rejectionReason;
+
+	ErrorCode(HttpStatus status) {
+		this(status, null);
+	}
+
+	ErrorCode(HttpStatus status, String rejectionReason) {
+		this.status = status;
+		this.reasonPhrase = status.getReasonPhrase();
+		this.rejectionReason = rejectionReason;
+	}
+
+	public HttpStatus status() {
+		return status;
+	}
+
+	public String reasonPhrase() {
+		return reasonPhrase;
+	}
+
+	/** Tag of the rejections counter, or null when this error is not counted. */
+	public String rejectionReason() {
+		return rejectionReason;
+	}
+}
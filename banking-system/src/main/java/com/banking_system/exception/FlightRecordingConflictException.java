@@ -0,0 +1,7 @@
+package com.banking_system.exception;
+
+public class FlightRecordingConflictException extends BusinessException {
+	public FlightRecordingConflictException(String message) {
+		super(ErrorCode.FLIGHT_RECORDING_CONFLICT, message);
+	}
+}
@@ -1,6 +1,7 @@
 package com.banking_system.exception;
 
 import java.time.Instant;
+import java.util.EnumMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
@@ -14,119 +15,44 @@ import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.servlet.resource.NoResourceFoundException;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
 
 @ControllerAdvice
 public class GlobalExceptionHandler {
 	private static final Logger log = LoggerFactory.getLogger(GlobalExceptionHandler.class);
 
-	@ExceptionHandler(AccountNotFoundException.class)
-	public ResponseEntity<ApiError> handleAccountNotFound(AccountNotFoundException ex, HttpServletRequest request) {
-		ApiError body = new ApiError(
-				Instant.now(),
-				HttpStatus.NOT_FOUND.value(),
-				HttpStatus.NOT_FOUND.getReasonPhrase(),
-				ex.getMessage(),
-				request.getRequestURI(),
-				null);
-		return ResponseEntity.status(HttpStatus.NOT_FOUND).body(body);
-	}
+	static final String REJECTIONS = "banking.business.rejections";
 
-	@ExceptionHandler(UserNotFoundException.class)
-	public ResponseEntity<ApiError> handleUserNotFound(UserNotFoundException ex, HttpServletRequest request) {
-		ApiError body = new ApiError(
-				Instant.now(),
-				HttpStatus.NOT_FOUND.value(),
-				HttpStatus.NOT_FOUND.getReasonPhrase(),
-				ex.getMessage(),
-				request.getRequestURI(),
-				null);
-		return ResponseEntity.status(HttpStatus.NOT_FOUND).body(body);
-	}
+	// Preallocated per code, only for the refusals that are counted
+	private final Map<ErrorCode, Counter> rejections = new EnumMap<>(ErrorCode.class);
 
-	@ExceptionHandler(LoanNotFoundException.class)
-	public ResponseEntity<ApiError> handleLoanNotFound(LoanNotFoundException ex, HttpServletRequest request) {
-		ApiError body = new ApiError(
-				Instant.now(),
-				HttpStatus.NOT_FOUND.value(),
-				HttpStatus.NOT_FOUND.getReasonPhrase(),
-				ex.getMessage(),
-				request.getRequestURI(),
-				null);
-		return ResponseEntity.status(HttpStatus.NOT_FOUND).body(body);
-	}
-
-	@ExceptionHandler(LoanEditNotAllowedException.class)
-	public ResponseEntity<ApiError> handleLoanEditNotAllowed(LoanEditNotAllowedException ex, HttpServletRequest request) {
-		ApiError body = new ApiError(
-				Instant.now(),
-				HttpStatus.FORBIDDEN.value(),
-				HttpStatus.FORBIDDEN.getReasonPhrase(),
-				ex.getMessage(),
-				request.getRequestURI(),
-				null);
-		return ResponseEntity.status(HttpStatus.FORBIDDEN).body(body);
-	}
-
-	@ExceptionHandler(StatusChangeNotAllowedException.class)
-	public ResponseEntity<ApiError> handleStatusChangeNotAllowed(StatusChangeNotAllowedException ex, HttpServletRequest request) {
-		ApiError body = new ApiError(
-				Instant.now(),
-				HttpStatus.FORBIDDEN.value(),
-				HttpStatus.FORBIDDEN.getReasonPhrase(),
-				ex.getMessage(),
-				request.getRequestURI(),
-				null);
-		return ResponseEntity.status(HttpStatus.FORBIDDEN).body(body);
-	}
-
-	@ExceptionHandler(UserAlreadyExistsException.class)
-	public ResponseEntity<ApiError> handleUserAlreadyExists(UserAlreadyExistsException ex, HttpServletRequest request) {
-		ApiError body = new ApiError(
-				Instant.now(),
-				HttpStatus.CONFLICT.value(),
-				HttpStatus.CONFLICT.getReasonPhrase(),
-				ex.getMessage(),
-				request.getRequestURI(),
-				null);
-		return ResponseEntity.status(HttpStatus.CONFLICT).body(body);
-	}
-
-	@ExceptionHandler(InvalidCredentialsException.class)
-	public ResponseEntity<ApiError> handleInvalidCredentials(InvalidCredentialsException ex, HttpServletRequest request) {
-		ApiError body = new ApiError(
-				Instant.now(),
-				HttpStatus.UNAUTHORIZED.value(),
-				HttpStatus.UNAUTHORIZED.getReasonPhrase(),
-				ex.getMessage(),
-				request.getRequestURI(),
-				null);
-		return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(body);
-	}
-
-	@ExceptionHandler(InsufficientBalanceException.class)
-	public ResponseEntity<ApiError> handleInsufficientBalance(InsufficientBalanceException ex, HttpServletRequest request) {
-		ApiError body = new ApiError(
-				Instant.now(),
-				HttpStatus.BAD_REQUEST.value(),
-				HttpStatus.BAD_REQUEST.getReasonPhrase(),
-				ex.getMessage(),
-				request.getRequestURI(),
-				null);
-		return ResponseEntity.badRequest().body(body);
+	public GlobalExceptionHandler(MeterRegistry meterRegistry) {
+		for (ErrorCode code : ErrorCode.values()) {
+			if (code.rejectionReason() != null) {
+				rejections.put(code, rejectionCounter(meterRegistry, code.rejectionReason()));
+			}
+		}
 	}
 
-	@ExceptionHandler(InvalidAmountException.class)
-	public ResponseEntity<ApiError> handleInvalidAmount(InvalidAmountException ex, HttpServletRequest request) {
+	@ExceptionHandler(BusinessException.class)
+	public ResponseEntity<ApiError> handleBusiness(BusinessException ex, HttpServletRequest request) {
+		ErrorCode code = ex.getCode();
+		Counter rejected = rejections.get(code);
+		if (rejected != null) {
+			rejected.increment();
+		}
 		ApiError body = new ApiError(
 				Instant.now(),
-				HttpStatus.BAD_REQUEST.value(),
-				HttpStatus.BAD_REQUEST.getReasonPhrase(),
+				code.status().value(),
+				code.reasonPhrase(),
 				ex.getMessage(),
 				request.getRequestURI(),
 				null);
-		return ResponseEntity.badRequest().body(body);
+		return ResponseEntity.status(code.status()).body(body);
 	}
 
 	@ExceptionHandler(MethodArgumentNotValidException.class)
@@ -170,6 +96,19 @@ public class GlobalExceptionHandler {
 		return ResponseEntity.status(HttpStatus.FORBIDDEN).body(body);
 	}
 
+	// No handler mapped the path, e.g. /actuator/** on the API port; not a server fault
+	@ExceptionHandler(NoResourceFoundException.class)
+	public ResponseEntity<ApiError> handleNoResource(NoResourceFoundException ex, HttpServletRequest request) {
+		ApiError body = new ApiError(
+				Instant.now(),
+				HttpStatus.NOT_FOUND.value(),
+				HttpStatus.NOT_FOUND.getReasonPhrase(),
+				"No resource at this path",
+				request.getRequestURI(),
+				null);
+		return ResponseEntity.status(HttpStatus.NOT_FOUND).body(body);
+	}
+
 	@ExceptionHandler(IllegalStateException.class)
 	public ResponseEntity<ApiError> handleIllegalState(IllegalStateException ex, HttpServletRequest request) {
 		log.warn("IllegalStateException: {}", ex.getMessage());
@@ -195,4 +134,11 @@ public class GlobalExceptionHandler {
 				null);
 		return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(body);
 	}
+
+	private static Counter rejectionCounter(MeterRegistry registry, String reason) {
+		return Counter.builder(REJECTIONS)
+				.description("Requests refused by a business rule")
+				.tag("reason", reason)
+				.register(registry);
+	}
 }
@@ -1,11 +1,11 @@
 package com.banking_system.exception;
 
-public class InsufficientBalanceException extends RuntimeException {
+public class InsufficientBalanceException extends BusinessException {
 	public InsufficientBalanceException() {
-		super("Insufficient balance");
+		super(ErrorCode.INSUFFICIENT_BALANCE, "Insufficient balance");
 	}
 
 	public InsufficientBalanceException(String message) {
-		super(message);
+		super(ErrorCode.INSUFFICIENT_BALANCE, message);
 	}
 }
@@ -1,11 +1,11 @@
 package com.banking_system.exception;
 
-public class InvalidAmountException extends RuntimeException {
+public class InvalidAmountException extends BusinessException {
 	public InvalidAmountException() {
-		super("Invalid amount");
+		super(ErrorCode.INVALID_AMOUNT, "Invalid amount");
 	}
 
 	public InvalidAmountException(String message) {
-		super(message);
+		super(ErrorCode.INVALID_AMOUNT, message);
 	}
 }
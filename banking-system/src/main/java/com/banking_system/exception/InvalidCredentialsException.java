@@ -1,7 +1,7 @@
 package com.banking_system.exception;
 
-public class InvalidCredentialsException extends RuntimeException {
+public class InvalidCredentialsException extends BusinessException {
 	public InvalidCredentialsException(String message) {
-		super(message);
+		super(ErrorCode.INVALID_CREDENTIALS, message);
 	}
 }
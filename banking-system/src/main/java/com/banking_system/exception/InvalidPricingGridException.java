@@ -0,0 +1,7 @@
+package com.banking_system.exception;
+
+public class InvalidPricingGridException extends BusinessException {
+	public InvalidPricingGridException(String message) {
+		super(ErrorCode.INVALID_PRICING_GRID, message);
+	}
+}
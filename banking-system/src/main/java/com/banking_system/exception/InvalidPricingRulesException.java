@@ -0,0 +1,7 @@
+package com.banking_system.exception;
+
+public class InvalidPricingRulesException extends BusinessException {
+	public InvalidPricingRulesException(String message, Throwable cause) {
+		super(ErrorCode.INVALID_PRICING_RULES, message, cause);
+	}
+}
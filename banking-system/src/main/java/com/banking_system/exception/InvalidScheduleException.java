@@ -0,0 +1,7 @@
+package com.banking_system.exception;
+
+public class InvalidScheduleException extends BusinessException {
+	public InvalidScheduleException(String message) {
+		super(ErrorCode.INVALID_SCHEDULE, message);
+	}
+}
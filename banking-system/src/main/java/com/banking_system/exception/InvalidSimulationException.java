@@ -0,0 +1,7 @@
+package com.banking_system.exception;
+
+public class InvalidSimulationException extends BusinessException {
+	public InvalidSimulationException(String message) {
+		super(ErrorCode.INVALID_SIMULATION, message);
+	}
+}
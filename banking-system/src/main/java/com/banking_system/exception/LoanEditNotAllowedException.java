@@ -1,7 +1,7 @@
 package com.banking_system.exception;
 
-public class LoanEditNotAllowedException extends RuntimeException {
+public class LoanEditNotAllowedException extends BusinessException {
 	public LoanEditNotAllowedException(String message) {
-		super(message);
+		super(ErrorCode.LOAN_EDIT_NOT_ALLOWED, message);
 	}
 }
@@ -1,7 +1,7 @@
 package com.banking_system.exception;
 
-public class LoanNotFoundException extends RuntimeException {
+public class LoanNotFoundException extends BusinessException {
 	public LoanNotFoundException(String loanId) {
-		super("Loan not found: " + loanId);
+		super(ErrorCode.LOAN_NOT_FOUND, "Loan not found: " + loanId);
 	}
 }
@@ -0,0 +1,7 @@
+package com.banking_system.exception;
+
+public class RepricingJobConflictException extends BusinessException {
+	public RepricingJobConflictException(String message) {
+		super(ErrorCode.REPRICING_JOB_CONFLICT, message);
+	}
+}
@@ -1,7 +1,7 @@
 package com.banking_system.exception;
 
-public class StatusChangeNotAllowedException extends RuntimeException {
+public class StatusChangeNotAllowedException extends BusinessException {
 	public StatusChangeNotAllowedException(String message) {
-		super(message);
+		super(ErrorCode.STATUS_CHANGE_NOT_ALLOWED, message);
 	}
 }
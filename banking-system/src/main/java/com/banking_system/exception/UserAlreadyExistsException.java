@@ -1,7 +1,7 @@
 package com.banking_system.exception;
 
-public class UserAlreadyExistsException extends RuntimeException {
+public class UserAlreadyExistsException extends BusinessException {
 	public UserAlreadyExistsException(String email) {
-		super("User already exists with email: " + email);
+		super(ErrorCode.USER_ALREADY_EXISTS, "User already exists with email: " + email);
 	}
 }
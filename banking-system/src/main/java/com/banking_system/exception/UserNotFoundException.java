@@ -1,7 +1,7 @@
 package com.banking_system.exception;
 
-public class UserNotFoundException extends RuntimeException {
+public class UserNotFoundException extends BusinessException {
 	public UserNotFoundException(String userId) {
-		super("User not found: " + userId);
+		super(ErrorCode.USER_NOT_FOUND, "User not found: " + userId);
 	}
 }
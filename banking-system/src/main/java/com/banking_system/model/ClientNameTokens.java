@@ -0,0 +1,123 @@
+package com.banking_system.model;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Derives the indexed search fields for {@link Loan#getClientName()}.
+ *
+ * A client name is normalized to lowercase words, and every word contributes its
+ * prefixes (edge n-grams) to a token array stored on the loan. A multikey index on
+ * that array turns "word starts with" searches into index lookups instead of the
+ * unanchored regex scan produced by {@code ContainingIgnoreCase}.
+ */
+public final class ClientNameTokens {
+
+	public static final int MAX_PREFIX_LENGTH = 20;
+
+	private ClientNameTokens() {
+	}
+
+	/**
+	 * Lowercases the name and collapses punctuation and whitespace runs to single spaces,
+	 * e.g. "TechCorp, Inc." becomes "techcorp inc".
+	 */
+	public static String normalize(String name) {
+		if (name == null) {
+			return null;
+		}
+		StringBuilder sb = new StringBuilder(name.length());
+		boolean pendingSpace = false;
+		for (int i = 0; i < name.length(); i++) {
+			char c = name.charAt(i);
+			if (Character.isLetterOrDigit(c)) {
+				if (pendingSpace && sb.length() > 0) {
+					sb.append(' ');
+				}
+				pendingSpace = false;
+				sb.append(Character.toLowerCase(c));
+			} else {
+				pendingSpace = true;
+			}
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Prefix tokens for every word of the name. CamelCase words such as "TechCorp" also
+	 * index their parts, so both "tech" and "corp" match.
+	 */
+	public static List<String> tokenize(String name) {
+		if (name == null) {
+			return List.of();
+		}
+		Set<String> tokens = new LinkedHashSet<>();
+		for (String word : words(name)) {
+			addPrefixes(word, tokens);
+		}
+		return new ArrayList<>(tokens);
+	}
+
+	/**
+	 * Query terms for a search string: one term per normalized word, truncated to the
+	 * longest indexed prefix. A loan matches when every term is one of its tokens.
+	 */
+	public static List<String> queryTerms(String query) {
+		String normalized = normalize(query);
+		if (normalized == null || normalized.isEmpty()) {
+			return List.of();
+		}
+		Set<String> terms = new LinkedHashSet<>();
+		for (String word : normalized.split(" ")) {
+			terms.add(word.length() > MAX_PREFIX_LENGTH ? word.substring(0, MAX_PREFIX_LENGTH) : word);
+		}
+		return new ArrayList<>(terms);
+	}
+
+	private static List<String> words(String name) {
+		List<String> words = new ArrayList<>();
+		StringBuilder word = new StringBuilder();
+		StringBuilder part = new StringBuilder();
+		char previous = 0;
+		for (int i = 0; i <= name.length(); i++) {
+			char c = i < name.length() ? name.charAt(i) : ' ';
+			if (!Character.isLetterOrDigit(c)) {
+				flush(word, part, words);
+				previous = 0;
+				continue;
+			}
+			// Split camel case on a lower-to-upper transition, keeping the whole word too
+			if (Character.isUpperCase(c) && Character.isLowerCase(previous) && part.length() > 0) {
+				words.add(part.toString().toLowerCase(Locale.ROOT));
+				part.setLength(0);
+			}
+			word.append(c);
+			part.append(c);
+			previous = c;
+		}
+		return words;
+	}
+
+	private static void flush(StringBuilder word, StringBuilder part, List<String> words) {
+		if (word.length() == 0) {
+			return;
+		}
+		String whole = word.toString().toLowerCase(Locale.ROOT);
+		if (part.length() != word.length()) {
+			words.add(part.toString().toLowerCase(Locale.ROOT));
+		}
+		words.add(whole);
+		word.setLength(0);
+		part.setLength(0);
+	}
+
+	private static void addPrefixes(String word, Set<String> tokens) {
+		int max = Math.min(word.length(), MAX_PREFIX_LENGTH);
+		for (int len = 1; len <= max; len++) {
+			tokens.add(word.substring(0, len));
+		}
+	}
+}
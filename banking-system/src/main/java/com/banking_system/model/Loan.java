@@ -6,14 +6,30 @@ import java.util.List;
 
 import org.bson.types.ObjectId;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 @Document(collection = "loans")
+@CompoundIndexes({
+		@CompoundIndex(name = "deleted_clientNameTokens", def = "{'deleted': 1, 'clientNameTokens': 1}"),
+		// Whole-name prefix matches of the typeahead, in name order
+		@CompoundIndex(name = "deleted_clientNameNormalized", def = "{'deleted': 1, 'clientNameNormalized': 1}"),
+		// Paginated status filter (default sort createdAt) and the analytics $match stages
+		@CompoundIndex(name = "deleted_status_createdAt", def = "{'deleted': 1, 'status': 1, 'createdAt': -1}"),
+		@CompoundIndex(name = "deleted_createdAt", def = "{'deleted': 1, 'createdAt': -1}"),
+		@CompoundIndex(name = "deleted_loanType_createdAt", def = "{'deleted': 1, 'loanType': 1, 'createdAt': -1}"),
+		@CompoundIndex(name = "createdBy_createdAt", def = "{'createdBy': 1, 'createdAt': -1}")
+})
 public class Loan {
 	@Id
 	private ObjectId id;
 
 	private String clientName;
+
+	// Search fields derived from clientName, see ClientNameTokens
+	private String clientNameNormalized;
+	private List<String> clientNameTokens = new ArrayList<>();
 	private String loanType;
 	private Double requestedAmount;
 	private Double proposedInterestRate;
@@ -43,6 +59,12 @@ public class Loan {
 	private boolean deleted;
 	private Instant deletedAt;
 
+	// Last computed pricing, so list views can show EMI without recomputing
+	private PricingSnapshot pricing;
+
+	// Model rating from the financials; used for pricing in place of the entered rating
+	private CreditScore creditScore;
+
 	public Loan() {
 	}
 
@@ -66,7 +88,7 @@ public class Loan {
 			boolean deleted,
 			Instant deletedAt) {
 		this.id = id;
-		this.clientName = clientName;
+		setClientName(clientName);
 		this.loanType = loanType;
 		this.requestedAmount = requestedAmount;
 		this.proposedInterestRate = proposedInterestRate;
@@ -100,6 +122,16 @@ public class Loan {
 
 	public void setClientName(String clientName) {
 		this.clientName = clientName;
+		this.clientNameNormalized = ClientNameTokens.normalize(clientName);
+		this.clientNameTokens = ClientNameTokens.tokenize(clientName);
+	}
+
+	public String getClientNameNormalized() {
+		return clientNameNormalized;
+	}
+
+	public List<String> getClientNameTokens() {
+		return clientNameTokens;
 	}
 
 	public String getLoanType() {
@@ -245,6 +277,22 @@ public class Loan {
 		this.deletedAt = deletedAt;
 	}
 
+	public PricingSnapshot getPricing() {
+		return pricing;
+	}
+
+	public void setPricing(PricingSnapshot pricing) {
+		this.pricing = pricing;
+	}
+
+	public CreditScore getCreditScore() {
+		return creditScore;
+	}
+
+	public void setCreditScore(CreditScore creditScore) {
+		this.creditScore = creditScore;
+	}
+
 	// Nested class for financials
 	public static class Financials {
 		private Double revenue;
@@ -291,6 +339,8 @@ public class Loan {
 		private String action;
 		private String comments;
 		private Instant timestamp;
+		// Status the loan left, on STATUS_CHANGE actions only; change stream events carry no pre-image
+		private LoanStatus fromStatus;
 
 		public LoanAction() {
 		}
@@ -333,5 +383,162 @@ public class Loan {
 		public void setTimestamp(Instant timestamp) {
 			this.timestamp = timestamp;
 		}
+
+		public LoanStatus getFromStatus() {
+			return fromStatus;
+		}
+
+		public void setFromStatus(LoanStatus fromStatus) {
+			this.fromStatus = fromStatus;
+		}
+	}
+
+	// Nested class for the persisted pricing result
+	public static class PricingSnapshot {
+		private Double recommendedRate;
+		private Double emi;
+		private Double totalInterest;
+		private String riskCategory;
+		// Hash of the pricing inputs and rule-table version this result was computed from
+		private long inputsHash;
+		private long rulesVersion;
+		private Instant pricedAt;
+
+		public PricingSnapshot() {
+		}
+
+		public PricingSnapshot(
+				Double recommendedRate,
+				Double emi,
+				Double totalInterest,
+				String riskCategory,
+				long inputsHash,
+				long rulesVersion,
+				Instant pricedAt) {
+			this.recommendedRate = recommendedRate;
+			this.emi = emi;
+			this.totalInterest = totalInterest;
+			this.riskCategory = riskCategory;
+			this.inputsHash = inputsHash;
+			this.rulesVersion = rulesVersion;
+			this.pricedAt = pricedAt;
+		}
+
+		public Double getRecommendedRate() {
+			return recommendedRate;
+		}
+
+		public void setRecommendedRate(Double recommendedRate) {
+			this.recommendedRate = recommendedRate;
+		}
+
+		public Double getEmi() {
+			return emi;
+		}
+
+		public void setEmi(Double emi) {
+			this.emi = emi;
+		}
+
+		public Double getTotalInterest() {
+			return totalInterest;
+		}
+
+		public void setTotalInterest(Double totalInterest) {
+			this.totalInterest = totalInterest;
+		}
+
+		public String getRiskCategory() {
+			return riskCategory;
+		}
+
+		public void setRiskCategory(String riskCategory) {
+			this.riskCategory = riskCategory;
+		}
+
+		public long getInputsHash() {
+			return inputsHash;
+		}
+
+		public void setInputsHash(long inputsHash) {
+			this.inputsHash = inputsHash;
+		}
+
+		public long getRulesVersion() {
+			return rulesVersion;
+		}
+
+		public void setRulesVersion(long rulesVersion) {
+			this.rulesVersion = rulesVersion;
+		}
+
+		public Instant getPricedAt() {
+			return pricedAt;
+		}
+
+		public void setPricedAt(Instant pricedAt) {
+			this.pricedAt = pricedAt;
+		}
+	}
+
+	// Nested class for the persisted model rating
+	public static class CreditScore {
+		private double score;
+		private String rating;
+		// Hash of the financials and model version this score was computed from
+		private long financialsHash;
+		private String model;
+		private Instant scoredAt;
+
+		public CreditScore() {
+		}
+
+		public CreditScore(double score, String rating, long financialsHash, String model, Instant scoredAt) {
+			this.score = score;
+			this.rating = rating;
+			this.financialsHash = financialsHash;
+			this.model = model;
+			this.scoredAt = scoredAt;
+		}
+
+		public double getScore() {
+			return score;
+		}
+
+		public void setScore(double score) {
+			this.score = score;
+		}
+
+		public String getRating() {
+			return rating;
+		}
+
+		public void setRating(String rating) {
+			this.rating = rating;
+		}
+
+		public long getFinancialsHash() {
+			return financialsHash;
+		}
+
+		public void setFinancialsHash(long financialsHash) {
+			this.financialsHash = financialsHash;
+		}
+
+		public String getModel() {
+			return model;
+		}
+
+		public void setModel(String model) {
+			this.model = model;
+		}
+
+		public Instant getScoredAt() {
+			return scoredAt;
+		}
+
+		public void setScoredAt(Instant scoredAt) {
+			this.scoredAt = scoredAt;
+		}
 	}
 }
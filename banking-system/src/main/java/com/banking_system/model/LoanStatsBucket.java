@@ -0,0 +1,99 @@
+package com.banking_system.model;
+
+import java.time.Instant;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * One row of the incrementally maintained {@code loan_stats} summary, e.g.
+ * {@code status:SUBMITTED}. Counts and amounts cover non-deleted loans only.
+ */
+@Document(collection = "loan_stats")
+public class LoanStatsBucket {
+	@Id
+	private String id;
+
+	private String dimension;
+	private String key;
+	private long count;
+	private double requestedAmount;
+	private double sanctionedAmount;
+	private Instant updatedAt;
+
+	public LoanStatsBucket() {
+	}
+
+	public LoanStatsBucket(
+			String id,
+			String dimension,
+			String key,
+			long count,
+			double requestedAmount,
+			double sanctionedAmount,
+			Instant updatedAt) {
+		this.id = id;
+		this.dimension = dimension;
+		this.key = key;
+		this.count = count;
+		this.requestedAmount = requestedAmount;
+		this.sanctionedAmount = sanctionedAmount;
+		this.updatedAt = updatedAt;
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public void setId(String id) {
+		this.id = id;
+	}
+
+	public String getDimension() {
+		return dimension;
+	}
+
+	public void setDimension(String dimension) {
+		this.dimension = dimension;
+	}
+
+	public String getKey() {
+		return key;
+	}
+
+	public void setKey(String key) {
+		this.key = key;
+	}
+
+	public long getCount() {
+		return count;
+	}
+
+	public void setCount(long count) {
+		this.count = count;
+	}
+
+	public double getRequestedAmount() {
+		return requestedAmount;
+	}
+
+	public void setRequestedAmount(double requestedAmount) {
+		this.requestedAmount = requestedAmount;
+	}
+
+	public double getSanctionedAmount() {
+		return sanctionedAmount;
+	}
+
+	public void setSanctionedAmount(double sanctionedAmount) {
+		this.sanctionedAmount = sanctionedAmount;
+	}
+
+	public Instant getUpdatedAt() {
+		return updatedAt;
+	}
+
+	public void setUpdatedAt(Instant updatedAt) {
+		this.updatedAt = updatedAt;
+	}
+}
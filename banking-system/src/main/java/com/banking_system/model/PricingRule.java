@@ -0,0 +1,119 @@
+package com.banking_system.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * One row of the pricing spread grid. A null or {@code "*"} rating/loan type matches any
+ * value; tenure and amount bounds are inclusive lower / exclusive upper, null meaning
+ * unbounded. Where several rules cover the same loan the most specific one applies
+ * (rating, then loan type, then tenure band, then amount band), then the higher
+ * priority, then the earlier rule.
+ */
+@Document(collection = "pricing_rules")
+public class PricingRule {
+	public static final String ANY = "*";
+
+	@Id
+	private String id;
+
+	private String rating;
+	private String loanType;
+	private Integer minTenureMonths;
+	private Integer maxTenureMonths;
+	private Double minAmount;
+	private Double maxAmount;
+	private double spread;
+	private String riskCategory;
+	private int priority;
+
+	public PricingRule() {
+	}
+
+	public PricingRule(String rating, String loanType, double spread, String riskCategory) {
+		this.rating = rating;
+		this.loanType = loanType;
+		this.spread = spread;
+		this.riskCategory = riskCategory;
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public void setId(String id) {
+		this.id = id;
+	}
+
+	public String getRating() {
+		return rating;
+	}
+
+	public void setRating(String rating) {
+		this.rating = rating;
+	}
+
+	public String getLoanType() {
+		return loanType;
+	}
+
+	public void setLoanType(String loanType) {
+		this.loanType = loanType;
+	}
+
+	public Integer getMinTenureMonths() {
+		return minTenureMonths;
+	}
+
+	public void setMinTenureMonths(Integer minTenureMonths) {
+		this.minTenureMonths = minTenureMonths;
+	}
+
+	public Integer getMaxTenureMonths() {
+		return maxTenureMonths;
+	}
+
+	public void setMaxTenureMonths(Integer maxTenureMonths) {
+		this.maxTenureMonths = maxTenureMonths;
+	}
+
+	public Double getMinAmount() {
+		return minAmount;
+	}
+
+	public void setMinAmount(Double minAmount) {
+		this.minAmount = minAmount;
+	}
+
+	public Double getMaxAmount() {
+		return maxAmount;
+	}
+
+	public void setMaxAmount(Double maxAmount) {
+		this.maxAmount = maxAmount;
+	}
+
+	public double getSpread() {
+		return spread;
+	}
+
+	public void setSpread(double spread) {
+		this.spread = spread;
+	}
+
+	public String getRiskCategory() {
+		return riskCategory;
+	}
+
+	public void setRiskCategory(String riskCategory) {
+		this.riskCategory = riskCategory;
+	}
+
+	public int getPriority() {
+		return priority;
+	}
+
+	public void setPriority(int priority) {
+		this.priority = priority;
+	}
+}
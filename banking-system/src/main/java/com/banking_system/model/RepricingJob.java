@@ -0,0 +1,207 @@
+package com.banking_system.model;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.bson.types.ObjectId;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Progress of a portfolio repricing run. {@code lastLoanId} is the checkpoint: loans are
+ * repriced in {@code _id} order, so a run interrupted by a restart resumes after it.
+ *
+ * A running job is held by the node in {@code owner} until {@code leaseUntil}. The
+ * owner renews the lease with every checkpoint, and another node may take the job over
+ * only once the lease has expired. At most one job is {@code RUNNING} at a time.
+ */
+@Document(collection = "repricing_jobs")
+@CompoundIndexes({
+		// Interrupted runs to resume at startup, and the latest run for the status endpoint
+		@CompoundIndex(name = "state_startedAt", def = "{'state': 1, 'startedAt': 1}"),
+		@CompoundIndex(name = "startedAt", def = "{'startedAt': -1}"),
+		// Two nodes reacting to the same rule reload cannot both start a run
+		@CompoundIndex(name = "one_running", def = "{'state': 1}", unique = true, partialFilter = "{'state': 'RUNNING'}")
+})
+public class RepricingJob {
+	@Id
+	private ObjectId id;
+
+	private RepricingJobState state;
+	private List<LoanStatus> statuses;
+	// What started the run, e.g. "manual" or "rules v3"
+	private String trigger;
+	private long rulesVersion;
+	private long total;
+	private long processed;
+	private long repriced;
+	private long unchanged;
+	// Loans edited while the run held them; the edit already refreshed their pricing
+	private long conflicts;
+	private long failed;
+	private ObjectId lastLoanId;
+	private String owner;
+	private Instant leaseUntil;
+	private Instant startedAt;
+	private Instant updatedAt;
+	private Instant finishedAt;
+	private String error;
+
+	public RepricingJob() {
+	}
+
+	public RepricingJob(List<LoanStatus> statuses, String trigger, long rulesVersion, Instant startedAt) {
+		this.state = RepricingJobState.RUNNING;
+		this.statuses = statuses;
+		this.trigger = trigger;
+		this.rulesVersion = rulesVersion;
+		this.startedAt = startedAt;
+		this.updatedAt = startedAt;
+	}
+
+	public ObjectId getId() {
+		return id;
+	}
+
+	public void setId(ObjectId id) {
+		this.id = id;
+	}
+
+	public RepricingJobState getState() {
+		return state;
+	}
+
+	public void setState(RepricingJobState state) {
+		this.state = state;
+	}
+
+	public List<LoanStatus> getStatuses() {
+		return statuses;
+	}
+
+	public void setStatuses(List<LoanStatus> statuses) {
+		this.statuses = statuses;
+	}
+
+	public String getTrigger() {
+		return trigger;
+	}
+
+	public void setTrigger(String trigger) {
+		this.trigger = trigger;
+	}
+
+	public long getRulesVersion() {
+		return rulesVersion;
+	}
+
+	public void setRulesVersion(long rulesVersion) {
+		this.rulesVersion = rulesVersion;
+	}
+
+	public long getTotal() {
+		return total;
+	}
+
+	public void setTotal(long total) {
+		this.total = total;
+	}
+
+	public long getProcessed() {
+		return processed;
+	}
+
+	public void setProcessed(long processed) {
+		this.processed = processed;
+	}
+
+	public long getRepriced() {
+		return repriced;
+	}
+
+	public void setRepriced(long repriced) {
+		this.repriced = repriced;
+	}
+
+	public long getUnchanged() {
+		return unchanged;
+	}
+
+	public void setUnchanged(long unchanged) {
+		this.unchanged = unchanged;
+	}
+
+	public long getConflicts() {
+		return conflicts;
+	}
+
+	public void setConflicts(long conflicts) {
+		this.conflicts = conflicts;
+	}
+
+	public long getFailed() {
+		return failed;
+	}
+
+	public void setFailed(long failed) {
+		this.failed = failed;
+	}
+
+	public ObjectId getLastLoanId() {
+		return lastLoanId;
+	}
+
+	public void setLastLoanId(ObjectId lastLoanId) {
+		this.lastLoanId = lastLoanId;
+	}
+
+	public String getOwner() {
+		return owner;
+	}
+
+	public void setOwner(String owner) {
+		this.owner = owner;
+	}
+
+	public Instant getLeaseUntil() {
+		return leaseUntil;
+	}
+
+	public void setLeaseUntil(Instant leaseUntil) {
+		this.leaseUntil = leaseUntil;
+	}
+
+	public Instant getStartedAt() {
+		return startedAt;
+	}
+
+	public void setStartedAt(Instant startedAt) {
+		this.startedAt = startedAt;
+	}
+
+	public Instant getUpdatedAt() {
+		return updatedAt;
+	}
+
+	public void setUpdatedAt(Instant updatedAt) {
+		this.updatedAt = updatedAt;
+	}
+
+	public Instant getFinishedAt() {
+		return finishedAt;
+	}
+
+	public void setFinishedAt(Instant finishedAt) {
+		this.finishedAt = finishedAt;
+	}
+
+	public String getError() {
+		return error;
+	}
+
+	public void setError(String error) {
+		this.error = error;
+	}
+}
@@ -0,0 +1,8 @@
+package com.banking_system.model;
+
+public enum RepricingJobState {
+	RUNNING,
+	COMPLETED,
+	CANCELLED,
+	FAILED
+}
@@ -33,7 +33,10 @@ public class Transaction {
 	@NotNull(message = "status is required")
 	private TransactionStatus status;
 
+	// Each branch of the account history $or needs its own index
+	@Indexed
 	private String sourceAccount;
+	@Indexed
 	private String destinationAccount;
 
 	public Transaction() {
@@ -0,0 +1,10 @@
+package com.banking_system.model.dto;
+
+public record ApprovalStats(
+		long approvedCount,
+		Double averageApprovedRate,
+		Double averageLatencySeconds,
+		Double minLatencySeconds,
+		Double maxLatencySeconds
+) {
+}
@@ -0,0 +1,14 @@
+package com.banking_system.model.dto;
+
+public record CacheStatsResponse(
+		String name,
+		long requestCount,
+		long hitCount,
+		long missCount,
+		double hitRatio,
+		long evictionCount,
+		long estimatedEntries,
+		long weightedSizeBytes,
+		long maxWeightBytes
+) {
+}
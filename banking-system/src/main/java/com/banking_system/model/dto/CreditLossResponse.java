@@ -0,0 +1,20 @@
+package com.banking_system.model.dto;
+
+import java.util.List;
+
+public record CreditLossResponse(
+		int loans,
+		double exposure,
+		int paths,
+		long seed,
+		double confidence,
+		double expectedLoss,
+		double analyticExpectedLoss,
+		double unexpectedLoss,
+		double valueAtRisk,
+		double expectedShortfall,
+		double economicCapital,
+		List<CreditRiskParameters> parameters,
+		long elapsedMillis
+) {
+}
@@ -0,0 +1,12 @@
+package com.banking_system.model.dto;
+
+public record CreditRescoreResult(
+		String model,
+		long scanned,
+		long rescored,
+		long unchanged,
+		long unscorable,
+		long conflicts,
+		long elapsedMillis
+) {
+}
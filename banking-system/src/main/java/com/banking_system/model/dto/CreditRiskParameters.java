@@ -0,0 +1,10 @@
+package com.banking_system.model.dto;
+
+public record CreditRiskParameters(
+		String loanId,
+		double ead,
+		double pd,
+		double lgd,
+		double correlation
+) {
+}
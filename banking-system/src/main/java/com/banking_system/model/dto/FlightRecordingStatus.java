@@ -0,0 +1,14 @@
+package com.banking_system.model.dto;
+
+import java.time.Instant;
+
+public record FlightRecordingStatus(
+		long id,
+		String state,
+		String settings,
+		Instant startedAt,
+		long durationSeconds,
+		long maxSizeBytes,
+		long sizeBytes
+) {
+}
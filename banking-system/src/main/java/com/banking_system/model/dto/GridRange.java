@@ -0,0 +1,21 @@
+package com.banking_system.model.dto;
+
+import java.util.List;
+
+import jakarta.validation.constraints.Positive;
+
+/**
+ * One axis of a what-if pricing grid: either explicit {@code values}, or {@code from}
+ * to {@code to} inclusive in increments of {@code step}. A single {@code from} is a
+ * one-point axis.
+ */
+public record GridRange(
+		Double from,
+		Double to,
+
+		@Positive(message = "step must be positive")
+		Double step,
+
+		List<Double> values
+) {
+}
@@ -0,0 +1,17 @@
+package com.banking_system.model.dto;
+
+import java.time.Instant;
+
+import com.banking_system.model.LoanStatus;
+
+public record LoanEventMessage(
+		String id,
+		String type,
+		String loanId,
+		String clientName,
+		LoanStatus status,
+		LoanStatus previousStatus,
+		String actorId,
+		Instant timestamp
+) {
+}
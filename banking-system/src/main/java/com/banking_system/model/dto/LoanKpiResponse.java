@@ -0,0 +1,15 @@
+package com.banking_system.model.dto;
+
+import java.time.Instant;
+import java.util.List;
+
+public record LoanKpiResponse(
+		long totalLoans,
+		double totalRequestedExposure,
+		double totalSanctionedExposure,
+		List<PortfolioBucket> byStatus,
+		List<PortfolioBucket> byLoanType,
+		List<PortfolioBucket> byRating,
+		Instant lastUpdatedAt
+) {
+}
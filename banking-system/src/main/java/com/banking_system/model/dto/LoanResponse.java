@@ -2,6 +2,7 @@ package com.banking_system.model.dto;
 
 import java.time.Instant;
 
+import com.banking_system.model.Loan.CreditScore;
 import com.banking_system.model.Loan.Financials;
 import com.banking_system.model.LoanStatus;
 
@@ -21,6 +22,8 @@ public record LoanResponse(
 		String approvedBy,
 		Instant approvedAt,
 		Instant createdAt,
-		Instant updatedAt
+		Instant updatedAt,
+		PricingResponse pricing,
+		CreditScore creditScore
 ) {
 }
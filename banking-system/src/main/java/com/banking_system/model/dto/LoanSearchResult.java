@@ -0,0 +1,13 @@
+package com.banking_system.model.dto;
+
+import com.banking_system.model.LoanStatus;
+
+public record LoanSearchResult(
+		String id,
+		String clientName,
+		String loanType,
+		LoanStatus status,
+		Double requestedAmount,
+		double score
+) {
+}
@@ -0,0 +1,22 @@
+package com.banking_system.model.dto;
+
+import java.time.Instant;
+import java.util.List;
+
+public record LoanStatsConsistencyReport(
+		boolean consistent,
+		int bucketsChecked,
+		List<Mismatch> mismatches,
+		Instant checkedAt
+) {
+	public record Mismatch(
+			String bucket,
+			long expectedCount,
+			long actualCount,
+			double expectedRequested,
+			double actualRequested,
+			double expectedSanctioned,
+			double actualSanctioned
+	) {
+	}
+}
@@ -0,0 +1,16 @@
+package com.banking_system.model.dto;
+
+import java.time.Instant;
+import java.util.List;
+
+public record PortfolioAnalyticsResponse(
+		long totalLoans,
+		double totalRequestedExposure,
+		double totalSanctionedExposure,
+		List<PortfolioBucket> byStatus,
+		List<PortfolioBucket> byLoanType,
+		List<PortfolioBucket> byRating,
+		ApprovalStats approvals,
+		Instant generatedAt
+) {
+}
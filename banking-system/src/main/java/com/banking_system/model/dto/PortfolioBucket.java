@@ -0,0 +1,9 @@
+package com.banking_system.model.dto;
+
+public record PortfolioBucket(
+		String key,
+		long count,
+		double requestedExposure,
+		double sanctionedExposure
+) {
+}
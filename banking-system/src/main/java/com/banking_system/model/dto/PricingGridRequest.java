@@ -0,0 +1,18 @@
+package com.banking_system.model.dto;
+
+import jakarta.validation.Valid;
+
+/**
+ * Axes to price a loan across. An omitted axis stays at the loan's current value.
+ */
+public record PricingGridRequest(
+		@Valid
+		GridRange proposedInterestRate,
+
+		@Valid
+		GridRange tenureMonths,
+
+		@Valid
+		GridRange requestedAmount
+) {
+}
@@ -0,0 +1,24 @@
+package com.banking_system.model.dto;
+
+import java.util.List;
+
+/**
+ * Grid results as flat arrays in rate-major order: the cell for rate {@code i}, tenure
+ * {@code j} and amount {@code k} is at {@code (i * tenures + j) * amounts + k}. Risk
+ * categories are dictionary-encoded through {@code riskCategoryIndex}.
+ */
+public record PricingGridResponse(
+		String loanId,
+		String rating,
+		String loanType,
+		long rulesVersion,
+		double[] proposedInterestRates,
+		int[] tenureMonths,
+		double[] requestedAmounts,
+		double[] recommendedRate,
+		double[] emi,
+		double[] totalInterest,
+		List<String> riskCategories,
+		int[] riskCategoryIndex
+) {
+}
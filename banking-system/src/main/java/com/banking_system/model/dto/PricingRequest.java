@@ -4,6 +4,10 @@ public record PricingRequest(
 		Double requestedAmount,
 		Double proposedInterestRate,
 		Integer tenureMonths,
-		String rating
+		String rating,
+		String loanType
 ) {
+	public PricingRequest(Double requestedAmount, Double proposedInterestRate, Integer tenureMonths, String rating) {
+		this(requestedAmount, proposedInterestRate, tenureMonths, rating, null);
+	}
 }
@@ -0,0 +1,13 @@
+package com.banking_system.model.dto;
+
+import java.time.Instant;
+
+public record PricingRulesStatus(
+		long version,
+		String fingerprint,
+		String source,
+		int ruleCount,
+		int cellCount,
+		Instant loadedAt
+) {
+}
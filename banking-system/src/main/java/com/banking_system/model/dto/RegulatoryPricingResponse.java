@@ -0,0 +1,17 @@
+package com.banking_system.model.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Fixed-precision pricing: every amount is an exact decimal in cents, rounded half-even.
+ */
+public record RegulatoryPricingResponse(
+		BigDecimal recommendedRate,
+		BigDecimal emi,
+		BigDecimal totalInterest,
+		BigDecimal totalPayment,
+		String riskCategory,
+		String roundingMode,
+		long rulesVersion
+) {
+}
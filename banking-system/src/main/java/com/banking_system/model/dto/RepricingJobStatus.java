@@ -0,0 +1,30 @@
+package com.banking_system.model.dto;
+
+import java.time.Instant;
+import java.util.List;
+
+import com.banking_system.model.LoanStatus;
+import com.banking_system.model.RepricingJobState;
+
+public record RepricingJobStatus(
+		String id,
+		RepricingJobState state,
+		List<LoanStatus> statuses,
+		String trigger,
+		long rulesVersion,
+		long total,
+		long processed,
+		long repriced,
+		long unchanged,
+		long conflicts,
+		long failed,
+		double percentComplete,
+		double loansPerSecond,
+		Long etaSeconds,
+		String lastLoanId,
+		Instant startedAt,
+		Instant updatedAt,
+		Instant finishedAt,
+		String error
+) {
+}
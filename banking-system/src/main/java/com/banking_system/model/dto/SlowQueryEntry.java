@@ -0,0 +1,26 @@
+package com.banking_system.model.dto;
+
+import java.time.Instant;
+
+/**
+ * One query shape in the slow query table. {@code repositoryMethod} is null for
+ * commands not issued through a blocking repository method. The plan fields come from
+ * the {@code explain} run the first time the shape went over the threshold, and are
+ * null until then.
+ */
+public record SlowQueryEntry(
+		String repositoryMethod,
+		String command,
+		String namespace,
+		String shape,
+		long count,
+		long slowCount,
+		long failures,
+		double meanMillis,
+		double maxMillis,
+		Instant lastSlowAt,
+		String plan,
+		Long docsExamined,
+		Long keysExamined
+) {
+}
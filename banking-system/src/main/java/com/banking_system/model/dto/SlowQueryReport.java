@@ -0,0 +1,13 @@
+package com.banking_system.model.dto;
+
+import java.time.Instant;
+import java.util.List;
+
+public record SlowQueryReport(
+		boolean enabled,
+		Instant since,
+		long slowThresholdMillis,
+		long untrackedShapes,
+		List<SlowQueryEntry> queries
+) {
+}
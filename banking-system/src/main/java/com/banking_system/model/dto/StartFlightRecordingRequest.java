@@ -0,0 +1,12 @@
+package com.banking_system.model.dto;
+
+import jakarta.validation.constraints.Positive;
+
+/**
+ * {@code durationSeconds} is optional and defaults to, and is capped at,
+ * {@code app.flight-recording.max-duration}.
+ */
+public record StartFlightRecordingRequest(
+		@Positive Long durationSeconds
+) {
+}
@@ -0,0 +1,17 @@
+package com.banking_system.model.dto;
+
+import java.util.List;
+
+import com.banking_system.model.LoanStatus;
+
+import jakarta.validation.constraints.PositiveOrZero;
+
+/**
+ * Both fields are optional: statuses default to the open ones (DRAFT, SUBMITTED,
+ * UNDER_REVIEW) and the rate limit to {@code app.repricing.max-loans-per-second}.
+ */
+public record StartRepricingRequest(
+		List<LoanStatus> statuses,
+		@PositiveOrZero Integer maxLoansPerSecond
+) {
+}
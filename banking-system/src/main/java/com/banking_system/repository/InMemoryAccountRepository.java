@@ -0,0 +1,33 @@
+package com.banking_system.repository;
+
+import java.util.Optional;
+
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.stereotype.Repository;
+
+import com.banking_system.model.Account;
+
+/** {@link AccountRepository} held in memory for the {@code inmemory} profile. */
+@Repository
+@Profile("inmemory")
+@Primary
+public class InMemoryAccountRepository extends InMemoryMongoRepository<Account, String> implements AccountRepository {
+
+	public InMemoryAccountRepository(MongoConverter converter) {
+		super(Account.class, converter);
+		index("accountNumber", true);
+	}
+
+	@Override
+	public Optional<Account> findByAccountNumber(String accountNumber) {
+		return first(where("accountNumber", accountNumber), Sort.unsorted());
+	}
+
+	@Override
+	public boolean existsByAccountNumber(String accountNumber) {
+		return where("accountNumber", accountNumber).findAny().isPresent();
+	}
+}
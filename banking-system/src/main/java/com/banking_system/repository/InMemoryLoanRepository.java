@@ -0,0 +1,138 @@
+package com.banking_system.repository;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.bson.types.ObjectId;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.stereotype.Repository;
+
+import com.banking_system.model.ClientNameTokens;
+import com.banking_system.model.Loan;
+import com.banking_system.model.LoanStatus;
+
+/**
+ * {@link LoanRepository} held in memory for the {@code inmemory} profile. Status, loan type,
+ * creator and the client name tokens are indexed; token filters start from the rarest
+ * token, as the multikey index does in MongoDB.
+ */
+@Repository
+@Profile("inmemory")
+@Primary
+public class InMemoryLoanRepository extends InMemoryMongoRepository<Loan, ObjectId> implements LoanRepository {
+
+	private static final Sort BY_NORMALIZED_NAME = Sort.by("clientNameNormalized");
+
+	public InMemoryLoanRepository(MongoConverter converter) {
+		super(Loan.class, converter);
+		index("status", false);
+		index("loanType", false);
+		index("clientNameTokens", false);
+		index("createdBy", false);
+	}
+
+	@Override
+	public List<Loan> findByDeletedFalse() {
+		return list(all().filter(eq("deleted", false)), Sort.unsorted());
+	}
+
+	@Override
+	public List<Loan> findByCreatedBy(ObjectId createdBy) {
+		return list(where("createdBy", createdBy), Sort.unsorted());
+	}
+
+	@Override
+	public Page<Loan> findByDeleted(boolean deleted, Pageable pageable) {
+		return page(all().filter(eq("deleted", deleted)), pageable);
+	}
+
+	@Override
+	public Page<Loan> findByDeletedAndStatus(boolean deleted, LoanStatus status, Pageable pageable) {
+		return page(where("status", status).filter(eq("deleted", deleted)), pageable);
+	}
+
+	@Override
+	public Page<Loan> findByDeletedAndClientNameTokensAll(boolean deleted, List<String> tokens, Pageable pageable) {
+		return page(whereAll("clientNameTokens", tokens).filter(eq("deleted", deleted)), pageable);
+	}
+
+	@Override
+	public Page<Loan> findByDeletedAndLoanType(boolean deleted, String loanType, Pageable pageable) {
+		return page(where("loanType", loanType).filter(eq("deleted", deleted)), pageable);
+	}
+
+	@Override
+	public Page<Loan> findByDeletedAndStatusAndClientNameTokensAll(
+			boolean deleted, LoanStatus status, List<String> tokens, Pageable pageable) {
+		return page(whereAll("clientNameTokens", tokens)
+				.filter(eq("deleted", deleted).and(eq("status", status))), pageable);
+	}
+
+	@Override
+	public Page<Loan> findByDeletedAndStatusAndLoanType(
+			boolean deleted, LoanStatus status, String loanType, Pageable pageable) {
+		return page(where("status", status)
+				.filter(eq("deleted", deleted).and(eq("loanType", loanType))), pageable);
+	}
+
+	@Override
+	public Page<Loan> findByDeletedAndClientNameTokensAllAndLoanType(
+			boolean deleted, List<String> tokens, String loanType, Pageable pageable) {
+		return page(whereAll("clientNameTokens", tokens)
+				.filter(eq("deleted", deleted).and(eq("loanType", loanType))), pageable);
+	}
+
+	@Override
+	public Page<Loan> findByDeletedAndStatusAndClientNameTokensAllAndLoanType(
+			boolean deleted, LoanStatus status, List<String> tokens, String loanType, Pageable pageable) {
+		return page(whereAll("clientNameTokens", tokens)
+				.filter(eq("deleted", deleted).and(eq("status", status)).and(eq("loanType", loanType))), pageable);
+	}
+
+	@Override
+	public List<Loan> searchByClientNameTokens(boolean deleted, List<String> tokens, Pageable pageable) {
+		return list(whereAll("clientNameTokens", tokens)
+				.filter(eq("deleted", deleted))
+				.map(exclude("actions")), pageable);
+	}
+
+	@Override
+	public List<Loan> searchByClientNameRange(boolean deleted, String from, String to, Pageable pageable) {
+		// A name starting with "from" holds every word of it as a token prefix, so the token index narrows the range
+		return list(whereAll("clientNameTokens", ClientNameTokens.queryTerms(from))
+				.filter(eq("deleted", deleted).and(doc -> {
+					String name = doc.getString("clientNameNormalized");
+					return name != null && name.compareTo(from) >= 0 && name.compareTo(to) < 0;
+				}))
+				.map(exclude("actions")),
+				PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), BY_NORMALIZED_NAME));
+	}
+
+	@Override
+	public void updatePricingById(ObjectId id, Loan.PricingSnapshot pricing) {
+		updateDocument(id, document -> {
+			document.put("pricing", pricing == null ? null : toMongo(pricing));
+			return document;
+		});
+	}
+
+	@Override
+	public Stream<Loan> streamForRepricing(List<LoanStatus> statuses, ObjectId after) {
+		return after(after)
+				.filter(eq("deleted", false).and(in("status", statuses)))
+				.map(include("requestedAmount", "proposedInterestRate", "tenureMonths", "loanType",
+						"financials.rating", "creditScore.rating", "pricing.inputsHash", "updatedAt"))
+				.map(this::read);
+	}
+
+	@Override
+	public long countForRepricing(List<LoanStatus> statuses, ObjectId after) {
+		return after(after).filter(eq("deleted", false).and(in("status", statuses))).count();
+	}
+}
@@ -0,0 +1,735 @@
+package com.banking_system.repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.repository.query.FluentQuery;
+
+/**
+ * Base of the in-memory repositories of the {@code inmemory} profile. Entities are stored
+ * as the BSON documents the {@link MongoConverter} writes, keyed by {@code _id} in a
+ * {@link ConcurrentHashMap}, and read back into fresh instances, so callers never share
+ * an instance with the store, exactly as with MongoDB.
+ *
+ * Subclasses declare sorted secondary indexes on the fields their queries filter by
+ * (array fields index every element, as a multikey index does) and answer derived
+ * queries from them. Index hits are re-checked against the current document, so reads
+ * need no lock; writes to one collection are serialized, which also keeps unique
+ * indexes exact. Values compare in BSON order (null, numbers, strings, documents,
+ * arrays, ObjectId, booleans, dates) with numbers compared by value.
+ */
+public abstract class InMemoryMongoRepository<T, ID> implements MongoRepository<T, ID> {
+
+	// Index key of missing and null fields; ConcurrentSkipListMap takes no null keys
+	private static final Object MISSING = new Object();
+	private static final Comparator<Object> BSON_ORDER = InMemoryMongoRepository::compareValues;
+
+	private final Class<T> type;
+	private final MongoConverter converter;
+	private final MongoPersistentEntity<?> entity;
+	private final Map<Object, Document> documents = new ConcurrentHashMap<>();
+	private final ConcurrentSkipListSet<Object> ids = new ConcurrentSkipListSet<>(BSON_ORDER);
+	private final Map<String, SortedIndex> indexes = new HashMap<>();
+	private final ReentrantLock writeLock = new ReentrantLock();
+
+	protected InMemoryMongoRepository(Class<T> type, MongoConverter converter) {
+		this.type = type;
+		this.converter = converter;
+		this.entity = converter.getMappingContext().getRequiredPersistentEntity(type);
+	}
+
+	/** Converter for in-memory repositories built outside Spring, in tests and benchmarks. */
+	public static MongoConverter standaloneConverter() {
+		MongoCustomConversions conversions = new MongoCustomConversions(List.of());
+		MongoMappingContext mappingContext = new MongoMappingContext();
+		mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+		mappingContext.afterPropertiesSet();
+		MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+		converter.setCustomConversions(conversions);
+		converter.afterPropertiesSet();
+		return converter;
+	}
+
+	/** Declares a sorted index on a document field; call from the subclass constructor. */
+	protected final void index(String field, boolean unique) {
+		indexes.put(field, new SortedIndex(field, unique));
+	}
+
+	// Writes
+
+	@Override
+	public <S extends T> S save(S entity) {
+		writeLock.lock();
+		try {
+			store(entity, false);
+			return entity;
+		} finally {
+			writeLock.unlock();
+		}
+	}
+
+	@Override
+	public <S extends T> List<S> saveAll(Iterable<S> entities) {
+		List<S> saved = new ArrayList<>();
+		entities.forEach(e -> saved.add(save(e)));
+		return saved;
+	}
+
+	@Override
+	public <S extends T> S insert(S entity) {
+		writeLock.lock();
+		try {
+			store(entity, true);
+			return entity;
+		} finally {
+			writeLock.unlock();
+		}
+	}
+
+	@Override
+	public <S extends T> List<S> insert(Iterable<S> entities) {
+		List<S> inserted = new ArrayList<>();
+		entities.forEach(e -> inserted.add(insert(e)));
+		return inserted;
+	}
+
+	/**
+	 * Replaces the document with {@code id} by {@code update(current)}; the function gets a
+	 * copy it may modify. No-op when there is no such document.
+	 */
+	protected final void updateDocument(Object id, Function<Document, Document> update) {
+		writeLock.lock();
+		try {
+			Document current = documents.get(key(id));
+			if (current != null) {
+				put(update.apply(new Document(current)), current);
+			}
+		} finally {
+			writeLock.unlock();
+		}
+	}
+
+	@Override
+	public void deleteById(ID id) {
+		writeLock.lock();
+		try {
+			Object key = key(id);
+			Document removed = documents.remove(key);
+			if (removed != null) {
+				ids.remove(key);
+				indexes.values().forEach(index -> index.remove(key, removed));
+			}
+		} finally {
+			writeLock.unlock();
+		}
+	}
+
+	@Override
+	public void delete(T entity) {
+		Object id = this.entity.getIdentifierAccessor(entity).getIdentifier();
+		if (id != null) {
+			deleteById(castId(id));
+		}
+	}
+
+	@Override
+	public void deleteAllById(Iterable<? extends ID> ids) {
+		ids.forEach(this::deleteById);
+	}
+
+	@Override
+	public void deleteAll(Iterable<? extends T> entities) {
+		entities.forEach(this::delete);
+	}
+
+	@Override
+	public void deleteAll() {
+		writeLock.lock();
+		try {
+			documents.clear();
+			ids.clear();
+			indexes.values().forEach(SortedIndex::clear);
+		} finally {
+			writeLock.unlock();
+		}
+	}
+
+	// Reads
+
+	@Override
+	public Optional<T> findById(ID id) {
+		return Optional.ofNullable(documents.get(key(id))).map(this::read);
+	}
+
+	@Override
+	public boolean existsById(ID id) {
+		return documents.containsKey(key(id));
+	}
+
+	@Override
+	public List<T> findAll() {
+		return list(all(), Sort.unsorted());
+	}
+
+	@Override
+	public List<T> findAll(Sort sort) {
+		return list(all(), sort);
+	}
+
+	@Override
+	public Page<T> findAll(Pageable pageable) {
+		return page(all(), pageable);
+	}
+
+	@Override
+	public List<T> findAllById(Iterable<ID> ids) {
+		return list(StreamSupport.stream(ids.spliterator(), false)
+				.map(id -> documents.get(key(id)))
+				.filter(Objects::nonNull), Sort.unsorted());
+	}
+
+	@Override
+	public long count() {
+		return documents.size();
+	}
+
+	// Query by example, for the default matcher (exact, non-null probe fields)
+
+	@Override
+	public <S extends T> Optional<S> findOne(Example<S> example) {
+		List<S> matches = findAll(example);
+		return matches.isEmpty() ? Optional.empty() : Optional.of(matches.get(0));
+	}
+
+	@Override
+	public <S extends T> List<S> findAll(Example<S> example) {
+		return findAll(example, Sort.unsorted());
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <S extends T> List<S> findAll(Example<S> example, Sort sort) {
+		return (List<S>) list(all().filter(matcher(example)), sort);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <S extends T> Page<S> findAll(Example<S> example, Pageable pageable) {
+		return (Page<S>) page(all().filter(matcher(example)), pageable);
+	}
+
+	@Override
+	public <S extends T> long count(Example<S> example) {
+		return all().filter(matcher(example)).count();
+	}
+
+	@Override
+	public <S extends T> boolean exists(Example<S> example) {
+		return all().anyMatch(matcher(example));
+	}
+
+	@Override
+	public <S extends T, R> R findBy(Example<S> example, Function<FluentQuery.FetchableFluentQuery<S>, R> queryFunction) {
+		throw new UnsupportedOperationException("Fluent query by example is not supported in memory");
+	}
+
+	// Query building blocks for subclasses
+
+	/** Every document, in {@code _id} order. */
+	protected final Stream<Document> all() {
+		return ids.stream().map(documents::get).filter(Objects::nonNull);
+	}
+
+	/** Documents after {@code id} in {@code _id} order, from the sorted id index. */
+	protected final Stream<Document> after(Object id) {
+		return ids.tailSet(key(id), false).stream().map(documents::get).filter(Objects::nonNull);
+	}
+
+	/**
+	 * Documents whose {@code field} equals {@code value} (or, for arrays, contains it): from
+	 * the field's index when it has one, otherwise by scanning.
+	 */
+	protected final Stream<Document> where(String field, Object value) {
+		Object mongoValue = toMongo(value);
+		SortedIndex index = indexes.get(field);
+		Stream<Document> candidates = index != null ? fetch(index.get(mongoValue)) : all();
+		return candidates.filter(eq(field, value));
+	}
+
+	/** Documents whose array {@code field} contains every value, starting from the rarest. */
+	protected final Stream<Document> whereAll(String field, Collection<?> values) {
+		SortedIndex index = indexes.get(field);
+		if (index == null || values.isEmpty()) {
+			return all().filter(all(field, values));
+		}
+		Posting rarest = values.stream()
+				.map(v -> index.get(toMongo(v)))
+				.min(Comparator.comparingInt(Posting::size))
+				.orElseThrow();
+		return fetch(rarest).filter(all(field, values));
+	}
+
+	protected final Predicate<Document> eq(String field, Object value) {
+		Object expected = toMongo(value);
+		return doc -> matches(path(doc, field), expected);
+	}
+
+	protected final Predicate<Document> in(String field, Collection<?> values) {
+		List<Object> expected = values.stream().map(this::toMongo).toList();
+		return doc -> {
+			Object actual = path(doc, field);
+			return expected.stream().anyMatch(e -> matches(actual, e));
+		};
+	}
+
+	protected final Predicate<Document> all(String field, Collection<?> values) {
+		List<Object> expected = values.stream().map(this::toMongo).toList();
+		return doc -> {
+			Object actual = path(doc, field);
+			return expected.stream().allMatch(e -> matches(actual, e));
+		};
+	}
+
+	/** Keeps {@code _id} and the given (dotted) fields, like an inclusion projection. */
+	protected static Function<Document, Document> include(String... fields) {
+		return doc -> {
+			Document projected = new Document("_id", doc.get("_id"));
+			for (String field : fields) {
+				copyPath(doc, projected, field.split("\\."), 0);
+			}
+			return projected;
+		};
+	}
+
+	/** Drops the given top-level fields, like an exclusion projection. */
+	protected static Function<Document, Document> exclude(String... fields) {
+		return doc -> {
+			Document projected = new Document(doc);
+			for (String field : fields) {
+				projected.remove(field);
+			}
+			return projected;
+		};
+	}
+
+	protected final List<T> list(Stream<Document> matches, Sort sort) {
+		return sorted(matches, sort).map(this::read).toList();
+	}
+
+	protected final List<T> list(Stream<Document> matches, Pageable pageable) {
+		if (pageable.isUnpaged()) {
+			return list(matches, pageable.getSort());
+		}
+		return window(matches, pageable, new long[1]).stream().map(this::read).toList();
+	}
+
+	protected final Page<T> page(Stream<Document> matches, Pageable pageable) {
+		if (pageable.isUnpaged()) {
+			List<T> content = list(matches, pageable.getSort());
+			return new PageImpl<>(content, pageable, content.size());
+		}
+		long[] total = new long[1];
+		List<T> content = window(matches, pageable, total).stream().map(this::read).toList();
+		return new PageImpl<>(content, pageable, total[0]);
+	}
+
+	protected final Optional<T> first(Stream<Document> matches, Sort sort) {
+		return sorted(matches, sort).findFirst().map(this::read);
+	}
+
+	protected final T read(Document document) {
+		return converter.read(type, document);
+	}
+
+	// Internals
+
+	private void store(T entity, boolean insertOnly) {
+		MongoPersistentProperty idProperty = this.entity.getRequiredIdProperty();
+		if (this.entity.getIdentifierAccessor(entity).getIdentifier() == null) {
+			Object id = idProperty.getType() == String.class ? new ObjectId().toHexString() : new ObjectId();
+			this.entity.getPropertyAccessor(entity).setProperty(idProperty, id);
+		}
+		Document document = new Document();
+		converter.write(entity, document);
+		Document previous = documents.get(document.get("_id"));
+		if (insertOnly && previous != null) {
+			throw new DuplicateKeyException("E11000 duplicate key error collection: "
+					+ this.entity.getCollection() + " index: _id_ dup key: " + document.get("_id"));
+		}
+		put(document, previous);
+	}
+
+	// Caller holds the write lock
+	private void put(Document document, Document previous) {
+		Object key = document.get("_id");
+		for (SortedIndex index : indexes.values()) {
+			index.checkUnique(key, document, this.entity.getCollection());
+		}
+		documents.put(key, document);
+		ids.add(key);
+		for (SortedIndex index : indexes.values()) {
+			if (previous != null) {
+				index.remove(key, previous);
+			}
+			index.add(key, document);
+		}
+	}
+
+	private Stream<Document> fetch(Posting posting) {
+		return posting.ids.stream()
+				.map(documents::get)
+				.filter(Objects::nonNull);
+	}
+
+	private Stream<Document> sorted(Stream<Document> matches, Sort sort) {
+		if (sort.isUnsorted()) {
+			return matches;
+		}
+		SortKeys keys = new SortKeys(sort);
+		// Sort keys are read once per document rather than on every comparison
+		return matches.map(keys::of).sorted(keys).map(Keyed::document);
+	}
+
+	/**
+	 * The documents of one page, counting every match into {@code total}. A sorted page
+	 * keeps only the best {@code offset + size} matches in a bounded heap, like the top-k
+	 * sort MongoDB runs for a sort with a limit, instead of sorting every match.
+	 */
+	private List<Document> window(Stream<Document> matches, Pageable pageable, long[] total) {
+		long offset = pageable.getOffset();
+		int size = pageable.getPageSize();
+		if (pageable.getSort().isUnsorted()) {
+			List<Document> page = new ArrayList<>(size);
+			matches.forEach(doc -> {
+				long position = total[0]++;
+				if (position >= offset && position < offset + size) {
+					page.add(doc);
+				}
+			});
+			return page;
+		}
+		SortKeys keys = new SortKeys(pageable.getSort());
+		int limit = (int) Math.min(Integer.MAX_VALUE - 1, offset + size);
+		PriorityQueue<Keyed> best = new PriorityQueue<>(keys.reversed());
+		matches.forEach(doc -> {
+			total[0]++;
+			Keyed keyed = keys.of(doc);
+			if (best.size() < limit) {
+				best.add(keyed);
+			} else if (keys.compare(keyed, best.peek()) < 0) {
+				best.poll();
+				best.add(keyed);
+			}
+		});
+		List<Keyed> ordered = new ArrayList<>(best);
+		ordered.sort(keys);
+		return ordered.stream().skip(offset).map(Keyed::document).toList();
+	}
+
+	private String fieldName(String property) {
+		if (property.equals("_id")) {
+			return property;
+		}
+		String[] segments = property.split("\\.", 2);
+		MongoPersistentProperty persistent = entity.getPersistentProperty(segments[0]);
+		String head = persistent != null ? persistent.getFieldName() : segments[0];
+		return segments.length == 1 ? head : head + "." + segments[1];
+	}
+
+	private Predicate<Document> matcher(Example<?> example) {
+		if (!example.getMatcher().equals(ExampleMatcher.matching())) {
+			throw new UnsupportedOperationException("Only the default ExampleMatcher is supported in memory");
+		}
+		Document probe = new Document();
+		converter.write(example.getProbe(), probe);
+		probe.remove("_class");
+		return doc -> probe.entrySet().stream()
+				.filter(e -> e.getValue() != null)
+				.allMatch(e -> matches(doc.get(e.getKey()), e.getValue()));
+	}
+
+	protected final Object toMongo(Object value) {
+		return value == null ? null : converter.convertToMongoType(value);
+	}
+
+	private Object key(Object id) {
+		Object mongoId = toMongo(id);
+		if (mongoId instanceof String s && ObjectId.isValid(s)) {
+			return new ObjectId(s);
+		}
+		return mongoId;
+	}
+
+	@SuppressWarnings("unchecked")
+	private ID castId(Object id) {
+		return (ID) id;
+	}
+
+	private static Object path(Document doc, String field) {
+		if (field.indexOf('.') < 0) {
+			return doc.get(field);
+		}
+		Object current = doc;
+		for (String segment : field.split("\\.")) {
+			if (!(current instanceof Document d)) {
+				return null;
+			}
+			current = d.get(segment);
+		}
+		return current;
+	}
+
+	private static void copyPath(Document from, Document to, String[] segments, int depth) {
+		Object value = from.get(segments[depth]);
+		if (value == null && !from.containsKey(segments[depth])) {
+			return;
+		}
+		if (depth == segments.length - 1) {
+			to.put(segments[depth], value);
+		} else if (value instanceof Document nested) {
+			Object existing = to.get(segments[depth]);
+			Document target = existing instanceof Document d ? d : new Document();
+			copyPath(nested, target, segments, depth + 1);
+			to.put(segments[depth], target);
+		}
+	}
+
+	// Equality match: scalars compare in BSON order, arrays match when an element does
+	private static boolean matches(Object actual, Object expected) {
+		if (actual != null && expected != null && actual.getClass() == expected.getClass()) {
+			return compareValues(actual, expected) == 0;
+		}
+		if (actual instanceof List<?> list && !(expected instanceof List<?>)) {
+			return list.stream().anyMatch(element -> compareValues(element, expected) == 0);
+		}
+		return compareValues(actual, expected) == 0;
+	}
+
+	static int compareValues(Object a, Object b) {
+		// Same-type fast paths first: class checks are cheap, interface checks (List) are not
+		if (a instanceof String x && b instanceof String y) {
+			return x.compareTo(y);
+		}
+		if (a instanceof Date x && b instanceof Date y) {
+			return x.compareTo(y);
+		}
+		if (a instanceof ObjectId x && b instanceof ObjectId y) {
+			return x.compareTo(y);
+		}
+		int rankA = rank(a);
+		int rankB = rank(b);
+		if (rankA != rankB) {
+			return Integer.compare(rankA, rankB);
+		}
+		if (a == null || a == MISSING) {
+			return 0;
+		}
+		if (a instanceof Number x && b instanceof Number y) {
+			if ((x instanceof Integer || x instanceof Long) && (y instanceof Integer || y instanceof Long)) {
+				return Long.compare(x.longValue(), y.longValue());
+			}
+			return Double.compare(x.doubleValue(), y.doubleValue());
+		}
+		if (a instanceof Boolean x && b instanceof Boolean y) {
+			return x.compareTo(y);
+		}
+		if (a instanceof List<?> x && b instanceof List<?> y) {
+			for (int i = 0; i < Math.min(x.size(), y.size()); i++) {
+				int c = compareValues(x.get(i), y.get(i));
+				if (c != 0) {
+					return c;
+				}
+			}
+			return Integer.compare(x.size(), y.size());
+		}
+		return a.equals(b) ? 0 : a.toString().compareTo(b.toString());
+	}
+
+	private static int rank(Object value) {
+		if (value == null || value == MISSING) {
+			return 0;
+		}
+		if (value instanceof String) {
+			return 2;
+		}
+		if (value instanceof Number) {
+			return 1;
+		}
+		if (value instanceof Document) {
+			return 3;
+		}
+		if (value instanceof ObjectId) {
+			return 6;
+		}
+		if (value instanceof Boolean) {
+			return 7;
+		}
+		if (value instanceof Date) {
+			return 8;
+		}
+		if (value instanceof List<?>) {
+			return 4;
+		}
+		return 9;
+	}
+
+	private record Keyed(Document document, Object[] keys) {
+	}
+
+	/** Orders documents by a {@link Sort}, then by {@code _id} so equal keys have a stable order. */
+	private final class SortKeys implements Comparator<Keyed> {
+		private final String[] fields;
+		private final boolean[] descending;
+
+		SortKeys(Sort sort) {
+			List<Sort.Order> orders = sort.toList();
+			fields = new String[orders.size() + 1];
+			descending = new boolean[orders.size() + 1];
+			for (int i = 0; i < orders.size(); i++) {
+				fields[i] = fieldName(orders.get(i).getProperty());
+				descending[i] = orders.get(i).isDescending();
+			}
+			fields[orders.size()] = "_id";
+		}
+
+		Keyed of(Document document) {
+			Object[] keys = new Object[fields.length];
+			for (int i = 0; i < fields.length; i++) {
+				keys[i] = path(document, fields[i]);
+			}
+			return new Keyed(document, keys);
+		}
+
+		@Override
+		public int compare(Keyed a, Keyed b) {
+			for (int i = 0; i < fields.length; i++) {
+				int c = compareValues(a.keys[i], b.keys[i]);
+				if (c != 0) {
+					return descending[i] ? -c : c;
+				}
+			}
+			return 0;
+		}
+	}
+
+	/** Field value to the {@code _id}s holding it, both in BSON order, so hits come back in {@code _id} order. */
+	private static final class SortedIndex {
+		private final String field;
+		private final boolean unique;
+		private final ConcurrentSkipListMap<Object, Posting> entries = new ConcurrentSkipListMap<>(BSON_ORDER);
+
+		SortedIndex(String field, boolean unique) {
+			this.field = field;
+			this.unique = unique;
+		}
+
+		Posting get(Object value) {
+			return entries.getOrDefault(value == null ? MISSING : value, Posting.EMPTY);
+		}
+
+		void add(Object id, Document document) {
+			for (Object key : keys(document)) {
+				entries.computeIfAbsent(key, k -> new Posting()).add(id);
+			}
+		}
+
+		void remove(Object id, Document document) {
+			for (Object key : keys(document)) {
+				Posting posting = entries.get(key);
+				if (posting != null) {
+					posting.remove(id);
+					if (posting.size() == 0) {
+						entries.remove(key, posting);
+					}
+				}
+			}
+		}
+
+		void checkUnique(Object id, Document document, String collection) {
+			if (!unique) {
+				return;
+			}
+			for (Object key : keys(document)) {
+				for (Object other : get(key == MISSING ? null : key).ids) {
+					if (!other.equals(id)) {
+						throw new DuplicateKeyException("E11000 duplicate key error collection: " + collection
+								+ " index: " + field + " dup key: { " + field + ": " + key + " }");
+					}
+				}
+			}
+		}
+
+		void clear() {
+			entries.clear();
+		}
+
+		private List<Object> keys(Document document) {
+			Object value = path(document, field);
+			if (value instanceof List<?> list && !list.isEmpty()) {
+				return new ArrayList<>(list);
+			}
+			return List.of(value == null ? MISSING : value);
+		}
+	}
+
+	/**
+	 * The {@code _id}s holding one index key, in {@code _id} order. The size is tracked
+	 * because a skip list counts by walking; writers hold the repository's write lock.
+	 */
+	private static final class Posting {
+		static final Posting EMPTY = new Posting();
+
+		final ConcurrentSkipListSet<Object> ids = new ConcurrentSkipListSet<>(BSON_ORDER);
+		private volatile int size;
+
+		void add(Object id) {
+			if (ids.add(id)) {
+				size++;
+			}
+		}
+
+		void remove(Object id) {
+			if (ids.remove(id)) {
+				size--;
+			}
+		}
+
+		int size() {
+			return size;
+		}
+	}
+}
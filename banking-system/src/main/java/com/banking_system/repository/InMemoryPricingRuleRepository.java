@@ -0,0 +1,20 @@
+package com.banking_system.repository;
+
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.stereotype.Repository;
+
+import com.banking_system.model.PricingRule;
+
+/** {@link PricingRuleRepository} held in memory for the {@code inmemory} profile. */
+@Repository
+@Profile("inmemory")
+@Primary
+public class InMemoryPricingRuleRepository extends InMemoryMongoRepository<PricingRule, String>
+		implements PricingRuleRepository {
+
+	public InMemoryPricingRuleRepository(MongoConverter converter) {
+		super(PricingRule.class, converter);
+	}
+}
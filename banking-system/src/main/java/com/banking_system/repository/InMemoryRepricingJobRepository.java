@@ -0,0 +1,37 @@
+package com.banking_system.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.bson.types.ObjectId;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.stereotype.Repository;
+
+import com.banking_system.model.RepricingJob;
+import com.banking_system.model.RepricingJobState;
+
+/** {@link RepricingJobRepository} held in memory for the {@code inmemory} profile. */
+@Repository
+@Profile("inmemory")
+@Primary
+public class InMemoryRepricingJobRepository extends InMemoryMongoRepository<RepricingJob, ObjectId>
+		implements RepricingJobRepository {
+
+	public InMemoryRepricingJobRepository(MongoConverter converter) {
+		super(RepricingJob.class, converter);
+		index("state", false);
+	}
+
+	@Override
+	public List<RepricingJob> findByStateOrderByStartedAtAsc(RepricingJobState state) {
+		return list(where("state", state), Sort.by("startedAt"));
+	}
+
+	@Override
+	public Optional<RepricingJob> findFirstByOrderByStartedAtDesc() {
+		return first(all(), Sort.by(Sort.Direction.DESC, "startedAt"));
+	}
+}
@@ -0,0 +1,45 @@
+package com.banking_system.repository;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.bson.types.ObjectId;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.stereotype.Repository;
+
+import com.banking_system.model.Transaction;
+
+/** {@link TransactionRepository} held in memory for the {@code inmemory} profile. */
+@Repository
+@Profile("inmemory")
+@Primary
+public class InMemoryTransactionRepository extends InMemoryMongoRepository<Transaction, ObjectId>
+		implements TransactionRepository {
+
+	public InMemoryTransactionRepository(MongoConverter converter) {
+		super(Transaction.class, converter);
+		index("transactionId", true);
+		index("sourceAccount", false);
+		index("destinationAccount", false);
+	}
+
+	@Override
+	public List<Transaction> findBySourceAccount(String sourceAccount) {
+		return list(where("sourceAccount", sourceAccount), Sort.unsorted());
+	}
+
+	@Override
+	public List<Transaction> findByDestinationAccount(String destinationAccount) {
+		return list(where("destinationAccount", destinationAccount), Sort.unsorted());
+	}
+
+	@Override
+	public List<Transaction> findBySourceAccountOrDestinationAccount(String sourceAccount, String destinationAccount) {
+		// Union of both index lookups, back in _id order and without duplicates
+		return list(Stream.concat(where("sourceAccount", sourceAccount), where("destinationAccount", destinationAccount))
+				.distinct(), Sort.by("id"));
+	}
+}
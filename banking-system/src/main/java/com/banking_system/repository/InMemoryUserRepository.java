@@ -0,0 +1,34 @@
+package com.banking_system.repository;
+
+import java.util.Optional;
+
+import org.bson.types.ObjectId;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.stereotype.Repository;
+
+import com.banking_system.model.User;
+
+/** {@link UserRepository} held in memory for the {@code inmemory} profile. */
+@Repository
+@Profile("inmemory")
+@Primary
+public class InMemoryUserRepository extends InMemoryMongoRepository<User, ObjectId> implements UserRepository {
+
+	public InMemoryUserRepository(MongoConverter converter) {
+		super(User.class, converter);
+		index("email", true);
+	}
+
+	@Override
+	public Optional<User> findByEmail(String email) {
+		return first(where("email", email), Sort.unsorted());
+	}
+
+	@Override
+	public boolean existsByEmail(String email) {
+		return where("email", email).findAny().isPresent();
+	}
+}
@@ -1,11 +1,14 @@
 package com.banking_system.repository;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 import org.bson.types.ObjectId;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.Update;
 
 import com.banking_system.model.Loan;
 import com.banking_system.model.LoanStatus;
@@ -19,19 +22,50 @@ public interface LoanRepository extends MongoRepository<Loan, ObjectId> {
 	
 	Page<Loan> findByDeletedAndStatus(boolean deleted, LoanStatus status, Pageable pageable);
 	
-	Page<Loan> findByDeletedAndClientNameContainingIgnoreCase(boolean deleted, String clientName, Pageable pageable);
+	// clientName filters match word prefixes through the indexed clientNameTokens array
+	@Query("{ 'deleted': ?0, 'clientNameTokens': { $all: ?1 } }")
+	Page<Loan> findByDeletedAndClientNameTokensAll(boolean deleted, List<String> tokens, Pageable pageable);
 	
 	Page<Loan> findByDeletedAndLoanType(boolean deleted, String loanType, Pageable pageable);
 	
-	Page<Loan> findByDeletedAndStatusAndClientNameContainingIgnoreCase(
-			boolean deleted, LoanStatus status, String clientName, Pageable pageable);
+	@Query("{ 'deleted': ?0, 'status': ?1, 'clientNameTokens': { $all: ?2 } }")
+	Page<Loan> findByDeletedAndStatusAndClientNameTokensAll(
+			boolean deleted, LoanStatus status, List<String> tokens, Pageable pageable);
 	
 	Page<Loan> findByDeletedAndStatusAndLoanType(
 			boolean deleted, LoanStatus status, String loanType, Pageable pageable);
 	
-	Page<Loan> findByDeletedAndClientNameContainingIgnoreCaseAndLoanType(
-			boolean deleted, String clientName, String loanType, Pageable pageable);
+	@Query("{ 'deleted': ?0, 'clientNameTokens': { $all: ?1 }, 'loanType': ?2 }")
+	Page<Loan> findByDeletedAndClientNameTokensAllAndLoanType(
+			boolean deleted, List<String> tokens, String loanType, Pageable pageable);
 	
-	Page<Loan> findByDeletedAndStatusAndClientNameContainingIgnoreCaseAndLoanType(
-			boolean deleted, LoanStatus status, String clientName, String loanType, Pageable pageable);
+	@Query("{ 'deleted': ?0, 'status': ?1, 'clientNameTokens': { $all: ?2 }, 'loanType': ?3 }")
+	Page<Loan> findByDeletedAndStatusAndClientNameTokensAllAndLoanType(
+			boolean deleted, LoanStatus status, List<String> tokens, String loanType, Pageable pageable);
+
+	// Typeahead candidates; ranking happens in LoanService
+	@Query(value = "{ 'deleted': ?0, 'clientNameTokens': { $all: ?1 } }",
+			fields = "{ 'actions': 0 }")
+	List<Loan> searchByClientNameTokens(boolean deleted, List<String> tokens, Pageable pageable);
+
+	// Typeahead names in [from, to): whole-name prefix matches, the exact name first
+	@Query(value = "{ 'deleted': ?0, 'clientNameNormalized': { $gte: ?1, $lt: ?2 } }",
+			fields = "{ 'actions': 0 }",
+			sort = "{ 'clientNameNormalized': 1 }")
+	List<Loan> searchByClientNameRange(boolean deleted, String from, String to, Pageable pageable);
+
+	// Writes only the pricing snapshot, leaving the rest of the document untouched
+	@Query("{ '_id': ?0 }")
+	@Update("{ '$set': { 'pricing': ?1 } }")
+	void updatePricingById(ObjectId id, Loan.PricingSnapshot pricing);
+
+	// Repricing reads pricing inputs and the stored snapshot hash only, in _id order after a checkpoint
+	@Query(value = "{ 'deleted': false, 'status': { $in: ?0 }, '_id': { $gt: ?1 } }",
+			fields = "{ 'requestedAmount': 1, 'proposedInterestRate': 1, 'tenureMonths': 1, 'loanType': 1, "
+					+ "'financials.rating': 1, 'creditScore.rating': 1, 'pricing.inputsHash': 1, 'updatedAt': 1 }",
+			sort = "{ '_id': 1 }")
+	Stream<Loan> streamForRepricing(List<LoanStatus> statuses, ObjectId after);
+
+	@Query(value = "{ 'deleted': false, 'status': { $in: ?0 }, '_id': { $gt: ?1 } }", count = true)
+	long countForRepricing(List<LoanStatus> statuses, ObjectId after);
 }
@@ -0,0 +1,8 @@
+package com.banking_system.repository;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import com.banking_system.model.PricingRule;
+
+public interface PricingRuleRepository extends MongoRepository<PricingRule, String> {
+}
@@ -0,0 +1,17 @@
+package com.banking_system.repository;
+
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+
+import com.banking_system.model.Loan;
+
+import reactor.core.publisher.Flux;
+
+public interface ReactiveLoanRepository extends ReactiveMongoRepository<Loan, ObjectId> {
+	Flux<Loan> findByDeletedFalse();
+
+	// Export reads in _id order so a client can resume after the last id it received
+	@Query(value = "{ 'deleted': false, '_id': { $gt: ?0 } }", sort = "{ '_id': 1 }")
+	Flux<Loan> streamActiveAfter(ObjectId after);
+}
@@ -0,0 +1,62 @@
+package com.banking_system.repository;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Remembers which repository method the current thread is inside, such as
+ * {@code LoanRepository.findByDeletedFalseAndStatus}, so the Mongo command listener can
+ * attribute the commands it sees to the query that issued them.
+ *
+ * The synchronous driver reports a command on the thread that runs it, so this holds
+ * for every blocking repository call. Reactive repositories and direct
+ * {@code MongoTemplate} calls are not attributed.
+ */
+@Aspect
+@Component
+public class RepositoryCallTracker {
+
+	private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+	// Proxy class -> simple name of the application repository interface it implements
+	private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+
+	/**
+	 * The innermost repository method running on this thread, or null.
+	 */
+	public static String current() {
+		return CURRENT.get();
+	}
+
+	@Around("this(org.springframework.data.repository.Repository)")
+	public Object track(ProceedingJoinPoint joinPoint) throws Throwable {
+		String previous = CURRENT.get();
+		CURRENT.set(repositoryName(joinPoint.getThis()) + "." + joinPoint.getSignature().getName());
+		try {
+			return joinPoint.proceed();
+		} finally {
+			if (previous == null) {
+				CURRENT.remove();
+			} else {
+				CURRENT.set(previous);
+			}
+		}
+	}
+
+	private String repositoryName(Object proxy) {
+		return repositoryNames.computeIfAbsent(proxy.getClass(), type -> {
+			for (Class<?> candidate : ClassUtils.getAllInterfacesForClassAsSet(type)) {
+				if (candidate.getPackageName().equals(RepositoryCallTracker.class.getPackageName())) {
+					return candidate.getSimpleName();
+				}
+			}
+			return type.getSimpleName();
+		});
+	}
+}
@@ -0,0 +1,16 @@
+package com.banking_system.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import com.banking_system.model.RepricingJob;
+import com.banking_system.model.RepricingJobState;
+
+public interface RepricingJobRepository extends MongoRepository<RepricingJob, ObjectId> {
+	List<RepricingJob> findByStateOrderByStartedAtAsc(RepricingJobState state);
+
+	Optional<RepricingJob> findFirstByOrderByStartedAtDesc();
+}
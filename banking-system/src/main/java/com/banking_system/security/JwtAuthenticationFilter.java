@@ -17,23 +17,35 @@ import com.banking_system.model.User;
 import com.banking_system.repository.UserRepository;
 
 import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 	private static final Logger log = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
 
+	static final String TIMER = "banking.jwt.authentication";
+
 	private final JwtService jwtService;
 	private final UserRepository userRepository;
+	// Token parsing, signature check and user lookup, by outcome
+	private final Timer authenticated;
+	private final Timer inactiveUser;
+	private final Timer invalidToken;
 
-	public JwtAuthenticationFilter(JwtService jwtService, UserRepository userRepository) {
+	public JwtAuthenticationFilter(JwtService jwtService, UserRepository userRepository, MeterRegistry meterRegistry) {
 		this.jwtService = jwtService;
 		this.userRepository = userRepository;
+		this.authenticated = timer(meterRegistry, "authenticated");
+		this.inactiveUser = timer(meterRegistry, "inactive_user");
+		this.invalidToken = timer(meterRegistry, "invalid_token");
 	}
 
 	@Override
@@ -49,12 +61,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 		}
 
 		String token = authHeader.substring(7);
+		TokenValidationJfrEvent event = new TokenValidationJfrEvent();
+		event.begin();
+		long started = System.nanoTime();
+		Timer outcome = invalidToken;
 		try {
 			Claims claims = jwtService.validateAndParseClaims(token);
 			String email = claims.getSubject();
 			String role = claims.get("role", String.class);
 
 			User user = userRepository.findByEmail(email).orElse(null);
+			if (user != null) {
+				event.userId = user.getId().toHexString();
+			}
 			if (user != null && user.isActive()) {
 				UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
 						user,
@@ -63,11 +82,24 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 				);
 				authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 				SecurityContextHolder.getContext().setAuthentication(authToken);
+				outcome = authenticated;
+			} else {
+				outcome = inactiveUser;
 			}
 		} catch (Exception e) {
 			log.warn("JWT validation failed: {}", e.getMessage());
 		}
+		outcome.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+		event.outcome = outcome.getId().getTag("outcome");
+		event.commit();
 
 		filterChain.doFilter(request, response);
 	}
+
+	private static Timer timer(MeterRegistry registry, String outcome) {
+		return Timer.builder(TIMER)
+				.description("Bearer token validation and user lookup")
+				.tag("outcome", outcome)
+				.register(registry);
+	}
 }
@@ -0,0 +1,25 @@
+package com.banking_system.security;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Bearer token validation and user lookup in {@link JwtAuthenticationFilter}.
+ * {@code outcome} uses the same values as the {@code banking.jwt.authentication} timer.
+ */
+@Name("banking.TokenValidation")
+@Label("JWT Validation")
+@Category({ "Banking", "Security" })
+@Description("Bearer token signature check, claims parsing and user lookup")
+@StackTrace(false)
+class TokenValidationJfrEvent extends jdk.jfr.Event {
+
+	@Label("User Id")
+	String userId;
+
+	@Label("Outcome")
+	String outcome;
+}
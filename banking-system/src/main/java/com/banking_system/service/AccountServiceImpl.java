@@ -1,11 +1,11 @@
 package com.banking_system.service;
 
 import java.math.BigDecimal;
-import java.security.SecureRandom;
 import java.time.Instant;
 import java.util.Comparator;
 import java.util.Locale;
 import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -23,14 +23,16 @@ import com.banking_system.model.TransactionType;
 import com.banking_system.repository.AccountRepository;
 import com.banking_system.repository.TransactionRepository;
 
+import io.micrometer.core.annotation.Timed;
+
 @Service
+@Timed("banking.service")
 public class AccountServiceImpl implements AccountService {
 	private static final Logger log = LoggerFactory.getLogger(AccountServiceImpl.class);
 	private static final int MAX_GENERATION_ATTEMPTS = 25;
 
 	private final AccountRepository accountRepository;
 	private final TransactionRepository transactionRepository;
-	private final SecureRandom random = new SecureRandom();
 
 	public AccountServiceImpl(AccountRepository accountRepository, TransactionRepository transactionRepository) {
 		this.accountRepository = accountRepository;
@@ -145,6 +147,23 @@ public class AccountServiceImpl implements AccountService {
 
 	@Override
 	public Account transfer(String sourceAccountNumber, String destinationAccountNumber, Double amount) {
+		TransferJfrEvent event = new TransferJfrEvent();
+		event.sourceAccount = sourceAccountNumber;
+		event.destinationAccount = destinationAccountNumber;
+		event.begin();
+		try {
+			Account source = moveFunds(sourceAccountNumber, destinationAccountNumber, amount);
+			event.outcome = "ok";
+			return source;
+		} catch (RuntimeException e) {
+			event.outcome = e.getClass().getSimpleName();
+			throw e;
+		} finally {
+			event.commit();
+		}
+	}
+
+	private Account moveFunds(String sourceAccountNumber, String destinationAccountNumber, Double amount) {
 		if (amount == null || amount.doubleValue() <= 0d) {
 			throw new InvalidAmountException("Amount must be positive");
 		}
@@ -217,7 +236,9 @@ public class AccountServiceImpl implements AccountService {
 	private String generateUniqueAccountNumber(String holderName) {
 		String prefix = buildPrefix(holderName);
 		for (int attempt = 0; attempt < MAX_GENERATION_ATTEMPTS; attempt++) {
-			String suffix = String.format(Locale.ROOT, "%04d", random.nextInt(10_000));
+			// Not a secret (four digits, uniqueness checked below), so no SecureRandom: its
+			// NativePRNG reads /dev/urandom inside a monitor and would pin a virtual thread
+			String suffix = String.format(Locale.ROOT, "%04d", ThreadLocalRandom.current().nextInt(10_000));
 			String candidate = prefix + suffix;
 			if (!accountRepository.existsByAccountNumber(candidate)) {
 				return candidate;
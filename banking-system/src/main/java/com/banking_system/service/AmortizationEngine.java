@@ -0,0 +1,62 @@
+package com.banking_system.service;
+
+import org.springframework.stereotype.Service;
+
+import com.banking_system.exception.InvalidScheduleException;
+import com.banking_system.model.RepaymentStructure;
+
+/**
+ * Builds month-by-month repayment schedules for the rate produced by {@link PricingService}.
+ *
+ * Schedules are generated lazily by an {@link AmortizationSchedule} cursor, so a 360-row
+ * schedule is streamed without materializing a list of row objects.
+ *
+ * Structures:
+ * - STANDARD: equal installments (the EMI from the pricing endpoint)
+ * - BULLET: interest-only installments, principal repaid with the last one
+ * - BALLOON: equal installments sized to leave {@code balloonPercent} of the principal
+ *   outstanding, repaid with the last installment
+ * - MORATORIUM: no payments for {@code moratoriumMonths} while interest is capitalized,
+ *   then equal installments over the remaining tenure
+ */
+@Service
+public class AmortizationEngine {
+
+	public static final int MAX_TENURE_MONTHS = 600;
+
+	public AmortizationSchedule schedule(
+			double principal,
+			double annualRatePercent,
+			int tenureMonths,
+			RepaymentStructure structure,
+			double balloonPercent,
+			int moratoriumMonths) {
+		RepaymentStructure resolved = structure != null ? structure : RepaymentStructure.STANDARD;
+		if (!(principal > 0)) {
+			throw new InvalidScheduleException("Principal must be positive");
+		}
+		if (!(annualRatePercent >= 0)) {
+			throw new InvalidScheduleException("Interest rate must not be negative");
+		}
+		if (tenureMonths < 1 || tenureMonths > MAX_TENURE_MONTHS) {
+			throw new InvalidScheduleException("Tenure must be between 1 and " + MAX_TENURE_MONTHS + " months");
+		}
+
+		double balloon = 0.0;
+		int moratorium = 0;
+		if (resolved == RepaymentStructure.BALLOON) {
+			if (!(balloonPercent > 0 && balloonPercent < 100)) {
+				throw new InvalidScheduleException("Balloon percent must be between 0 and 100");
+			}
+			balloon = principal * balloonPercent / 100;
+		}
+		if (resolved == RepaymentStructure.MORATORIUM) {
+			if (moratoriumMonths < 1 || moratoriumMonths >= tenureMonths) {
+				throw new InvalidScheduleException("Moratorium must be at least 1 month and shorter than the tenure");
+			}
+			moratorium = moratoriumMonths;
+		}
+		return new AmortizationSchedule(
+				principal, annualRatePercent, tenureMonths, resolved, balloon, moratorium);
+	}
+}
@@ -0,0 +1,158 @@
+package com.banking_system.service;
+
+import com.banking_system.model.RepaymentStructure;
+
+/**
+ * Forward-only cursor over a repayment schedule. {@link #next()} advances to the next
+ * month and the accessors return that row; all state is primitive, so iterating a
+ * schedule allocates nothing per row.
+ *
+ * Amounts are unrounded. The last installment repays whatever balance remains, which
+ * absorbs floating-point drift and any balloon.
+ */
+public final class AmortizationSchedule {
+
+	private final double principal;
+	private final double annualRatePercent;
+	private final int tenureMonths;
+	private final RepaymentStructure structure;
+	private final double balloonAmount;
+	private final int moratoriumMonths;
+	private final double monthlyRate;
+
+	private double installment;
+	private double balance;
+	private int month;
+	private double payment;
+	private double principalPaid;
+	private double interest;
+	private double totalPayment;
+	private double totalInterest;
+
+	AmortizationSchedule(
+			double principal,
+			double annualRatePercent,
+			int tenureMonths,
+			RepaymentStructure structure,
+			double balloonAmount,
+			int moratoriumMonths) {
+		this.principal = principal;
+		this.annualRatePercent = annualRatePercent;
+		this.tenureMonths = tenureMonths;
+		this.structure = structure;
+		this.balloonAmount = balloonAmount;
+		this.moratoriumMonths = moratoriumMonths;
+		this.monthlyRate = annualRatePercent / 100 / 12;
+		this.balance = principal;
+		if (moratoriumMonths == 0) {
+			this.installment = installmentFor(principal, tenureMonths);
+		}
+	}
+
+	/**
+	 * Advances to the next month. Returns false once the final installment has been read.
+	 */
+	public boolean next() {
+		if (month >= tenureMonths) {
+			return false;
+		}
+		month++;
+		interest = balance * monthlyRate;
+
+		if (month <= moratoriumMonths) {
+			// Interest is capitalized; nothing is paid
+			payment = 0.0;
+			principalPaid = 0.0;
+			balance += interest;
+			if (month == moratoriumMonths) {
+				installment = installmentFor(balance, tenureMonths - moratoriumMonths);
+			}
+		} else if (month == tenureMonths) {
+			principalPaid = balance;
+			payment = balance + interest;
+			balance = 0.0;
+		} else if (structure == RepaymentStructure.BULLET) {
+			payment = interest;
+			principalPaid = 0.0;
+		} else {
+			payment = installment;
+			principalPaid = installment - interest;
+			balance -= principalPaid;
+		}
+
+		totalPayment += payment;
+		totalInterest += interest;
+		return true;
+	}
+
+	private double installmentFor(double amount, int months) {
+		if (structure == RepaymentStructure.BULLET) {
+			return amount * monthlyRate;
+		}
+		if (monthlyRate == 0.0) {
+			return (amount - balloonAmount) / months;
+		}
+		double powerTerm = Math.pow(1 + monthlyRate, months);
+		// Annuity on the amount net of the present value of the balloon
+		return (amount - balloonAmount / powerTerm) * monthlyRate * powerTerm / (powerTerm - 1);
+	}
+
+	public int month() {
+		return month;
+	}
+
+	public double payment() {
+		return payment;
+	}
+
+	public double principalPaid() {
+		return principalPaid;
+	}
+
+	public double interest() {
+		return interest;
+	}
+
+	public double outstanding() {
+		return balance;
+	}
+
+	/** Sum of payments up to and including the current month. */
+	public double totalPayment() {
+		return totalPayment;
+	}
+
+	/** Sum of interest up to and including the current month. */
+	public double totalInterest() {
+		return totalInterest;
+	}
+
+	/** Regular installment; zero until a moratorium has ended. */
+	public double installment() {
+		return installment;
+	}
+
+	public double principal() {
+		return principal;
+	}
+
+	public double annualRatePercent() {
+		return annualRatePercent;
+	}
+
+	public int tenureMonths() {
+		return tenureMonths;
+	}
+
+	public RepaymentStructure structure() {
+		return structure;
+	}
+
+	public double balloonAmount() {
+		return balloonAmount;
+	}
+
+	public int moratoriumMonths() {
+		return moratoriumMonths;
+	}
+}
@@ -0,0 +1,84 @@
+package com.banking_system.service;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes an {@link AmortizationSchedule} row by row as CSV or JSON. Amounts are rounded
+ * to two decimals and written in plain notation (never {@code 1.0E7}) from a single
+ * reused buffer, so output stays proportional to the writer's buffer, not the tenure.
+ */
+public final class AmortizationScheduleWriter {
+
+	private static final String CSV_HEADER = "month,payment,principal,interest,outstanding\n";
+
+	private AmortizationScheduleWriter() {
+	}
+
+	public static void writeCsv(AmortizationSchedule schedule, Writer out) throws IOException {
+		out.write(CSV_HEADER);
+		StringBuilder row = new StringBuilder(96);
+		while (schedule.next()) {
+			row.setLength(0);
+			row.append(schedule.month()).append(',');
+			appendAmount(row, schedule.payment()).append(',');
+			appendAmount(row, schedule.principalPaid()).append(',');
+			appendAmount(row, schedule.interest()).append(',');
+			appendAmount(row, schedule.outstanding()).append('\n');
+			out.append(row);
+		}
+		out.flush();
+	}
+
+	public static void writeJson(String loanId, AmortizationSchedule schedule, Writer out) throws IOException {
+		StringBuilder buf = new StringBuilder(256);
+		buf.append("{\"loanId\":\"").append(loanId).append('"')
+				.append(",\"structure\":\"").append(schedule.structure().name()).append('"')
+				.append(",\"annualRate\":");
+		appendAmount(buf, schedule.annualRatePercent());
+		buf.append(",\"tenureMonths\":").append(schedule.tenureMonths())
+				.append(",\"principal\":");
+		appendAmount(buf, schedule.principal());
+		buf.append(",\"rows\":[");
+		out.append(buf);
+
+		boolean first = true;
+		while (schedule.next()) {
+			buf.setLength(0);
+			if (!first) {
+				buf.append(',');
+			}
+			first = false;
+			buf.append("{\"month\":").append(schedule.month()).append(",\"payment\":");
+			appendAmount(buf, schedule.payment()).append(",\"principal\":");
+			appendAmount(buf, schedule.principalPaid()).append(",\"interest\":");
+			appendAmount(buf, schedule.interest()).append(",\"outstanding\":");
+			appendAmount(buf, schedule.outstanding()).append('}');
+			out.append(buf);
+		}
+
+		buf.setLength(0);
+		buf.append("],\"totalPayment\":");
+		appendAmount(buf, schedule.totalPayment()).append(",\"totalInterest\":");
+		appendAmount(buf, schedule.totalInterest()).append('}');
+		out.append(buf);
+		out.flush();
+	}
+
+	/**
+	 * Appends {@code value} rounded to cents, e.g. 1234.5 as "1234.50".
+	 */
+	static StringBuilder appendAmount(StringBuilder sb, double value) {
+		long cents = Math.round(value * 100.0);
+		if (cents < 0) {
+			sb.append('-');
+			cents = -cents;
+		}
+		long fraction = cents % 100;
+		sb.append(cents / 100).append('.');
+		if (fraction < 10) {
+			sb.append('0');
+		}
+		return sb.append(fraction);
+	}
+}
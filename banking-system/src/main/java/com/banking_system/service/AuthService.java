@@ -14,7 +14,10 @@ import com.banking_system.model.dto.UserResponse;
 import com.banking_system.repository.UserRepository;
 import com.banking_system.security.JwtService;
 
+import io.micrometer.core.annotation.Timed;
+
 @Service
+@Timed("banking.service")
 public class AuthService {
 
 	private final UserRepository userRepository;
@@ -0,0 +1,100 @@
+package com.banking_system.service;
+
+/**
+ * Linear credit scoring model that rates a borrower from its financials instead of the
+ * rating typed in with the loan.
+ *
+ * Score (0 to 100, higher is better) = 60
+ * - + 120 x EBITDA margin (clamped to -50%..50%)
+ * - - 6 x leverage, the requested amount over EBITDA (capped at 10x; 10x when EBITDA is not positive)
+ * - + 5 x size, log10(revenue) - 6 (clamped to 0..4, so 1M to 10B revenue)
+ * - - 1.5 per year of tenure (capped at 30 years)
+ *
+ * Ratings: A from 75, B from 60, C from 45, D below. The coefficients are constants, so
+ * a score is a handful of multiply-adds; {@link #scoreBatch} runs the same formula over
+ * columns for whole-book rescoring.
+ */
+public final class CreditScoringModel {
+
+	/** Stored with every score; change it whenever a coefficient or threshold changes. */
+	public static final String VERSION = "linear-v1";
+
+	static final double INTERCEPT = 60.0;
+	static final double MARGIN_WEIGHT = 120.0;
+	static final double LEVERAGE_WEIGHT = -6.0;
+	static final double SIZE_WEIGHT = 5.0;
+	static final double TENURE_YEAR_WEIGHT = -1.5;
+	static final double MAX_LEVERAGE = 10.0;
+
+	private static final double[] THRESHOLDS = { 75.0, 60.0, 45.0 };
+	private static final String[] RATINGS = { "A", "B", "C", "D" };
+	private static final long VERSION_KEY = VERSION.hashCode();
+
+	private CreditScoringModel() {
+	}
+
+	/**
+	 * Whether the model has what it needs: positive revenue, amount and tenure and a known
+	 * EBITDA. Loans that fail this keep their entered rating.
+	 */
+	public static boolean scorable(Double revenue, Double ebitda, Double requestedAmount, Integer tenureMonths) {
+		return revenue != null && revenue > 0 && Double.isFinite(revenue)
+				&& ebitda != null && Double.isFinite(ebitda)
+				&& requestedAmount != null && requestedAmount > 0 && Double.isFinite(requestedAmount)
+				&& tenureMonths != null && tenureMonths > 0;
+	}
+
+	public static double score(double revenue, double ebitda, double requestedAmount, int tenureMonths) {
+		double margin = clamp(ebitda / revenue, -0.5, 0.5);
+		double leverage = ebitda > 0 ? Math.min(requestedAmount / ebitda, MAX_LEVERAGE) : MAX_LEVERAGE;
+		double size = clamp(Math.log10(revenue) - 6.0, 0.0, 4.0);
+		double tenureYears = Math.min(tenureMonths / 12.0, 30.0);
+		double score = INTERCEPT
+				+ MARGIN_WEIGHT * margin
+				+ LEVERAGE_WEIGHT * leverage
+				+ SIZE_WEIGHT * size
+				+ TENURE_YEAR_WEIGHT * tenureYears;
+		return clamp(score, 0.0, 100.0);
+	}
+
+	public static String rating(double score) {
+		for (int i = 0; i < THRESHOLDS.length; i++) {
+			if (score >= THRESHOLDS[i]) {
+				return RATINGS[i];
+			}
+		}
+		return RATINGS[THRESHOLDS.length];
+	}
+
+	/**
+	 * Scores rows {@code from} (inclusive) to {@code to} (exclusive); every row must be
+	 * {@linkplain #scorable scorable}.
+	 */
+	public static void scoreBatch(
+			double[] revenue,
+			double[] ebitda,
+			double[] requestedAmount,
+			int[] tenureMonths,
+			double[] scores,
+			int from,
+			int to) {
+		for (int i = from; i < to; i++) {
+			scores[i] = score(revenue[i], ebitda[i], requestedAmount[i], tenureMonths[i]);
+		}
+	}
+
+	/**
+	 * 64-bit hash of the model inputs and {@link #VERSION}; equal hashes score identically.
+	 */
+	public static long financialsHash(double revenue, double ebitda, double requestedAmount, int tenureMonths) {
+		long h = PricingMemo.mix(0x9E3779B97F4A7C15L, Double.doubleToLongBits(revenue));
+		h = PricingMemo.mix(h, Double.doubleToLongBits(ebitda));
+		h = PricingMemo.mix(h, Double.doubleToLongBits(requestedAmount));
+		h = PricingMemo.mix(h, tenureMonths);
+		return PricingMemo.mix(h, VERSION_KEY);
+	}
+
+	private static double clamp(double value, double min, double max) {
+		return Math.max(min, Math.min(max, value));
+	}
+}
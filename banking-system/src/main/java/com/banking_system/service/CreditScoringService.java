@@ -0,0 +1,252 @@
+package com.banking_system.service;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import com.banking_system.config.CreditScoringProperties;
+import com.banking_system.model.Loan;
+import com.banking_system.model.dto.CacheStatsResponse;
+import com.banking_system.model.dto.CreditRescoreResult;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Rates loans with {@link CreditScoringModel} and keeps the result on the loan as
+ * {@code creditScore}, together with the hash of the financials it was computed from.
+ *
+ * A loan whose stored hash still matches is not rescored, and scores are also cached by
+ * financials hash, so loans sharing the same figures are scored once. Loans without
+ * enough financials get no score and keep pricing on their entered rating.
+ */
+@Service
+@Timed("banking.service")
+public class CreditScoringService implements MeterBinder {
+
+	static final String NAME = "credit-scores";
+	// Long key, score record and the node overhead
+	static final long ESTIMATED_ENTRY_BYTES = 96;
+
+	private final CreditScoringProperties props;
+	private final MongoTemplate mongoTemplate;
+	private final LoanCache loanCache;
+	private final Cache<Long, Scored> cache;
+	private final long maxEntries;
+
+	public CreditScoringService(CreditScoringProperties props, MongoTemplate mongoTemplate, LoanCache loanCache) {
+		this.props = props;
+		this.mongoTemplate = mongoTemplate;
+		this.loanCache = loanCache;
+		this.maxEntries = props.enabled() ? props.cacheMaxEntries() : 0L;
+		this.cache = Caffeine.newBuilder()
+				.maximumSize(maxEntries)
+				.recordStats()
+				.build();
+	}
+
+	/**
+	 * Score for the loan's current financials, amount and tenure: the stored one when its
+	 * hash still matches, otherwise cached or computed. {@code null} when scoring is
+	 * disabled or the loan cannot be scored.
+	 */
+	public Loan.CreditScore score(Loan loan) {
+		if (!props.enabled()) {
+			return null;
+		}
+		Loan.Financials financials = loan.getFinancials();
+		if (financials == null || !CreditScoringModel.scorable(
+				financials.getRevenue(), financials.getEbitda(), loan.getRequestedAmount(), loan.getTenureMonths())) {
+			return null;
+		}
+		double revenue = financials.getRevenue();
+		double ebitda = financials.getEbitda();
+		double amount = loan.getRequestedAmount();
+		int tenure = loan.getTenureMonths();
+		long hash = CreditScoringModel.financialsHash(revenue, ebitda, amount, tenure);
+
+		Loan.CreditScore stored = loan.getCreditScore();
+		if (stored != null && stored.getFinancialsHash() == hash) {
+			return stored;
+		}
+		Scored scored = cache.get(hash, h -> Scored.of(CreditScoringModel.score(revenue, ebitda, amount, tenure)));
+		return scored.toCreditScore(hash, Instant.now());
+	}
+
+	/**
+	 * Rescores every non-deleted loan whose financials changed since it was last scored,
+	 * in {@code _id} order and chunks of {@code app.credit-scoring.batch-size}. Each chunk
+	 * is scored in one {@link CreditScoringModel#scoreBatch} pass and written with one bulk
+	 * update; loans edited in the meantime are left alone and counted as conflicts.
+	 */
+	public CreditRescoreResult rescoreBook() {
+		long started = System.nanoTime();
+		Counts counts = new Counts();
+		if (props.enabled()) {
+			Query query = query(where("deleted").is(false)).with(Sort.by("_id"));
+			query.fields().include("requestedAmount", "tenureMonths", "financials.revenue", "financials.ebitda",
+					"creditScore.financialsHash", "updatedAt");
+			int batchSize = Math.max(1, props.batchSize());
+			List<Loan> chunk = new ArrayList<>(batchSize);
+			try (Stream<Loan> loans = mongoTemplate.stream(query, Loan.class)) {
+				loans.forEach(loan -> {
+					chunk.add(loan);
+					if (chunk.size() == batchSize) {
+						rescoreChunk(chunk, counts);
+						chunk.clear();
+					}
+				});
+			}
+			if (!chunk.isEmpty()) {
+				rescoreChunk(chunk, counts);
+			}
+		}
+		return new CreditRescoreResult(
+				CreditScoringModel.VERSION,
+				counts.scanned,
+				counts.rescored,
+				counts.unchanged,
+				counts.unscorable,
+				counts.conflicts,
+				(System.nanoTime() - started) / 1_000_000);
+	}
+
+	private void rescoreChunk(List<Loan> chunk, Counts counts) {
+		int n = chunk.size();
+		counts.scanned += n;
+		Loan.CreditScore[] updates = new Loan.CreditScore[n];
+		boolean[] write = new boolean[n];
+		long[] hashes = new long[n];
+
+		// Rows that are neither current nor cached are scored together below
+		double[] revenue = new double[n];
+		double[] ebitda = new double[n];
+		double[] amount = new double[n];
+		int[] tenure = new int[n];
+		double[] scores = new double[n];
+		int[] rows = new int[n];
+		int misses = 0;
+
+		Instant now = Instant.now();
+		for (int i = 0; i < n; i++) {
+			Loan loan = chunk.get(i);
+			Loan.Financials financials = loan.getFinancials();
+			if (financials == null || !CreditScoringModel.scorable(
+					financials.getRevenue(), financials.getEbitda(), loan.getRequestedAmount(), loan.getTenureMonths())) {
+				counts.unscorable++;
+				// Clear a score left over from financials the loan no longer has
+				write[i] = loan.getCreditScore() != null;
+				continue;
+			}
+			hashes[i] = CreditScoringModel.financialsHash(
+					financials.getRevenue(), financials.getEbitda(), loan.getRequestedAmount(), loan.getTenureMonths());
+			if (loan.getCreditScore() != null && loan.getCreditScore().getFinancialsHash() == hashes[i]) {
+				counts.unchanged++;
+				continue;
+			}
+			write[i] = true;
+			Scored cached = cache.getIfPresent(hashes[i]);
+			if (cached != null) {
+				updates[i] = cached.toCreditScore(hashes[i], now);
+				continue;
+			}
+			revenue[misses] = financials.getRevenue();
+			ebitda[misses] = financials.getEbitda();
+			amount[misses] = loan.getRequestedAmount();
+			tenure[misses] = loan.getTenureMonths();
+			rows[misses] = i;
+			misses++;
+		}
+		CreditScoringModel.scoreBatch(revenue, ebitda, amount, tenure, scores, 0, misses);
+		for (int j = 0; j < misses; j++) {
+			int i = rows[j];
+			Scored scored = Scored.of(scores[j]);
+			cache.put(hashes[i], scored);
+			updates[i] = scored.toCreditScore(hashes[i], now);
+		}
+
+		BulkOperations bulk = null;
+		int writes = 0;
+		for (int i = 0; i < n; i++) {
+			if (!write[i]) {
+				continue;
+			}
+			if (bulk == null) {
+				bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Loan.class);
+			}
+			Loan loan = chunk.get(i);
+			Update update = updates[i] != null ? new Update().set("creditScore", updates[i]) : new Update().unset("creditScore");
+			bulk.updateOne(query(where("_id").is(loan.getId()).and("updatedAt").is(loan.getUpdatedAt())), update);
+			writes++;
+		}
+		if (bulk != null) {
+			int matched = bulk.execute().getMatchedCount();
+			counts.rescored += matched;
+			counts.conflicts += writes - matched;
+			for (int i = 0; i < n; i++) {
+				if (write[i]) {
+					loanCache.invalidate(chunk.get(i).getId());
+				}
+			}
+		}
+	}
+
+	public void invalidateAll() {
+		cache.invalidateAll();
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		CaffeineCacheMetrics.monitor(registry, cache, NAME);
+	}
+
+	public CacheStatsResponse stats() {
+		CacheStats stats = cache.stats();
+		long entries = cache.estimatedSize();
+		return new CacheStatsResponse(
+				NAME,
+				stats.requestCount(),
+				stats.hitCount(),
+				stats.missCount(),
+				stats.hitRate(),
+				stats.evictionCount(),
+				entries,
+				entries * ESTIMATED_ENTRY_BYTES,
+				maxEntries * ESTIMATED_ENTRY_BYTES);
+	}
+
+	private record Scored(double score, String rating) {
+
+		static Scored of(double score) {
+			return new Scored(score, CreditScoringModel.rating(score));
+		}
+
+		Loan.CreditScore toCreditScore(long financialsHash, Instant scoredAt) {
+			return new Loan.CreditScore(score, rating, financialsHash, CreditScoringModel.VERSION, scoredAt);
+		}
+	}
+
+	private static final class Counts {
+		long scanned;
+		long rescored;
+		long unchanged;
+		long unscorable;
+		long conflicts;
+	}
+}
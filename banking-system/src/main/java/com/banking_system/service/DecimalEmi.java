@@ -0,0 +1,63 @@
+package com.banking_system.service;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+/**
+ * Fixed-precision EMI for customer-facing figures.
+ *
+ * Inputs are taken as the decimals they print as ({@code 10.35} is exactly 10.35, not
+ * the nearest binary double). The annuity factor is evaluated in {@link #CONTEXT}
+ * (34 significant digits) and the EMI is rounded to cents once, half-even. Total
+ * interest is what the customer actually pays: the rounded EMI times the tenure less
+ * the principal, so it is exact in cents with no second rounding.
+ *
+ * Compared with the double path of {@link PricingService#calculatePricing}, the
+ * unrounded EMI agrees to {@link #RELATIVE_TOLERANCE} for annual rates of 0.1% and
+ * above (below that, {@code (1+r)^n - 1} loses digits in double). Rounded to cents it
+ * agrees, or differs by one cent where the double lands on the other side of a half
+ * cent or where half-even and the double path's half-up part ways on an exact half
+ * cent. Total interest can differ by up to half a cent per month, because the double
+ * path multiplies the unrounded EMI.
+ */
+public final class DecimalEmi {
+
+	public static final MathContext CONTEXT = MathContext.DECIMAL128;
+	public static final RoundingMode ROUNDING = RoundingMode.HALF_EVEN;
+	public static final int CENTS = 2;
+	public static final double RELATIVE_TOLERANCE = 1e-11;
+
+	private static final BigDecimal MONTHS_TIMES_PERCENT = BigDecimal.valueOf(1200);
+
+	private DecimalEmi() {
+	}
+
+	/** Unrounded EMI to {@link #CONTEXT} precision; rates are annual percentages. */
+	public static BigDecimal exactEmi(BigDecimal principal, BigDecimal annualRatePercent, int tenureMonths) {
+		if (annualRatePercent.signum() <= 0) {
+			return principal.divide(BigDecimal.valueOf(tenureMonths), CONTEXT);
+		}
+		BigDecimal monthlyRate = annualRatePercent.divide(MONTHS_TIMES_PERCENT, CONTEXT);
+		BigDecimal powerTerm = BigDecimal.ONE.add(monthlyRate).pow(tenureMonths, CONTEXT);
+		return principal.multiply(monthlyRate, CONTEXT)
+				.multiply(powerTerm, CONTEXT)
+				.divide(powerTerm.subtract(BigDecimal.ONE, CONTEXT), CONTEXT);
+	}
+
+	/** EMI rounded half-even to cents. */
+	public static BigDecimal emi(BigDecimal principal, BigDecimal annualRatePercent, int tenureMonths) {
+		return exactEmi(principal, annualRatePercent, tenureMonths).setScale(CENTS, ROUNDING);
+	}
+
+	/**
+	 * Interest paid over the loan at the rounded {@code emi}; zero for interest-free loans,
+	 * whose last instalment absorbs the rounding.
+	 */
+	public static BigDecimal totalInterest(BigDecimal emi, BigDecimal principal, BigDecimal annualRatePercent, int tenureMonths) {
+		if (annualRatePercent.signum() <= 0) {
+			return BigDecimal.ZERO.setScale(CENTS);
+		}
+		return emi.multiply(BigDecimal.valueOf(tenureMonths)).subtract(principal).setScale(CENTS, ROUNDING);
+	}
+}
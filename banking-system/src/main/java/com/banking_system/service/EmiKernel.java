@@ -0,0 +1,113 @@
+package com.banking_system.service;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+/**
+ * Columnar EMI and total-interest kernel for batches of loans.
+ *
+ * {@code compute} uses the JDK Vector API ({@code VectorEmiKernel}) when the application
+ * was built with the {@code vector} profile and the {@code jdk.incubator.vector} module
+ * is present (start the JVM with {@code --add-modules jdk.incubator.vector}), and the
+ * scalar {@code Math.pow} path of {@link PricingService#calculatePricing} otherwise.
+ * {@code -Dpricing.vector=false} forces the scalar path. The vector kernel lives in
+ * {@code src/vector/java} and is looked up by name, so the default build does not
+ * compile against the incubator module.
+ *
+ * Tolerance: the vector path raises {@code 1 + r} to the tenure by repeated squaring
+ * instead of {@code Math.pow}. For annual rates of 0.1% and above and tenures up to 600
+ * months, its unrounded EMI and total interest are within {@link #RELATIVE_TOLERANCE}
+ * of the scalar path. Rounded to cents they agree, or differ by one cent when the exact
+ * value sits on a half-cent boundary. Zero and negative rates take the same
+ * interest-free branch on both paths and match exactly.
+ */
+public final class EmiKernel {
+
+	public static final double RELATIVE_TOLERANCE = 1e-9;
+
+	static final String VECTOR_KERNEL = "com.banking_system.service.VectorEmiKernel";
+
+	// Static final, so the JIT binds the call directly; null when running scalar
+	private static final MethodHandle VECTOR = vectorKernel();
+
+	private EmiKernel() {
+	}
+
+	/** Whether {@link #compute} runs on the Vector API in this JVM. */
+	public static boolean vectorized() {
+		return VECTOR != null;
+	}
+
+	/**
+	 * Writes the EMI and total interest of rows {@code from} (inclusive) to {@code to}
+	 * (exclusive). Rates are annual percentages; results are unrounded.
+	 */
+	public static void compute(
+			double[] principal,
+			double[] annualRatePercent,
+			int[] tenureMonths,
+			double[] emi,
+			double[] totalInterest,
+			int from,
+			int to) {
+		if (VECTOR != null) {
+			try {
+				VECTOR.invokeExact(principal, annualRatePercent, tenureMonths, emi, totalInterest, from, to);
+			} catch (RuntimeException | Error e) {
+				throw e;
+			} catch (Throwable e) {
+				throw new IllegalStateException(e);
+			}
+		} else {
+			computeScalar(principal, annualRatePercent, tenureMonths, emi, totalInterest, from, to);
+		}
+	}
+
+	static void computeScalar(
+			double[] principal,
+			double[] annualRatePercent,
+			int[] tenureMonths,
+			double[] emi,
+			double[] totalInterest,
+			int from,
+			int to) {
+		for (int i = from; i < to; i++) {
+			double monthlyRate = annualRatePercent[i] / 100 / 12;
+			int n = tenureMonths[i];
+			if (monthlyRate > 0) {
+				double powerTerm = Math.pow(1 + monthlyRate, n);
+				emi[i] = principal[i] * monthlyRate * powerTerm / (powerTerm - 1);
+				totalInterest[i] = emi[i] * n - principal[i];
+			} else {
+				emi[i] = principal[i] / n;
+				totalInterest[i] = 0.0;
+			}
+		}
+	}
+
+	private static MethodHandle vectorKernel() {
+		if (!Boolean.parseBoolean(System.getProperty("pricing.vector", "true"))) {
+			return null;
+		}
+		if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+			return null;
+		}
+		try {
+			Class<?> kernel = Class.forName(VECTOR_KERNEL);
+			MethodHandles.Lookup lookup = MethodHandles.lookup();
+			boolean supported = (boolean) lookup
+					.findStatic(kernel, "supported", MethodType.methodType(boolean.class))
+					.invokeExact();
+			return supported
+					? lookup.findStatic(kernel, "compute", MethodType.methodType(void.class,
+							double[].class, double[].class, int[].class, double[].class, double[].class, int.class, int.class))
+					: null;
+		} catch (ClassNotFoundException e) {
+			// Built without the vector profile
+			return null;
+		} catch (Throwable e) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,73 @@
+package com.banking_system.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bson.Document;
+
+/**
+ * The parts of an {@code explain} result worth logging: the winning plan as a chain of
+ * stages (such as {@code FETCH > IXSCAN(status_1_createdAt_-1)}), whether it scans the
+ * whole collection, and, for {@code executionStats} verbosity, how many documents and
+ * index keys it examined.
+ *
+ * Understands find-style results and aggregate results whose first stage is a
+ * {@code $cursor}, with or without the slot-based engine's {@code queryPlan} wrapper.
+ */
+public record ExplainPlan(
+		String summary,
+		boolean collectionScan,
+		Long docsExamined,
+		Long keysExamined
+) {
+
+	static final String COLLSCAN = "COLLSCAN";
+
+	public static ExplainPlan of(Document explain) {
+		Document source = explain;
+		if (!source.containsKey("queryPlanner") && source.get("stages") instanceof List<?> stages
+				&& !stages.isEmpty() && stages.get(0) instanceof Document first
+				&& first.get("$cursor") instanceof Document cursor) {
+			source = cursor;
+		}
+
+		List<String> chain = new ArrayList<>();
+		if (source.get("queryPlanner") instanceof Document planner
+				&& planner.get("winningPlan") instanceof Document winning) {
+			Document plan = winning.get("queryPlan") instanceof Document queryPlan ? queryPlan : winning;
+			collectStages(plan, chain);
+		}
+
+		Long docsExamined = null;
+		Long keysExamined = null;
+		if (source.get("executionStats") instanceof Document stats) {
+			docsExamined = number(stats.get("totalDocsExamined"));
+			keysExamined = number(stats.get("totalKeysExamined"));
+		}
+		String summary = chain.isEmpty() ? "unknown" : String.join(" > ", chain);
+		return new ExplainPlan(summary, chain.stream().anyMatch(s -> s.startsWith(COLLSCAN)), docsExamined, keysExamined);
+	}
+
+	private static void collectStages(Document stage, List<String> chain) {
+		String name = stage.getString("stage");
+		if (name == null) {
+			return;
+		}
+		String index = stage.getString("indexName");
+		chain.add(index != null ? name + "(" + index + ")" : name);
+		if (stage.get("inputStage") instanceof Document input) {
+			collectStages(input, chain);
+		} else if (stage.get("inputStages") instanceof List<?> inputs) {
+			// OR and SORT_MERGE: record each branch in order
+			for (Object input : inputs) {
+				if (input instanceof Document branch) {
+					collectStages(branch, chain);
+				}
+			}
+		}
+	}
+
+	private static Long number(Object value) {
+		return value instanceof Number n ? n.longValue() : null;
+	}
+}
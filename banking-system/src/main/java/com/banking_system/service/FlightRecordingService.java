@@ -0,0 +1,163 @@
+package com.banking_system.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Service;
+
+import com.banking_system.config.FlightRecordingProperties;
+import com.banking_system.exception.FlightRecordingConflictException;
+import com.banking_system.model.dto.FlightRecordingStatus;
+import com.banking_system.model.dto.StartFlightRecordingRequest;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+
+/**
+ * Runs at most one JDK Flight Recorder recording on demand, for attaching domain events
+ * (status changes, transfers, pricing, token validation) to a latency spike without
+ * restarting with {@code -XX:StartFlightRecording}.
+ *
+ * A recording is bounded by {@code max-duration} and {@code max-size-bytes}: it stops by
+ * itself when the duration elapses, and keeps only the newest data past the size limit.
+ * {@link #stop} dumps it to a temporary file for the caller to stream and delete. A
+ * recording that stopped by itself and was never collected is discarded by the next
+ * {@link #start}.
+ */
+@Service
+@Lazy
+public class FlightRecordingService {
+	private static final Logger log = LoggerFactory.getLogger(FlightRecordingService.class);
+
+	static final String RECORDING_NAME = "banking-admin";
+
+	private final FlightRecordingProperties props;
+	// Not a monitor: stop() writes the dump while holding it, which would pin a virtual thread
+	private final ReentrantLock lock = new ReentrantLock();
+	private Recording recording;
+
+	public FlightRecordingService(FlightRecordingProperties props) {
+		this.props = props;
+	}
+
+	public FlightRecordingStatus start(StartFlightRecordingRequest request) {
+		if (!FlightRecorder.isAvailable()) {
+			throw new IllegalStateException("Flight Recorder is not available in this JVM");
+		}
+		Duration duration = props.maxDuration();
+		if (request != null && request.durationSeconds() != null
+				&& request.durationSeconds() < duration.toSeconds()) {
+			duration = Duration.ofSeconds(request.durationSeconds());
+		}
+
+		lock.lock();
+		try {
+			if (recording != null) {
+				if (isActive(recording)) {
+					throw new FlightRecordingConflictException(
+							"Flight recording " + recording.getId() + " is already running");
+				}
+				recording.close();
+				recording = null;
+			}
+			Recording started = new Recording(configuration());
+			started.setName(RECORDING_NAME);
+			started.setToDisk(true);
+			started.setMaxSize(props.maxSizeBytes());
+			started.setDuration(duration);
+			started.start();
+			recording = started;
+			log.info("Flight recording {} started for {} with settings {}", started.getId(), duration, props.settings());
+			return toStatus(started);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public Optional<FlightRecordingStatus> status() {
+		lock.lock();
+		try {
+			return Optional.ofNullable(recording).map(this::toStatus);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Stops the recording if it is still running and dumps it to a temporary file. The
+	 * caller owns the file and deletes it once sent.
+	 */
+	public Path stop() {
+		lock.lock();
+		try {
+			if (recording == null) {
+				throw new FlightRecordingConflictException("No flight recording to stop");
+			}
+			Recording stopping = recording;
+			recording = null;
+			try {
+				if (stopping.getState() == RecordingState.RUNNING) {
+					stopping.stop();
+				}
+				Path file = Files.createTempFile(RECORDING_NAME + "-", ".jfr");
+				stopping.dump(file);
+				log.info("Flight recording {} stopped, {} bytes written", stopping.getId(), Files.size(file));
+				return file;
+			} catch (IOException e) {
+				throw new UncheckedIOException("Could not write flight recording " + stopping.getId(), e);
+			} finally {
+				stopping.close();
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@PreDestroy
+	void close() {
+		lock.lock();
+		try {
+			if (recording != null) {
+				recording.close();
+				recording = null;
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private Configuration configuration() {
+		try {
+			return Configuration.getConfiguration(props.settings());
+		} catch (IOException | ParseException e) {
+			throw new IllegalStateException("Unknown flight recording settings: " + props.settings(), e);
+		}
+	}
+
+	private FlightRecordingStatus toStatus(Recording r) {
+		return new FlightRecordingStatus(
+				r.getId(),
+				r.getState().name(),
+				props.settings(),
+				r.getStartTime(),
+				r.getDuration() != null ? r.getDuration().toSeconds() : 0,
+				r.getMaxSize(),
+				r.getSize());
+	}
+
+	private static boolean isActive(Recording r) {
+		return r.getState() == RecordingState.RUNNING || r.getState() == RecordingState.DELAYED;
+	}
+}
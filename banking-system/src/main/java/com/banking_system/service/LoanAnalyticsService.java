@@ -0,0 +1,161 @@
+package com.banking_system.service;
+
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.facet;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.group;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.match;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.newAggregation;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.project;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.sort;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.ArithmeticOperators;
+import org.springframework.data.mongodb.core.aggregation.GroupOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.stereotype.Service;
+
+import com.banking_system.model.LoanStatus;
+import com.banking_system.model.dto.ApprovalStats;
+import com.banking_system.model.dto.PortfolioAnalyticsResponse;
+import com.banking_system.model.dto.PortfolioBucket;
+
+import io.micrometer.core.annotation.Timed;
+
+/**
+ * Portfolio breakdowns computed inside MongoDB with a single $facet pipeline, so
+ * dashboards receive a few kilobytes of totals instead of the whole loan book.
+ */
+@Service
+@Timed("banking.service")
+public class LoanAnalyticsService {
+
+	static final String UNKNOWN_KEY = "UNKNOWN";
+
+	private final MongoTemplate mongoTemplate;
+
+	public LoanAnalyticsService(MongoTemplate mongoTemplate) {
+		this.mongoTemplate = mongoTemplate;
+	}
+
+	public PortfolioAnalyticsResponse getPortfolioAnalytics(Instant createdFrom, Instant createdTo) {
+		Aggregation aggregation = buildPipeline(createdFrom, createdTo);
+		Document result = mongoTemplate.aggregate(aggregation, "loans", Document.class).getUniqueMappedResult();
+		if (result == null) {
+			result = new Document();
+		}
+
+		List<PortfolioBucket> byStatus = toBuckets(result.getList("byStatus", Document.class));
+		long totalLoans = 0;
+		double requested = 0;
+		double sanctioned = 0;
+		for (PortfolioBucket bucket : byStatus) {
+			totalLoans += bucket.count();
+			requested += bucket.requestedExposure();
+			sanctioned += bucket.sanctionedExposure();
+		}
+
+		return new PortfolioAnalyticsResponse(
+				totalLoans,
+				requested,
+				sanctioned,
+				byStatus,
+				toBuckets(result.getList("byLoanType", Document.class)),
+				toBuckets(result.getList("byRating", Document.class)),
+				toApprovalStats(result.getList("approvals", Document.class)),
+				Instant.now());
+	}
+
+	Aggregation buildPipeline(Instant createdFrom, Instant createdTo) {
+		Criteria criteria = Criteria.where("deleted").is(false);
+		if (createdFrom != null || createdTo != null) {
+			Criteria created = Criteria.where("createdAt");
+			if (createdFrom != null) {
+				created = created.gte(createdFrom);
+			}
+			if (createdTo != null) {
+				created = created.lt(createdTo);
+			}
+			criteria = criteria.andOperator(created);
+		}
+
+		return newAggregation(
+				match(criteria),
+				project("status", "loanType", "requestedAmount", "sanctionedAmount",
+						"approvedInterestRate", "approvedAt", "createdAt")
+						.and("financials.rating").as("rating"),
+				facet(exposureGroup("status"), sort(Sort.Direction.ASC, "_id")).as("byStatus")
+						.and(exposureGroup("loanType"), sort(Sort.Direction.DESC, "count")).as("byLoanType")
+						.and(exposureGroup("rating"), sort(Sort.Direction.ASC, "_id")).as("byRating")
+						.and(
+								match(Criteria.where("status").is(LoanStatus.APPROVED.name())
+										.and("approvedAt").ne(null)),
+								project("approvedInterestRate")
+										.and(ArithmeticOperators.Subtract.valueOf("approvedAt").subtract("createdAt"))
+										.as("latencyMs"),
+								group()
+										.count().as("count")
+										.avg("approvedInterestRate").as("avgRate")
+										.avg("latencyMs").as("avgLatencyMs")
+										.min("latencyMs").as("minLatencyMs")
+										.max("latencyMs").as("maxLatencyMs"))
+						.as("approvals"));
+	}
+
+	private static GroupOperation exposureGroup(String field) {
+		return group(field)
+				.count().as("count")
+				.sum("requestedAmount").as("requested")
+				.sum("sanctionedAmount").as("sanctioned");
+	}
+
+	private static List<PortfolioBucket> toBuckets(List<Document> docs) {
+		if (docs == null) {
+			return List.of();
+		}
+		List<PortfolioBucket> buckets = new ArrayList<>(docs.size());
+		for (Document doc : docs) {
+			Object key = doc.get("_id");
+			buckets.add(new PortfolioBucket(
+					key != null ? key.toString() : UNKNOWN_KEY,
+					asLong(doc.get("count")),
+					asDouble(doc.get("requested")),
+					asDouble(doc.get("sanctioned"))));
+		}
+		return buckets;
+	}
+
+	private static ApprovalStats toApprovalStats(List<Document> docs) {
+		if (docs == null || docs.isEmpty()) {
+			return new ApprovalStats(0, null, null, null, null);
+		}
+		Document doc = docs.get(0);
+		return new ApprovalStats(
+				asLong(doc.get("count")),
+				asNullableDouble(doc.get("avgRate")),
+				millisToSeconds(doc.get("avgLatencyMs")),
+				millisToSeconds(doc.get("minLatencyMs")),
+				millisToSeconds(doc.get("maxLatencyMs")));
+	}
+
+	private static long asLong(Object value) {
+		return value instanceof Number n ? n.longValue() : 0L;
+	}
+
+	private static double asDouble(Object value) {
+		return value instanceof Number n ? n.doubleValue() : 0.0;
+	}
+
+	private static Double asNullableDouble(Object value) {
+		return value instanceof Number n ? n.doubleValue() : null;
+	}
+
+	private static Double millisToSeconds(Object value) {
+		return value instanceof Number n ? n.doubleValue() / 1000.0 : null;
+	}
+}
@@ -0,0 +1,162 @@
+package com.banking_system.service;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.bson.types.ObjectId;
+import org.springframework.stereotype.Component;
+
+import com.banking_system.config.LoanCacheProperties;
+import com.banking_system.model.Loan;
+import com.banking_system.model.dto.CacheStatsResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Read-through cache of loan documents for the read paths of {@link LoanService}.
+ *
+ * Bounded by an estimated byte weight rather than entry count, since a loan's audit
+ * trail grows with every status change. Mutating service methods write the saved
+ * document through (or invalidate it on delete); other nodes' writes arrive through
+ * {@link LoanChangeStreamListener} when the loans change stream is enabled.
+ *
+ * A read-through miss must not put back a document that a write superseded while it
+ * was being read. Readers take {@link #writeStamp} before the read and insert with
+ * {@link #putIfUnchanged}, which drops the document if a put or invalidation of the id
+ * ran in between. The read itself happens outside the cache, so no lock is held across
+ * the Mongo round trip.
+ */
+@Component
+public class LoanCache implements MeterBinder {
+
+	static final String NAME = "loans";
+	// Write stamps are kept per stripe of ids; a collision only skips one insert
+	private static final int STRIPES = 256;
+
+	private final Cache<ObjectId, Loan> cache;
+	private final boolean enabled;
+	private final long maxWeightBytes;
+	private final AtomicLongArray writes = new AtomicLongArray(STRIPES);
+
+	public LoanCache(LoanCacheProperties props) {
+		this.enabled = props.enabled();
+		this.maxWeightBytes = enabled ? props.maxWeightBytes() : 0L;
+		Caffeine<ObjectId, Loan> builder = Caffeine.newBuilder()
+				.maximumWeight(maxWeightBytes)
+				.weigher((ObjectId id, Loan loan) -> estimateSize(loan))
+				.recordStats();
+		if (props.expireAfterWrite() != null) {
+			builder.expireAfterWrite(props.expireAfterWrite());
+		}
+		this.cache = builder.build();
+	}
+
+	public Loan getIfPresent(ObjectId id) {
+		return cache.getIfPresent(id);
+	}
+
+	/** Write path: caches the saved document, replacing whatever a reader inserted. */
+	public void put(Loan loan) {
+		if (enabled && loan != null && loan.getId() != null) {
+			writes.incrementAndGet(stripe(loan.getId()));
+			cache.put(loan.getId(), loan);
+		}
+	}
+
+	public void invalidate(ObjectId id) {
+		writes.incrementAndGet(stripe(id));
+		cache.invalidate(id);
+	}
+
+	public void invalidateAll() {
+		for (int i = 0; i < STRIPES; i++) {
+			writes.incrementAndGet(i);
+		}
+		cache.invalidateAll();
+	}
+
+	/** Taken before a read-through load; see {@link #putIfUnchanged}. */
+	public long writeStamp(ObjectId id) {
+		return writes.get(stripe(id));
+	}
+
+	/**
+	 * Read path: caches a loaded document unless the id was written or invalidated since
+	 * {@code stamp} was taken, or another reader cached it first. The check and the insert
+	 * are atomic with respect to writers on the same id.
+	 */
+	public void putIfUnchanged(Loan loan, long stamp) {
+		if (!enabled || loan == null || loan.getId() == null) {
+			return;
+		}
+		cache.asMap().compute(loan.getId(), (id, current) ->
+				current == null && writes.get(stripe(id)) == stamp ? loan : current);
+	}
+
+	/** Publishes hit, miss, eviction and size meters for the cache, tagged {@code cache=loans}. */
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		CaffeineCacheMetrics.monitor(registry, cache, NAME);
+	}
+
+	public CacheStatsResponse stats() {
+		// Weighted size is updated by Caffeine's async maintenance; apply pending writes first
+		cache.cleanUp();
+		CacheStats stats = cache.stats();
+		long weightedSize = cache.policy().eviction()
+				.map(eviction -> eviction.weightedSize().orElse(0L))
+				.orElse(0L);
+		return new CacheStatsResponse(
+				NAME,
+				stats.requestCount(),
+				stats.hitCount(),
+				stats.missCount(),
+				stats.hitRate(),
+				stats.evictionCount(),
+				cache.estimatedSize(),
+				weightedSize,
+				maxWeightBytes);
+	}
+
+	/**
+	 * Rough retained size of a loan document in bytes: object headers and boxed numbers,
+	 * plus the variable-length parts (name, search tokens, audit trail).
+	 */
+	static int estimateSize(Loan loan) {
+		int size = 320;
+		size += 2 * length(loan.getClientName()) + 2 * length(loan.getClientNameNormalized());
+		size += 2 * length(loan.getLoanType());
+		List<String> tokens = loan.getClientNameTokens();
+		if (tokens != null) {
+			for (String token : tokens) {
+				size += 48 + 2 * token.length();
+			}
+		}
+		if (loan.getFinancials() != null) {
+			size += 80 + 2 * length(loan.getFinancials().getRating());
+		}
+		if (loan.getPricing() != null) {
+			size += 120 + 2 * length(loan.getPricing().getRiskCategory());
+		}
+		List<Loan.LoanAction> actions = loan.getActions();
+		if (actions != null) {
+			for (Loan.LoanAction action : actions) {
+				size += 120 + 2 * length(action.getAction()) + 2 * length(action.getComments());
+			}
+		}
+		return size;
+	}
+
+	private static int stripe(ObjectId id) {
+		return id.hashCode() & (STRIPES - 1);
+	}
+
+	private static int length(String value) {
+		return value == null ? 0 : value.length();
+	}
+}
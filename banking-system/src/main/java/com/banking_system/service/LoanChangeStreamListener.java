@@ -0,0 +1,234 @@
+package com.banking_system.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.messaging.ChangeStreamRequest;
+import org.springframework.data.mongodb.core.messaging.DefaultMessageListenerContainer;
+import org.springframework.data.mongodb.core.messaging.Message;
+import org.springframework.data.mongodb.core.messaging.MessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import com.banking_system.model.Loan;
+import com.banking_system.model.dto.LoanEventMessage;
+import com.mongodb.MongoException;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import com.mongodb.client.model.changestream.OperationType;
+import com.mongodb.client.model.changestream.UpdateDescription;
+
+/**
+ * The node's single change stream on the loans collection. Every change evicts the
+ * {@link LoanCache} entry and is forwarded to the {@link LoanEventBroadcaster}, so
+ * cache coherence and the SSE feed both cover writes made by other instances.
+ *
+ * Requires a replica set (change streams are not available on a standalone mongod).
+ * The resume token of the last processed change is kept so a lifecycle restart
+ * continues where the stream left off instead of skipping changes.
+ *
+ * Resume tokens double as SSE event ids. A client reconnecting with an id this node has
+ * not buffered is caught up by {@link #eventsAfter}, which reopens the stream after that
+ * token; this works on any instance as long as the oplog still holds the change.
+ *
+ * {@code save()} replaces whole documents, so the event type and, for status changes,
+ * the previous status are read from the audit trail entry written with the change.
+ * Partial updates that only refresh derived fields (pricing snapshots, credit scores,
+ * search tokens) evict the cache but are not lifecycle events, so they are not
+ * forwarded to subscribers.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.loan-events", name = "change-stream-enabled", havingValue = "true")
+public class LoanChangeStreamListener implements SmartLifecycle, LoanEventBroadcaster.ReplaySource {
+	private static final Logger log = LoggerFactory.getLogger(LoanChangeStreamListener.class);
+
+	// Fields written by partial updates that leave updatedAt and the audit trail alone
+	static final Set<String> DERIVED_FIELDS = Set.of("pricing", "creditScore", "clientNameNormalized", "clientNameTokens");
+	private static final Pattern RESUME_TOKEN = Pattern.compile("[0-9A-Fa-f]+");
+
+	private final LoanCache loanCache;
+	private final LoanEventBroadcaster broadcaster;
+	private final MongoTemplate mongoTemplate;
+	private MessageListenerContainer container;
+	private volatile BsonValue resumeToken;
+	private volatile boolean running;
+
+	public LoanChangeStreamListener(LoanCache loanCache, LoanEventBroadcaster broadcaster, MongoTemplate mongoTemplate) {
+		this.loanCache = loanCache;
+		this.broadcaster = broadcaster;
+		this.mongoTemplate = mongoTemplate;
+		broadcaster.useReplaySource(this);
+	}
+
+	@Override
+	public void start() {
+		ChangeStreamRequest.ChangeStreamRequestBuilder<Loan> request = ChangeStreamRequest.builder(this::onChange)
+				.collection("loans")
+				.fullDocumentLookup(FullDocument.UPDATE_LOOKUP);
+		if (resumeToken != null) {
+			request.resumeAfter(resumeToken);
+		}
+		// A fresh container per start: a stopped one would re-run its old request without the token
+		container = new DefaultMessageListenerContainer(mongoTemplate);
+		container.register(request.build(), Loan.class);
+		container.start();
+		running = true;
+		log.info("Listening to loans change stream{}", resumeToken != null ? " (resuming)" : "");
+	}
+
+	@Override
+	public void stop() {
+		if (container != null) {
+			container.stop();
+		}
+		running = false;
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+
+	void onChange(Message<ChangeStreamDocument<Document>, Loan> message) {
+		ChangeStreamDocument<Document> change = message.getRaw();
+		if (change == null) {
+			return;
+		}
+		resumeToken = change.getResumeToken();
+
+		BsonDocument key = change.getDocumentKey();
+		BsonValue id = key != null ? key.get("_id") : null;
+		if (id == null || !id.isObjectId()) {
+			// Drops, renames and invalidate events carry no document key
+			loanCache.invalidateAll();
+			return;
+		}
+		loanCache.invalidate(id.asObjectId().getValue());
+
+		LoanEventMessage event = toEvent(change, message.getBody());
+		if (event != null) {
+			broadcaster.publishChange(event);
+		}
+	}
+
+	@Override
+	public List<LoanEventMessage> eventsAfter(String eventId, int limit) {
+		if (!RESUME_TOKEN.matcher(eventId).matches()) {
+			return null;
+		}
+		List<LoanEventMessage> events = new ArrayList<>();
+		try (MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor = mongoTemplate.getCollection("loans")
+				.watch()
+				.resumeAfter(new BsonDocument("_data", new BsonString(eventId)))
+				.fullDocument(FullDocument.UPDATE_LOOKUP)
+				.cursor()) {
+			ChangeStreamDocument<Document> change;
+			while ((change = cursor.tryNext()) != null) {
+				Document document = change.getFullDocument();
+				LoanEventMessage event = toEvent(change,
+						document != null ? mongoTemplate.getConverter().read(Loan.class, document) : null);
+				if (event != null) {
+					if (events.size() == limit) {
+						return null;
+					}
+					events.add(event);
+				}
+			}
+		} catch (MongoException e) {
+			// Typically the token has aged out of the oplog
+			log.debug("Cannot resume loan events after {}: {}", eventId, e.getMessage());
+			return null;
+		}
+		return events;
+	}
+
+	@Override
+	public String position() {
+		return tokenId(resumeToken);
+	}
+
+	// The SSE event for a change, or null when the change is not a lifecycle event
+	private static LoanEventMessage toEvent(ChangeStreamDocument<Document> change, Loan loan) {
+		BsonDocument key = change.getDocumentKey();
+		BsonValue id = key != null ? key.get("_id") : null;
+		if (id == null || !id.isObjectId() || loan == null || derivedFieldsOnly(change.getUpdateDescription())) {
+			return null;
+		}
+		Loan.LoanAction action = actionOfThisChange(loan);
+		return new LoanEventMessage(
+				tokenId(change.getResumeToken()),
+				eventType(change.getOperationType(), loan),
+				id.asObjectId().getValue().toHexString(),
+				loan.getClientName(),
+				loan.getStatus(),
+				action != null ? action.getFromStatus() : null,
+				loan.getUpdatedBy() != null ? loan.getUpdatedBy().toHexString() : null,
+				loan.getUpdatedAt());
+	}
+
+	private static String tokenId(BsonValue token) {
+		return token != null && token.isDocument() && token.asDocument().isString("_data")
+				? token.asDocument().getString("_data").getValue()
+				: null;
+	}
+
+	static boolean derivedFieldsOnly(UpdateDescription update) {
+		if (update == null) {
+			return false;
+		}
+		List<String> fields = new ArrayList<>();
+		if (update.getUpdatedFields() != null) {
+			fields.addAll(update.getUpdatedFields().keySet());
+		}
+		if (update.getRemovedFields() != null) {
+			fields.addAll(update.getRemovedFields());
+		}
+		if (fields.isEmpty()) {
+			return false;
+		}
+		for (String field : fields) {
+			int dot = field.indexOf('.');
+			if (!DERIVED_FIELDS.contains(dot < 0 ? field : field.substring(0, dot))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	static String eventType(OperationType operation, Loan loan) {
+		if (operation == OperationType.INSERT) {
+			return LoanLifecycleEvent.Type.CREATED.name();
+		}
+		Loan.LoanAction last = actionOfThisChange(loan);
+		if (last != null && last.getAction() != null) {
+			if (last.getAction().startsWith("STATUS_CHANGE")) {
+				return LoanLifecycleEvent.Type.STATUS_CHANGED.name();
+			}
+			if (last.getAction().equals("DELETED")) {
+				return LoanLifecycleEvent.Type.DELETED.name();
+			}
+		}
+		return LoanLifecycleEvent.Type.UPDATED.name();
+	}
+
+	// The audit entry written together with the change, if the change wrote one
+	private static Loan.LoanAction actionOfThisChange(Loan loan) {
+		List<Loan.LoanAction> actions = loan.getActions();
+		if (actions == null || actions.isEmpty()) {
+			return null;
+		}
+		Loan.LoanAction last = actions.get(actions.size() - 1);
+		return last.getTimestamp() != null && last.getTimestamp().equals(loan.getUpdatedAt()) ? last : null;
+	}
+}
@@ -0,0 +1,427 @@
+package com.banking_system.service;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.banking_system.config.LoanEventsProperties;
+import com.banking_system.model.LoanStatus;
+import com.banking_system.model.dto.LoanEventMessage;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Fans loan lifecycle events out to Server-Sent Events subscribers.
+ *
+ * Events come either from this node's {@link LoanLifecycleEvent}s or, when the loans
+ * change stream is enabled, from {@link LoanChangeStreamListener} (which then sees
+ * every node's writes). Each subscriber gets a bounded queue drained on the
+ * broadcaster's own executor, never the shared task executor, so stalled clients cannot
+ * hold up repricing or index builds. A subscriber that falls a full buffer behind, or
+ * whose send stays blocked past {@code send-timeout}, is disconnected rather than allowed
+ * to hold memory or a thread, and catches up on reconnect.
+ *
+ * The last {@code replayBufferSize} events are retained so a client reconnecting with
+ * {@code Last-Event-ID} resumes without gaps. Without the change stream, ids are
+ * {@code <epoch>-<sequence>} and only resolve on the node and run that issued them. With
+ * it, ids are change stream resume tokens: an id this node has not buffered is read back
+ * from the stream through the {@link ReplaySource}, so a reconnect to another instance
+ * or after a restart also resumes. When the gap cannot be replayed the client gets a
+ * {@code reset} event and should reload through the paginated API.
+ */
+@Service
+public class LoanEventBroadcaster {
+	private static final Logger log = LoggerFactory.getLogger(LoanEventBroadcaster.class);
+
+	static final String RESET = "reset";
+	private static final LoanEventMessage HEARTBEAT =
+			new LoanEventMessage(null, "heartbeat", null, null, null, null, null, null);
+	// At most one drain per subscriber is queued, so this bounds subscribers waiting for a thread
+	private static final int FAN_OUT_QUEUE_CAPACITY = 4096;
+
+	private final LoanEventsProperties props;
+	private final TaskExecutor taskExecutor;
+	private final String epoch = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+
+	private final ReentrantLock lock = new ReentrantLock();
+	private final ArrayDeque<Sequenced> replay;
+	private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+	private long sequence;
+	private volatile ReplaySource replaySource;
+
+	/** Reads back changes that a reconnecting client missed but this node never buffered. */
+	interface ReplaySource {
+		/**
+		 * Events after the one with id {@code eventId}, or null when the id can no longer
+		 * be resumed or more than {@code limit} events followed it.
+		 */
+		List<LoanEventMessage> eventsAfter(String eventId, int limit);
+
+		/** Id of the newest change seen, used for reset events; null before the first change. */
+		String position();
+	}
+
+	@Autowired
+	public LoanEventBroadcaster(LoanEventsProperties props, Environment environment) {
+		this(props, fanOutExecutor(props, environment));
+	}
+
+	LoanEventBroadcaster(LoanEventsProperties props, TaskExecutor taskExecutor) {
+		this.props = props;
+		this.taskExecutor = taskExecutor;
+		this.replay = new ArrayDeque<>(props.replayBufferSize());
+	}
+
+	private static TaskExecutor fanOutExecutor(LoanEventsProperties props, Environment environment) {
+		if (Threading.VIRTUAL.isActive(environment)) {
+			SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("loan-events-");
+			executor.setVirtualThreads(true);
+			return executor;
+		}
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setThreadNamePrefix("loan-events-");
+		executor.setCorePoolSize(Math.max(1, props.fanOutThreads()));
+		executor.setMaxPoolSize(Math.max(1, props.fanOutThreads()));
+		executor.setQueueCapacity(FAN_OUT_QUEUE_CAPACITY);
+		executor.setDaemon(true);
+		executor.initialize();
+		return executor;
+	}
+
+	void useReplaySource(ReplaySource source) {
+		this.replaySource = source;
+	}
+
+	@PreDestroy
+	void close() throws Exception {
+		if (taskExecutor instanceof DisposableBean pool) {
+			pool.destroy();
+		} else if (taskExecutor instanceof AutoCloseable executor) {
+			executor.close();
+		}
+	}
+
+	@EventListener
+	public void onLoanEvent(LoanLifecycleEvent event) {
+		if (props.changeStreamEnabled()) {
+			// The change stream delivers this write (and other nodes' writes) instead
+			return;
+		}
+		publish(
+				event.type().name(),
+				event.loanId(),
+				event.after() != null ? event.after().clientName() : null,
+				event.after() != null ? event.after().status() : null,
+				event.before() != null ? event.before().status() : null,
+				event.actorId(),
+				event.timestamp());
+	}
+
+	public void publish(
+			String type,
+			String loanId,
+			String clientName,
+			LoanStatus status,
+			LoanStatus previousStatus,
+			String actorId,
+			Instant timestamp) {
+		lock.lock();
+		try {
+			append(new LoanEventMessage(
+					epoch + "-" + (sequence + 1), type, loanId, clientName, status, previousStatus, actorId, timestamp));
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/** Publishes a change stream event, whose id is the change's resume token. */
+	public void publishChange(LoanEventMessage message) {
+		lock.lock();
+		try {
+			append(message);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void append(LoanEventMessage message) {
+		long seq = ++sequence;
+		if (replay.size() == props.replayBufferSize()) {
+			replay.pollFirst();
+		}
+		replay.addLast(new Sequenced(seq, message));
+		for (Subscriber subscriber : subscribers) {
+			subscriber.offer(message);
+		}
+	}
+
+	public SseEmitter subscribe(String lastEventId, LoanStatus statusFilter) {
+		return subscribe(new SseEmitter(props.emitterTimeout().toMillis()), lastEventId, statusFilter);
+	}
+
+	SseEmitter subscribe(SseEmitter emitter, String lastEventId, LoanStatus statusFilter) {
+		Subscriber subscriber = new Subscriber(emitter, statusFilter, props.subscriberBufferSize());
+		emitter.onCompletion(subscriber::close);
+		emitter.onTimeout(subscriber::close);
+		emitter.onError(e -> subscriber.close());
+
+		ReplaySource source = replaySource;
+		if (source != null && lastEventId != null && !lastEventId.isBlank()) {
+			resume(subscriber, lastEventId, source);
+			return emitter;
+		}
+		lock.lock();
+		try {
+			if (lastEventId != null && !lastEventId.isBlank()) {
+				List<LoanEventMessage> missed = missedSince(lastEventId);
+				if (missed == null || missed.size() > props.subscriberBufferSize()) {
+					subscriber.offer(resetMessage(epoch + "-" + sequence));
+				} else {
+					missed.forEach(subscriber::offer);
+				}
+			}
+			subscribers.add(subscriber);
+		} finally {
+			lock.unlock();
+		}
+		return emitter;
+	}
+
+	private void resume(Subscriber subscriber, String lastEventId, ReplaySource source) {
+		lock.lock();
+		try {
+			List<LoanEventMessage> buffered = bufferedAfter(lastEventId);
+			if (buffered != null) {
+				if (buffered.size() > props.subscriberBufferSize()) {
+					subscriber.offer(resetMessage(source.position()));
+				} else {
+					buffered.forEach(subscriber::offer);
+				}
+				subscribers.add(subscriber);
+				return;
+			}
+		} finally {
+			lock.unlock();
+		}
+
+		// Issued by another node or an earlier run: read the gap back from the change stream
+		List<LoanEventMessage> missed = source.eventsAfter(lastEventId, props.subscriberBufferSize());
+		lock.lock();
+		try {
+			if (missed == null) {
+				subscriber.offer(resetMessage(source.position()));
+			} else {
+				missed.forEach(subscriber::offer);
+				// Changes published while the stream was read are both in missed and the buffer
+				subscriber.floor = missed.isEmpty() ? lastEventId : missed.get(missed.size() - 1).id();
+				for (Sequenced entry : replay) {
+					subscriber.offer(entry.message());
+				}
+			}
+			subscribers.add(subscriber);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${app.loan-events.heartbeat-interval-ms:15000}")
+	public void heartbeat() {
+		for (Subscriber subscriber : subscribers) {
+			subscriber.offerHeartbeat();
+		}
+	}
+
+	/** Disconnects subscribers whose current send has been blocked for over {@code send-timeout}. */
+	@Scheduled(fixedDelay = 1, timeUnit = TimeUnit.SECONDS)
+	public void abandonStalledSends() {
+		long now = System.nanoTime();
+		long timeoutNanos = props.sendTimeout().toNanos();
+		for (Subscriber subscriber : subscribers) {
+			subscriber.abandonIfStalled(now, timeoutNanos);
+		}
+	}
+
+	public int subscriberCount() {
+		return subscribers.size();
+	}
+
+	/**
+	 * Events after {@code lastEventId}, or null when the id cannot be resolved against
+	 * this node's replay buffer.
+	 */
+	private List<LoanEventMessage> missedSince(String lastEventId) {
+		int dash = lastEventId.lastIndexOf('-');
+		if (dash <= 0 || !lastEventId.substring(0, dash).equals(epoch)) {
+			return null;
+		}
+		long lastSeq;
+		try {
+			lastSeq = Long.parseLong(lastEventId.substring(dash + 1));
+		} catch (NumberFormatException e) {
+			return null;
+		}
+		long oldestRetained = replay.isEmpty() ? sequence + 1 : replay.peekFirst().sequence();
+		if (lastSeq > sequence || lastSeq + 1 < oldestRetained) {
+			return null;
+		}
+		List<LoanEventMessage> missed = new ArrayList<>();
+		for (Sequenced entry : replay) {
+			if (entry.sequence() > lastSeq) {
+				missed.add(entry.message());
+			}
+		}
+		return missed;
+	}
+
+	/** Buffered events after the one with id {@code lastEventId}, or null when it is not buffered. */
+	private List<LoanEventMessage> bufferedAfter(String lastEventId) {
+		List<LoanEventMessage> after = null;
+		for (Sequenced entry : replay) {
+			if (after != null) {
+				after.add(entry.message());
+			} else if (lastEventId.equals(entry.message().id())) {
+				after = new ArrayList<>();
+			}
+		}
+		return after;
+	}
+
+	private static LoanEventMessage resetMessage(String id) {
+		return new LoanEventMessage(id, RESET, null, null, null, null, null, Instant.now());
+	}
+
+	private record Sequenced(long sequence, LoanEventMessage message) {
+	}
+
+	private final class Subscriber {
+		private final SseEmitter emitter;
+		private final LoanStatus statusFilter;
+		private final ArrayBlockingQueue<LoanEventMessage> queue;
+		private final AtomicBoolean draining = new AtomicBoolean();
+		private volatile boolean closed;
+		// Set while a send is in progress, for abandonIfStalled
+		private volatile Thread sender;
+		private volatile long sendStartedNanos;
+		// Resume token this subscriber has already caught up to; guarded by lock
+		private String floor;
+
+		Subscriber(SseEmitter emitter, LoanStatus statusFilter, int capacity) {
+			this.emitter = emitter;
+			this.statusFilter = statusFilter;
+			this.queue = new ArrayBlockingQueue<>(capacity);
+		}
+
+		void offer(LoanEventMessage message) {
+			if (closed) {
+				return;
+			}
+			if (statusFilter != null && message.status() != null
+					&& message.status() != statusFilter && message.previousStatus() != statusFilter) {
+				return;
+			}
+			// Resume tokens order by cluster time, so their hex strings sort in stream order
+			if (floor != null && message.id() != null && message.id().compareTo(floor) <= 0) {
+				return;
+			}
+			if (!queue.offer(message)) {
+				log.info("Disconnecting slow loan event subscriber after {} undelivered events", queue.size());
+				close();
+				emitter.complete();
+				return;
+			}
+			schedule();
+		}
+
+		void offerHeartbeat() {
+			if (!closed && queue.isEmpty() && queue.offer(HEARTBEAT)) {
+				schedule();
+			}
+		}
+
+		private void schedule() {
+			if (draining.compareAndSet(false, true)) {
+				try {
+					taskExecutor.execute(this::drain);
+				} catch (TaskRejectedException e) {
+					log.info("Disconnecting loan event subscriber: all fan-out threads are busy");
+					draining.set(false);
+					close();
+					emitter.complete();
+				}
+			}
+		}
+
+		private void drain() {
+			try {
+				LoanEventMessage message;
+				while (!closed && (message = queue.poll()) != null) {
+					sendStartedNanos = System.nanoTime();
+					sender = Thread.currentThread();
+					if (message == HEARTBEAT) {
+						emitter.send(SseEmitter.event().comment("keepalive"));
+					} else {
+						SseEmitter.SseEventBuilder event = SseEmitter.event()
+								.name(message.type())
+								.data(message, MediaType.APPLICATION_JSON);
+						if (message.id() != null) {
+							event.id(message.id());
+						}
+						emitter.send(event);
+					}
+					sender = null;
+				}
+			} catch (IOException | IllegalStateException e) {
+				close();
+			} finally {
+				sender = null;
+				draining.set(false);
+			}
+			if (!closed && !queue.isEmpty()) {
+				schedule();
+			}
+		}
+
+		void abandonIfStalled(long now, long timeoutNanos) {
+			Thread thread = sender;
+			if (thread != null && now - sendStartedNanos > timeoutNanos) {
+				log.info("Disconnecting loan event subscriber whose send has been blocked for over {}", props.sendTimeout());
+				close();
+				// Unblocks the write where the container allows it; the connector's write timeout ends it otherwise
+				if (sender == thread) {
+					thread.interrupt();
+				}
+			}
+		}
+
+		void close() {
+			closed = true;
+			subscribers.remove(this);
+			queue.clear();
+		}
+	}
+}
@@ -0,0 +1,49 @@
+package com.banking_system.service;
+
+import java.time.Instant;
+
+import com.banking_system.model.Loan;
+import com.banking_system.model.LoanStatus;
+
+/**
+ * Published by {@link LoanService} after every successful write to a loan.
+ * {@code before} is null for creations; both snapshots are taken from the entity
+ * around the mutation so listeners can compute deltas without re-reading the loan.
+ */
+public record LoanLifecycleEvent(
+		Type type,
+		String loanId,
+		LoanSnapshot before,
+		LoanSnapshot after,
+		String actorId,
+		Instant timestamp
+) {
+
+	public enum Type {
+		CREATED,
+		UPDATED,
+		STATUS_CHANGED,
+		DELETED
+	}
+
+	public record LoanSnapshot(
+			String clientName,
+			String loanType,
+			LoanStatus status,
+			String rating,
+			double requestedAmount,
+			double sanctionedAmount,
+			boolean deleted
+	) {
+		public static LoanSnapshot of(Loan loan) {
+			return new LoanSnapshot(
+					loan.getClientName(),
+					loan.getLoanType(),
+					loan.getStatus(),
+					loan.getFinancials() != null ? loan.getFinancials().getRating() : null,
+					loan.getRequestedAmount() != null ? loan.getRequestedAmount() : 0.0,
+					loan.getSanctionedAmount() != null ? loan.getSanctionedAmount() : 0.0,
+					loan.isDeleted());
+		}
+	}
+}
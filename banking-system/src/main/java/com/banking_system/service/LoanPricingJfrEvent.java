@@ -0,0 +1,37 @@
+package com.banking_system.service;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One {@link LoanService#calculatePricing} call, from the loan lookup to the stored
+ * snapshot. {@code outcome} says where the result came from: {@code memo},
+ * {@code snapshot} or {@code computed}, or the simple name of the exception that ended
+ * it. A {@code computed} result also has a nested {@link PricingJfrEvent} for the
+ * calculation itself.
+ */
+@Name("banking.LoanPricing")
+@Label("Loan Pricing Lookup")
+@Category({ "Banking", "Pricing" })
+@Description("Pricing of a stored loan through LoanService.calculatePricing, with the cache outcome")
+@StackTrace(false)
+class LoanPricingJfrEvent extends jdk.jfr.Event {
+
+	@Label("Loan Id")
+	String loanId;
+
+	@Label("Rating")
+	String rating;
+
+	@Label("Loan Type")
+	String loanType;
+
+	@Label("Tenure Months")
+	int tenureMonths;
+
+	@Label("Outcome")
+	String outcome;
+}
@@ -1,38 +1,73 @@
 package com.banking_system.service;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.bson.types.ObjectId;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
 import com.banking_system.exception.LoanEditNotAllowedException;
 import com.banking_system.exception.LoanNotFoundException;
 import com.banking_system.exception.StatusChangeNotAllowedException;
+import com.banking_system.model.ClientNameTokens;
 import com.banking_system.model.Loan;
 import com.banking_system.model.LoanStatus;
+import com.banking_system.model.RepaymentStructure;
 import com.banking_system.model.User;
 import com.banking_system.model.UserRole;
 import com.banking_system.model.dto.ChangeStatusRequest;
 import com.banking_system.model.dto.CreateLoanRequest;
 import com.banking_system.model.dto.LoanResponse;
+import com.banking_system.model.dto.LoanSearchResult;
+import com.banking_system.model.dto.PricingGridRequest;
+import com.banking_system.model.dto.PricingGridResponse;
 import com.banking_system.model.dto.PricingRequest;
 import com.banking_system.model.dto.PricingResponse;
+import com.banking_system.model.dto.RegulatoryPricingResponse;
 import com.banking_system.model.dto.UpdateLoanAdminRequest;
 import com.banking_system.model.dto.UpdateLoanRequest;
 import com.banking_system.repository.LoanRepository;
 
+import io.micrometer.core.annotation.Timed;
+
 @Service
+@Timed("banking.service")
 public class LoanService {
 
+	private static final int MAX_SEARCH_RESULTS = 50;
+	private static final int SEARCH_CANDIDATES_PER_RESULT = 5;
+
 	private final LoanRepository loanRepository;
 	private final PricingService pricingService;
-
-	public LoanService(LoanRepository loanRepository, PricingService pricingService) {
+	private final AmortizationEngine amortizationEngine;
+	private final LoanCache loanCache;
+	private final PricingMemo pricingMemo;
+	private final CreditScoringService creditScoringService;
+	private final ApplicationEventPublisher eventPublisher;
+
+	public LoanService(
+			LoanRepository loanRepository,
+			PricingService pricingService,
+			AmortizationEngine amortizationEngine,
+			LoanCache loanCache,
+			PricingMemo pricingMemo,
+			CreditScoringService creditScoringService,
+			ApplicationEventPublisher eventPublisher) {
 		this.loanRepository = loanRepository;
 		this.pricingService = pricingService;
+		this.amortizationEngine = amortizationEngine;
+		this.loanCache = loanCache;
+		this.pricingMemo = pricingMemo;
+		this.creditScoringService = creditScoringService;
+		this.eventPublisher = eventPublisher;
 	}
 
 	public LoanResponse createLoan(CreateLoanRequest request, User currentUser) {
@@ -58,19 +93,15 @@ public class LoanService {
 				null
 		);
 
+		refreshPricingSnapshot(loan);
 		Loan saved = loanRepository.save(loan);
+		loanCache.put(saved);
+		publish(LoanLifecycleEvent.Type.CREATED, saved, null, currentUser, now);
 		return toResponse(saved);
 	}
 
 	public LoanResponse getLoanById(String loanId) {
-		ObjectId objectId = parseObjectId(loanId);
-		Loan loan = loanRepository.findById(objectId)
-				.orElseThrow(() -> new LoanNotFoundException(loanId));
-
-		if (loan.isDeleted()) {
-			throw new LoanNotFoundException(loanId);
-		}
-
+		Loan loan = findActiveLoanCached(loanId);
 		return toResponse(loan);
 	}
 
@@ -96,38 +127,32 @@ public class LoanService {
 			String loanType,
 			Pageable pageable) {
 		
-		LoanStatus loanStatus = null;
-		if (status != null && !status.isBlank()) {
-			try {
-				loanStatus = LoanStatus.valueOf(status.toUpperCase());
-			} catch (IllegalArgumentException e) {
-				// Invalid status, ignore filter
-			}
-		}
+		LoanStatus loanStatus = statusFilter(status);
+		List<String> nameTerms = ClientNameTokens.queryTerms(clientName);
 
 		boolean hasStatus = loanStatus != null;
-		boolean hasClientName = clientName != null && !clientName.isBlank();
+		boolean hasClientName = !nameTerms.isEmpty();
 		boolean hasLoanType = loanType != null && !loanType.isBlank();
 
 		Page<Loan> loanPage;
 
 		if (hasStatus && hasClientName && hasLoanType) {
-			loanPage = loanRepository.findByDeletedAndStatusAndClientNameContainingIgnoreCaseAndLoanType(
-					includeDeleted, loanStatus, clientName, loanType, pageable);
+			loanPage = loanRepository.findByDeletedAndStatusAndClientNameTokensAllAndLoanType(
+					includeDeleted, loanStatus, nameTerms, loanType, pageable);
 		} else if (hasStatus && hasClientName) {
-			loanPage = loanRepository.findByDeletedAndStatusAndClientNameContainingIgnoreCase(
-					includeDeleted, loanStatus, clientName, pageable);
+			loanPage = loanRepository.findByDeletedAndStatusAndClientNameTokensAll(
+					includeDeleted, loanStatus, nameTerms, pageable);
 		} else if (hasStatus && hasLoanType) {
 			loanPage = loanRepository.findByDeletedAndStatusAndLoanType(
 					includeDeleted, loanStatus, loanType, pageable);
 		} else if (hasClientName && hasLoanType) {
-			loanPage = loanRepository.findByDeletedAndClientNameContainingIgnoreCaseAndLoanType(
-					includeDeleted, clientName, loanType, pageable);
+			loanPage = loanRepository.findByDeletedAndClientNameTokensAllAndLoanType(
+					includeDeleted, nameTerms, loanType, pageable);
 		} else if (hasStatus) {
 			loanPage = loanRepository.findByDeletedAndStatus(includeDeleted, loanStatus, pageable);
 		} else if (hasClientName) {
-			loanPage = loanRepository.findByDeletedAndClientNameContainingIgnoreCase(
-					includeDeleted, clientName, pageable);
+			loanPage = loanRepository.findByDeletedAndClientNameTokensAll(
+					includeDeleted, nameTerms, pageable);
 		} else if (hasLoanType) {
 			loanPage = loanRepository.findByDeletedAndLoanType(includeDeleted, loanType, pageable);
 		} else {
@@ -137,6 +162,76 @@ public class LoanService {
 		return loanPage.map(this::toResponse);
 	}
 
+	/** Status filter of the list endpoints; blank or unknown values mean no filter. */
+	static LoanStatus statusFilter(String status) {
+		if (status == null || status.isBlank()) {
+			return null;
+		}
+		try {
+			return LoanStatus.valueOf(status.toUpperCase());
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Typeahead search on client name. Results are ranked: exact name, then whole-name
+	 * prefix, then word-prefix matches, with shorter names (closer matches) first within
+	 * each band. Since whole-name matches outrank every word-prefix match, they are read
+	 * first from the clientNameNormalized index in name order (the exact name leads), and
+	 * the clientNameTokens index only tops the candidates up when they are too few.
+	 */
+	public List<LoanSearchResult> searchLoans(String query, boolean includeDeleted, int limit) {
+		List<String> terms = ClientNameTokens.queryTerms(query);
+		if (terms.isEmpty()) {
+			return List.of();
+		}
+
+		int resultLimit = Math.max(1, Math.min(limit, MAX_SEARCH_RESULTS));
+		String normalizedQuery = String.join(" ", terms);
+		PageRequest candidatePage = PageRequest.of(0, resultLimit * SEARCH_CANDIDATES_PER_RESULT);
+		List<Loan> candidates = new ArrayList<>(loanRepository.searchByClientNameRange(
+				includeDeleted, normalizedQuery, normalizedQuery + Character.MAX_VALUE, candidatePage));
+		if (candidates.size() < resultLimit) {
+			Set<ObjectId> seen = new HashSet<>();
+			candidates.forEach(loan -> seen.add(loan.getId()));
+			for (Loan loan : loanRepository.searchByClientNameTokens(includeDeleted, terms, candidatePage)) {
+				if (seen.add(loan.getId())) {
+					candidates.add(loan);
+				}
+			}
+		}
+
+		return candidates.stream()
+				.map(loan -> new LoanSearchResult(
+						loan.getId().toHexString(),
+						loan.getClientName(),
+						loan.getLoanType(),
+						loan.getStatus(),
+						loan.getRequestedAmount(),
+						rankClientName(loan.getClientNameNormalized(), normalizedQuery)))
+				.sorted(Comparator.comparingDouble(LoanSearchResult::score).reversed()
+						.thenComparing(LoanSearchResult::clientName, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER)))
+				.limit(resultLimit)
+				.toList();
+	}
+
+	static double rankClientName(String normalizedName, String normalizedQuery) {
+		if (normalizedName == null || normalizedName.isEmpty()) {
+			return 0.0;
+		}
+		double base;
+		if (normalizedName.equals(normalizedQuery)) {
+			base = 3.0;
+		} else if (normalizedName.startsWith(normalizedQuery)) {
+			base = 2.0;
+		} else {
+			base = 1.0;
+		}
+		double coverage = Math.min(1.0, (double) normalizedQuery.length() / normalizedName.length());
+		return Math.round((base + coverage) * 1000.0) / 1000.0;
+	}
+
 	public LoanResponse deleteLoan(String loanId, User currentUser) {
 		ObjectId objectId = parseObjectId(loanId);
 		Loan loan = loanRepository.findById(objectId)
@@ -146,6 +241,7 @@ public class LoanService {
 			throw new LoanNotFoundException(loanId);
 		}
 
+		LoanLifecycleEvent.LoanSnapshot before = LoanLifecycleEvent.LoanSnapshot.of(loan);
 		Instant now = Instant.now();
 		loan.setDeleted(true);
 		loan.setDeletedAt(now);
@@ -162,6 +258,9 @@ public class LoanService {
 		loan.addAction(action);
 
 		Loan savedLoan = loanRepository.save(loan);
+		loanCache.invalidate(savedLoan.getId());
+		pricingMemo.invalidate(savedLoan.getId());
+		publish(LoanLifecycleEvent.Type.DELETED, savedLoan, before, currentUser, now);
 		return toResponse(savedLoan);
 	}
 
@@ -179,6 +278,8 @@ public class LoanService {
 			throw new LoanEditNotAllowedException("USER can only edit loans in DRAFT status");
 		}
 
+		LoanLifecycleEvent.LoanSnapshot before = LoanLifecycleEvent.LoanSnapshot.of(loan);
+
 		// Update non-sensitive fields
 		if (request.clientName() != null) {
 			loan.setClientName(request.clientName());
@@ -201,8 +302,12 @@ public class LoanService {
 
 		loan.setUpdatedBy(currentUser.getId());
 		loan.setUpdatedAt(Instant.now());
+		refreshPricingSnapshot(loan);
 
 		Loan saved = loanRepository.save(loan);
+		loanCache.put(saved);
+		pricingMemo.invalidate(saved.getId());
+		publish(LoanLifecycleEvent.Type.UPDATED, saved, before, currentUser, saved.getUpdatedAt());
 		return toResponse(saved);
 	}
 
@@ -215,6 +320,8 @@ public class LoanService {
 			throw new LoanNotFoundException(loanId);
 		}
 
+		LoanLifecycleEvent.LoanSnapshot before = LoanLifecycleEvent.LoanSnapshot.of(loan);
+
 		// ADMIN can update sensitive fields anytime
 		if (request.sanctionedAmount() != null) {
 			loan.setSanctionedAmount(request.sanctionedAmount());
@@ -227,30 +334,175 @@ public class LoanService {
 		loan.setUpdatedAt(Instant.now());
 
 		Loan saved = loanRepository.save(loan);
+		loanCache.put(saved);
+		pricingMemo.invalidate(saved.getId());
+		publish(LoanLifecycleEvent.Type.UPDATED, saved, before, currentUser, saved.getUpdatedAt());
 		return toResponse(saved);
 	}
 
+	/**
+	 * Returns the loan's pricing, reusing the memoized or persisted result while the
+	 * pricing inputs and rule-table version are unchanged. A freshly computed result is
+	 * written back as the loan's pricing snapshot.
+	 */
 	public PricingResponse calculatePricing(String loanId) {
-		ObjectId objectId = parseObjectId(loanId);
-		Loan loan = loanRepository.findById(objectId)
-				.orElseThrow(() -> new LoanNotFoundException(loanId));
+		LoanPricingJfrEvent event = new LoanPricingJfrEvent();
+		event.loanId = loanId;
+		event.begin();
+		try {
+			return priceLoan(loanId, event);
+		} catch (RuntimeException e) {
+			event.outcome = e.getClass().getSimpleName();
+			throw e;
+		} finally {
+			event.commit();
+		}
+	}
 
-		if (loan.isDeleted()) {
-			throw new LoanNotFoundException(loanId);
+	private PricingResponse priceLoan(String loanId, LoanPricingJfrEvent event) {
+		Loan loan = findActiveLoanCached(loanId);
+		PricingRequest request = pricingRequest(loan);
+		// Read the rules key before pricing, so a concurrent reload can only make the
+		// stored result look stale, never make a stale result look current
+		long inputsHash = PricingMemo.inputsHash(request, pricingService.rulesKey());
+		long rulesVersion = pricingService.rulesVersion();
+
+		event.rating = request.rating();
+		event.loanType = request.loanType();
+		event.tenureMonths = request.tenureMonths() != null ? request.tenureMonths() : 0;
+
+		PricingResponse pricing = pricingMemo.get(loan.getId(), inputsHash);
+		if (pricing != null) {
+			event.outcome = "memo";
+			return pricing;
+		}
+		Loan.PricingSnapshot snapshot = loan.getPricing();
+		if (snapshot != null && snapshot.getInputsHash() == inputsHash) {
+			event.outcome = "snapshot";
+			pricing = toPricingResponse(snapshot);
+		} else {
+			event.outcome = "computed";
+			pricing = pricingService.calculatePricing(request);
+			// loan may be the cached instance other readers hold: persist, then evict
+			snapshot = toSnapshot(pricing, inputsHash, rulesVersion);
+			loanRepository.updatePricingById(loan.getId(), snapshot);
+			loanCache.invalidate(loan.getId());
 		}
+		pricingMemo.put(loan.getId(), inputsHash, pricing);
+		return pricing;
+	}
 
-		String rating = loan.getFinancials() != null ? loan.getFinancials().getRating() : "C";
-		PricingRequest request = new PricingRequest(
+	/**
+	 * Fixed-precision pricing of the loan's current terms for customer-facing quotes.
+	 * Always computed fresh; the memo and stored snapshot hold the double-path result.
+	 */
+	public RegulatoryPricingResponse calculateRegulatoryPricing(String loanId) {
+		Loan loan = findActiveLoanCached(loanId);
+		return pricingService.calculateRegulatoryPricing(pricingRequest(loan));
+	}
+
+	/**
+	 * Prices the loan across the requested rate, tenure and amount axes with one read of
+	 * the loan; omitted axes keep the loan's current value.
+	 */
+	public PricingGridResponse calculatePricingGrid(String loanId, PricingGridRequest request) {
+		Loan loan = findActiveLoanCached(loanId);
+		String rating = effectiveRating(loan);
+		double[] rates = PricingService.gridAxis(
+				request.proposedInterestRate(), loan.getProposedInterestRate(), "proposedInterestRate");
+		int[] tenures = PricingService.tenureAxis(request.tenureMonths(), loan.getTenureMonths());
+		double[] amounts = PricingService.gridAxis(
+				request.requestedAmount(), loan.getRequestedAmount(), "requestedAmount");
+		return pricingService.priceGrid(loanId, rating, loan.getLoanType(), rates, tenures, amounts);
+	}
+
+	/**
+	 * Repayment schedule at the loan's recommended (rating-adjusted) rate. The returned
+	 * cursor is unconsumed; rows are computed as the caller iterates.
+	 */
+	public AmortizationSchedule getAmortizationSchedule(
+			String loanId, RepaymentStructure structure, double balloonPercent, int moratoriumMonths) {
+		Loan loan = findActiveLoanCached(loanId);
+		PricingResponse pricing = pricingService.calculatePricing(pricingRequest(loan));
+		return amortizationEngine.schedule(
+				loan.getRequestedAmount(),
+				pricing.recommendedRate(),
+				loan.getTenureMonths(),
+				structure,
+				balloonPercent,
+				moratoriumMonths);
+	}
+
+	/**
+	 * Rescores the loan and recomputes the stored pricing snapshot from its current inputs
+	 * so list views never show an EMI for terms the loan no longer has.
+	 */
+	private void refreshPricingSnapshot(Loan loan) {
+		loan.setCreditScore(creditScoringService.score(loan));
+		PricingRequest request = pricingRequest(loan);
+		long inputsHash = PricingMemo.inputsHash(request, pricingService.rulesKey());
+		PricingResponse pricing = pricingService.calculatePricing(request);
+		loan.setPricing(toSnapshot(pricing, inputsHash, pricingService.rulesVersion()));
+	}
+
+	static Loan.PricingSnapshot toSnapshot(PricingResponse pricing, long inputsHash, long rulesVersion) {
+		return new Loan.PricingSnapshot(
+				pricing.recommendedRate(),
+				pricing.emi(),
+				pricing.totalInterest(),
+				pricing.riskCategory(),
+				inputsHash,
+				rulesVersion,
+				Instant.now());
+	}
+
+	static PricingResponse toPricingResponse(Loan.PricingSnapshot snapshot) {
+		return new PricingResponse(
+				snapshot.getRecommendedRate(),
+				snapshot.getEmi(),
+				snapshot.getTotalInterest(),
+				snapshot.getRiskCategory());
+	}
+
+	static PricingRequest pricingRequest(Loan loan) {
+		return new PricingRequest(
 				loan.getRequestedAmount(),
 				loan.getProposedInterestRate(),
 				loan.getTenureMonths(),
-				rating
+				effectiveRating(loan),
+				loan.getLoanType()
 		);
+	}
 
-		return pricingService.calculatePricing(request);
+	/**
+	 * The model rating when the loan has been scored, otherwise the rating entered with
+	 * its financials.
+	 */
+	static String effectiveRating(Loan loan) {
+		if (loan.getCreditScore() != null && loan.getCreditScore().getRating() != null) {
+			return loan.getCreditScore().getRating();
+		}
+		return loan.getFinancials() != null ? loan.getFinancials().getRating() : "C";
 	}
 
 	public LoanResponse changeStatus(String loanId, ChangeStatusRequest request, User currentUser) {
+		LoanStatusChangeJfrEvent event = new LoanStatusChangeJfrEvent();
+		event.loanId = loanId;
+		event.requestedStatus = request.status();
+		event.begin();
+		try {
+			LoanResponse response = applyStatusChange(loanId, request, currentUser);
+			event.outcome = "ok";
+			return response;
+		} catch (RuntimeException e) {
+			event.outcome = e.getClass().getSimpleName();
+			throw e;
+		} finally {
+			event.commit();
+		}
+	}
+
+	private LoanResponse applyStatusChange(String loanId, ChangeStatusRequest request, User currentUser) {
 		ObjectId objectId = parseObjectId(loanId);
 		Loan loan = loanRepository.findById(objectId)
 				.orElseThrow(() -> new LoanNotFoundException(loanId));
@@ -283,6 +535,8 @@ public class LoanService {
 		// ADMIN can perform all valid transitions
 
 		// Update status and audit trail
+		LoanLifecycleEvent.LoanSnapshot before = LoanLifecycleEvent.LoanSnapshot.of(loan);
+		LoanStatus previousStatus = loan.getStatus();
 		Instant now = Instant.now();
 		loan.setStatus(newStatus);
 		loan.setUpdatedBy(currentUser.getId());
@@ -295,6 +549,7 @@ public class LoanService {
 				request.comments(),
 				now
 		);
+		action.setFromStatus(previousStatus);
 		loan.addAction(action);
 
 		// If approved, set approval metadata
@@ -304,6 +559,8 @@ public class LoanService {
 		}
 
 		Loan savedLoan = loanRepository.save(loan);
+		loanCache.put(savedLoan);
+		publish(LoanLifecycleEvent.Type.STATUS_CHANGED, savedLoan, before, currentUser, now);
 		return toResponse(savedLoan);
 	}
 
@@ -320,7 +577,7 @@ public class LoanService {
 		};
 	}
 
-	private LoanResponse toResponse(Loan loan) {
+	LoanResponse toResponse(Loan loan) {
 		return new LoanResponse(
 				loan.getId().toHexString(),
 				loan.getClientName(),
@@ -337,10 +594,48 @@ public class LoanService {
 				loan.getApprovedBy() != null ? loan.getApprovedBy().toHexString() : null,
 				loan.getApprovedAt(),
 				loan.getCreatedAt(),
-				loan.getUpdatedAt()
+				loan.getUpdatedAt(),
+				loan.getPricing() != null ? toPricingResponse(loan.getPricing()) : null,
+				loan.getCreditScore()
 		);
 	}
 
+	private void publish(
+			LoanLifecycleEvent.Type type,
+			Loan saved,
+			LoanLifecycleEvent.LoanSnapshot before,
+			User actor,
+			Instant timestamp) {
+		eventPublisher.publishEvent(new LoanLifecycleEvent(
+				type,
+				saved.getId().toHexString(),
+				before,
+				LoanLifecycleEvent.LoanSnapshot.of(saved),
+				actor.getId() != null ? actor.getId().toHexString() : null,
+				timestamp));
+	}
+
+	/**
+	 * Read-path lookup through {@link LoanCache}. Mutating methods read straight from the
+	 * repository so they never modify an instance other readers may be holding.
+	 */
+	private Loan findActiveLoanCached(String loanId) {
+		ObjectId objectId = parseObjectId(loanId);
+		Loan loan = loanCache.getIfPresent(objectId);
+		if (loan == null) {
+			// A write landing during the read must win over the document read here
+			long stamp = loanCache.writeStamp(objectId);
+			loan = loanRepository.findById(objectId)
+					.orElseThrow(() -> new LoanNotFoundException(loanId));
+			loanCache.putIfUnchanged(loan, stamp);
+		}
+
+		if (loan.isDeleted()) {
+			throw new LoanNotFoundException(loanId);
+		}
+		return loan;
+	}
+
 	private ObjectId parseObjectId(String id) {
 		try {
 			return new ObjectId(id);
@@ -0,0 +1,265 @@
+package com.banking_system.service;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import com.banking_system.model.LoanStatsBucket;
+import com.banking_system.model.dto.LoanKpiResponse;
+import com.banking_system.model.dto.LoanStatsConsistencyReport;
+import com.banking_system.model.dto.PortfolioAnalyticsResponse;
+import com.banking_system.model.dto.PortfolioBucket;
+
+import io.micrometer.core.annotation.Timed;
+
+/**
+ * Maintains the {@code loan_stats} materialized summary with $inc upserts driven by
+ * {@link LoanLifecycleEvent}s, so dashboard KPIs are a read of a few small documents
+ * rather than a scan of the loans collection.
+ *
+ * Each event removes the loan's "before" contribution and adds its "after" one, which
+ * covers creation, status changes, amount/type/rating edits and soft deletes alike.
+ * {@link #rebuild()} recomputes the summary from the source collection and
+ * {@link #checkConsistency()} reports any drift between the two.
+ */
+@Service
+@Timed("banking.service")
+public class LoanStatsService {
+	private static final Logger log = LoggerFactory.getLogger(LoanStatsService.class);
+
+	static final String TOTAL = "total";
+	static final String STATUS = "status";
+	static final String LOAN_TYPE = "loanType";
+	static final String RATING = "rating";
+	static final String ALL_KEY = "ALL";
+	static final double AMOUNT_TOLERANCE = 0.01;
+
+	private final MongoTemplate mongoTemplate;
+	private final LoanAnalyticsService loanAnalyticsService;
+
+	public LoanStatsService(MongoTemplate mongoTemplate, LoanAnalyticsService loanAnalyticsService) {
+		this.mongoTemplate = mongoTemplate;
+		this.loanAnalyticsService = loanAnalyticsService;
+	}
+
+	@EventListener
+	public void onLoanEvent(LoanLifecycleEvent event) {
+		Map<String, Delta> deltas = deltas(event.before(), event.after());
+		if (deltas.isEmpty()) {
+			return;
+		}
+		try {
+			BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, LoanStatsBucket.class);
+			Instant timestamp = event.timestamp() != null ? event.timestamp() : Instant.now();
+			for (Map.Entry<String, Delta> entry : deltas.entrySet()) {
+				Delta delta = entry.getValue();
+				bulk.upsert(
+						query(where("_id").is(entry.getKey())),
+						new Update()
+								.inc("count", delta.count())
+								.inc("requestedAmount", delta.requested())
+								.inc("sanctionedAmount", delta.sanctioned())
+								.set("dimension", delta.dimension())
+								.set("key", delta.key())
+								.set("updatedAt", timestamp));
+			}
+			bulk.execute();
+		} catch (RuntimeException e) {
+			// The loan write already succeeded; the summary can be repaired with rebuild()
+			log.error("Failed to update loan_stats for loan {} ({}); run the consistency check",
+					event.loanId(), event.type(), e);
+		}
+	}
+
+	public LoanKpiResponse getKpis() {
+		return toKpis(mongoTemplate.findAll(LoanStatsBucket.class));
+	}
+
+	/**
+	 * Replaces the summary with totals aggregated from the loans collection. Increments
+	 * landing between the aggregation and the replace are lost, so run it when writes
+	 * are quiet and confirm with {@link #checkConsistency()}.
+	 */
+	public LoanKpiResponse rebuild() {
+		List<LoanStatsBucket> buckets = new ArrayList<>(expectedBuckets().values());
+		mongoTemplate.remove(new Query(), LoanStatsBucket.class);
+		if (!buckets.isEmpty()) {
+			mongoTemplate.insertAll(buckets);
+		}
+		log.info("Rebuilt loan_stats with {} buckets", buckets.size());
+		return toKpis(buckets);
+	}
+
+	public LoanStatsConsistencyReport checkConsistency() {
+		Map<String, LoanStatsBucket> expected = expectedBuckets();
+		Map<String, LoanStatsBucket> actual = new LinkedHashMap<>();
+		for (LoanStatsBucket bucket : mongoTemplate.findAll(LoanStatsBucket.class)) {
+			actual.put(bucket.getId(), bucket);
+		}
+
+		List<LoanStatsConsistencyReport.Mismatch> mismatches = new ArrayList<>();
+		for (Map.Entry<String, LoanStatsBucket> entry : expected.entrySet()) {
+			compare(entry.getKey(), entry.getValue(), actual.remove(entry.getKey()), mismatches);
+		}
+		// Buckets decremented to zero stay behind and are fine; anything else is drift
+		for (Map.Entry<String, LoanStatsBucket> entry : actual.entrySet()) {
+			compare(entry.getKey(), null, entry.getValue(), mismatches);
+		}
+
+		return new LoanStatsConsistencyReport(
+				mismatches.isEmpty(),
+				expected.size() + actual.size(),
+				mismatches,
+				Instant.now());
+	}
+
+	static Map<String, Delta> deltas(LoanLifecycleEvent.LoanSnapshot before, LoanLifecycleEvent.LoanSnapshot after) {
+		Map<String, Delta> deltas = new LinkedHashMap<>();
+		if (before != null && !before.deleted()) {
+			contribute(deltas, before, -1);
+		}
+		if (after != null && !after.deleted()) {
+			contribute(deltas, after, 1);
+		}
+		deltas.values().removeIf(Delta::isZero);
+		return deltas;
+	}
+
+	static String bucketId(String dimension, String key) {
+		return dimension + ":" + key;
+	}
+
+	private static void contribute(Map<String, Delta> deltas, LoanLifecycleEvent.LoanSnapshot loan, int sign) {
+		add(deltas, TOTAL, ALL_KEY, loan, sign);
+		add(deltas, STATUS, loan.status() != null ? loan.status().name() : null, loan, sign);
+		add(deltas, LOAN_TYPE, loan.loanType(), loan, sign);
+		add(deltas, RATING, loan.rating(), loan, sign);
+	}
+
+	private static void add(
+			Map<String, Delta> deltas,
+			String dimension,
+			String key,
+			LoanLifecycleEvent.LoanSnapshot loan,
+			int sign) {
+		String bucketKey = key != null ? key : LoanAnalyticsService.UNKNOWN_KEY;
+		Delta contribution = new Delta(
+				dimension, bucketKey, sign, sign * loan.requestedAmount(), sign * loan.sanctionedAmount());
+		deltas.merge(bucketId(dimension, bucketKey), contribution, Delta::plus);
+	}
+
+	private Map<String, LoanStatsBucket> expectedBuckets() {
+		PortfolioAnalyticsResponse source = loanAnalyticsService.getPortfolioAnalytics(null, null);
+		Instant now = Instant.now();
+		Map<String, LoanStatsBucket> buckets = new LinkedHashMap<>();
+		if (source.totalLoans() > 0) {
+			buckets.put(bucketId(TOTAL, ALL_KEY), new LoanStatsBucket(
+					bucketId(TOTAL, ALL_KEY), TOTAL, ALL_KEY, source.totalLoans(),
+					source.totalRequestedExposure(), source.totalSanctionedExposure(), now));
+		}
+		putAll(buckets, STATUS, source.byStatus(), now);
+		putAll(buckets, LOAN_TYPE, source.byLoanType(), now);
+		putAll(buckets, RATING, source.byRating(), now);
+		return buckets;
+	}
+
+	private static void putAll(
+			Map<String, LoanStatsBucket> buckets,
+			String dimension,
+			List<PortfolioBucket> source,
+			Instant now) {
+		for (PortfolioBucket bucket : source) {
+			String id = bucketId(dimension, bucket.key());
+			buckets.put(id, new LoanStatsBucket(
+					id, dimension, bucket.key(), bucket.count(),
+					bucket.requestedExposure(), bucket.sanctionedExposure(), now));
+		}
+	}
+
+	private static void compare(
+			String id,
+			LoanStatsBucket expected,
+			LoanStatsBucket actual,
+			List<LoanStatsConsistencyReport.Mismatch> mismatches) {
+		long expectedCount = expected != null ? expected.getCount() : 0;
+		long actualCount = actual != null ? actual.getCount() : 0;
+		double expectedRequested = expected != null ? expected.getRequestedAmount() : 0.0;
+		double actualRequested = actual != null ? actual.getRequestedAmount() : 0.0;
+		double expectedSanctioned = expected != null ? expected.getSanctionedAmount() : 0.0;
+		double actualSanctioned = actual != null ? actual.getSanctionedAmount() : 0.0;
+
+		if (expectedCount != actualCount
+				|| Math.abs(expectedRequested - actualRequested) > AMOUNT_TOLERANCE
+				|| Math.abs(expectedSanctioned - actualSanctioned) > AMOUNT_TOLERANCE) {
+			mismatches.add(new LoanStatsConsistencyReport.Mismatch(
+					id, expectedCount, actualCount,
+					expectedRequested, actualRequested,
+					expectedSanctioned, actualSanctioned));
+		}
+	}
+
+	private static LoanKpiResponse toKpis(List<LoanStatsBucket> buckets) {
+		LoanStatsBucket total = null;
+		List<PortfolioBucket> byStatus = new ArrayList<>();
+		List<PortfolioBucket> byLoanType = new ArrayList<>();
+		List<PortfolioBucket> byRating = new ArrayList<>();
+		Instant lastUpdatedAt = null;
+
+		for (LoanStatsBucket bucket : buckets) {
+			if (bucket.getUpdatedAt() != null
+					&& (lastUpdatedAt == null || bucket.getUpdatedAt().isAfter(lastUpdatedAt))) {
+				lastUpdatedAt = bucket.getUpdatedAt();
+			}
+			if (bucket.getCount() <= 0) {
+				continue;
+			}
+			PortfolioBucket view = new PortfolioBucket(
+					bucket.getKey(), bucket.getCount(), bucket.getRequestedAmount(), bucket.getSanctionedAmount());
+			switch (bucket.getDimension()) {
+				case TOTAL -> total = bucket;
+				case STATUS -> byStatus.add(view);
+				case LOAN_TYPE -> byLoanType.add(view);
+				case RATING -> byRating.add(view);
+				default -> log.warn("Ignoring unknown loan_stats dimension {}", bucket.getDimension());
+			}
+		}
+
+		byStatus.sort(Comparator.comparing(PortfolioBucket::key));
+		byLoanType.sort(Comparator.comparingLong(PortfolioBucket::count).reversed());
+		byRating.sort(Comparator.comparing(PortfolioBucket::key));
+
+		return new LoanKpiResponse(
+				total != null ? total.getCount() : 0,
+				total != null ? total.getRequestedAmount() : 0.0,
+				total != null ? total.getSanctionedAmount() : 0.0,
+				byStatus,
+				byLoanType,
+				byRating,
+				lastUpdatedAt);
+	}
+
+	record Delta(String dimension, String key, long count, double requested, double sanctioned) {
+		Delta plus(Delta other) {
+			return new Delta(dimension, key, count + other.count, requested + other.requested, sanctioned + other.sanctioned);
+		}
+
+		boolean isZero() {
+			return count == 0 && requested == 0.0 && sanctioned == 0.0;
+		}
+	}
+}
@@ -0,0 +1,28 @@
+package com.banking_system.service;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One {@link LoanService#changeStatus} call, from the loan lookup to the saved loan.
+ * {@code outcome} is {@code ok} or the simple name of the exception that ended it.
+ */
+@Name("banking.LoanStatusChange")
+@Label("Loan Status Change")
+@Category({ "Banking", "Loans" })
+@Description("Loan status transition requested through LoanService.changeStatus")
+@StackTrace(false)
+class LoanStatusChangeJfrEvent extends jdk.jfr.Event {
+
+	@Label("Loan Id")
+	String loanId;
+
+	@Label("Requested Status")
+	String requestedStatus;
+
+	@Label("Outcome")
+	String outcome;
+}
@@ -0,0 +1,60 @@
+package com.banking_system.service;
+
+/**
+ * Column-oriented pricing inputs and results for {@link PricingService#priceBatch}.
+ * Row {@code i} of every array describes the same loan; outputs are rounded as in
+ * {@link PricingService#calculatePricing}.
+ */
+public final class PricingBatch {
+
+	final double[] amounts;
+	final double[] proposedRates;
+	final int[] tenures;
+	final String[] ratings;
+	final String[] loanTypes;
+
+	final double[] recommendedRates;
+	final double[] emis;
+	final double[] totalInterests;
+	final String[] riskCategories;
+
+	public PricingBatch(int size) {
+		this.amounts = new double[size];
+		this.proposedRates = new double[size];
+		this.tenures = new int[size];
+		this.ratings = new String[size];
+		this.loanTypes = new String[size];
+		this.recommendedRates = new double[size];
+		this.emis = new double[size];
+		this.totalInterests = new double[size];
+		this.riskCategories = new String[size];
+	}
+
+	public int size() {
+		return amounts.length;
+	}
+
+	public void set(int row, double amount, double proposedRate, int tenureMonths, String rating, String loanType) {
+		amounts[row] = amount;
+		proposedRates[row] = proposedRate;
+		tenures[row] = tenureMonths;
+		ratings[row] = rating;
+		loanTypes[row] = loanType;
+	}
+
+	public double recommendedRate(int row) {
+		return recommendedRates[row];
+	}
+
+	public double emi(int row) {
+		return emis[row];
+	}
+
+	public double totalInterest(int row) {
+		return totalInterests[row];
+	}
+
+	public String riskCategory(int row) {
+		return riskCategories[row];
+	}
+}
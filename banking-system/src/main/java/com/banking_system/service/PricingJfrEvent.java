@@ -0,0 +1,32 @@
+package com.banking_system.service;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One pricing calculation in {@link PricingService#calculatePricing}, with its inputs.
+ * {@code outcome} is {@code computed}, or the exception's simple name on failure. Lookups
+ * of a stored loan's pricing are recorded separately as {@link LoanPricingJfrEvent}.
+ */
+@Name("banking.Pricing")
+@Label("Pricing Calculation")
+@Category({ "Banking", "Pricing" })
+@Description("Pricing calculation through PricingService.calculatePricing")
+@StackTrace(false)
+class PricingJfrEvent extends jdk.jfr.Event {
+
+	@Label("Rating")
+	String rating;
+
+	@Label("Loan Type")
+	String loanType;
+
+	@Label("Tenure Months")
+	int tenureMonths;
+
+	@Label("Outcome")
+	String outcome;
+}
@@ -0,0 +1,125 @@
+package com.banking_system.service;
+
+import org.bson.types.ObjectId;
+import org.springframework.stereotype.Component;
+
+import com.banking_system.config.PricingMemoProperties;
+import com.banking_system.model.dto.CacheStatsResponse;
+import com.banking_system.model.dto.PricingRequest;
+import com.banking_system.model.dto.PricingResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Per-loan memo of the last {@link PricingResponse}.
+ *
+ * Each entry records the hash of the inputs it was computed from, and a lookup only hits
+ * when the loan's current inputs and rule table hash the same. A stale entry
+ * (edited on another node, or priced before a rule reload) therefore misses instead of
+ * being served; invalidation from the edit paths just frees the slot early.
+ */
+@Component
+public class PricingMemo implements MeterBinder {
+
+	static final String NAME = "pricing";
+	// ObjectId key, entry, response record, boxed doubles and the node overhead
+	static final long ESTIMATED_ENTRY_BYTES = 192;
+
+	private final Cache<ObjectId, Entry> cache;
+	private final boolean enabled;
+	private final long maxEntries;
+
+	public PricingMemo(PricingMemoProperties props) {
+		this.enabled = props.enabled();
+		this.maxEntries = enabled ? props.maxEntries() : 0L;
+		this.cache = Caffeine.newBuilder()
+				.maximumSize(maxEntries)
+				.recordStats()
+				.build();
+	}
+
+	public PricingResponse get(ObjectId loanId, long inputsHash) {
+		Entry entry = cache.getIfPresent(loanId);
+		return entry != null && entry.inputsHash() == inputsHash ? entry.response() : null;
+	}
+
+	public void put(ObjectId loanId, long inputsHash, PricingResponse response) {
+		if (enabled && loanId != null && response != null) {
+			cache.put(loanId, new Entry(inputsHash, response));
+		}
+	}
+
+	public void invalidate(ObjectId loanId) {
+		cache.invalidate(loanId);
+	}
+
+	public void invalidateAll() {
+		cache.invalidateAll();
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		CaffeineCacheMetrics.monitor(registry, cache, NAME);
+	}
+
+	public CacheStatsResponse stats() {
+		CacheStats stats = cache.stats();
+		long entries = cache.estimatedSize();
+		return new CacheStatsResponse(
+				NAME,
+				stats.requestCount(),
+				stats.hitCount(),
+				stats.missCount(),
+				stats.hitRate(),
+				stats.evictionCount(),
+				entries,
+				entries * ESTIMATED_ENTRY_BYTES,
+				maxEntries * ESTIMATED_ENTRY_BYTES);
+	}
+
+	/**
+	 * 64-bit hash of everything that determines a loan's price: amount, proposed rate,
+	 * tenure, rating and loan type (both case-insensitive, as the rule table matches them)
+	 * and the rule table's {@linkplain PricingService#rulesKey() content key}.
+	 */
+	public static long inputsHash(PricingRequest request, long rulesKey) {
+		long h = 0x9E3779B97F4A7C15L;
+		h = mix(h, request.requestedAmount() != null ? Double.doubleToLongBits(request.requestedAmount()) : 1L);
+		h = mix(h, request.proposedInterestRate() != null ? Double.doubleToLongBits(request.proposedInterestRate()) : 1L);
+		h = mix(h, request.tenureMonths() != null ? request.tenureMonths() : -1L);
+		h = mix(h, caseInsensitiveHash(request.rating()));
+		h = mix(h, caseInsensitiveHash(request.loanType()));
+		h = mix(h, rulesKey);
+		return h;
+	}
+
+	static long mix(long h, long value) {
+		// MurmurHash3 fmix64 over the running state
+		long k = h ^ value;
+		k ^= k >>> 33;
+		k *= 0xFF51AFD7ED558CCDL;
+		k ^= k >>> 33;
+		k *= 0xC4CEB9FE1A85EC53L;
+		k ^= k >>> 33;
+		return k + 0x9E3779B97F4A7C15L;
+	}
+
+	private static long caseInsensitiveHash(String value) {
+		if (value == null) {
+			return 0L;
+		}
+		long h = 1125899906842597L;
+		for (int i = 0; i < value.length(); i++) {
+			h = 31 * h + Character.toUpperCase(value.charAt(i));
+		}
+		return h;
+	}
+
+	private record Entry(long inputsHash, PricingResponse response) {
+	}
+}
@@ -0,0 +1,163 @@
+package com.banking_system.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.banking_system.config.PricingRulesProperties;
+import com.banking_system.exception.InvalidPricingRulesException;
+import com.banking_system.model.PricingRule;
+import com.banking_system.model.dto.PricingRulesStatus;
+import com.banking_system.repository.PricingRuleRepository;
+
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Holds the active {@link PricingRuleTable} and replaces it when the rule source changes.
+ *
+ * Readers take the current table with a single volatile read; a reload compiles a new
+ * table off to the side and publishes it with one reference swap, so pricing never
+ * blocks and never sees a half-built grid. A rule set that fails to compile is rejected
+ * and the previous table stays active. Each swap publishes a
+ * {@link PricingRulesChangedEvent}.
+ */
+@Service
+public class PricingRuleEngine implements ApplicationRunner {
+	private static final Logger log = LoggerFactory.getLogger(PricingRuleEngine.class);
+
+	static final String DEFAULT_FILE = "classpath:pricing-rules.json";
+	private static final JsonMapper JSON = JsonMapper.builder().build();
+	private static final TypeReference<List<PricingRule>> RULE_LIST = new TypeReference<>() {
+	};
+
+	private final PricingRulesProperties props;
+	private final PricingRuleRepository pricingRuleRepository;
+	private final ResourceLoader resourceLoader;
+	private final ApplicationEventPublisher eventPublisher;
+	private final AtomicReference<PricingRuleTable> table = new AtomicReference<>(PricingRuleTable.defaults());
+	private final AtomicLong versions = new AtomicLong();
+	// Serializes reloads; a lock rather than a monitor since a reload reads Mongo or a file
+	private final ReentrantLock lock = new ReentrantLock();
+
+	public PricingRuleEngine(
+			PricingRulesProperties props,
+			PricingRuleRepository pricingRuleRepository,
+			ResourceLoader resourceLoader,
+			ApplicationEventPublisher eventPublisher) {
+		this.props = props;
+		this.pricingRuleRepository = pricingRuleRepository;
+		this.resourceLoader = resourceLoader;
+		this.eventPublisher = eventPublisher;
+	}
+
+	public PricingRuleTable current() {
+		return table.get();
+	}
+
+	public long version() {
+		return table.get().version();
+	}
+
+	@Override
+	public void run(ApplicationArguments args) {
+		scheduledReload();
+	}
+
+	@Scheduled(
+			fixedDelayString = "${app.pricing-rules.reload-interval-ms:60000}",
+			initialDelayString = "${app.pricing-rules.reload-interval-ms:60000}")
+	public void scheduledReload() {
+		try {
+			reload();
+		} catch (RuntimeException e) {
+			log.warn("Keeping pricing rules v{}: {}", version(), e.getMessage());
+		}
+	}
+
+	/**
+	 * Reads the configured source and swaps in a new table if the rules changed.
+	 *
+	 * @throws InvalidPricingRulesException when the source cannot be read or compiled
+	 */
+	public PricingRulesStatus reload() {
+		lock.lock();
+		try {
+			String source = sourceName();
+			List<PricingRule> rules;
+			if ("mongo".equalsIgnoreCase(props.source())) {
+				rules = pricingRuleRepository.findAll();
+				if (rules.isEmpty()) {
+					source = file();
+					rules = readFile(source);
+				}
+			} else {
+				rules = readFile(source);
+			}
+
+			PricingRuleTable current = table.get();
+			if (PricingRuleTable.fingerprint(rules).equals(current.fingerprint())) {
+				if (!source.equals(current.source())) {
+					table.set(current.withSource(source));
+				}
+				return status();
+			}
+
+			PricingRuleTable compiled;
+			try {
+				compiled = PricingRuleTable.compile(rules, versions.incrementAndGet(), source);
+			} catch (IllegalArgumentException e) {
+				throw new InvalidPricingRulesException("Pricing rules from " + source + " rejected: " + e.getMessage(), e);
+			}
+			table.set(compiled);
+			log.info("Loaded pricing rules v{} ({} rules, {} cells) from {}",
+					compiled.version(), compiled.ruleCount(), compiled.cellCount(), source);
+			eventPublisher.publishEvent(new PricingRulesChangedEvent(
+					current.version(), compiled.version(), compiled.fingerprint(), source));
+			return status();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public PricingRulesStatus status() {
+		PricingRuleTable current = table.get();
+		return new PricingRulesStatus(
+				current.version(),
+				current.fingerprint(),
+				current.source(),
+				current.ruleCount(),
+				current.cellCount(),
+				current.loadedAt());
+	}
+
+	private String sourceName() {
+		return "mongo".equalsIgnoreCase(props.source()) ? "mongo:pricing_rules" : file();
+	}
+
+	private String file() {
+		return props.file() != null && !props.file().isBlank() ? props.file() : DEFAULT_FILE;
+	}
+
+	private List<PricingRule> readFile(String location) {
+		Resource resource = resourceLoader.getResource(location);
+		try (InputStream in = resource.getInputStream()) {
+			return JSON.readValue(in, RULE_LIST);
+		} catch (IOException | RuntimeException e) {
+			throw new InvalidPricingRulesException("Cannot read pricing rules from " + location + ": " + e.getMessage(), e);
+		}
+	}
+}
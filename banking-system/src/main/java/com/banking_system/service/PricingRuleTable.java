@@ -0,0 +1,323 @@
+package com.banking_system.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.TreeSet;
+
+import com.banking_system.model.PricingRule;
+
+/**
+ * Immutable pricing grid compiled from {@link PricingRule}s into flat arrays indexed by
+ * rating x loan type x tenure band x amount band.
+ *
+ * Rule precedence is resolved once at compile time, so a lookup is two short scans
+ * (ratings and loan types are matched case-insensitively without allocating), two
+ * binary searches over band boundaries and an array read. Ratings and loan types not
+ * named by any rule share a trailing "other" slot matched by wildcard rules.
+ */
+public final class PricingRuleTable {
+
+	private static final String[] NONE = new String[0];
+
+	private final String[] ratings;
+	private final String[] loanTypes;
+	private final int[] tenureBounds;
+	private final double[] amountBounds;
+	private final double[] spreads;
+	private final String[] riskCategories;
+	private final long version;
+	private final String fingerprint;
+	private final long fingerprintKey;
+	private final String source;
+	private final int ruleCount;
+	private final Instant loadedAt;
+
+	private PricingRuleTable(
+			String[] ratings,
+			String[] loanTypes,
+			int[] tenureBounds,
+			double[] amountBounds,
+			double[] spreads,
+			String[] riskCategories,
+			long version,
+			String fingerprint,
+			String source,
+			int ruleCount) {
+		this.ratings = ratings;
+		this.loanTypes = loanTypes;
+		this.tenureBounds = tenureBounds;
+		this.amountBounds = amountBounds;
+		this.spreads = spreads;
+		this.riskCategories = riskCategories;
+		this.version = version;
+		this.fingerprint = fingerprint;
+		this.fingerprintKey = Long.parseUnsignedLong(fingerprint, 16);
+		this.source = source;
+		this.ruleCount = ruleCount;
+		this.loadedAt = Instant.now();
+	}
+
+	/**
+	 * The built-in grid, identical to the bundled {@code pricing-rules.json}: rating A +0%
+	 * (LOW), B +0.5% (MEDIUM), C +1.0% (HIGH), anything else +1.5% (VERY_HIGH).
+	 */
+	public static PricingRuleTable defaults() {
+		return compile(defaultRules(), 0L, "built-in");
+	}
+
+	static List<PricingRule> defaultRules() {
+		return List.of(
+				new PricingRule("A", PricingRule.ANY, 0.0, "LOW"),
+				new PricingRule("B", PricingRule.ANY, 0.5, "MEDIUM"),
+				new PricingRule("C", PricingRule.ANY, 1.0, "HIGH"),
+				new PricingRule(PricingRule.ANY, PricingRule.ANY, 1.5, "VERY_HIGH"));
+	}
+
+	/**
+	 * Compiles {@code rules} into a lookup table.
+	 *
+	 * @throws IllegalArgumentException when a rule is malformed or some combination of
+	 *         rating, loan type, tenure and amount is not covered by any rule
+	 */
+	public static PricingRuleTable compile(List<PricingRule> rules, long version, String source) {
+		if (rules == null || rules.isEmpty()) {
+			throw new IllegalArgumentException("Pricing rule set is empty");
+		}
+		List<String> ratingKeys = new ArrayList<>();
+		List<String> typeKeys = new ArrayList<>();
+		TreeSet<Integer> tenureSet = new TreeSet<>(List.of(0));
+		TreeSet<Double> amountSet = new TreeSet<>(List.of(0.0));
+		for (PricingRule rule : rules) {
+			validate(rule);
+			addKey(ratingKeys, rule.getRating());
+			addKey(typeKeys, rule.getLoanType());
+			addBound(tenureSet, rule.getMinTenureMonths());
+			addBound(tenureSet, rule.getMaxTenureMonths());
+			addBound(amountSet, rule.getMinAmount());
+			addBound(amountSet, rule.getMaxAmount());
+		}
+
+		String[] ratings = ratingKeys.toArray(NONE);
+		String[] loanTypes = typeKeys.toArray(NONE);
+		int[] tenureBounds = tenureSet.stream().mapToInt(Integer::intValue).toArray();
+		double[] amountBounds = amountSet.stream().mapToDouble(Double::doubleValue).toArray();
+
+		int ratingSlots = ratings.length + 1;
+		int typeSlots = loanTypes.length + 1;
+		int cells = ratingSlots * typeSlots * tenureBounds.length * amountBounds.length;
+		double[] spreads = new double[cells];
+		String[] riskCategories = new String[cells];
+
+		int cell = 0;
+		for (int r = 0; r < ratingSlots; r++) {
+			String rating = r < ratings.length ? ratings[r] : null;
+			for (int t = 0; t < typeSlots; t++) {
+				String loanType = t < loanTypes.length ? loanTypes[t] : null;
+				for (int tenure : tenureBounds) {
+					for (double amount : amountBounds) {
+						PricingRule rule = resolve(rules, rating, loanType, tenure, amount);
+						if (rule == null) {
+							throw new IllegalArgumentException("No pricing rule covers rating "
+									+ (rating != null ? rating : "<other>") + ", loan type "
+									+ (loanType != null ? loanType : "<other>") + ", tenure "
+									+ tenure + " months, amount " + amount);
+						}
+						spreads[cell] = rule.getSpread();
+						riskCategories[cell] = rule.getRiskCategory();
+						cell++;
+					}
+				}
+			}
+		}
+		return new PricingRuleTable(ratings, loanTypes, tenureBounds, amountBounds,
+				spreads, riskCategories, version, fingerprint(rules), source, rules.size());
+	}
+
+	/**
+	 * Index of the grid cell for a loan; pass it to {@link #spreadAt} and
+	 * {@link #riskCategoryAt}.
+	 */
+	public int cell(String rating, String loanType, int tenureMonths, double amount) {
+		int r = keyIndex(ratings, rating);
+		int t = keyIndex(loanTypes, loanType);
+		int tb = band(tenureBounds, tenureMonths);
+		int ab = band(amountBounds, amount);
+		return ((r * (loanTypes.length + 1) + t) * tenureBounds.length + tb) * amountBounds.length + ab;
+	}
+
+	public double spreadAt(int cell) {
+		return spreads[cell];
+	}
+
+	public String riskCategoryAt(int cell) {
+		return riskCategories[cell];
+	}
+
+	public long version() {
+		return version;
+	}
+
+	public String fingerprint() {
+		return fingerprint;
+	}
+
+	/**
+	 * The fingerprint as a number. Unlike {@link #version()} it is the same for the same
+	 * rules across restarts and nodes, so it can be persisted alongside priced results.
+	 */
+	public long fingerprintKey() {
+		return fingerprintKey;
+	}
+
+	public String source() {
+		return source;
+	}
+
+	public int ruleCount() {
+		return ruleCount;
+	}
+
+	public int cellCount() {
+		return spreads.length;
+	}
+
+	public Instant loadedAt() {
+		return loadedAt;
+	}
+
+	/** Same grid and version attributed to another source, for a reload that found identical rules. */
+	PricingRuleTable withSource(String newSource) {
+		return new PricingRuleTable(ratings, loanTypes, tenureBounds, amountBounds,
+				spreads, riskCategories, version, fingerprint, newSource, ruleCount);
+	}
+
+	private static int keyIndex(String[] keys, String value) {
+		if (value != null) {
+			for (int i = 0; i < keys.length; i++) {
+				if (keys[i].equalsIgnoreCase(value)) {
+					return i;
+				}
+			}
+		}
+		return keys.length;
+	}
+
+	private static int band(int[] bounds, int value) {
+		int i = Arrays.binarySearch(bounds, value);
+		return i >= 0 ? i : Math.max(0, -i - 2);
+	}
+
+	private static int band(double[] bounds, double value) {
+		int i = Arrays.binarySearch(bounds, value);
+		return i >= 0 ? i : Math.max(0, -i - 2);
+	}
+
+	private static PricingRule resolve(List<PricingRule> rules, String rating, String loanType, int tenure, double amount) {
+		PricingRule best = null;
+		int bestSpecificity = -1;
+		for (PricingRule rule : rules) {
+			if (!matches(rule.getRating(), rating) || !matches(rule.getLoanType(), loanType)) {
+				continue;
+			}
+			if (!within(rule.getMinTenureMonths(), rule.getMaxTenureMonths(), tenure)
+					|| !within(rule.getMinAmount(), rule.getMaxAmount(), amount)) {
+				continue;
+			}
+			int specificity = (isWildcard(rule.getRating()) ? 0 : 8)
+					+ (isWildcard(rule.getLoanType()) ? 0 : 4)
+					+ (rule.getMinTenureMonths() == null && rule.getMaxTenureMonths() == null ? 0 : 2)
+					+ (rule.getMinAmount() == null && rule.getMaxAmount() == null ? 0 : 1);
+			if (specificity > bestSpecificity
+					|| (specificity == bestSpecificity && rule.getPriority() > best.getPriority())) {
+				best = rule;
+				bestSpecificity = specificity;
+			}
+		}
+		return best;
+	}
+
+	private static boolean matches(String ruleKey, String key) {
+		if (isWildcard(ruleKey)) {
+			return true;
+		}
+		return key != null && ruleKey.equalsIgnoreCase(key);
+	}
+
+	private static boolean within(Integer min, Integer max, int value) {
+		return (min == null || value >= min) && (max == null || value < max);
+	}
+
+	private static boolean within(Double min, Double max, double value) {
+		return (min == null || value >= min) && (max == null || value < max);
+	}
+
+	private static boolean isWildcard(String key) {
+		return key == null || key.isBlank() || PricingRule.ANY.equals(key);
+	}
+
+	private static void addKey(List<String> keys, String key) {
+		if (isWildcard(key)) {
+			return;
+		}
+		String normalized = key.trim().toUpperCase();
+		if (!keys.contains(normalized)) {
+			keys.add(normalized);
+		}
+	}
+
+	private static <T extends Comparable<T>> void addBound(TreeSet<T> bounds, T bound) {
+		if (bound != null) {
+			bounds.add(bound);
+		}
+	}
+
+	private static void validate(PricingRule rule) {
+		if (rule.getRiskCategory() == null || rule.getRiskCategory().isBlank()) {
+			throw new IllegalArgumentException("Pricing rule is missing a risk category");
+		}
+		if (!Double.isFinite(rule.getSpread())) {
+			throw new IllegalArgumentException("Pricing rule spread must be a finite number");
+		}
+		if (rule.getMinTenureMonths() != null && rule.getMinTenureMonths() < 0
+				|| rule.getMinAmount() != null && rule.getMinAmount() < 0) {
+			throw new IllegalArgumentException("Pricing rule bounds must not be negative");
+		}
+		if (rule.getMinTenureMonths() != null && rule.getMaxTenureMonths() != null
+				&& rule.getMinTenureMonths() >= rule.getMaxTenureMonths()
+				|| rule.getMinAmount() != null && rule.getMaxAmount() != null
+				&& rule.getMinAmount() >= rule.getMaxAmount()) {
+			throw new IllegalArgumentException("Pricing rule lower bound must be below its upper bound");
+		}
+	}
+
+	/**
+	 * Content hash of the rules in order, used to skip recompiling an unchanged source.
+	 */
+	static String fingerprint(List<PricingRule> rules) {
+		StringBuilder canonical = new StringBuilder();
+		for (PricingRule rule : rules) {
+			canonical.append(rule.getRating()).append('|')
+					.append(rule.getLoanType()).append('|')
+					.append(rule.getMinTenureMonths()).append('|')
+					.append(rule.getMaxTenureMonths()).append('|')
+					.append(rule.getMinAmount()).append('|')
+					.append(rule.getMaxAmount()).append('|')
+					.append(rule.getSpread()).append('|')
+					.append(rule.getRiskCategory()).append('|')
+					.append(rule.getPriority()).append('\n');
+		}
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256")
+					.digest(canonical.toString().getBytes(StandardCharsets.UTF_8));
+			return HexFormat.of().formatHex(digest, 0, 8);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 not available", e);
+		}
+	}
+}
@@ -0,0 +1,13 @@
+package com.banking_system.service;
+
+/**
+ * Published by {@link PricingRuleEngine} after a reload swaps in a rule table with
+ * different content.
+ */
+public record PricingRulesChangedEvent(
+		long previousVersion,
+		long version,
+		String fingerprint,
+		String source
+) {
+}
@@ -1,44 +1,85 @@
 package com.banking_system.service;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import com.banking_system.exception.InvalidPricingGridException;
+import com.banking_system.model.dto.GridRange;
+import com.banking_system.model.dto.PricingGridResponse;
 import com.banking_system.model.dto.PricingRequest;
 import com.banking_system.model.dto.PricingResponse;
+import com.banking_system.model.dto.RegulatoryPricingResponse;
+
+import io.micrometer.core.annotation.Timed;
 
 @Service
+@Timed("banking.service")
 public class PricingService {
 
+	public static final int MAX_GRID_AXIS_POINTS = 500;
+	public static final int MAX_GRID_CELLS = 100_000;
+
+	private final Supplier<PricingRuleTable> rules;
+
+	/**
+	 * Prices against the built-in rule table.
+	 */
+	public PricingService() {
+		PricingRuleTable defaults = PricingRuleTable.defaults();
+		this.rules = () -> defaults;
+	}
+
+	@Autowired
+	public PricingService(PricingRuleEngine pricingRuleEngine) {
+		this.rules = pricingRuleEngine::current;
+	}
+
 	/**
 	 * Simple pricing calculation based on rating and tenure
 	 * Formula: 
-	 * - Base rate adjustment by rating (A=0%, B=+0.5%, C=+1.0%, D=+1.5%)
-	 * - Risk category based on rating
+	 * - Base rate adjustment and risk category from the pricing rule table, keyed by
+	 *   rating, loan type, tenure band and amount band (defaults: A=0%, B=+0.5%, C=+1.0%, D=+1.5%)
 	 * - EMI = P * r * (1+r)^n / ((1+r)^n - 1)
 	 */
 	public PricingResponse calculatePricing(PricingRequest request) {
+		PricingJfrEvent event = new PricingJfrEvent();
+		event.begin();
+		try {
+			PricingResponse response = price(request);
+			event.outcome = "computed";
+			return response;
+		} catch (RuntimeException e) {
+			event.outcome = e.getClass().getSimpleName();
+			throw e;
+		} finally {
+			if (event.shouldCommit()) {
+				event.rating = request.rating();
+				event.loanType = request.loanType();
+				event.tenureMonths = request.tenureMonths() != null ? request.tenureMonths() : 0;
+				event.commit();
+			}
+		}
+	}
+
+	private PricingResponse price(PricingRequest request) {
 		double baseRate = request.proposedInterestRate();
-		String rating = request.rating() != null ? request.rating().toUpperCase() : "C";
+		String rating = request.rating() != null ? request.rating() : "C";
+		double principal = request.requestedAmount();
+		int n = request.tenureMonths();
 
 		// Adjust rate based on rating
-		double rateAdjustment = switch (rating) {
-			case "A" -> 0.0;
-			case "B" -> 0.5;
-			case "C" -> 1.0;
-			default -> 1.5;
-		};
-
-		double recommendedRate = baseRate + rateAdjustment;
-		String riskCategory = switch (rating) {
-			case "A" -> "LOW";
-			case "B" -> "MEDIUM";
-			case "C" -> "HIGH";
-			default -> "VERY_HIGH";
-		};
+		PricingRuleTable table = rules.get();
+		int cell = table.cell(rating, request.loanType(), n, principal);
+		double recommendedRate = baseRate + table.spreadAt(cell);
+		String riskCategory = table.riskCategoryAt(cell);
 
 		// Calculate EMI (Equated Monthly Installment)
-		double principal = request.requestedAmount();
 		double monthlyRate = recommendedRate / 100 / 12;
-		int n = request.tenureMonths();
 
 		double emi = 0.0;
 		double totalInterest = 0.0;
@@ -59,4 +100,231 @@ public class PricingService {
 				riskCategory
 		);
 	}
+
+	/**
+	 * Same rules and formula as {@link #calculatePricing}, computed in decimal by
+	 * {@link DecimalEmi} for figures quoted to the customer. It costs tens of times more
+	 * per loan (see {@code PricingModeBenchmark}), so screening, grids and batch
+	 * repricing stay on the double path.
+	 */
+	public RegulatoryPricingResponse calculateRegulatoryPricing(PricingRequest request) {
+		String rating = request.rating() != null ? request.rating() : "C";
+		int n = request.tenureMonths();
+		BigDecimal principal = BigDecimal.valueOf(request.requestedAmount());
+
+		PricingRuleTable table = rules.get();
+		int cell = table.cell(rating, request.loanType(), n, request.requestedAmount());
+		BigDecimal recommendedRate = BigDecimal.valueOf(request.proposedInterestRate())
+				.add(BigDecimal.valueOf(table.spreadAt(cell)));
+
+		BigDecimal emi = DecimalEmi.emi(principal, recommendedRate, n);
+		BigDecimal totalInterest = DecimalEmi.totalInterest(emi, principal, recommendedRate, n);
+		return new RegulatoryPricingResponse(
+				recommendedRate,
+				emi,
+				totalInterest,
+				principal.add(totalInterest).setScale(DecimalEmi.CENTS, DecimalEmi.ROUNDING),
+				table.riskCategoryAt(cell),
+				DecimalEmi.ROUNDING.name(),
+				table.version());
+	}
+
+	/**
+	 * Prices every combination of {@code rates} x {@code tenures} x {@code amounts} for
+	 * one rating and loan type against a single rule-table snapshot.
+	 *
+	 * EMI is linear in the principal, so for each (rate, tenure) the annuity factor
+	 * {@code r(1+r)^n / ((1+r)^n - 1)} is computed once and reused across amounts; a new
+	 * factor is only needed when an amount band carries a different spread. The distinct
+	 * factors are computed in one {@link EmiKernel} pass as the EMI of a unit principal.
+	 */
+	public PricingGridResponse priceGrid(
+			String loanId, String rating, String loanType, double[] rates, int[] tenures, double[] amounts) {
+		long cells = (long) rates.length * tenures.length * amounts.length;
+		if (cells > MAX_GRID_CELLS) {
+			throw new InvalidPricingGridException("Grid has " + cells + " cells; the maximum is " + MAX_GRID_CELLS);
+		}
+		String resolvedRating = rating != null ? rating : "C";
+		PricingRuleTable table = rules.get();
+
+		int size = (int) cells;
+		double[] recommendedRates = new double[size];
+		double[] emis = new double[size];
+		double[] totalInterests = new double[size];
+		int[] categoryIndex = new int[size];
+		int[] cellFactor = new int[size];
+		List<String> categories = new ArrayList<>();
+
+		// One factor slot per run of equal spreads within a (rate, tenure) row
+		double[] unitPrincipals = new double[size];
+		double[] factorRates = new double[size];
+		int[] factorTenures = new int[size];
+		int factors = 0;
+		int out = 0;
+		for (double rate : rates) {
+			for (int n : tenures) {
+				double cachedSpread = Double.NaN;
+				for (double principal : amounts) {
+					int cell = table.cell(resolvedRating, loanType, n, principal);
+					double spread = table.spreadAt(cell);
+					if (spread != cachedSpread) {
+						cachedSpread = spread;
+						unitPrincipals[factors] = 1.0;
+						factorRates[factors] = rate + spread;
+						factorTenures[factors] = n;
+						factors++;
+					}
+					cellFactor[out] = factors - 1;
+					recommendedRates[out] = rate + spread;
+					categoryIndex[out] = dictionaryIndex(categories, table.riskCategoryAt(cell));
+					out++;
+				}
+			}
+		}
+		double[] factorEmis = new double[factors];
+		EmiKernel.compute(unitPrincipals, factorRates, factorTenures, factorEmis, new double[factors], 0, factors);
+
+		for (int i = 0; i < size; i++) {
+			double principal = amounts[i % amounts.length];
+			int factor = cellFactor[i];
+			double emi = principal * factorEmis[factor];
+			emis[i] = round2(emi);
+			totalInterests[i] = round2(recommendedRates[i] > 0 ? emi * factorTenures[factor] - principal : 0.0);
+			recommendedRates[i] = round2(recommendedRates[i]);
+		}
+
+		return new PricingGridResponse(
+				loanId,
+				resolvedRating,
+				loanType,
+				table.version(),
+				rates,
+				tenures,
+				amounts,
+				recommendedRates,
+				emis,
+				totalInterests,
+				categories,
+				categoryIndex);
+	}
+
+	/**
+	 * Prices every row of {@code batch}: rule lookups per row, then EMI and total interest
+	 * for the whole batch in one {@link EmiKernel} pass.
+	 */
+	public void priceBatch(PricingBatch batch) {
+		priceBatch(batch, 0, batch.size());
+	}
+
+	/**
+	 * Prices rows {@code from} (inclusive) to {@code to} (exclusive) of {@code batch};
+	 * disjoint ranges may be priced concurrently.
+	 */
+	public void priceBatch(PricingBatch batch, int from, int to) {
+		PricingRuleTable table = rules.get();
+		for (int i = from; i < to; i++) {
+			String rating = batch.ratings[i] != null ? batch.ratings[i] : "C";
+			int cell = table.cell(rating, batch.loanTypes[i], batch.tenures[i], batch.amounts[i]);
+			batch.recommendedRates[i] = batch.proposedRates[i] + table.spreadAt(cell);
+			batch.riskCategories[i] = table.riskCategoryAt(cell);
+		}
+		EmiKernel.compute(batch.amounts, batch.recommendedRates, batch.tenures,
+				batch.emis, batch.totalInterests, from, to);
+		for (int i = from; i < to; i++) {
+			batch.recommendedRates[i] = round2(batch.recommendedRates[i]);
+			batch.emis[i] = round2(batch.emis[i]);
+			batch.totalInterests[i] = round2(batch.totalInterests[i]);
+		}
+	}
+
+	/**
+	 * Expands a grid axis to its points, or the single {@code current} value when the
+	 * axis is omitted.
+	 */
+	public static double[] gridAxis(GridRange range, double current, String name) {
+		if (range == null) {
+			return new double[] { current };
+		}
+		if (range.values() != null && !range.values().isEmpty()) {
+			if (range.values().size() > MAX_GRID_AXIS_POINTS) {
+				throw new InvalidPricingGridException(name + " has more than " + MAX_GRID_AXIS_POINTS + " values");
+			}
+			double[] points = new double[range.values().size()];
+			for (int i = 0; i < points.length; i++) {
+				points[i] = requirePositive(range.values().get(i), name);
+			}
+			return points;
+		}
+		double from = requirePositive(range.from(), name + ".from");
+		if (range.to() == null) {
+			return new double[] { from };
+		}
+		double to = requirePositive(range.to(), name + ".to");
+		if (to < from) {
+			throw new InvalidPricingGridException(name + ".to must not be below " + name + ".from");
+		}
+		if (range.step() == null || !(range.step() > 0)) {
+			throw new InvalidPricingGridException(name + ".step is required when " + name + ".to is set");
+		}
+		// Tolerate floating-point drift so 10..12 step 0.25 includes 12
+		long count = (long) Math.floor((to - from) / range.step() + 1e-9) + 1;
+		if (count > MAX_GRID_AXIS_POINTS) {
+			throw new InvalidPricingGridException(name + " has " + count + " points; the maximum is " + MAX_GRID_AXIS_POINTS);
+		}
+		double[] points = new double[(int) count];
+		for (int i = 0; i < points.length; i++) {
+			points[i] = from + i * range.step();
+		}
+		return points;
+	}
+
+	/**
+	 * {@link #gridAxis} for tenures, which must be whole months.
+	 */
+	public static int[] tenureAxis(GridRange range, int current) {
+		double[] points = gridAxis(range, current, "tenureMonths");
+		int[] tenures = new int[points.length];
+		for (int i = 0; i < points.length; i++) {
+			if (points[i] != Math.rint(points[i])) {
+				throw new InvalidPricingGridException("tenureMonths must be whole months: " + points[i]);
+			}
+			tenures[i] = (int) points[i];
+		}
+		return tenures;
+	}
+
+	private static double round2(double value) {
+		return Math.round(value * 100.0) / 100.0;
+	}
+
+	private static int dictionaryIndex(List<String> dictionary, String value) {
+		int index = dictionary.indexOf(value);
+		if (index < 0) {
+			dictionary.add(value);
+			index = dictionary.size() - 1;
+		}
+		return index;
+	}
+
+	private static double requirePositive(Double value, String name) {
+		if (value == null || !(value > 0) || Double.isInfinite(value)) {
+			throw new InvalidPricingGridException(name + " must be a positive number");
+		}
+		return value;
+	}
+
+	/**
+	 * Version of the rule table currently used for pricing; changes whenever a reload
+	 * swaps in different rules.
+	 */
+	public long rulesVersion() {
+		return rules.get().version();
+	}
+
+	/**
+	 * Identifies the content of the active rule table; equal keys price identically.
+	 */
+	public long rulesKey() {
+		return rules.get().fingerprintKey();
+	}
 }
@@ -0,0 +1,105 @@
+package com.banking_system.service;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+
+/**
+ * The shape of a Mongo command: its filter, sort and pipeline with every literal
+ * replaced by {@code "?"}, so two calls of the same repository query share a shape
+ * whatever their arguments, and client names or account numbers never reach the logs.
+ *
+ * Field names, operators and {@code $field} references are kept. Arrays of literals
+ * collapse to {@code ["?"]}, so an {@code $in} of three values and one of thirty match.
+ * Sort and projection specs are kept as they are, since they carry no data.
+ */
+final class QueryShape {
+
+	static final BsonString REDACTED = new BsonString("?");
+
+	// Parts of each command that describe the query, by command name
+	private static final Map<String, Set<String>> QUERY_PARTS = Map.of(
+			"find", Set.of("filter", "sort", "projection"),
+			"aggregate", Set.of("pipeline"),
+			"count", Set.of("query"),
+			"distinct", Set.of("key", "query"),
+			"findAndModify", Set.of("query", "sort"),
+			"update", Set.of("updates"),
+			"delete", Set.of("deletes"));
+
+	// Whose values are specs rather than data
+	private static final Set<String> KEPT = Set.of("sort", "projection", "key", "$sort", "$project", "$group");
+
+	private QueryShape() {
+	}
+
+	static boolean isTracked(String commandName) {
+		return QUERY_PARTS.containsKey(commandName);
+	}
+
+	/**
+	 * Redacted JSON of the command's query parts, or {@code "{}"} for a command that is
+	 * not tracked.
+	 */
+	static String of(String commandName, BsonDocument command) {
+		Set<String> parts = QUERY_PARTS.get(commandName);
+		BsonDocument shape = new BsonDocument();
+		if (parts == null) {
+			return shape.toJson();
+		}
+		for (Map.Entry<String, BsonValue> entry : command.entrySet()) {
+			String key = entry.getKey();
+			if (!parts.contains(key)) {
+				continue;
+			}
+			if ("updates".equals(key) || "deletes".equals(key)) {
+				shape.put("q", statementFilters(entry.getValue()));
+			} else {
+				shape.put(key, KEPT.contains(key) ? entry.getValue() : redact(entry.getValue()));
+			}
+		}
+		return shape.toJson();
+	}
+
+	// Bulk update and delete statements; the first one stands for the batch
+	private static BsonValue statementFilters(BsonValue statements) {
+		if (statements.isArray() && !statements.asArray().isEmpty()) {
+			BsonValue first = statements.asArray().get(0);
+			if (first.isDocument() && first.asDocument().containsKey("q")) {
+				return redact(first.asDocument().get("q"));
+			}
+		}
+		return new BsonDocument();
+	}
+
+	static BsonValue redact(BsonValue value) {
+		if (value.isDocument()) {
+			BsonDocument redacted = new BsonDocument();
+			for (Map.Entry<String, BsonValue> entry : value.asDocument().entrySet()) {
+				redacted.put(entry.getKey(), KEPT.contains(entry.getKey()) ? entry.getValue() : redact(entry.getValue()));
+			}
+			return redacted;
+		}
+		if (value.isArray()) {
+			BsonArray redacted = new BsonArray();
+			boolean literals = false;
+			for (BsonValue element : value.asArray()) {
+				if (element.isDocument() || element.isArray()) {
+					redacted.add(redact(element));
+				} else if (!literals) {
+					redacted.add(redact(element));
+					literals = true;
+				}
+			}
+			return redacted;
+		}
+		if (value.isString() && value.asString().getValue().startsWith("$")) {
+			return value;
+		}
+		return REDACTED;
+	}
+}
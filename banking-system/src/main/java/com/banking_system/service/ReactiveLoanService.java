@@ -0,0 +1,141 @@
+package com.banking_system.service;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import java.util.List;
+
+import org.bson.types.ObjectId;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import com.banking_system.config.ReactiveLoansProperties;
+import com.banking_system.exception.LoanNotFoundException;
+import com.banking_system.model.ClientNameTokens;
+import com.banking_system.model.Loan;
+import com.banking_system.model.LoanStatus;
+import com.banking_system.model.dto.LoanResponse;
+import com.banking_system.repository.ReactiveLoanRepository;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of the read side of {@link LoanService}, on the reactive Mongo
+ * driver. Same filters, cache and response mapping, so both paths return identical bodies.
+ *
+ * Streams request at most {@code app.reactive.prefetch} loans from the cursor ahead of
+ * what the subscriber has asked for, so a slow client slows the cursor down instead of
+ * buffering the collection in memory.
+ */
+@Service
+@ConditionalOnProperty(prefix = "app.reactive", name = "enabled", havingValue = "true")
+public class ReactiveLoanService {
+
+	// Sorts before every generated id
+	private static final ObjectId MIN_ID = new ObjectId("000000000000000000000000");
+
+	private final ReactiveLoanRepository loanRepository;
+	private final ReactiveMongoTemplate mongoTemplate;
+	private final LoanCache loanCache;
+	private final LoanService loanService;
+	private final int prefetch;
+
+	public ReactiveLoanService(
+			ReactiveLoanRepository loanRepository,
+			ReactiveMongoTemplate mongoTemplate,
+			LoanCache loanCache,
+			LoanService loanService,
+			ReactiveLoansProperties props) {
+		this.loanRepository = loanRepository;
+		this.mongoTemplate = mongoTemplate;
+		this.loanCache = loanCache;
+		this.loanService = loanService;
+		this.prefetch = Math.max(1, props.prefetch());
+	}
+
+	public Mono<LoanResponse> getLoanById(String loanId) {
+		return Mono.defer(() -> {
+			ObjectId objectId;
+			try {
+				objectId = new ObjectId(loanId);
+			} catch (IllegalArgumentException e) {
+				return Mono.error(new LoanNotFoundException(loanId));
+			}
+			Loan cached = loanCache.getIfPresent(objectId);
+			Mono<Loan> loan;
+			if (cached != null) {
+				loan = Mono.just(cached);
+			} else {
+				// Same guard as LoanService: a write during the read keeps its own entry
+				long stamp = loanCache.writeStamp(objectId);
+				loan = loanRepository.findById(objectId).doOnNext(l -> loanCache.putIfUnchanged(l, stamp));
+			}
+			return loan
+					.filter(l -> !l.isDeleted())
+					.switchIfEmpty(Mono.error(() -> new LoanNotFoundException(loanId)))
+					.map(loanService::toResponse);
+		});
+	}
+
+	public Flux<LoanResponse> getAllLoans(boolean includeDeleted) {
+		Flux<Loan> loans = includeDeleted ? loanRepository.findAll() : loanRepository.findByDeletedFalse();
+		return loans.limitRate(prefetch).map(loanService::toResponse);
+	}
+
+	/**
+	 * Same filters and {@code deleted} semantics as the paginated
+	 * {@link LoanService#getAllLoans(boolean, String, String, String, Pageable)}.
+	 */
+	public Mono<Page<LoanResponse>> getAllLoans(
+			boolean includeDeleted,
+			String status,
+			String clientName,
+			String loanType,
+			Pageable pageable) {
+		Criteria criteria = where("deleted").is(includeDeleted);
+		LoanStatus loanStatus = LoanService.statusFilter(status);
+		if (loanStatus != null) {
+			criteria = criteria.and("status").is(loanStatus);
+		}
+		List<String> nameTerms = ClientNameTokens.queryTerms(clientName);
+		if (!nameTerms.isEmpty()) {
+			criteria = criteria.and("clientNameTokens").all(nameTerms);
+		}
+		if (loanType != null && !loanType.isBlank()) {
+			criteria = criteria.and("loanType").is(loanType);
+		}
+
+		Mono<List<LoanResponse>> content = mongoTemplate.find(Query.query(criteria).with(pageable), Loan.class)
+				.map(loanService::toResponse)
+				.collectList();
+		Mono<Long> total = mongoTemplate.count(Query.query(criteria), Loan.class);
+		return Mono.zip(content, total)
+				.map(page -> new PageImpl<>(page.getT1(), pageable, page.getT2()));
+	}
+
+	/**
+	 * Every non-deleted loan in {@code _id} order, starting after {@code afterId} when given
+	 * so an interrupted export can resume.
+	 */
+	public Flux<LoanResponse> exportLoans(String afterId) {
+		ObjectId after;
+		if (afterId == null || afterId.isBlank()) {
+			after = MIN_ID;
+		} else {
+			try {
+				after = new ObjectId(afterId);
+			} catch (IllegalArgumentException e) {
+				return Flux.error(new LoanNotFoundException(afterId));
+			}
+		}
+		return loanRepository.streamActiveAfter(after)
+				.limitRate(prefetch)
+				.map(loanService::toResponse);
+	}
+}
@@ -0,0 +1,545 @@
+package com.banking_system.service;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+import java.lang.management.ManagementFactory;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import com.banking_system.config.RepricingProperties;
+import com.banking_system.exception.RepricingJobConflictException;
+import com.banking_system.model.Loan;
+import com.banking_system.model.LoanStatus;
+import com.banking_system.model.RepricingJob;
+import com.banking_system.model.RepricingJobState;
+import com.banking_system.model.dto.PricingRequest;
+import com.banking_system.model.dto.RepricingJobStatus;
+import com.banking_system.model.dto.StartRepricingRequest;
+import com.banking_system.repository.LoanRepository;
+import com.banking_system.repository.RepricingJobRepository;
+import com.mongodb.bulk.BulkWriteResult;
+
+/**
+ * Reprices open loans in the background after a change that affects the whole book,
+ * such as a rule table reload that moves spreads.
+ *
+ * A run streams the affected loans in {@code _id} order, prices each chunk as one
+ * {@link PricingBatch} (split across a small dedicated pool for large chunks) and writes
+ * the chunk back with one unordered bulk update.
+ * Loans whose stored snapshot already matches the current inputs and rules are skipped.
+ * Each write is conditional on the loan's {@code updatedAt}, so a loan edited mid-run
+ * keeps the pricing its edit produced. The checkpoint is saved after every chunk, and a
+ * run cut short by a shutdown resumes after it on the next start. Runs are paced to
+ * {@code max-loans-per-second} so online requests keep their latency.
+ *
+ * With several instances, a job is run only by the node holding its lease (see
+ * {@link RepricingJob}). A node claims a job with a conditional update before running or
+ * retiring it, renews the lease with each checkpoint, and stops if another node has
+ * taken the job over. Jobs held by another node are left alone.
+ */
+@Service
+public class RepricingJobService implements ApplicationRunner {
+	private static final Logger log = LoggerFactory.getLogger(RepricingJobService.class);
+
+	static final List<LoanStatus> OPEN_STATUSES = List.of(LoanStatus.DRAFT, LoanStatus.SUBMITTED, LoanStatus.UNDER_REVIEW);
+	// Smallest possible id, so the first chunk starts at the beginning of the collection
+	static final ObjectId START = new ObjectId(new byte[12]);
+	static final String MANUAL = "manual";
+	// Smallest slice worth handing to another worker
+	static final int MIN_SLICE_ROWS = 256;
+
+	private final LoanRepository loanRepository;
+	private final RepricingJobRepository repricingJobRepository;
+	private final MongoTemplate mongoTemplate;
+	private final PricingService pricingService;
+	private final LoanCache loanCache;
+	private final PricingMemo pricingMemo;
+	private final RepricingProperties props;
+	private final TaskExecutor taskExecutor;
+	// pid@host: a restarted process on the same host may reclaim its own job at once
+	private final String owner = ManagementFactory.getRuntimeMXBean().getName();
+	private final AtomicReference<Run> active = new AtomicReference<>();
+	// Not a monitor: start() counts and saves in Mongo while holding it, which would pin a virtual thread
+	private final ReentrantLock lock = new ReentrantLock();
+
+	public RepricingJobService(
+			LoanRepository loanRepository,
+			RepricingJobRepository repricingJobRepository,
+			MongoTemplate mongoTemplate,
+			PricingService pricingService,
+			LoanCache loanCache,
+			PricingMemo pricingMemo,
+			RepricingProperties props,
+			@Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor) {
+		this.loanRepository = loanRepository;
+		this.repricingJobRepository = repricingJobRepository;
+		this.mongoTemplate = mongoTemplate;
+		this.pricingService = pricingService;
+		this.loanCache = loanCache;
+		this.pricingMemo = pricingMemo;
+		this.props = props;
+		this.taskExecutor = taskExecutor;
+	}
+
+	@Override
+	public void run(ApplicationArguments args) {
+		resumeInterrupted();
+	}
+
+	/**
+	 * Starts a run over the requested statuses.
+	 *
+	 * @throws RepricingJobConflictException when a run is already in progress
+	 */
+	public RepricingJobStatus start(StartRepricingRequest request) {
+		List<LoanStatus> statuses = request != null && request.statuses() != null && !request.statuses().isEmpty()
+				? List.copyOf(new LinkedHashSet<>(request.statuses()))
+				: OPEN_STATUSES;
+		int rate = request != null && request.maxLoansPerSecond() != null
+				? request.maxLoansPerSecond()
+				: props.maxLoansPerSecond();
+		return start(statuses, MANUAL, rate).status;
+	}
+
+	/**
+	 * Asks the running job to stop after its current chunk.
+	 *
+	 * @throws RepricingJobConflictException when no run is in progress
+	 */
+	public RepricingJobStatus cancel() {
+		Run run = active.get();
+		if (run == null) {
+			throw new RepricingJobConflictException("No repricing job is running");
+		}
+		run.cancelled = true;
+		return run.status;
+	}
+
+	/** The running job, or the most recent one when none is running. */
+	public Optional<RepricingJobStatus> status() {
+		Run run = active.get();
+		if (run != null) {
+			return Optional.of(run.status);
+		}
+		return repricingJobRepository.findFirstByOrderByStartedAtDesc()
+				.map(job -> toStatus(job, averageRate(job), null));
+	}
+
+	/**
+	 * Reprices the open book when the rules change. A run already in progress is
+	 * superseded: it stops after its current chunk and a fresh run starts from the
+	 * beginning, since loans it already passed were priced with the old rules.
+	 */
+	@EventListener
+	public void onPricingRulesChanged(PricingRulesChangedEvent event) {
+		if (!props.onRuleChange()) {
+			return;
+		}
+		String trigger = "rules v" + event.version();
+		lock.lock();
+		try {
+			Run run = active.get();
+			if (run != null) {
+				run.supersededBy = trigger;
+				return;
+			}
+		} finally {
+			lock.unlock();
+		}
+		startQuietly(trigger);
+	}
+
+	void resumeInterrupted() {
+		List<RepricingJob> interrupted;
+		try {
+			interrupted = repricingJobRepository.findByStateOrderByStartedAtAsc(RepricingJobState.RUNNING);
+		} catch (RuntimeException e) {
+			log.warn("Cannot check for interrupted repricing jobs: {}", e.getMessage());
+			return;
+		}
+		Run current = active.get();
+		for (int i = 0; i < interrupted.size(); i++) {
+			RepricingJob found = interrupted.get(i);
+			if (current != null && found.getId().equals(current.job.getId())) {
+				continue;
+			}
+			RepricingJob job = claim(found);
+			if (job == null) {
+				log.info("Repricing job {} is held by another node", found.getId());
+				continue;
+			}
+			boolean latest = i == interrupted.size() - 1;
+			if (latest) {
+				job.setTotal(job.getProcessed() + loanRepository.countForRepricing(job.getStatuses(), job.getLastLoanId()));
+			}
+			if (latest && launch(job, props.maxLoansPerSecond()) != null) {
+				log.info("Resuming repricing job {} after loan {}", job.getId(), job.getLastLoanId());
+			} else {
+				retire(job);
+			}
+		}
+	}
+
+	private Run start(List<LoanStatus> statuses, String trigger, int rate) {
+		lock.lock();
+		try {
+			Run running = active.get();
+			if (running != null) {
+				throw new RepricingJobConflictException("Repricing job " + running.job.getId() + " is already running");
+			}
+			// A job left RUNNING by a node whose lease lapsed would block the new one
+			for (RepricingJob found : repricingJobRepository.findByStateOrderByStartedAtAsc(RepricingJobState.RUNNING)) {
+				RepricingJob orphan = claim(found);
+				if (orphan == null) {
+					throw new RepricingJobConflictException("Repricing job " + found.getId() + " is running on another node");
+				}
+				retire(orphan);
+			}
+			Instant now = Instant.now();
+			RepricingJob job = new RepricingJob(statuses, trigger, pricingService.rulesVersion(), now);
+			job.setLastLoanId(START);
+			job.setTotal(loanRepository.countForRepricing(statuses, START));
+			job.setOwner(owner);
+			job.setLeaseUntil(now.plus(props.lease()));
+			try {
+				job = repricingJobRepository.save(job);
+			} catch (DuplicateKeyException e) {
+				throw new RepricingJobConflictException("Another node has just started a repricing job");
+			}
+			log.info("Starting repricing job {} ({}) over {} {} loans", job.getId(), trigger, job.getTotal(), statuses);
+			return launch(job, rate);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void startQuietly(String trigger) {
+		try {
+			start(OPEN_STATUSES, trigger, props.maxLoansPerSecond());
+		} catch (RuntimeException e) {
+			log.warn("Could not start repricing for {}: {}", trigger, e.getMessage());
+		}
+	}
+
+	private Run launch(RepricingJob job, int rate) {
+		lock.lock();
+		try {
+			if (active.get() != null) {
+				return null;
+			}
+			Run run = new Run(job, rate);
+			run.status = toStatus(job, 0.0, null);
+			active.set(run);
+			try {
+				taskExecutor.execute(() -> execute(run));
+			} catch (RuntimeException e) {
+				active.set(null);
+				throw e;
+			}
+			return run;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void execute(Run run) {
+		RepricingJob job = run.job;
+		int chunkSize = Math.max(1, props.chunkSize());
+		ForkJoinPool pool = new ForkJoinPool(parallelism());
+		boolean interrupted = false;
+		try (Stream<Loan> loans = loanRepository.streamForRepricing(job.getStatuses(), job.getLastLoanId())) {
+			Iterator<Loan> iterator = loans.iterator();
+			List<Loan> chunk = new ArrayList<>(chunkSize);
+			while (iterator.hasNext() && !run.stopRequested()) {
+				chunk.add(iterator.next());
+				if (chunk.size() == chunkSize || !iterator.hasNext()) {
+					processChunk(run, chunk, pool);
+					chunk.clear();
+					throttle(run);
+				}
+			}
+			if (run.leaseLost) {
+				log.warn("Repricing job {} was taken over by another node after loan {}", job.getId(), job.getLastLoanId());
+			} else if (run.supersededBy != null) {
+				finish(run, RepricingJobState.CANCELLED, "Superseded by " + run.supersededBy);
+			} else if (run.cancelled) {
+				finish(run, RepricingJobState.CANCELLED, null);
+			} else {
+				finish(run, RepricingJobState.COMPLETED, null);
+			}
+		} catch (InterruptedException e) {
+			// Left RUNNING with its checkpoint, so the next start resumes it
+			Thread.currentThread().interrupt();
+			interrupted = true;
+			log.info("Repricing job {} paused after loan {}", job.getId(), job.getLastLoanId());
+		} catch (RuntimeException e) {
+			log.warn("Repricing job {} failed after loan {}: {}", job.getId(), job.getLastLoanId(), e.getMessage());
+			try {
+				finish(run, RepricingJobState.FAILED, e.getMessage());
+			} catch (RuntimeException saveFailure) {
+				log.warn("Could not record failure of repricing job {}: {}", job.getId(), saveFailure.getMessage());
+			}
+		} finally {
+			pool.shutdown();
+		}
+
+		String next;
+		lock.lock();
+		try {
+			active.compareAndSet(run, null);
+			next = interrupted || run.leaseLost ? null : run.supersededBy;
+		} finally {
+			lock.unlock();
+		}
+		if (next != null) {
+			startQuietly(next);
+		}
+	}
+
+	private void processChunk(Run run, List<Loan> chunk, ForkJoinPool pool) throws InterruptedException {
+		long rulesKey = pricingService.rulesKey();
+		long rulesVersion = pricingService.rulesVersion();
+		RepricingJob job = run.job;
+		int n = chunk.size();
+
+		// Collect the loans whose stored snapshot is stale into one columnar batch
+		PricingBatch batch = new PricingBatch(n);
+		int[] rows = new int[n];
+		long[] hashes = new long[n];
+		int stale = 0;
+		for (int i = 0; i < n; i++) {
+			Loan loan = chunk.get(i);
+			PricingRequest request = LoanService.pricingRequest(loan);
+			long inputsHash = PricingMemo.inputsHash(request, rulesKey);
+			if (loan.getPricing() != null && loan.getPricing().getInputsHash() == inputsHash) {
+				job.setUnchanged(job.getUnchanged() + 1);
+			} else if (!priceable(request)) {
+				job.setFailed(job.getFailed() + 1);
+			} else {
+				batch.set(stale, request.requestedAmount(), request.proposedInterestRate(), request.tenureMonths(),
+						request.rating(), request.loanType());
+				rows[stale] = i;
+				hashes[stale] = inputsHash;
+				stale++;
+			}
+		}
+		priceInSlices(batch, stale, pool);
+
+		if (stale > 0) {
+			Instant pricedAt = Instant.now();
+			BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Loan.class);
+			for (int j = 0; j < stale; j++) {
+				Loan loan = chunk.get(rows[j]);
+				Loan.PricingSnapshot snapshot = new Loan.PricingSnapshot(
+						batch.recommendedRate(j), batch.emi(j), batch.totalInterest(j), batch.riskCategory(j),
+						hashes[j], rulesVersion, pricedAt);
+				bulk.updateOne(
+						query(where("_id").is(loan.getId()).and("updatedAt").is(loan.getUpdatedAt())),
+						new Update().set("pricing", snapshot));
+			}
+			BulkWriteResult result = bulk.execute();
+			int matched = result.getMatchedCount();
+			job.setRepriced(job.getRepriced() + matched);
+			job.setConflicts(job.getConflicts() + stale - matched);
+			for (int j = 0; j < stale; j++) {
+				ObjectId id = chunk.get(rows[j]).getId();
+				loanCache.invalidate(id);
+				pricingMemo.invalidate(id);
+			}
+		}
+
+		job.setProcessed(job.getProcessed() + n);
+		job.setLastLoanId(chunk.get(n - 1).getId());
+		job.setRulesVersion(rulesVersion);
+		Instant now = Instant.now();
+		job.setUpdatedAt(now);
+		job.setLeaseUntil(now.plus(props.lease()));
+		run.leaseLost = !checkpoint(job);
+		publishProgress(run);
+	}
+
+	/** Prices the first {@code rows} rows, split across the pool when there are enough. */
+	private void priceInSlices(PricingBatch batch, int rows, ForkJoinPool pool) throws InterruptedException {
+		int slices = Math.min(pool.getParallelism(), rows / MIN_SLICE_ROWS);
+		if (slices <= 1) {
+			pricingService.priceBatch(batch, 0, rows);
+			return;
+		}
+		try {
+			pool.submit(() -> IntStream.range(0, slices).parallel().forEach(s ->
+					pricingService.priceBatch(batch, s * rows / slices, (s + 1) * rows / slices))).get();
+		} catch (ExecutionException e) {
+			throw new IllegalStateException("Repricing chunk failed", e.getCause());
+		}
+	}
+
+	private static boolean priceable(PricingRequest request) {
+		return request.requestedAmount() != null
+				&& request.proposedInterestRate() != null
+				&& request.tenureMonths() != null
+				&& request.tenureMonths() > 0;
+	}
+
+	private void throttle(Run run) throws InterruptedException {
+		if (run.rate <= 0) {
+			return;
+		}
+		long dueNanos = run.processedThisRun() * 1_000_000_000L / run.rate;
+		long aheadNanos = dueNanos - (System.nanoTime() - run.startedNanos);
+		if (aheadNanos > 0) {
+			TimeUnit.NANOSECONDS.sleep(aheadNanos);
+		}
+	}
+
+	private void finish(Run run, RepricingJobState state, String error) {
+		RepricingJob job = run.job;
+		Instant now = Instant.now();
+		job.setState(state);
+		job.setError(error);
+		job.setUpdatedAt(now);
+		job.setFinishedAt(now);
+		if (!checkpoint(job)) {
+			log.warn("Repricing job {} was taken over by another node before it could be marked {}", job.getId(), state);
+			return;
+		}
+		publishProgress(run);
+		log.info("Repricing job {} {}: {} processed, {} repriced, {} unchanged, {} conflicts, {} failed",
+				job.getId(), state, job.getProcessed(), job.getRepriced(), job.getUnchanged(),
+				job.getConflicts(), job.getFailed());
+	}
+
+	private void publishProgress(Run run) {
+		double seconds = (System.nanoTime() - run.startedNanos) / 1e9;
+		double rate = seconds > 0 ? run.processedThisRun() / seconds : 0.0;
+		Long eta = null;
+		if (run.job.getState() == RepricingJobState.RUNNING && rate > 0) {
+			eta = (long) Math.ceil(Math.max(0, run.job.getTotal() - run.job.getProcessed()) / rate);
+		}
+		run.status = toStatus(run.job, rate, eta);
+	}
+
+	/**
+	 * Takes a running job for this node, if no other node holds a live lease on it.
+	 *
+	 * @return the claimed job as stored, or null when another node holds it or it has ended
+	 */
+	private RepricingJob claim(RepricingJob job) {
+		Instant now = Instant.now();
+		return mongoTemplate.findAndModify(
+				query(where("_id").is(job.getId()).and("state").is(RepricingJobState.RUNNING)
+						.orOperator(where("owner").is(owner), where("leaseUntil").is(null), where("leaseUntil").lt(now))),
+				new Update().set("owner", owner).set("leaseUntil", now.plus(props.lease())),
+				FindAndModifyOptions.options().returnNew(true),
+				RepricingJob.class);
+	}
+
+	// Saves the job only while this node still owns it
+	private boolean checkpoint(RepricingJob job) {
+		return mongoTemplate.findAndReplace(
+				query(where("_id").is(job.getId()).and("owner").is(owner)), job) != null;
+	}
+
+	private void retire(RepricingJob job) {
+		Instant now = Instant.now();
+		job.setState(RepricingJobState.CANCELLED);
+		job.setError("Superseded by a newer repricing run");
+		job.setUpdatedAt(now);
+		job.setFinishedAt(now);
+		checkpoint(job);
+	}
+
+	private int parallelism() {
+		return props.parallelism() > 0
+				? props.parallelism()
+				: Math.max(1, Runtime.getRuntime().availableProcessors() / 4);
+	}
+
+	private static double averageRate(RepricingJob job) {
+		Instant end = job.getFinishedAt() != null ? job.getFinishedAt() : job.getUpdatedAt();
+		if (end == null || job.getStartedAt() == null) {
+			return 0.0;
+		}
+		double seconds = (end.toEpochMilli() - job.getStartedAt().toEpochMilli()) / 1000.0;
+		return seconds > 0 ? job.getProcessed() / seconds : 0.0;
+	}
+
+	private static RepricingJobStatus toStatus(RepricingJob job, double loansPerSecond, Long etaSeconds) {
+		double percent = job.getTotal() > 0
+				? Math.min(100.0, job.getProcessed() * 100.0 / job.getTotal())
+				: (job.getState() == RepricingJobState.RUNNING ? 0.0 : 100.0);
+		return new RepricingJobStatus(
+				job.getId() != null ? job.getId().toHexString() : null,
+				job.getState(),
+				job.getStatuses(),
+				job.getTrigger(),
+				job.getRulesVersion(),
+				job.getTotal(),
+				job.getProcessed(),
+				job.getRepriced(),
+				job.getUnchanged(),
+				job.getConflicts(),
+				job.getFailed(),
+				Math.round(percent * 10.0) / 10.0,
+				Math.round(loansPerSecond * 10.0) / 10.0,
+				etaSeconds,
+				job.getLastLoanId() != null && !START.equals(job.getLastLoanId()) ? job.getLastLoanId().toHexString() : null,
+				job.getStartedAt(),
+				job.getUpdatedAt(),
+				job.getFinishedAt(),
+				job.getError());
+	}
+
+	private static final class Run {
+		final RepricingJob job;
+		final int rate;
+		final long startedNanos = System.nanoTime();
+		final long processedAtStart;
+		volatile boolean cancelled;
+		volatile String supersededBy;
+		// Worker thread only: another node took the job over after our lease lapsed
+		boolean leaseLost;
+		volatile RepricingJobStatus status;
+
+		Run(RepricingJob job, int rate) {
+			this.job = job;
+			this.rate = rate;
+			this.processedAtStart = job.getProcessed();
+		}
+
+		boolean stopRequested() {
+			return cancelled || supersededBy != null || leaseLost;
+		}
+
+		// Worker thread only
+		long processedThisRun() {
+			return job.getProcessed() - processedAtStart;
+		}
+	}
+}
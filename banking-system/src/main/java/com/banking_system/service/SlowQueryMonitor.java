@@ -0,0 +1,275 @@
+package com.banking_system.service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Service;
+
+import com.banking_system.config.MongoProfilingProperties;
+import com.banking_system.model.dto.SlowQueryEntry;
+import com.banking_system.model.dto.SlowQueryReport;
+import com.banking_system.repository.RepositoryCallTracker;
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+
+/**
+ * Mongo command listener that times every query and write by its {@link QueryShape}
+ * and by the repository method that issued it (see {@link RepositoryCallTracker}).
+ *
+ * Timings are kept per shape over a rolling window: the current window and the one
+ * before it, so the table always covers between one and two windows of traffic. The
+ * number of distinct shapes per window is capped; commands of shapes beyond the cap
+ * are only counted.
+ *
+ * The first time a shape goes over {@code slow-threshold} in a window, its command is
+ * explained with {@code executionStats} on the task executor, and the plan, documents
+ * examined and keys examined are logged and kept in the table. Later slow runs of the
+ * same shape in the window are logged at debug. Only reads (find, aggregate, count,
+ * distinct) are explained; writes are timed but not explained.
+ */
+@Service
+public class SlowQueryMonitor implements CommandListener {
+	private static final Logger log = LoggerFactory.getLogger(SlowQueryMonitor.class);
+
+	private static final Set<String> EXPLAINABLE = Set.of("find", "aggregate", "count", "distinct");
+	// Command fields an explain needs; session, read concern and cluster time are dropped
+	private static final Set<String> EXPLAIN_FIELDS = Set.of(
+			"find", "aggregate", "count", "distinct", "filter", "sort", "projection", "limit", "skip",
+			"hint", "collation", "pipeline", "cursor", "query", "key");
+
+	private final MongoProfilingProperties props;
+	private final long slowNanos;
+	private final ObjectProvider<MongoTemplate> mongoTemplates;
+	private final TaskExecutor taskExecutor;
+	// Started commands by driver request id, until they succeed or fail
+	private final Map<Integer, Pending> pending = new ConcurrentHashMap<>();
+	private final AtomicReference<Window> current = new AtomicReference<>(new Window(Instant.now()));
+	private volatile Window previous;
+
+	// MongoTemplate is looked up lazily: the client it sits on is built with this listener
+	public SlowQueryMonitor(
+			MongoProfilingProperties props,
+			ObjectProvider<MongoTemplate> mongoTemplates,
+			@Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor) {
+		this.props = props;
+		this.slowNanos = props.slowThreshold().toNanos();
+		this.mongoTemplates = mongoTemplates;
+		this.taskExecutor = taskExecutor;
+	}
+
+	@Override
+	public void commandStarted(CommandStartedEvent event) {
+		String commandName = event.getCommandName();
+		if (!QueryShape.isTracked(commandName)) {
+			return;
+		}
+		BsonDocument command = event.getCommand();
+		BsonValue collection = command.get(commandName);
+		String namespace = collection != null && collection.isString()
+				? event.getDatabaseName() + "." + collection.asString().getValue()
+				: event.getDatabaseName();
+		BsonDocument explainable = props.explainSlow() && EXPLAINABLE.contains(commandName)
+				? explainable(command)
+				: null;
+		pending.put(event.getRequestId(), new Pending(
+				new Key(RepositoryCallTracker.current(), commandName, namespace, QueryShape.of(commandName, command)),
+				explainable));
+	}
+
+	@Override
+	public void commandSucceeded(CommandSucceededEvent event) {
+		Pending started = pending.remove(event.getRequestId());
+		if (started != null) {
+			record(started.key(), event.getElapsedTime(TimeUnit.NANOSECONDS), false, started.explainable());
+		}
+	}
+
+	@Override
+	public void commandFailed(CommandFailedEvent event) {
+		Pending started = pending.remove(event.getRequestId());
+		if (started != null) {
+			record(started.key(), event.getElapsedTime(TimeUnit.NANOSECONDS), true, started.explainable());
+		}
+	}
+
+	void record(Key key, long nanos, boolean failed, BsonDocument explainable) {
+		Window window = window(Instant.now());
+		ShapeStats stats = window.stats.get(key);
+		if (stats == null) {
+			if (window.stats.size() >= props.maxShapes()) {
+				window.untracked.increment();
+				return;
+			}
+			stats = window.stats.computeIfAbsent(key, k -> new ShapeStats());
+		}
+		stats.count.increment();
+		stats.totalNanos.add(nanos);
+		stats.maxNanos.accumulate(nanos);
+		if (failed) {
+			stats.failures.increment();
+		}
+		if (nanos < slowNanos) {
+			return;
+		}
+		stats.slowCount.increment();
+		stats.lastSlowAt = Instant.now();
+		if (!stats.reported.compareAndSet(false, true)) {
+			log.debug("Slow query on {} from {} took {} ms: {}", key.namespace(), key.repositoryMethod(), millis(nanos), key.shape());
+			return;
+		}
+		if (explainable == null) {
+			log.warn("Slow query on {} from {} took {} ms: {}", key.namespace(), key.repositoryMethod(), millis(nanos), key.shape());
+			return;
+		}
+		ShapeStats explained = stats;
+		taskExecutor.execute(() -> explain(key, nanos, explainable, explained));
+	}
+
+	public SlowQueryReport report() {
+		Window now = current.get();
+		Window before = previous;
+		Map<Key, SlowQueryEntry> merged = new HashMap<>();
+		if (before != null) {
+			before.stats.forEach((key, stats) -> merged.put(key, toEntry(key, stats, null)));
+		}
+		now.stats.forEach((key, stats) -> merged.put(key, toEntry(key, stats, merged.get(key))));
+
+		List<SlowQueryEntry> top = new ArrayList<>(merged.values());
+		top.sort(Comparator.comparingDouble(SlowQueryEntry::maxMillis).reversed());
+		long untracked = now.untracked.sum() + (before != null ? before.untracked.sum() : 0);
+		return new SlowQueryReport(
+				props.enabled(),
+				before != null ? before.start : now.start,
+				props.slowThreshold().toMillis(),
+				untracked,
+				top.size() > props.topN() ? List.copyOf(top.subList(0, props.topN())) : top);
+	}
+
+	public void reset() {
+		previous = null;
+		current.set(new Window(Instant.now()));
+	}
+
+	private Window window(Instant now) {
+		Window window = current.get();
+		if (now.isBefore(window.start.plus(props.window()))) {
+			return window;
+		}
+		Window next = new Window(now);
+		if (current.compareAndSet(window, next)) {
+			previous = window;
+			return next;
+		}
+		return current.get();
+	}
+
+	private void explain(Key key, long nanos, BsonDocument explainable, ShapeStats stats) {
+		MongoTemplate mongoTemplate = mongoTemplates.getIfAvailable();
+		if (mongoTemplate == null) {
+			return;
+		}
+		String database = key.namespace().contains(".")
+				? key.namespace().substring(0, key.namespace().indexOf('.'))
+				: key.namespace();
+		try {
+			Document result = mongoTemplate.getMongoDatabaseFactory().getMongoDatabase(database).runCommand(
+					new BsonDocument("explain", explainable).append("verbosity", new BsonString("executionStats")));
+			ExplainPlan plan = ExplainPlan.of(result);
+			stats.plan = plan;
+			log.warn("Slow query on {} from {} took {} ms: {} plan={} docsExamined={} keysExamined={}",
+					key.namespace(), key.repositoryMethod(), millis(nanos), key.shape(),
+					plan.summary(), plan.docsExamined(), plan.keysExamined());
+		} catch (RuntimeException e) {
+			log.warn("Slow query on {} from {} took {} ms: {} (explain failed: {})",
+					key.namespace(), key.repositoryMethod(), millis(nanos), key.shape(), e.getMessage());
+		}
+	}
+
+	private static BsonDocument explainable(BsonDocument command) {
+		BsonDocument body = new BsonDocument();
+		for (Map.Entry<String, BsonValue> entry : command.entrySet()) {
+			if (EXPLAIN_FIELDS.contains(entry.getKey())) {
+				body.put(entry.getKey(), entry.getValue());
+			}
+		}
+		// The event's document is only valid during the callback
+		return body.clone();
+	}
+
+	private static SlowQueryEntry toEntry(Key key, ShapeStats stats, SlowQueryEntry earlier) {
+		long count = stats.count.sum() + (earlier != null ? earlier.count() : 0);
+		double totalMillis = millis(stats.totalNanos.sum()) + (earlier != null ? earlier.meanMillis() * earlier.count() : 0);
+		double maxMillis = Math.max(millis(stats.maxNanos.get()), earlier != null ? earlier.maxMillis() : 0);
+		ExplainPlan plan = stats.plan;
+		Instant lastSlowAt = stats.lastSlowAt != null ? stats.lastSlowAt : earlier != null ? earlier.lastSlowAt() : null;
+		return new SlowQueryEntry(
+				key.repositoryMethod(),
+				key.command(),
+				key.namespace(),
+				key.shape(),
+				count,
+				stats.slowCount.sum() + (earlier != null ? earlier.slowCount() : 0),
+				stats.failures.sum() + (earlier != null ? earlier.failures() : 0),
+				count > 0 ? totalMillis / count : 0,
+				maxMillis,
+				lastSlowAt,
+				plan != null ? plan.summary() : earlier != null ? earlier.plan() : null,
+				plan != null ? plan.docsExamined() : earlier != null ? earlier.docsExamined() : null,
+				plan != null ? plan.keysExamined() : earlier != null ? earlier.keysExamined() : null);
+	}
+
+	private static double millis(long nanos) {
+		return nanos / 1_000_000.0;
+	}
+
+	record Key(String repositoryMethod, String command, String namespace, String shape) {
+	}
+
+	private record Pending(Key key, BsonDocument explainable) {
+	}
+
+	private static final class ShapeStats {
+		final LongAdder count = new LongAdder();
+		final LongAdder slowCount = new LongAdder();
+		final LongAdder failures = new LongAdder();
+		final LongAdder totalNanos = new LongAdder();
+		final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+		// Set by the first slow run in the window, which logs and explains the shape
+		final AtomicBoolean reported = new AtomicBoolean();
+		volatile Instant lastSlowAt;
+		volatile ExplainPlan plan;
+	}
+
+	private static final class Window {
+		final Instant start;
+		final Map<Key, ShapeStats> stats = new ConcurrentHashMap<>();
+		final LongAdder untracked = new LongAdder();
+
+		Window(Instant start) {
+			this.start = start;
+		}
+	}
+}
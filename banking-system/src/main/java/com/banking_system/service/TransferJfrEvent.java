@@ -0,0 +1,28 @@
+package com.banking_system.service;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One {@link AccountServiceImpl#transfer} call, including the transaction record.
+ * {@code outcome} is {@code ok} or the simple name of the exception that ended it.
+ */
+@Name("banking.Transfer")
+@Label("Account Transfer")
+@Category({ "Banking", "Accounts" })
+@Description("Transfer between two accounts through AccountServiceImpl.transfer")
+@StackTrace(false)
+class TransferJfrEvent extends jdk.jfr.Event {
+
+	@Label("Source Account")
+	String sourceAccount;
+
+	@Label("Destination Account")
+	String destinationAccount;
+
+	@Label("Outcome")
+	String outcome;
+}
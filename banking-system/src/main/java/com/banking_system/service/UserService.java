@@ -15,7 +15,10 @@ import com.banking_system.model.dto.UpdateUserStatusRequest;
 import com.banking_system.model.dto.UserResponse;
 import com.banking_system.repository.UserRepository;
 
+import io.micrometer.core.annotation.Timed;
+
 @Service
+@Timed("banking.service")
 public class UserService {
 
 	private final UserRepository userRepository;
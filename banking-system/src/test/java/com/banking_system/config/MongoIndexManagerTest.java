@@ -0,0 +1,88 @@
+package com.banking_system.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+
+import com.banking_system.repository.InMemoryMongoRepository;
+import com.mongodb.client.MongoDatabase;
+
+class MongoIndexManagerTest {
+
+	private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+	private final MongoDatabase db = mock(MongoDatabase.class);
+
+	private MongoIndexManager manager(boolean create, boolean verify) {
+		return new MongoIndexManager(mongoTemplate, new IndexManagementProperties(create, verify), Runnable::run);
+	}
+
+	@Test
+	void createIndexes_createsEveryDeclaredIndex() {
+		when(mongoTemplate.getConverter()).thenReturn(InMemoryMongoRepository.standaloneConverter());
+		List<String> created = new ArrayList<>();
+		IndexOperations indexOps = mock(IndexOperations.class);
+		when(indexOps.createIndex(any())).thenAnswer(invocation -> {
+			IndexDefinition index = invocation.getArgument(0);
+			created.add(index.getIndexKeys().toJson());
+			return "";
+		});
+		when(mongoTemplate.indexOps(any(Class.class))).thenReturn(indexOps);
+
+		manager(true, false).createIndexes();
+
+		assertThat(created).contains(
+				new Document("createdBy", 1).append("createdAt", -1).toJson(),
+				new Document("deleted", 1).append("status", 1).append("createdAt", -1).toJson(),
+				new Document("sourceAccount", 1).toJson(),
+				new Document("destinationAccount", 1).toJson(),
+				new Document("email", 1).toJson(),
+				new Document("accountNumber", 1).toJson(),
+				new Document("state", 1).append("startedAt", 1).toJson());
+	}
+
+	@Test
+	void verifyQueryPlans_passesWhenEveryShapeUsesAnIndex() {
+		when(mongoTemplate.getDb()).thenReturn(db);
+		when(db.runCommand(any(Bson.class))).thenReturn(plan("IXSCAN"));
+
+		manager(true, true).verifyQueryPlans();
+	}
+
+	@Test
+	void verifyQueryPlans_failsOnCollectionScan() {
+		when(mongoTemplate.getDb()).thenReturn(db);
+		when(db.runCommand(any(Bson.class))).thenReturn(plan("IXSCAN"), plan("COLLSCAN"), plan("IXSCAN"));
+
+		assertThatThrownBy(() -> manager(true, true).verifyQueryPlans())
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining(RepositoryQueryShapes.ALL.get(1).method() + " -> FETCH > COLLSCAN");
+	}
+
+	@Test
+	void run_skipsEverythingWhenDisabled() {
+		manager(false, false).run(mock(ApplicationArguments.class));
+
+		verify(mongoTemplate, never()).indexOps(any(Class.class));
+		verify(mongoTemplate, never()).getDb();
+	}
+
+	private static Document plan(String leafStage) {
+		return new Document("queryPlanner", new Document("winningPlan",
+				new Document("stage", "FETCH").append("inputStage", new Document("stage", leafStage))));
+	}
+}
@@ -0,0 +1,38 @@
+package com.banking_system.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+import com.banking_system.repository.AccountRepository;
+import com.banking_system.repository.LoanRepository;
+import com.banking_system.repository.RepricingJobRepository;
+import com.banking_system.repository.TransactionRepository;
+import com.banking_system.repository.UserRepository;
+
+class RepositoryQueryShapesTest {
+
+	@Test
+	void everyDeclaredQueryMethodHasAShape() {
+		Set<String> declared = Stream.of(
+						LoanRepository.class, TransactionRepository.class, UserRepository.class,
+						AccountRepository.class, RepricingJobRepository.class)
+				.flatMap(repository -> Arrays.stream(repository.getDeclaredMethods())
+						.filter(method -> !method.isSynthetic() && !method.isDefault())
+						.map(Method::getName)
+						.map(name -> repository.getSimpleName() + "." + name))
+				.collect(Collectors.toSet());
+
+		List<String> shapes = RepositoryQueryShapes.ALL.stream().map(RepositoryQueryShapes.Shape::method).toList();
+
+		assertThat(shapes).doesNotHaveDuplicates();
+		assertThat(Set.copyOf(shapes)).isEqualTo(declared);
+	}
+}
@@ -0,0 +1,65 @@
+package com.banking_system.exception;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.servlet.resource.NoResourceFoundException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class GlobalExceptionHandlerTest {
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+	private final GlobalExceptionHandler handler = new GlobalExceptionHandler(registry);
+
+	@Test
+	void businessException_answersWithItsCodeStatusAndMessage() {
+		ResponseEntity<ApiError> response = handler.handleBusiness(
+				new LoanNotFoundException("abc"), new MockHttpServletRequest("GET", "/api/loans/abc"));
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+		assertThat(response.getBody().status()).isEqualTo(404);
+		assertThat(response.getBody().error()).isEqualTo("Not Found");
+		assertThat(response.getBody().message()).isEqualTo("Loan not found: abc");
+		assertThat(response.getBody().path()).isEqualTo("/api/loans/abc");
+	}
+
+	@Test
+	void businessException_countsOnlyTrackedRefusals() {
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/accounts/transfer");
+
+		handler.handleBusiness(new InsufficientBalanceException(), request);
+		handler.handleBusiness(new InsufficientBalanceException(), request);
+		handler.handleBusiness(new StatusChangeNotAllowedException("no"), request);
+		handler.handleBusiness(new InvalidAmountException(), request);
+
+		assertThat(registry.get(GlobalExceptionHandler.REJECTIONS).tag("reason", "insufficient_balance").counter().count())
+				.isEqualTo(2);
+		assertThat(registry.get(GlobalExceptionHandler.REJECTIONS).tag("reason", "invalid_transition").counter().count())
+				.isEqualTo(1);
+		assertThat(registry.find(GlobalExceptionHandler.REJECTIONS).counters()).hasSize(2);
+	}
+
+	@Test
+	void noResource_answersNotFoundRatherThanServerError() {
+		ResponseEntity<ApiError> response = handler.handleNoResource(
+				new NoResourceFoundException(HttpMethod.GET, "/actuator/prometheus", "actuator/prometheus"),
+				new MockHttpServletRequest("GET", "/actuator/prometheus"));
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+		assertThat(response.getBody().path()).isEqualTo("/actuator/prometheus");
+	}
+
+	@Test
+	void businessException_capturesNoStackTrace() {
+		BusinessException ex = new InsufficientBalanceException();
+
+		assertThat(ex.getStackTrace()).isEmpty();
+		ex.addSuppressed(new IllegalStateException());
+		assertThat(ex.getSuppressed()).isEmpty();
+	}
+}
@@ -0,0 +1,45 @@
+package com.banking_system.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class ClientNameTokensTest {
+
+	@Test
+	void normalize_lowercasesAndCollapsesPunctuation() {
+		assertThat(ClientNameTokens.normalize("  TechCorp,  Inc. ")).isEqualTo("techcorp inc");
+	}
+
+	@Test
+	void tokenize_indexesWordAndCamelCasePrefixes() {
+		List<String> tokens = ClientNameTokens.tokenize("TechCorp Inc");
+
+		assertThat(tokens).contains("t", "tech", "techcorp", "c", "corp", "i", "inc");
+		assertThat(tokens).doesNotContain("echcorp", "orp");
+	}
+
+	@Test
+	void tokenize_capsPrefixLength() {
+		List<String> tokens = ClientNameTokens.tokenize("Supercalifragilisticexpialidocious");
+
+		assertThat(tokens).hasSize(ClientNameTokens.MAX_PREFIX_LENGTH);
+	}
+
+	@Test
+	void queryTerms_splitsOnWordsAndDropsDuplicates() {
+		assertThat(ClientNameTokens.queryTerms("Tech tech-CORP")).containsExactly("tech", "corp");
+		assertThat(ClientNameTokens.queryTerms(null)).isEmpty();
+	}
+
+	@Test
+	void loan_setClientName_keepsSearchFieldsInSync() {
+		Loan loan = new Loan();
+		loan.setClientName("Omni Tech");
+
+		assertThat(loan.getClientNameNormalized()).isEqualTo("omni tech");
+		assertThat(loan.getClientNameTokens()).contains("omni", "te");
+	}
+}
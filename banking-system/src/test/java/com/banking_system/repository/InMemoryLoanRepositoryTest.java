@@ -0,0 +1,141 @@
+package com.banking_system.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import com.banking_system.model.Loan;
+import com.banking_system.model.LoanStatus;
+
+class InMemoryLoanRepositoryTest {
+
+	private InMemoryLoanRepository repository;
+
+	@BeforeEach
+	void setUp() {
+		repository = new InMemoryLoanRepository(InMemoryMongoRepository.standaloneConverter());
+	}
+
+	@Test
+	void save_assignsIdAndReturnsIsolatedCopies() {
+		Loan loan = loan("Acme Steel", "TermLoan", LoanStatus.DRAFT, 0);
+		loan.setId(null);
+
+		repository.save(loan);
+		Loan read = repository.findById(loan.getId()).orElseThrow();
+		read.setClientName("Changed");
+
+		assertThat(loan.getId()).isNotNull();
+		assertThat(repository.findById(loan.getId()).orElseThrow().getClientName()).isEqualTo("Acme Steel");
+	}
+
+	@Test
+	void save_existingId_replacesDocumentAndReindexes() {
+		Loan loan = repository.save(loan("Acme Steel", "TermLoan", LoanStatus.DRAFT, 0));
+		loan.setStatus(LoanStatus.SUBMITTED);
+		loan.setClientName("Omni Tech");
+		repository.save(loan);
+
+		PageRequest page = PageRequest.of(0, 10);
+		assertThat(repository.count()).isEqualTo(1);
+		assertThat(repository.findByDeletedAndStatus(false, LoanStatus.DRAFT, page)).isEmpty();
+		assertThat(repository.findByDeletedAndStatus(false, LoanStatus.SUBMITTED, page)).hasSize(1);
+		assertThat(repository.findByDeletedAndClientNameTokensAll(false, List.of("acme"), page)).isEmpty();
+		assertThat(repository.findByDeletedAndClientNameTokensAll(false, List.of("om", "tech"), page)).hasSize(1);
+	}
+
+	@Test
+	void derivedQueries_combineFiltersSortAndPage() {
+		repository.save(loan("Acme Steel", "TermLoan", LoanStatus.APPROVED, 1));
+		repository.save(loan("Acme Foods", "TermLoan", LoanStatus.APPROVED, 2));
+		repository.save(loan("Acme Mining", "WorkingCapital", LoanStatus.APPROVED, 3));
+		repository.save(loan("Acme Labs", "TermLoan", LoanStatus.REJECTED, 4));
+		Loan deleted = loan("Acme Air", "TermLoan", LoanStatus.APPROVED, 5);
+		deleted.setDeleted(true);
+		repository.save(deleted);
+
+		Page<Loan> page = repository.findByDeletedAndStatusAndClientNameTokensAllAndLoanType(
+				false, LoanStatus.APPROVED, List.of("acme"), "TermLoan",
+				PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "createdAt")));
+
+		assertThat(page.getTotalElements()).isEqualTo(2);
+		assertThat(page.getTotalPages()).isEqualTo(2);
+		assertThat(page.getContent()).extracting(Loan::getClientName).containsExactly("Acme Foods");
+		assertThat(repository.findByDeleted(true, PageRequest.of(0, 10)).getContent())
+				.extracting(Loan::getClientName).containsExactly("Acme Air");
+		assertThat(repository.findByDeletedAndLoanType(false, "WorkingCapital", PageRequest.of(0, 10)))
+				.extracting(Loan::getClientName).containsExactly("Acme Mining");
+	}
+
+	@Test
+	void searchByClientNameTokens_excludesActions() {
+		Loan loan = loan("Acme Steel", "TermLoan", LoanStatus.DRAFT, 0);
+		loan.getActions().add(new Loan.LoanAction());
+		repository.save(loan);
+
+		List<Loan> found = repository.searchByClientNameTokens(false, List.of("ste"), PageRequest.of(0, 5));
+
+		assertThat(found).singleElement().satisfies(l -> {
+			assertThat(l.getClientName()).isEqualTo("Acme Steel");
+			assertThat(l.getActions()).isEmpty();
+		});
+	}
+
+	@Test
+	void searchByClientNameRange_returnsWholeNamePrefixMatchesInNameOrder() {
+		repository.save(loan("Acme Steel Works", "TermLoan", LoanStatus.DRAFT, 0));
+		repository.save(loan("Global Acme", "TermLoan", LoanStatus.DRAFT, 1));
+		repository.save(loan("ACME", "TermLoan", LoanStatus.DRAFT, 2));
+		repository.save(loan("Acme Foods", "TermLoan", LoanStatus.DRAFT, 3));
+
+		List<Loan> found = repository.searchByClientNameRange(false, "acme", "acme" + Character.MAX_VALUE,
+				PageRequest.of(0, 2));
+
+		assertThat(found).extracting(Loan::getClientName).containsExactly("ACME", "Acme Foods");
+	}
+
+	@Test
+	void repricingQueries_resumeAfterCheckpointWithProjection() {
+		Loan first = repository.save(loan("A", "TermLoan", LoanStatus.APPROVED, 1));
+		Loan second = repository.save(loan("B", "TermLoan", LoanStatus.SUBMITTED, 2));
+		repository.save(loan("C", "TermLoan", LoanStatus.REJECTED, 3));
+		List<LoanStatus> statuses = List.of(LoanStatus.APPROVED, LoanStatus.SUBMITTED);
+
+		List<Loan> streamed = repository.streamForRepricing(statuses, first.getId()).toList();
+
+		assertThat(repository.countForRepricing(statuses, new ObjectId(new byte[12]))).isEqualTo(2);
+		assertThat(streamed).singleElement().satisfies(l -> {
+			assertThat(l.getId()).isEqualTo(second.getId());
+			assertThat(l.getRequestedAmount()).isEqualTo(10000.0);
+			assertThat(l.getClientName()).isNull();
+		});
+	}
+
+	@Test
+	void updatePricingById_setsOnlyPricing() {
+		Loan loan = repository.save(loan("Acme Steel", "TermLoan", LoanStatus.DRAFT, 0));
+
+		repository.updatePricingById(loan.getId(),
+				new Loan.PricingSnapshot(9.5, 1000.0, 2000.0, "LOW", 42L, 1L, Instant.EPOCH));
+
+		Loan read = repository.findById(loan.getId()).orElseThrow();
+		assertThat(read.getPricing().getInputsHash()).isEqualTo(42L);
+		assertThat(read.getClientName()).isEqualTo("Acme Steel");
+	}
+
+	private static Loan loan(String clientName, String loanType, LoanStatus status, int ageDays) {
+		Instant createdAt = Instant.parse("2025-01-01T00:00:00Z").plusSeconds(86_400L * ageDays);
+		return new Loan(
+				new ObjectId(), clientName, loanType, 10000.0, 10.0, 12, null,
+				status, null, null, new ObjectId(), null, null, null,
+				createdAt, createdAt, false, null);
+	}
+}
@@ -0,0 +1,91 @@
+package com.banking_system.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+
+import com.banking_system.model.Account;
+import com.banking_system.model.AccountStatus;
+import com.banking_system.model.RepricingJob;
+import com.banking_system.model.Transaction;
+import com.banking_system.model.TransactionStatus;
+import com.banking_system.model.TransactionType;
+import com.banking_system.model.User;
+import com.banking_system.model.UserRole;
+
+class InMemoryRepositoriesTest {
+
+	private final MongoConverter converter = InMemoryMongoRepository.standaloneConverter();
+
+	@Test
+	void users_uniqueEmailIsEnforcedAcrossDocuments() {
+		InMemoryUserRepository users = new InMemoryUserRepository(converter);
+		User admin = users.save(new User(null, "admin@bank.test", "x", UserRole.ADMIN, true, Instant.now(), null));
+
+		assertThat(users.findByEmail("admin@bank.test")).map(User::getId).contains(admin.getId());
+		assertThat(users.existsByEmail("other@bank.test")).isFalse();
+		assertThatThrownBy(() -> users.save(new User(null, "admin@bank.test", "y", UserRole.ADMIN, true, null, null)))
+				.isInstanceOf(DuplicateKeyException.class);
+		// Re-saving the same document keeps its own key
+		admin.setActive(false);
+		users.save(admin);
+		assertThat(users.count()).isEqualTo(1);
+	}
+
+	@Test
+	void accounts_stringIdsAndPagingOverFindAll() {
+		InMemoryAccountRepository accounts = new InMemoryAccountRepository(converter);
+		for (int i = 0; i < 5; i++) {
+			accounts.save(new Account(null, "ACC" + i, "Holder " + i, new BigDecimal(i * 100), AccountStatus.ACTIVE, null));
+		}
+		Account acc2 = accounts.findByAccountNumber("ACC2").orElseThrow();
+
+		assertThat(accounts.findById(acc2.getId())).map(Account::getBalance).contains(new BigDecimal(200));
+		assertThat(accounts.findAll(PageRequest.of(1, 2, Sort.by(Sort.Direction.DESC, "balance"))).getContent())
+				.extracting(Account::getAccountNumber).containsExactly("ACC2", "ACC1");
+		accounts.deleteById(acc2.getId());
+		assertThat(accounts.existsByAccountNumber("ACC2")).isFalse();
+		assertThat(accounts.count()).isEqualTo(4);
+	}
+
+	@Test
+	void transactions_sourceOrDestinationIsUnionInIdOrder() {
+		InMemoryTransactionRepository transactions = new InMemoryTransactionRepository(converter);
+		Transaction out = transactions.save(transfer("T1", "A", "B"));
+		transactions.save(transfer("T2", "C", "D"));
+		Transaction in = transactions.save(transfer("T3", "B", "A"));
+
+		assertThat(transactions.findBySourceAccountOrDestinationAccount("A", "A"))
+				.extracting(Transaction::getId).containsExactly(out.getId(), in.getId());
+		assertThat(transactions.findByDestinationAccount("B")).extracting(Transaction::getTransactionId)
+				.containsExactly("T1");
+		Transaction replay = transfer("T4", "A", "B");
+		replay.setId(out.getId());
+		assertThatThrownBy(() -> transactions.insert(replay)).isInstanceOf(DuplicateKeyException.class);
+	}
+
+	@Test
+	void repricingJobs_latestByStartedAt() {
+		InMemoryRepricingJobRepository jobs = new InMemoryRepricingJobRepository(converter);
+		jobs.save(new RepricingJob(List.of(), "manual", 1, Instant.parse("2025-01-02T00:00:00Z")));
+		jobs.save(new RepricingJob(List.of(), "rules v2", 2, Instant.parse("2025-01-03T00:00:00Z")));
+		jobs.save(new RepricingJob(List.of(), "rules v1", 1, Instant.parse("2025-01-01T00:00:00Z")));
+
+		assertThat(jobs.findFirstByOrderByStartedAtDesc()).map(RepricingJob::getTrigger).contains("rules v2");
+	}
+
+	private static Transaction transfer(String transactionId, String source, String destination) {
+		return new Transaction(null, transactionId, TransactionType.TRANSFER, 10.0, Instant.now(),
+				TransactionStatus.SUCCESS, source, destination);
+	}
+}
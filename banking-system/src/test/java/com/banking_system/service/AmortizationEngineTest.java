@@ -0,0 +1,149 @@
+package com.banking_system.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import org.junit.jupiter.api.Test;
+
+import com.banking_system.exception.InvalidScheduleException;
+import com.banking_system.model.RepaymentStructure;
+import com.banking_system.model.dto.PricingRequest;
+import com.banking_system.model.dto.PricingResponse;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+class AmortizationEngineTest {
+
+	private final AmortizationEngine engine = new AmortizationEngine();
+
+	@Test
+	void standard_matchesPricingEmiAndRepaysPrincipal() {
+		PricingResponse pricing = new PricingService().calculatePricing(
+				new PricingRequest(50000000.0, 11.5, 360, "A"));
+		AmortizationSchedule schedule = engine.schedule(50000000.0, 11.5, 360, RepaymentStructure.STANDARD, 0, 0);
+
+		double principalRepaid = 0;
+		int rows = 0;
+		while (schedule.next()) {
+			rows++;
+			principalRepaid += schedule.principalPaid();
+			assertThat(schedule.payment()).isCloseTo(pricing.emi(), within(0.01));
+		}
+
+		assertThat(rows).isEqualTo(360);
+		assertThat(principalRepaid).isCloseTo(50000000.0, within(0.01));
+		assertThat(schedule.outstanding()).isZero();
+		assertThat(schedule.totalInterest()).isCloseTo(pricing.totalInterest(), within(0.05));
+	}
+
+	@Test
+	void bullet_paysInterestOnlyUntilMaturity() {
+		AmortizationSchedule schedule = engine.schedule(1200000.0, 12.0, 12, RepaymentStructure.BULLET, 0, 0);
+
+		while (schedule.next() && schedule.month() < 12) {
+			assertThat(schedule.payment()).isCloseTo(12000.0, within(1e-6));
+			assertThat(schedule.outstanding()).isEqualTo(1200000.0);
+		}
+
+		assertThat(schedule.month()).isEqualTo(12);
+		assertThat(schedule.payment()).isCloseTo(1212000.0, within(1e-6));
+		assertThat(schedule.outstanding()).isZero();
+	}
+
+	@Test
+	void balloon_leavesBalloonForLastInstallment() {
+		AmortizationSchedule schedule = engine.schedule(1000000.0, 10.0, 60, RepaymentStructure.BALLOON, 30.0, 0);
+
+		double outstandingBeforeLast = 0;
+		while (schedule.next()) {
+			if (schedule.month() == 59) {
+				outstandingBeforeLast = schedule.outstanding();
+			}
+		}
+
+		assertThat(outstandingBeforeLast).isGreaterThan(300000.0);
+		assertThat(schedule.payment()).isCloseTo(schedule.installment() + 300000.0, within(0.01));
+		assertThat(schedule.outstanding()).isZero();
+	}
+
+	@Test
+	void moratorium_capitalizesInterestThenAmortizes() {
+		AmortizationSchedule schedule = engine.schedule(1000000.0, 12.0, 24, RepaymentStructure.MORATORIUM, 0, 6);
+
+		for (int i = 0; i < 6; i++) {
+			schedule.next();
+			assertThat(schedule.payment()).isZero();
+		}
+		double capitalized = 1000000.0 * Math.pow(1.01, 6);
+		assertThat(schedule.outstanding()).isCloseTo(capitalized, within(1e-6));
+
+		schedule.next();
+		assertThat(schedule.payment()).isCloseTo(schedule.installment(), within(1e-9));
+		assertThat(schedule.installment()).isGreaterThan(0);
+		while (schedule.next()) {
+			// drain
+		}
+		assertThat(schedule.month()).isEqualTo(24);
+		assertThat(schedule.outstanding()).isZero();
+	}
+
+	@Test
+	void zeroRate_splitsPrincipalEvenly() {
+		AmortizationSchedule schedule = engine.schedule(1200.0, 0.0, 12, RepaymentStructure.STANDARD, 0, 0);
+
+		while (schedule.next()) {
+			assertThat(schedule.payment()).isCloseTo(100.0, within(1e-9));
+			assertThat(schedule.interest()).isZero();
+		}
+		assertThat(schedule.totalPayment()).isCloseTo(1200.0, within(1e-9));
+	}
+
+	@Test
+	void invalidTerms_areRejected() {
+		assertThatThrownBy(() -> engine.schedule(1000.0, 10.0, 12, RepaymentStructure.BALLOON, 0, 0))
+				.isInstanceOf(InvalidScheduleException.class);
+		assertThatThrownBy(() -> engine.schedule(1000.0, 10.0, 12, RepaymentStructure.MORATORIUM, 0, 12))
+				.isInstanceOf(InvalidScheduleException.class);
+		assertThatThrownBy(() -> engine.schedule(1000.0, 10.0, 0, RepaymentStructure.STANDARD, 0, 0))
+				.isInstanceOf(InvalidScheduleException.class);
+	}
+
+	@Test
+	void writeCsv_writesHeaderAndPlainAmounts() throws IOException {
+		StringWriter out = new StringWriter();
+		AmortizationScheduleWriter.writeCsv(
+				engine.schedule(50000000.0, 12.0, 2, RepaymentStructure.BULLET, 0, 0), out);
+
+		String[] lines = out.toString().split("\n");
+		assertThat(lines).hasSize(3);
+		assertThat(lines[0]).isEqualTo("month,payment,principal,interest,outstanding");
+		assertThat(lines[1]).isEqualTo("1,500000.00,0.00,500000.00,50000000.00");
+		assertThat(lines[2]).isEqualTo("2,50500000.00,50000000.00,500000.00,0.00");
+	}
+
+	@Test
+	void writeJson_isParseableWithTotals() throws IOException {
+		StringWriter out = new StringWriter();
+		AmortizationScheduleWriter.writeJson("abc",
+				engine.schedule(100000.0, 9.0, 12, RepaymentStructure.STANDARD, 0, 0), out);
+
+		JsonNode json = JsonMapper.builder().build().readTree(out.toString());
+		assertThat(json.get("loanId").asString()).isEqualTo("abc");
+		assertThat(json.get("rows")).hasSize(12);
+		assertThat(json.get("rows").get(11).get("outstanding").asDouble()).isZero();
+		assertThat(json.get("totalPayment").asDouble())
+				.isCloseTo(100000.0 + json.get("totalInterest").asDouble(), within(0.01));
+	}
+
+	@Test
+	void appendAmount_roundsToCents() {
+		assertThat(AmortizationScheduleWriter.appendAmount(new StringBuilder(), 1234.5).toString()).isEqualTo("1234.50");
+		assertThat(AmortizationScheduleWriter.appendAmount(new StringBuilder(), 0.004).toString()).isEqualTo("0.00");
+		assertThat(AmortizationScheduleWriter.appendAmount(new StringBuilder(), -3.07).toString()).isEqualTo("-3.07");
+	}
+}
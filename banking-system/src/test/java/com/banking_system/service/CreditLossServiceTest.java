@@ -0,0 +1,105 @@
+package com.banking_system.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import com.banking_system.config.CreditLossProperties;
+import com.banking_system.exception.InvalidSimulationException;
+import com.banking_system.exception.LoanNotFoundException;
+import com.banking_system.model.Loan;
+import com.banking_system.model.Loan.Financials;
+import com.banking_system.model.LoanStatus;
+import com.banking_system.model.dto.CreditLossResponse;
+import com.banking_system.model.dto.CreditRiskParameters;
+import com.banking_system.repository.LoanRepository;
+
+@ExtendWith(MockitoExtension.class)
+class CreditLossServiceTest {
+
+	@Mock
+	private LoanRepository loanRepository;
+
+	@Mock
+	private MongoTemplate mongoTemplate;
+
+	private CreditLossService service() {
+		return new CreditLossService(loanRepository, mongoTemplate, new CreditLossSimulator(), new CreditLossProperties(2));
+	}
+
+	@Test
+	void parametersFor_derivesPdAndLgdFromFinancials() {
+		// 25% margin, exposure 10% of revenue
+		Loan strong = loan(10_000_000.0, new Financials(100_000_000.0, 25_000_000.0, "A"), false);
+		// 2% margin, exposure above revenue
+		Loan weak = loan(10_000_000.0, new Financials(8_000_000.0, 160_000.0, "C"), false);
+
+		CreditRiskParameters strongParams = CreditLossService.parametersFor(strong);
+		CreditRiskParameters weakParams = CreditLossService.parametersFor(weak);
+
+		assertThat(strongParams.pd()).isCloseTo(0.004, within(1e-12));
+		assertThat(strongParams.lgd()).isEqualTo(0.40);
+		assertThat(weakParams.pd()).isCloseTo(0.05 * 1.8 * 1.5, within(1e-12));
+		assertThat(weakParams.lgd()).isEqualTo(0.55);
+		assertThat(strongParams.correlation()).isGreaterThan(weakParams.correlation());
+	}
+
+	@Test
+	void parametersFor_missingFinancialsDefaultsToRatingC() {
+		CreditRiskParameters params = CreditLossService.parametersFor(loan(1_000.0, null, false));
+
+		assertThat(params.pd()).isEqualTo(0.05);
+		assertThat(params.lgd()).isEqualTo(0.45);
+		assertThat(params.ead()).isEqualTo(1_000.0);
+	}
+
+	@Test
+	void simulateLoan_returnsParametersAndLosses() {
+		Loan loan = loan(5_000_000.0, new Financials(50_000_000.0, 6_000_000.0, "B"), false);
+		when(loanRepository.findById(loan.getId())).thenReturn(Optional.of(loan));
+
+		CreditLossResponse response = service().simulateLoan(loan.getId().toHexString(), 20_000, 5L, 0.99);
+
+		assertThat(response.loans()).isEqualTo(1);
+		assertThat(response.parameters()).hasSize(1);
+		assertThat(response.expectedLoss()).isCloseTo(response.analyticExpectedLoss(), within(response.analyticExpectedLoss() * 0.15));
+		assertThat(response.economicCapital()).isEqualTo(response.valueAtRisk() - response.expectedLoss());
+	}
+
+	@Test
+	void simulateLoan_deletedLoanNotFound() {
+		Loan loan = loan(5_000_000.0, null, true);
+		when(loanRepository.findById(loan.getId())).thenReturn(Optional.of(loan));
+
+		assertThatThrownBy(() -> service().simulateLoan(loan.getId().toHexString(), 1_000, 1L, 0.99))
+				.isInstanceOf(LoanNotFoundException.class);
+	}
+
+	@Test
+	void simulateLoan_rejectsOutOfRangePaths() {
+		Loan loan = loan(5_000_000.0, null, false);
+		when(loanRepository.findById(loan.getId())).thenReturn(Optional.of(loan));
+
+		assertThatThrownBy(() -> service().simulateLoan(loan.getId().toHexString(), CreditLossService.MAX_PATHS + 1, 1L, 0.99))
+				.isInstanceOf(InvalidSimulationException.class);
+	}
+
+	private static Loan loan(double amount, Financials financials, boolean deleted) {
+		return new Loan(
+				new ObjectId(), "Client", "TermLoan", amount, 11.0, 36, financials,
+				LoanStatus.APPROVED, null, null, new ObjectId(), new ObjectId(), null, null,
+				Instant.now(), Instant.now(), deleted, null
+		);
+	}
+}
@@ -0,0 +1,75 @@
+package com.banking_system.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.banking_system.model.dto.CreditRiskParameters;
+
+class CreditLossSimulatorTest {
+
+	private final CreditLossSimulator simulator = new CreditLossSimulator();
+
+	@Test
+	void sameSeed_isDeterministicAcrossParallelism() {
+		List<CreditRiskParameters> portfolio = portfolio(40);
+
+		CreditLossSimulator.Result sequential = simulator.simulate(portfolio, 50_000, 7L, 0.99, 1);
+		CreditLossSimulator.Result fourThreads = simulator.simulate(portfolio, 50_000, 7L, 0.99, 4);
+		CreditLossSimulator.Result commonPool = simulator.simulate(portfolio, 50_000, 7L, 0.99, 0);
+
+		assertThat(fourThreads).isEqualTo(sequential);
+		assertThat(commonPool).isEqualTo(sequential);
+	}
+
+	@Test
+	void differentSeeds_produceDifferentPaths() {
+		List<CreditRiskParameters> portfolio = portfolio(40);
+
+		CreditLossSimulator.Result first = simulator.simulate(portfolio, 20_000, 1L, 0.99, 0);
+		CreditLossSimulator.Result second = simulator.simulate(portfolio, 20_000, 2L, 0.99, 0);
+
+		assertThat(first.expectedLoss()).isNotEqualTo(second.expectedLoss());
+	}
+
+	@Test
+	void expectedLoss_convergesToAnalytic() {
+		CreditLossSimulator.Result result = simulator.simulate(portfolio(40), 200_000, 11L, 0.999, 0);
+
+		assertThat(result.expectedLoss()).isCloseTo(result.analyticExpectedLoss(), within(result.analyticExpectedLoss() * 0.03));
+		assertThat(result.valueAtRisk()).isGreaterThan(result.expectedLoss());
+		assertThat(result.expectedShortfall()).isGreaterThanOrEqualTo(result.valueAtRisk());
+		assertThat(result.unexpectedLoss()).isGreaterThan(0);
+	}
+
+	@Test
+	void certainDefault_losesFullWeightOnEveryPath() {
+		List<CreditRiskParameters> loan = List.of(new CreditRiskParameters("x", 1000.0, 1.0, 0.5, 0.2));
+
+		CreditLossSimulator.Result result = simulator.simulate(loan, 5_000, 3L, 0.99, 0);
+
+		assertThat(result.expectedLoss()).isEqualTo(500.0);
+		assertThat(result.unexpectedLoss()).isZero();
+	}
+
+	@Test
+	void inverseNormal_matchesKnownQuantiles() {
+		assertThat(CreditLossSimulator.inverseNormal(0.5)).isCloseTo(0.0, within(1e-9));
+		assertThat(CreditLossSimulator.inverseNormal(0.975)).isCloseTo(1.959964, within(1e-6));
+		assertThat(CreditLossSimulator.inverseNormal(0.001)).isCloseTo(-3.090232, within(1e-6));
+	}
+
+	private static List<CreditRiskParameters> portfolio(int size) {
+		List<CreditRiskParameters> loans = new ArrayList<>();
+		for (int i = 0; i < size; i++) {
+			double pd = 0.005 + 0.002 * i;
+			loans.add(new CreditRiskParameters("loan-" + i, 1_000_000.0 * (1 + i % 5), pd, 0.45,
+					CreditLossService.assetCorrelation(pd)));
+		}
+		return loans;
+	}
+}
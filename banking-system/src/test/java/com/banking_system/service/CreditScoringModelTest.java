@@ -0,0 +1,57 @@
+package com.banking_system.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class CreditScoringModelTest {
+
+	@Test
+	void score_ratesStrongAndWeakBorrowers() {
+		// 16% margin, 1.25x leverage, 50M revenue, 3 years
+		double strong = CreditScoringModel.score(50_000_000.0, 8_000_000.0, 10_000_000.0, 36);
+		// 2% margin, leverage capped at 10x, 5M revenue, 15 years
+		double weak = CreditScoringModel.score(5_000_000.0, 100_000.0, 20_000_000.0, 180);
+
+		assertThat(strong).isBetween(75.0, 76.0);
+		assertThat(CreditScoringModel.rating(strong)).isEqualTo("A");
+		assertThat(weak).isEqualTo(0.0);
+		assertThat(CreditScoringModel.rating(weak)).isEqualTo("D");
+		assertThat(CreditScoringModel.rating(60.0)).isEqualTo("B");
+		assertThat(CreditScoringModel.rating(59.99)).isEqualTo("C");
+		assertThat(CreditScoringModel.rating(45.0)).isEqualTo("C");
+	}
+
+	@Test
+	void scorable_requiresRevenueEbitdaAmountAndTenure() {
+		assertThat(CreditScoringModel.scorable(1_000_000.0, -50_000.0, 500_000.0, 12)).isTrue();
+		assertThat(CreditScoringModel.scorable(null, 50_000.0, 500_000.0, 12)).isFalse();
+		assertThat(CreditScoringModel.scorable(0.0, 50_000.0, 500_000.0, 12)).isFalse();
+		assertThat(CreditScoringModel.scorable(1_000_000.0, null, 500_000.0, 12)).isFalse();
+		assertThat(CreditScoringModel.scorable(1_000_000.0, 50_000.0, 500_000.0, null)).isFalse();
+	}
+
+	@Test
+	void scoreBatch_matchesSingleScores() {
+		double[] revenue = { 50_000_000.0, 5_000_000.0, 2_000_000_000.0 };
+		double[] ebitda = { 8_000_000.0, -200_000.0, 300_000_000.0 };
+		double[] amount = { 10_000_000.0, 1_000_000.0, 900_000_000.0 };
+		int[] tenure = { 36, 60, 120 };
+		double[] scores = new double[3];
+
+		CreditScoringModel.scoreBatch(revenue, ebitda, amount, tenure, scores, 0, 3);
+
+		for (int i = 0; i < 3; i++) {
+			assertThat(scores[i]).isEqualTo(CreditScoringModel.score(revenue[i], ebitda[i], amount[i], tenure[i]));
+		}
+	}
+
+	@Test
+	void financialsHash_changesWithAnyInput() {
+		long base = CreditScoringModel.financialsHash(50_000_000.0, 8_000_000.0, 10_000_000.0, 36);
+
+		assertThat(CreditScoringModel.financialsHash(50_000_000.0, 8_000_000.0, 10_000_000.0, 36)).isEqualTo(base);
+		assertThat(CreditScoringModel.financialsHash(50_000_001.0, 8_000_000.0, 10_000_000.0, 36)).isNotEqualTo(base);
+		assertThat(CreditScoringModel.financialsHash(50_000_000.0, 8_000_000.0, 10_000_000.0, 48)).isNotEqualTo(base);
+	}
+}
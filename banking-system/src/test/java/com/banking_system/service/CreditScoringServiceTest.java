@@ -0,0 +1,111 @@
+package com.banking_system.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.stream.Stream;
+
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.banking_system.config.CreditScoringProperties;
+import com.banking_system.model.Loan;
+import com.banking_system.model.Loan.Financials;
+import com.banking_system.model.LoanStatus;
+import com.banking_system.model.dto.CreditRescoreResult;
+import com.mongodb.bulk.BulkWriteResult;
+
+@ExtendWith(MockitoExtension.class)
+class CreditScoringServiceTest {
+
+	@Mock
+	private MongoTemplate mongoTemplate;
+
+	@Mock
+	private LoanCache loanCache;
+
+	@Test
+	void score_ratesFromFinancialsAndCachesByFinancialsHash() {
+		CreditScoringService service = service(true);
+
+		Loan.CreditScore first = service.score(loan(50_000_000.0, 8_000_000.0, "D"));
+		Loan.CreditScore second = service.score(loan(50_000_000.0, 8_000_000.0, "C"));
+
+		assertThat(first.getRating()).isEqualTo("A");
+		assertThat(first.getModel()).isEqualTo(CreditScoringModel.VERSION);
+		assertThat(second.getFinancialsHash()).isEqualTo(first.getFinancialsHash());
+		assertThat(service.stats().hitCount()).isEqualTo(1);
+		assertThat(service.stats().missCount()).isEqualTo(1);
+	}
+
+	@Test
+	void score_reusesStoredScoreWhileFinancialsAreUnchanged() {
+		CreditScoringService service = service(true);
+		Loan loan = loan(50_000_000.0, 8_000_000.0, "B");
+		loan.setCreditScore(service.score(loan));
+
+		assertThat(service.score(loan)).isSameAs(loan.getCreditScore());
+
+		loan.getFinancials().setEbitda(500_000.0);
+		assertThat(service.score(loan).getRating()).isEqualTo("D");
+	}
+
+	@Test
+	void score_unscorableOrDisabled_returnsNull() {
+		assertThat(service(true).score(loan(null, 8_000_000.0, "B"))).isNull();
+		assertThat(service(false).score(loan(50_000_000.0, 8_000_000.0, "B"))).isNull();
+	}
+
+	@Test
+	void rescoreBook_writesOnlyChangedScores() {
+		CreditScoringService service = service(true);
+		Loan current = loan(50_000_000.0, 8_000_000.0, "B");
+		current.setCreditScore(service.score(current));
+		Loan changed = loan(50_000_000.0, 500_000.0, "B");
+		Loan unscorable = loan(null, 8_000_000.0, "B");
+		unscorable.setCreditScore(new Loan.CreditScore(70.0, "B", 1L, CreditScoringModel.VERSION, Instant.now()));
+		when(mongoTemplate.stream(any(Query.class), eq(Loan.class))).thenReturn(Stream.of(current, changed, unscorable));
+		BulkOperations bulk = mock(BulkOperations.class);
+		BulkWriteResult result = mock(BulkWriteResult.class);
+		when(result.getMatchedCount()).thenReturn(2);
+		when(bulk.execute()).thenReturn(result);
+		when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Loan.class)).thenReturn(bulk);
+
+		CreditRescoreResult rescore = service.rescoreBook();
+
+		assertThat(rescore.scanned()).isEqualTo(3);
+		assertThat(rescore.unchanged()).isEqualTo(1);
+		assertThat(rescore.unscorable()).isEqualTo(1);
+		assertThat(rescore.rescored()).isEqualTo(2);
+		assertThat(rescore.conflicts()).isZero();
+		verify(bulk, times(2)).updateOne(any(Query.class), any(Update.class));
+		verify(loanCache).invalidate(changed.getId());
+		verify(loanCache).invalidate(unscorable.getId());
+		verify(loanCache, never()).invalidate(current.getId());
+	}
+
+	private CreditScoringService service(boolean enabled) {
+		return new CreditScoringService(new CreditScoringProperties(enabled, 1000, 100), mongoTemplate, loanCache);
+	}
+
+	private static Loan loan(Double revenue, Double ebitda, String rating) {
+		return new Loan(
+				new ObjectId(), "Client", "TermLoan", 10_000_000.0, 10.0, 36, new Financials(revenue, ebitda, rating),
+				LoanStatus.SUBMITTED, null, null, new ObjectId(), new ObjectId(), null, null,
+				Instant.now(), Instant.now(), false, null);
+	}
+}
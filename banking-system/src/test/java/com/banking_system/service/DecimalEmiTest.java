@@ -0,0 +1,96 @@
+package com.banking_system.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import com.banking_system.model.dto.PricingRequest;
+import com.banking_system.model.dto.PricingResponse;
+import com.banking_system.model.dto.RegulatoryPricingResponse;
+
+class DecimalEmiTest {
+
+	private static final String[] RATINGS = { "A", "B", "C", "D" };
+
+	private final PricingService pricingService = new PricingService();
+
+	@Test
+	void emi_matchesReferenceValue() {
+		BigDecimal principal = new BigDecimal("100000");
+		BigDecimal rate = new BigDecimal("12");
+
+		BigDecimal emi = DecimalEmi.emi(principal, rate, 12);
+
+		assertThat(DecimalEmi.exactEmi(principal, rate, 12).toPlainString())
+				.startsWith("8884.87886783417073399878312");
+		assertThat(emi).isEqualByComparingTo("8884.88");
+		assertThat(DecimalEmi.totalInterest(emi, principal, rate, 12)).isEqualByComparingTo("6618.56");
+	}
+
+	@Test
+	void emi_roundsHalfCentsToEven() {
+		// 1000.10 / 4 = 250.025 exactly; half-up would quote 250.03
+		assertThat(DecimalEmi.emi(new BigDecimal("1000.10"), BigDecimal.ZERO, 4)).isEqualByComparingTo("250.02");
+		// 1000.30 / 4 = 250.075 rounds up to the even cent
+		assertThat(DecimalEmi.emi(new BigDecimal("1000.30"), BigDecimal.ZERO, 4)).isEqualByComparingTo("250.08");
+	}
+
+	@Test
+	void calculateRegulatoryPricing_quotesExactCents() {
+		RegulatoryPricingResponse response = pricingService.calculateRegulatoryPricing(
+				new PricingRequest(50_000_000.0, 11.5, 36, "B"));
+
+		assertThat(response.recommendedRate()).isEqualByComparingTo("12.0");
+		assertThat(response.emi()).isEqualByComparingTo("1660715.49");
+		assertThat(response.emi().scale()).isEqualTo(2);
+		assertThat(response.totalInterest()).isEqualByComparingTo(
+				new BigDecimal("1660715.49").multiply(BigDecimal.valueOf(36)).subtract(new BigDecimal("50000000")));
+		assertThat(response.totalPayment()).isEqualByComparingTo(new BigDecimal("1660715.49").multiply(BigDecimal.valueOf(36)));
+		assertThat(response.riskCategory()).isEqualTo("MEDIUM");
+		assertThat(response.roundingMode()).isEqualTo("HALF_EVEN");
+	}
+
+	/**
+	 * Prices a spread of loans both ways and checks the documented error bounds of the
+	 * double path against the decimal one.
+	 */
+	@Test
+	void fastPath_staysWithinDocumentedBoundsOfRegulatoryPath() {
+		SplittableRandom random = new SplittableRandom(7);
+		double worstRelative = 0;
+		int centDifferences = 0;
+		for (int i = 0; i < 20_000; i++) {
+			double amount = Math.round((10_000.0 + random.nextDouble(500_000_000.0)) * 100.0) / 100.0;
+			double rate = Math.round(random.nextDouble(0.1, 24.0) * 100.0) / 100.0;
+			int tenure = 1 + random.nextInt(600);
+			PricingRequest request = new PricingRequest(amount, rate, tenure, RATINGS[random.nextInt(RATINGS.length)]);
+
+			PricingResponse fast = pricingService.calculatePricing(request);
+			RegulatoryPricingResponse exact = pricingService.calculateRegulatoryPricing(request);
+
+			assertThat(fast.recommendedRate()).isEqualTo(exact.recommendedRate().doubleValue());
+			assertThat(fast.riskCategory()).isEqualTo(exact.riskCategory());
+
+			BigDecimal exactEmi = DecimalEmi.exactEmi(BigDecimal.valueOf(amount), exact.recommendedRate(), tenure);
+			double[] emi = new double[1];
+			EmiKernel.computeScalar(new double[] { amount }, new double[] { exact.recommendedRate().doubleValue() },
+					new int[] { tenure }, emi, new double[1], 0, 1);
+			double relative = Math.abs(emi[0] - exactEmi.doubleValue()) / exactEmi.doubleValue();
+			worstRelative = Math.max(worstRelative, relative);
+
+			double emiGap = Math.abs(fast.emi() - exact.emi().doubleValue());
+			assertThat(emiGap).as("EMI gap for %s", request).isLessThanOrEqualTo(0.01 + 1e-9);
+			if (emiGap > 0) {
+				centDifferences++;
+			}
+			double interestGap = Math.abs(fast.totalInterest() - exact.totalInterest().doubleValue());
+			assertThat(interestGap).as("interest gap for %s", request).isLessThanOrEqualTo(0.005 * tenure + 0.01 + 1e-6);
+		}
+		assertThat(worstRelative).isLessThanOrEqualTo(DecimalEmi.RELATIVE_TOLERANCE);
+		// Cent differences are confined to half-cent boundary cases
+		assertThat(centDifferences).isLessThan(20);
+	}
+}
@@ -0,0 +1,94 @@
+package com.banking_system.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.util.ClassUtils;
+
+class EmiKernelTest {
+
+	@Test
+	void vectorPath_isActiveWhenBuiltWithTheKernelAndTheModuleIsAdded() throws Exception {
+		// -Pvector compiles the kernel in and runs Surefire with --add-modules jdk.incubator.vector
+		assumeTrue(ClassUtils.isPresent(EmiKernel.VECTOR_KERNEL, null), "built without the vector profile");
+		Method supported = ClassUtils.forName(EmiKernel.VECTOR_KERNEL, null).getDeclaredMethod("supported");
+		supported.setAccessible(true);
+		assumeTrue((boolean) supported.invoke(null), "no multi-lane double vectors on this CPU");
+		assertThat(EmiKernel.vectorized()).isTrue();
+	}
+
+	@Test
+	void scalarPath_isUsedWhenBuiltWithoutTheKernel() {
+		assumeTrue(!ClassUtils.isPresent(EmiKernel.VECTOR_KERNEL, null), "built with the vector profile");
+		assertThat(EmiKernel.vectorized()).isFalse();
+	}
+
+	@Test
+	void compute_matchesScalarPathWithinTolerance() {
+		int size = 10_003; // not a multiple of any lane count, so the scalar tail runs too
+		SplittableRandom random = new SplittableRandom(11);
+		double[] principal = new double[size];
+		double[] rate = new double[size];
+		int[] tenure = new int[size];
+		for (int i = 0; i < size; i++) {
+			principal[i] = 10_000.0 + random.nextDouble(500_000_000.0);
+			rate[i] = 0.1 + random.nextDouble(35.0);
+			tenure[i] = 1 + random.nextInt(600);
+		}
+		double[] emi = new double[size];
+		double[] interest = new double[size];
+		double[] scalarEmi = new double[size];
+		double[] scalarInterest = new double[size];
+
+		EmiKernel.compute(principal, rate, tenure, emi, interest, 0, size);
+		EmiKernel.computeScalar(principal, rate, tenure, scalarEmi, scalarInterest, 0, size);
+
+		for (int i = 0; i < size; i++) {
+			assertThat(emi[i]).isCloseTo(scalarEmi[i], within(scalarEmi[i] * EmiKernel.RELATIVE_TOLERANCE));
+			assertThat(interest[i]).isCloseTo(scalarInterest[i],
+					within(Math.max(scalarInterest[i], 1.0) * EmiKernel.RELATIVE_TOLERANCE * tenure[i]));
+			assertThat(Math.abs(Math.round(emi[i] * 100.0) - Math.round(scalarEmi[i] * 100.0))).isLessThanOrEqualTo(1);
+		}
+	}
+
+	@Test
+	void compute_zeroRateSplitsPrincipalEvenlyWithoutInterest() {
+		double[] principal = { 1200.0, 600.0, 1000.0, 50.0, 90.0 };
+		double[] rate = { 0.0, 0.0, 12.0, 0.0, -1.0 };
+		int[] tenure = { 12, 6, 12, 5, 3 };
+		double[] emi = new double[5];
+		double[] interest = new double[5];
+
+		EmiKernel.compute(principal, rate, tenure, emi, interest, 0, 5);
+
+		assertThat(emi).containsExactly(new double[] { 100.0, 100.0, emi[2], 10.0, 30.0 }, within(1e-12));
+		assertThat(interest[0]).isZero();
+		assertThat(interest[4]).isZero();
+		assertThat(emi[2]).isCloseTo(88.85, within(0.01));
+	}
+
+	@Test
+	void compute_writesOnlyTheRequestedRange() {
+		double[] principal = { 1000.0, 1000.0, 1000.0, 1000.0, 1000.0, 1000.0, 1000.0, 1000.0, 1000.0, 1000.0 };
+		double[] rate = new double[10];
+		int[] tenure = new int[10];
+		Arrays.fill(rate, 10.0);
+		Arrays.fill(tenure, 10);
+		double[] emi = new double[10];
+		double[] interest = new double[10];
+
+		EmiKernel.compute(principal, rate, tenure, emi, interest, 3, 8);
+
+		assertThat(emi[2]).isZero();
+		assertThat(emi[8]).isZero();
+		for (int i = 3; i < 8; i++) {
+			assertThat(emi[i]).isGreaterThan(100.0);
+		}
+	}
+}
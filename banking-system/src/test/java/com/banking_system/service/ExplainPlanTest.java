@@ -0,0 +1,49 @@
+package com.banking_system.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+
+class ExplainPlanTest {
+
+	@Test
+	void find_indexScanWithExecutionStats() {
+		ExplainPlan plan = ExplainPlan.of(Document.parse("""
+				{ "queryPlanner": { "winningPlan": { "stage": "LIMIT", "inputStage": { "stage": "FETCH",
+				  "inputStage": { "stage": "IXSCAN", "indexName": "status_1_createdAt_-1" } } } },
+				  "executionStats": { "totalDocsExamined": 20, "totalKeysExamined": 21 } }
+				"""));
+
+		assertThat(plan.summary()).isEqualTo("LIMIT > FETCH > IXSCAN(status_1_createdAt_-1)");
+		assertThat(plan.collectionScan()).isFalse();
+		assertThat(plan.docsExamined()).isEqualTo(20);
+		assertThat(plan.keysExamined()).isEqualTo(21);
+	}
+
+	@Test
+	void aggregate_readsCursorStageAndDetectsCollectionScan() {
+		ExplainPlan plan = ExplainPlan.of(Document.parse("""
+				{ "stages": [ { "$cursor": { "queryPlanner": { "winningPlan": { "queryPlan": { "stage": "COLLSCAN" } } },
+				  "executionStats": { "totalDocsExamined": 50000, "totalKeysExamined": 0 } } }, { "$group": {} } ] }
+				"""));
+
+		assertThat(plan.summary()).isEqualTo("COLLSCAN");
+		assertThat(plan.collectionScan()).isTrue();
+		assertThat(plan.docsExamined()).isEqualTo(50000);
+	}
+
+	@Test
+	void orPlan_recordsEveryBranch() {
+		ExplainPlan plan = ExplainPlan.of(Document.parse("""
+				{ "queryPlanner": { "winningPlan": { "stage": "SUBPLAN", "inputStage": { "stage": "FETCH",
+				  "inputStage": { "stage": "OR", "inputStages": [
+				    { "stage": "IXSCAN", "indexName": "sourceAccount_1" },
+				    { "stage": "COLLSCAN" } ] } } } } }
+				"""));
+
+		assertThat(plan.summary()).isEqualTo("SUBPLAN > FETCH > OR > IXSCAN(sourceAccount_1) > COLLSCAN");
+		assertThat(plan.collectionScan()).isTrue();
+		assertThat(plan.docsExamined()).isNull();
+	}
+}
@@ -0,0 +1,92 @@
+package com.banking_system.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.banking_system.config.FlightRecordingProperties;
+import com.banking_system.exception.FlightRecordingConflictException;
+import com.banking_system.exception.InvalidAmountException;
+import com.banking_system.model.dto.FlightRecordingStatus;
+import com.banking_system.model.dto.PricingRequest;
+import com.banking_system.model.dto.StartFlightRecordingRequest;
+import com.banking_system.repository.AccountRepository;
+import com.banking_system.repository.TransactionRepository;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+class FlightRecordingServiceTest {
+
+	private final FlightRecordingService service = new FlightRecordingService(
+			new FlightRecordingProperties("default", Duration.ofMinutes(1), 16L * 1024 * 1024));
+
+	@AfterEach
+	void tearDown() {
+		service.close();
+	}
+
+	@Test
+	void start_capsRequestedDurationAtMaximum() {
+		FlightRecordingStatus status = service.start(new StartFlightRecordingRequest(3600L));
+
+		assertThat(status.state()).isEqualTo("RUNNING");
+		assertThat(status.durationSeconds()).isEqualTo(60);
+		assertThat(service.status()).isPresent();
+	}
+
+	@Test
+	void start_whileRunning_conflicts() {
+		service.start(null);
+
+		assertThatThrownBy(() -> service.start(null)).isInstanceOf(FlightRecordingConflictException.class);
+	}
+
+	@Test
+	void stop_withoutRecording_conflicts() {
+		assertThatThrownBy(service::stop).isInstanceOf(FlightRecordingConflictException.class);
+	}
+
+	@Test
+	void stop_dumpsDomainEventsWithOutcome() throws Exception {
+		PricingService pricingService = new PricingService();
+		AccountServiceImpl accountService = new AccountServiceImpl(
+				mock(AccountRepository.class), mock(TransactionRepository.class));
+		service.start(null);
+
+		pricingService.calculatePricing(new PricingRequest(1_000_000.0, 10.0, 24, "B", "TERM_LOAN"));
+		assertThatThrownBy(() -> accountService.transfer("ACC-1", "ACC-2", -5.0))
+				.isInstanceOf(InvalidAmountException.class);
+
+		Path file = service.stop();
+		try {
+			List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+			RecordedEvent pricing = only(events, "banking.Pricing");
+			assertThat(pricing.getString("rating")).isEqualTo("B");
+			assertThat(pricing.getInt("tenureMonths")).isEqualTo(24);
+			assertThat(pricing.getString("outcome")).isEqualTo("computed");
+			RecordedEvent transfer = only(events, "banking.Transfer");
+			assertThat(transfer.getString("sourceAccount")).isEqualTo("ACC-1");
+			assertThat(transfer.getString("outcome")).isEqualTo("InvalidAmountException");
+		} finally {
+			Files.deleteIfExists(file);
+		}
+		assertThat(service.status()).isEmpty();
+	}
+
+	private static RecordedEvent only(List<RecordedEvent> events, String name) {
+		List<RecordedEvent> matching = events.stream()
+				.filter(e -> e.getEventType().getName().equals(name))
+				.toList();
+		assertThat(matching).hasSize(1);
+		return matching.get(0);
+	}
+}
@@ -0,0 +1,93 @@
+package com.banking_system.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+
+import com.banking_system.model.dto.PortfolioAnalyticsResponse;
+
+@ExtendWith(MockitoExtension.class)
+class LoanAnalyticsServiceTest {
+
+	@Mock
+	private MongoTemplate mongoTemplate;
+
+	@InjectMocks
+	private LoanAnalyticsService loanAnalyticsService;
+
+	@Test
+	void getPortfolioAnalytics_mapsFacetResults() {
+		Document facets = new Document()
+				.append("byStatus", List.of(
+						new Document("_id", "APPROVED").append("count", 2).append("requested", 300000.0).append("sanctioned", 250000.0),
+						new Document("_id", "DRAFT").append("count", 3).append("requested", 100000.0).append("sanctioned", 0)))
+				.append("byLoanType", List.of(
+						new Document("_id", "TermLoan").append("count", 5).append("requested", 400000.0).append("sanctioned", 250000.0)))
+				.append("byRating", List.of(
+						new Document("_id", null).append("count", 1).append("requested", 50000.0).append("sanctioned", 0),
+						new Document("_id", "A").append("count", 4).append("requested", 350000.0).append("sanctioned", 250000.0)))
+				.append("approvals", List.of(
+						new Document("count", 2).append("avgRate", 10.25).append("avgLatencyMs", 7_200_000.0)
+								.append("minLatencyMs", 3_600_000L).append("maxLatencyMs", 10_800_000L)));
+		when(mongoTemplate.aggregate(any(Aggregation.class), eq("loans"), eq(Document.class)))
+				.thenReturn(new AggregationResults<>(List.of(facets), new Document()));
+
+		PortfolioAnalyticsResponse response = loanAnalyticsService.getPortfolioAnalytics(null, null);
+
+		assertThat(response.totalLoans()).isEqualTo(5);
+		assertThat(response.totalRequestedExposure()).isEqualTo(400000.0);
+		assertThat(response.totalSanctionedExposure()).isEqualTo(250000.0);
+		assertThat(response.byStatus()).extracting("key").containsExactly("APPROVED", "DRAFT");
+		assertThat(response.byRating().get(0).key()).isEqualTo(LoanAnalyticsService.UNKNOWN_KEY);
+		assertThat(response.approvals().approvedCount()).isEqualTo(2);
+		assertThat(response.approvals().averageApprovedRate()).isEqualTo(10.25);
+		assertThat(response.approvals().averageLatencySeconds()).isEqualTo(7200.0);
+		assertThat(response.approvals().maxLatencySeconds()).isEqualTo(10800.0);
+	}
+
+	@Test
+	void getPortfolioAnalytics_emptyBook_returnsZeroes() {
+		Document facets = new Document()
+				.append("byStatus", List.of())
+				.append("byLoanType", List.of())
+				.append("byRating", List.of())
+				.append("approvals", List.of());
+		when(mongoTemplate.aggregate(any(Aggregation.class), eq("loans"), eq(Document.class)))
+				.thenReturn(new AggregationResults<>(List.of(facets), new Document()));
+
+		PortfolioAnalyticsResponse response = loanAnalyticsService.getPortfolioAnalytics(null, null);
+
+		assertThat(response.totalLoans()).isZero();
+		assertThat(response.approvals().approvedCount()).isZero();
+		assertThat(response.approvals().averageLatencySeconds()).isNull();
+	}
+
+	@Test
+	void buildPipeline_facetsOverNonDeletedLoansInDateRange() {
+		Instant from = Instant.parse("2026-01-01T00:00:00Z");
+		Instant to = Instant.parse("2026-04-01T00:00:00Z");
+
+		List<Document> stages = loanAnalyticsService.buildPipeline(from, to).toPipeline(Aggregation.DEFAULT_CONTEXT);
+
+		Document match = stages.get(0).get("$match", Document.class);
+		assertThat(match.get("deleted")).isEqualTo(false);
+		List<Document> dateRange = match.getList("$and", Document.class);
+		assertThat(dateRange.get(0).get("createdAt", Document.class)).containsEntry("$gte", from).containsEntry("$lt", to);
+		Document facet = stages.get(2).get("$facet", Document.class);
+		assertThat(facet.keySet()).containsExactly("byStatus", "byLoanType", "byRating", "approvals");
+	}
+}
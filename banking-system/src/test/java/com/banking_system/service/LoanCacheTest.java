@@ -0,0 +1,104 @@
+package com.banking_system.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+
+import com.banking_system.config.LoanCacheProperties;
+import com.banking_system.model.Loan;
+import com.banking_system.model.LoanStatus;
+import com.banking_system.model.dto.CacheStatsResponse;
+
+class LoanCacheTest {
+
+	@Test
+	void getIfPresent_tracksHitsAndMisses() {
+		LoanCache cache = new LoanCache(new LoanCacheProperties(true, 1_000_000, Duration.ofMinutes(5)));
+		Loan loan = loan("Client");
+
+		assertThat(cache.getIfPresent(loan.getId())).isNull();
+		cache.put(loan);
+		assertThat(cache.getIfPresent(loan.getId())).isSameAs(loan);
+
+		CacheStatsResponse stats = cache.stats();
+		assertThat(stats.hitCount()).isEqualTo(1);
+		assertThat(stats.missCount()).isEqualTo(1);
+		assertThat(stats.hitRatio()).isEqualTo(0.5);
+		assertThat(stats.weightedSizeBytes()).isEqualTo(LoanCache.estimateSize(loan));
+	}
+
+	@Test
+	void invalidate_removesEntry() {
+		LoanCache cache = new LoanCache(new LoanCacheProperties(true, 1_000_000, null));
+		Loan loan = loan("Client");
+		cache.put(loan);
+
+		cache.invalidate(loan.getId());
+
+		assertThat(cache.getIfPresent(loan.getId())).isNull();
+	}
+
+	@Test
+	void putIfUnchanged_keepsAnUpdateThatLandedDuringTheRead() {
+		LoanCache cache = new LoanCache(new LoanCacheProperties(true, 1_000_000, null));
+		Loan read = loan("Client");
+		Loan updated = loan("Client");
+		updated.setId(read.getId());
+		updated.setStatus(LoanStatus.SUBMITTED);
+
+		// Reader misses and reads the old document; updateLoan saves and caches the new one
+		long stamp = cache.writeStamp(read.getId());
+		cache.put(updated);
+		cache.putIfUnchanged(read, stamp);
+
+		assertThat(cache.getIfPresent(read.getId())).isSameAs(updated);
+	}
+
+	@Test
+	void putIfUnchanged_dropsADocumentInvalidatedDuringTheRead() {
+		LoanCache cache = new LoanCache(new LoanCacheProperties(true, 1_000_000, null));
+		Loan read = loan("Client");
+
+		// Reader misses; deleteLoan or the change stream evicts the id before the reader inserts
+		long stamp = cache.writeStamp(read.getId());
+		cache.invalidate(read.getId());
+		cache.putIfUnchanged(read, stamp);
+
+		assertThat(cache.getIfPresent(read.getId())).isNull();
+		long fresh = cache.writeStamp(read.getId());
+		cache.putIfUnchanged(read, fresh);
+		assertThat(cache.getIfPresent(read.getId())).isSameAs(read);
+	}
+
+	@Test
+	void estimateSize_growsWithAuditTrail() {
+		Loan loan = loan("Client");
+		int before = LoanCache.estimateSize(loan);
+
+		loan.addAction(new Loan.LoanAction(new ObjectId(), "STATUS_CHANGE: SUBMITTED", "Ready for review", Instant.now()));
+
+		assertThat(LoanCache.estimateSize(loan)).isGreaterThan(before);
+	}
+
+	@Test
+	void disabled_neverRetainsEntries() {
+		LoanCache cache = new LoanCache(new LoanCacheProperties(false, 1_000_000, null));
+		Loan loan = loan("Client");
+
+		cache.put(loan);
+
+		assertThat(cache.getIfPresent(loan.getId())).isNull();
+	}
+
+	private static Loan loan(String clientName) {
+		return new Loan(
+				new ObjectId(), clientName, "TermLoan", 10000.0, 10.0, 12, null,
+				LoanStatus.DRAFT, null, null, new ObjectId(), new ObjectId(), null, null,
+				Instant.now(), Instant.now(), false, null
+		);
+	}
+}
@@ -0,0 +1,132 @@
+package com.banking_system.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.bson.BsonDocument;
+import org.bson.BsonInt32;
+import org.bson.BsonObjectId;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.messaging.Message;
+
+import com.banking_system.config.LoanEventsProperties;
+import com.banking_system.model.Loan;
+import com.banking_system.model.LoanStatus;
+import com.banking_system.model.dto.LoanEventMessage;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.OperationType;
+import com.mongodb.client.model.changestream.UpdateDescription;
+
+class LoanChangeStreamListenerTest {
+
+	private static final String TOKEN = "8263F1A2B4000000012B022C0100296E5A1004";
+
+	private final LoanCache loanCache = mock(LoanCache.class);
+	private final LoanEventBroadcaster broadcaster = mock(LoanEventBroadcaster.class);
+	private final LoanChangeStreamListener listener =
+			new LoanChangeStreamListener(loanCache, broadcaster, mock(MongoTemplate.class));
+
+	@Test
+	void pricingOnlyUpdate_evictsButDoesNotRepublishLastStatusChange() {
+		Loan loan = statusChangedLoan();
+
+		listener.onChange(message(OperationType.UPDATE, loan,
+				new UpdateDescription(null, new BsonDocument("pricing", new BsonDocument("rate", new BsonInt32(10))))));
+
+		verify(loanCache).invalidate(loan.getId());
+		verify(broadcaster, never()).publishChange(any());
+	}
+
+	@Test
+	void derivedFieldsOnly_treatsNestedAndRemovedDerivedFieldsAsDerived() {
+		assertThat(LoanChangeStreamListener.derivedFieldsOnly(new UpdateDescription(
+				List.of("creditScore"), new BsonDocument("pricing.rulesVersion", new BsonInt32(2))))).isTrue();
+		assertThat(LoanChangeStreamListener.derivedFieldsOnly(new UpdateDescription(
+				null, new BsonDocument("pricing", new BsonDocument()).append("status", new BsonInt32(1))))).isFalse();
+		assertThat(LoanChangeStreamListener.derivedFieldsOnly(null)).isFalse();
+	}
+
+	@Test
+	void replace_withStatusChangeAction_publishesStatusChanged() {
+		Loan loan = statusChangedLoan();
+
+		listener.onChange(message(OperationType.REPLACE, loan, null));
+
+		ArgumentCaptor<LoanEventMessage> event = ArgumentCaptor.forClass(LoanEventMessage.class);
+		verify(broadcaster).publishChange(event.capture());
+		assertThat(event.getValue().type()).isEqualTo("STATUS_CHANGED");
+		assertThat(event.getValue().loanId()).isEqualTo(loan.getId().toHexString());
+		assertThat(event.getValue().status()).isEqualTo(LoanStatus.SUBMITTED);
+		assertThat(event.getValue().id()).isEqualTo(TOKEN);
+		assertThat(listener.position()).isEqualTo(TOKEN);
+	}
+
+	@Test
+	void eventsAfter_idThatIsNotAResumeToken_cannotBeResumed() {
+		assertThat(listener.eventsAfter("3f9a1c-12", 10)).isNull();
+	}
+
+	@Test
+	void statusChange_leavingTheFilteredStatus_reachesSubscribersOfThatStatus() {
+		LoanEventBroadcaster feed = new LoanEventBroadcaster(
+				new LoanEventsProperties(16, 16, Duration.ofMinutes(1), true, 1, Duration.ofSeconds(10)), new SyncTaskExecutor());
+		LoanChangeStreamListener streamListener = new LoanChangeStreamListener(loanCache, feed, mock(MongoTemplate.class));
+		LoanEventBroadcasterTest.CapturingEmitter submitted = new LoanEventBroadcasterTest.CapturingEmitter();
+		feed.subscribe(submitted, null, LoanStatus.SUBMITTED);
+		Instant changedAt = Instant.now();
+		Loan loan = new Loan(
+				new ObjectId(), "Client", "TermLoan", 10000.0, 10.0, 12, null,
+				LoanStatus.APPROVED, null, null, new ObjectId(), new ObjectId(), null, null,
+				changedAt, changedAt, false, null
+		);
+		Loan.LoanAction approval = new Loan.LoanAction(new ObjectId(), "STATUS_CHANGE: APPROVED", null, changedAt);
+		approval.setFromStatus(LoanStatus.SUBMITTED);
+		loan.addAction(approval);
+
+		streamListener.onChange(message(OperationType.REPLACE, loan, null));
+
+		assertThat(submitted.messages).singleElement().satisfies(event -> {
+			assertThat(event.status()).isEqualTo(LoanStatus.APPROVED);
+			assertThat(event.previousStatus()).isEqualTo(LoanStatus.SUBMITTED);
+		});
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Message<ChangeStreamDocument<Document>, Loan> message(
+			OperationType operation, Loan loan, UpdateDescription update) {
+		ChangeStreamDocument<Document> change = mock(ChangeStreamDocument.class);
+		when(change.getOperationType()).thenReturn(operation);
+		when(change.getDocumentKey()).thenReturn(new BsonDocument("_id", new BsonObjectId(loan.getId())));
+		when(change.getUpdateDescription()).thenReturn(update);
+		when(change.getResumeToken()).thenReturn(new BsonDocument("_data", new BsonString(TOKEN)));
+		Message<ChangeStreamDocument<Document>, Loan> message = mock(Message.class);
+		when(message.getRaw()).thenReturn(change);
+		when(message.getBody()).thenReturn(loan);
+		return message;
+	}
+
+	private static Loan statusChangedLoan() {
+		Instant changedAt = Instant.now();
+		Loan loan = new Loan(
+				new ObjectId(), "Client", "TermLoan", 10000.0, 10.0, 12, null,
+				LoanStatus.SUBMITTED, null, null, new ObjectId(), new ObjectId(), null, null,
+				changedAt, changedAt, false, null
+		);
+		loan.addAction(new Loan.LoanAction(new ObjectId(), "STATUS_CHANGE: SUBMITTED", null, changedAt));
+		return loan;
+	}
+}
@@ -0,0 +1,240 @@
+package com.banking_system.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.banking_system.config.LoanEventsProperties;
+import com.banking_system.model.LoanStatus;
+import com.banking_system.model.dto.LoanEventMessage;
+
+class LoanEventBroadcasterTest {
+
+	@Test
+	void publish_deliversToSubscribers() {
+		LoanEventBroadcaster broadcaster = broadcaster(16, 16, new SyncTaskExecutor());
+		CapturingEmitter emitter = new CapturingEmitter();
+		broadcaster.subscribe(emitter, null, null);
+
+		publish(broadcaster, "loan-1", LoanStatus.SUBMITTED, LoanStatus.DRAFT);
+
+		assertThat(emitter.messages).hasSize(1);
+		LoanEventMessage message = emitter.messages.get(0);
+		assertThat(message.loanId()).isEqualTo("loan-1");
+		assertThat(message.type()).isEqualTo("STATUS_CHANGED");
+		assertThat(message.id()).endsWith("-1");
+	}
+
+	@Test
+	void statusFilter_matchesCurrentOrPreviousStatus() {
+		LoanEventBroadcaster broadcaster = broadcaster(16, 16, new SyncTaskExecutor());
+		CapturingEmitter emitter = new CapturingEmitter();
+		broadcaster.subscribe(emitter, null, LoanStatus.SUBMITTED);
+
+		publish(broadcaster, "entering", LoanStatus.SUBMITTED, LoanStatus.DRAFT);
+		publish(broadcaster, "leaving", LoanStatus.APPROVED, LoanStatus.SUBMITTED);
+		publish(broadcaster, "unrelated", LoanStatus.REJECTED, LoanStatus.UNDER_REVIEW);
+
+		assertThat(emitter.messages).extracting(LoanEventMessage::loanId)
+				.containsExactly("entering", "leaving");
+	}
+
+	@Test
+	void lastEventId_replaysMissedEvents() {
+		LoanEventBroadcaster broadcaster = broadcaster(16, 16, new SyncTaskExecutor());
+		CapturingEmitter first = new CapturingEmitter();
+		broadcaster.subscribe(first, null, null);
+		publish(broadcaster, "a", LoanStatus.SUBMITTED, LoanStatus.DRAFT);
+		String lastSeen = first.messages.get(0).id();
+
+		publish(broadcaster, "b", LoanStatus.SUBMITTED, LoanStatus.DRAFT);
+		publish(broadcaster, "c", LoanStatus.SUBMITTED, LoanStatus.DRAFT);
+		CapturingEmitter reconnected = new CapturingEmitter();
+		broadcaster.subscribe(reconnected, lastSeen, null);
+
+		assertThat(reconnected.messages).extracting(LoanEventMessage::loanId).containsExactly("b", "c");
+	}
+
+	@Test
+	void lastEventId_fromUnknownEpochGetsReset() {
+		LoanEventBroadcaster broadcaster = broadcaster(16, 16, new SyncTaskExecutor());
+		publish(broadcaster, "a", LoanStatus.SUBMITTED, LoanStatus.DRAFT);
+
+		CapturingEmitter emitter = new CapturingEmitter();
+		broadcaster.subscribe(emitter, "otherepoch-7", null);
+
+		assertThat(emitter.messages).extracting(LoanEventMessage::type).containsExactly(LoanEventBroadcaster.RESET);
+	}
+
+	@Test
+	void lastEventId_olderThanReplayBufferGetsReset() {
+		LoanEventBroadcaster broadcaster = broadcaster(16, 2, new SyncTaskExecutor());
+		CapturingEmitter first = new CapturingEmitter();
+		broadcaster.subscribe(first, null, null);
+		publish(broadcaster, "a", LoanStatus.SUBMITTED, LoanStatus.DRAFT);
+		String lastSeen = first.messages.get(0).id();
+		for (int i = 0; i < 3; i++) {
+			publish(broadcaster, "x" + i, LoanStatus.SUBMITTED, LoanStatus.DRAFT);
+		}
+
+		CapturingEmitter reconnected = new CapturingEmitter();
+		broadcaster.subscribe(reconnected, lastSeen, null);
+
+		assertThat(reconnected.messages).extracting(LoanEventMessage::type).containsExactly(LoanEventBroadcaster.RESET);
+	}
+
+	@Test
+	void lastEventId_notBufferedHere_isReadBackFromTheChangeStreamWithoutDuplicates() {
+		LoanEventBroadcaster broadcaster = broadcaster(16, 16, new SyncTaskExecutor());
+		// The stream read overlaps changes this node buffered after the reconnect id
+		broadcaster.useReplaySource(replaySource(List.of(change("06", "a"), change("0A", "b")), "0B"));
+		broadcaster.publishChange(change("0A", "b"));
+		broadcaster.publishChange(change("0B", "c"));
+
+		CapturingEmitter reconnected = new CapturingEmitter();
+		broadcaster.subscribe(reconnected, "05", null);
+		broadcaster.publishChange(change("0C", "d"));
+
+		assertThat(reconnected.messages).extracting(LoanEventMessage::id).containsExactly("06", "0A", "0B", "0C");
+	}
+
+	@Test
+	void lastEventId_theChangeStreamCannotResume_getsResetAtTheStreamPosition() {
+		LoanEventBroadcaster broadcaster = broadcaster(16, 16, new SyncTaskExecutor());
+		broadcaster.useReplaySource(replaySource(null, "0B"));
+
+		CapturingEmitter reconnected = new CapturingEmitter();
+		broadcaster.subscribe(reconnected, "01", null);
+
+		assertThat(reconnected.messages).singleElement().satisfies(event -> {
+			assertThat(event.type()).isEqualTo(LoanEventBroadcaster.RESET);
+			assertThat(event.id()).isEqualTo("0B");
+		});
+	}
+
+	@Test
+	void slowSubscriber_isDisconnectedWhenBufferFills() {
+		List<Runnable> pending = new ArrayList<>();
+		TaskExecutor stalled = pending::add;
+		LoanEventBroadcaster broadcaster = broadcaster(2, 16, stalled);
+		CapturingEmitter emitter = new CapturingEmitter();
+		broadcaster.subscribe(emitter, null, null);
+
+		publish(broadcaster, "a", LoanStatus.SUBMITTED, LoanStatus.DRAFT);
+		publish(broadcaster, "b", LoanStatus.SUBMITTED, LoanStatus.DRAFT);
+		assertThat(broadcaster.subscriberCount()).isEqualTo(1);
+
+		publish(broadcaster, "c", LoanStatus.SUBMITTED, LoanStatus.DRAFT);
+
+		assertThat(broadcaster.subscriberCount()).isZero();
+		assertThat(emitter.completed).isTrue();
+	}
+
+	@Test
+	void heartbeat_sendsCommentWhenIdle() {
+		LoanEventBroadcaster broadcaster = broadcaster(16, 16, new SyncTaskExecutor());
+		CapturingEmitter emitter = new CapturingEmitter();
+		broadcaster.subscribe(emitter, null, null);
+
+		broadcaster.heartbeat();
+
+		assertThat(emitter.messages).isEmpty();
+		assertThat(emitter.comments).isEqualTo(1);
+	}
+
+	private static LoanEventBroadcaster broadcaster(int subscriberBuffer, int replayBuffer, TaskExecutor executor) {
+		return new LoanEventBroadcaster(
+				new LoanEventsProperties(subscriberBuffer, replayBuffer, Duration.ofMinutes(1), false, 1, Duration.ZERO),
+				executor);
+	}
+
+	@Test
+	void abandonStalledSends_disconnectsASubscriberBlockedInSend() throws Exception {
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("test-fan-out-");
+		LoanEventBroadcaster broadcaster = broadcaster(16, 16, executor);
+		CountDownLatch sending = new CountDownLatch(1);
+		CountDownLatch released = new CountDownLatch(1);
+		SseEmitter stalled = new SseEmitter() {
+			@Override
+			public void send(SseEventBuilder builder) throws IOException {
+				sending.countDown();
+				try {
+					// A client that stopped reading: the write never completes on its own
+					new CountDownLatch(1).await();
+				} catch (InterruptedException e) {
+					released.countDown();
+					throw new IOException("Write interrupted", e);
+				}
+			}
+		};
+		broadcaster.subscribe(stalled, null, null);
+		publish(broadcaster, "loan-1", LoanStatus.SUBMITTED, LoanStatus.DRAFT);
+		assertThat(sending.await(5, TimeUnit.SECONDS)).isTrue();
+
+		broadcaster.abandonStalledSends();
+
+		assertThat(released.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(broadcaster.subscriberCount()).isZero();
+		executor.close();
+	}
+
+	private static void publish(LoanEventBroadcaster broadcaster, String loanId, LoanStatus status, LoanStatus previous) {
+		broadcaster.publish("STATUS_CHANGED", loanId, "Client", status, previous, "actor", Instant.now());
+	}
+
+	private static LoanEventMessage change(String token, String loanId) {
+		return new LoanEventMessage(token, "UPDATED", loanId, "Client", LoanStatus.SUBMITTED, null, "actor", Instant.now());
+	}
+
+	private static LoanEventBroadcaster.ReplaySource replaySource(List<LoanEventMessage> events, String position) {
+		return new LoanEventBroadcaster.ReplaySource() {
+			@Override
+			public List<LoanEventMessage> eventsAfter(String eventId, int limit) {
+				return events;
+			}
+
+			@Override
+			public String position() {
+				return position;
+			}
+		};
+	}
+
+	static final class CapturingEmitter extends SseEmitter {
+		final List<LoanEventMessage> messages = new ArrayList<>();
+		private int comments;
+		private boolean completed;
+
+		@Override
+		public void send(SseEventBuilder builder) {
+			boolean hasMessage = false;
+			for (ResponseBodyEmitter.DataWithMediaType part : builder.build()) {
+				if (part.getData() instanceof LoanEventMessage message) {
+					messages.add(message);
+					hasMessage = true;
+				}
+			}
+			if (!hasMessage) {
+				comments++;
+			}
+		}
+
+		@Override
+		public void complete() {
+			completed = true;
+		}
+	}
+}
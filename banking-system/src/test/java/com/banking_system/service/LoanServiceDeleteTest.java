@@ -16,6 +16,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import com.banking_system.exception.LoanNotFoundException;
 import com.banking_system.model.Loan;
@@ -34,6 +35,21 @@ class LoanServiceDeleteTest {
 	@Mock
 	private PricingService pricingService;
 
+	@Mock
+	private LoanCache loanCache;
+
+	@Mock
+	private AmortizationEngine amortizationEngine;
+
+	@Mock
+	private PricingMemo pricingMemo;
+
+	@Mock
+	private CreditScoringService creditScoringService;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
 	@InjectMocks
 	private LoanService loanService;
 
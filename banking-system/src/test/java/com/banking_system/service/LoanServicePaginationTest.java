@@ -2,8 +2,11 @@ package com.banking_system.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.time.Instant;
@@ -15,6 +18,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -24,6 +28,7 @@ import org.springframework.data.domain.Sort;
 import com.banking_system.model.Loan;
 import com.banking_system.model.LoanStatus;
 import com.banking_system.model.dto.LoanResponse;
+import com.banking_system.model.dto.LoanSearchResult;
 import com.banking_system.repository.LoanRepository;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,6 +40,21 @@ class LoanServicePaginationTest {
 	@Mock
 	private PricingService pricingService;
 
+	@Mock
+	private LoanCache loanCache;
+
+	@Mock
+	private AmortizationEngine amortizationEngine;
+
+	@Mock
+	private PricingMemo pricingMemo;
+
+	@Mock
+	private CreditScoringService creditScoringService;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
 	@InjectMocks
 	private LoanService loanService;
 
@@ -96,8 +116,8 @@ class LoanServicePaginationTest {
 		Pageable pageable = PageRequest.of(0, 10);
 		Page<Loan> loanPage = new PageImpl<>(List.of(loan), pageable, 1);
 
-		when(loanRepository.findByDeletedAndClientNameContainingIgnoreCase(
-				eq(false), eq("ABC"), any(Pageable.class))).thenReturn(loanPage);
+		when(loanRepository.findByDeletedAndClientNameTokensAll(
+				eq(false), eq(List.of("abc")), any(Pageable.class))).thenReturn(loanPage);
 
 		Page<LoanResponse> result = loanService.getAllLoans(false, null, "ABC", null, pageable);
 
@@ -136,8 +156,8 @@ class LoanServicePaginationTest {
 		Pageable pageable = PageRequest.of(0, 10);
 		Page<Loan> loanPage = new PageImpl<>(List.of(loan), pageable, 1);
 
-		when(loanRepository.findByDeletedAndStatusAndClientNameContainingIgnoreCaseAndLoanType(
-				eq(false), eq(LoanStatus.SUBMITTED), eq("XYZ"), eq("TermLoan"), any(Pageable.class)))
+		when(loanRepository.findByDeletedAndStatusAndClientNameTokensAllAndLoanType(
+				eq(false), eq(LoanStatus.SUBMITTED), eq(List.of("xyz")), eq("TermLoan"), any(Pageable.class)))
 				.thenReturn(loanPage);
 
 		Page<LoanResponse> result = loanService.getAllLoans(
@@ -211,4 +231,71 @@ class LoanServicePaginationTest {
 		assertThat(result.getTotalElements()).isEqualTo(11);
 		assertThat(result.getTotalPages()).isEqualTo(2);
 	}
+
+	@Test
+	void getAllLoans_withPunctuationOnlyClientName_ignoresFilter() {
+		Pageable pageable = PageRequest.of(0, 10);
+		when(loanRepository.findByDeleted(eq(false), any(Pageable.class)))
+				.thenReturn(new PageImpl<>(List.of(), pageable, 0));
+
+		loanService.getAllLoans(false, null, " .,- ", null, pageable);
+
+		verify(loanRepository).findByDeleted(eq(false), any(Pageable.class));
+	}
+
+	@Test
+	void searchLoans_ranksExactThenPrefixThenWordMatches() {
+		Loan wordMatch = new Loan(
+				new ObjectId(), "Global Tech Holdings", "TermLoan", 10000.0, 10.0, 12, null,
+				LoanStatus.DRAFT, null, null, new ObjectId(), new ObjectId(), null, null,
+				Instant.now(), Instant.now(), false, null
+		);
+		Loan prefixMatch = new Loan(
+				new ObjectId(), "Tech Corp", "TermLoan", 10000.0, 10.0, 12, null,
+				LoanStatus.DRAFT, null, null, new ObjectId(), new ObjectId(), null, null,
+				Instant.now(), Instant.now(), false, null
+		);
+		Loan exactMatch = new Loan(
+				new ObjectId(), "TECH", "TermLoan", 10000.0, 10.0, 12, null,
+				LoanStatus.DRAFT, null, null, new ObjectId(), new ObjectId(), null, null,
+				Instant.now(), Instant.now(), false, null
+		);
+
+		when(loanRepository.searchByClientNameTokens(eq(false), eq(List.of("tech")), any(Pageable.class)))
+				.thenReturn(List.of(wordMatch, prefixMatch, exactMatch));
+
+		List<LoanSearchResult> results = loanService.searchLoans("Tech", false, 2);
+
+		assertThat(results).extracting(LoanSearchResult::clientName).containsExactly("TECH", "Tech Corp");
+	}
+
+	@Test
+	void searchLoans_takesWholeNameMatchesFromTheNameIndexBeforeWordMatches() {
+		Loan exactMatch = new Loan(
+				new ObjectId(), "Tech", "TermLoan", 10000.0, 10.0, 12, null,
+				LoanStatus.DRAFT, null, null, new ObjectId(), new ObjectId(), null, null,
+				Instant.now(), Instant.now(), false, null
+		);
+		Loan prefixMatch = new Loan(
+				new ObjectId(), "Tech Corp", "TermLoan", 10000.0, 10.0, 12, null,
+				LoanStatus.DRAFT, null, null, new ObjectId(), new ObjectId(), null, null,
+				Instant.now(), Instant.now(), false, null
+		);
+
+		when(loanRepository.searchByClientNameRange(eq(false), eq("tech"), eq("tech" + Character.MAX_VALUE),
+				any(Pageable.class)))
+				.thenReturn(List.of(exactMatch, prefixMatch));
+
+		List<LoanSearchResult> results = loanService.searchLoans("Tech", false, 2);
+
+		assertThat(results).extracting(LoanSearchResult::clientName).containsExactly("Tech", "Tech Corp");
+		// Enough whole-name matches: the word-prefix candidates could only rank below them
+		verify(loanRepository, never()).searchByClientNameTokens(anyBoolean(), any(), any());
+	}
+
+	@Test
+	void searchLoans_blankQuery_returnsEmptyWithoutQuerying() {
+		assertThat(loanService.searchLoans("  ", false, 10)).isEmpty();
+		verifyNoInteractions(loanRepository);
+	}
 }
@@ -12,9 +12,11 @@ import java.util.Optional;
 import org.bson.types.ObjectId;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import com.banking_system.exception.LoanEditNotAllowedException;
 import com.banking_system.exception.LoanNotFoundException;
@@ -36,6 +38,21 @@ class LoanServiceStatusTest {
 	@Mock
 	private PricingService pricingService;
 
+	@Mock
+	private LoanCache loanCache;
+
+	@Mock
+	private AmortizationEngine amortizationEngine;
+
+	@Mock
+	private PricingMemo pricingMemo;
+
+	@Mock
+	private CreditScoringService creditScoringService;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
 	@InjectMocks
 	private LoanService loanService;
 
@@ -224,4 +241,31 @@ class LoanServiceStatusTest {
 		assertThatThrownBy(() -> loanService.changeStatus(loanId.toHexString(), request, admin))
 				.isInstanceOf(LoanNotFoundException.class);
 	}
+
+	@Test
+	void changeStatus_publishesLifecycleEventWithBeforeAndAfterStatus() {
+		ObjectId loanId = new ObjectId();
+		ObjectId userId = new ObjectId();
+		User user = new User(userId, "user@test.com", "hash", UserRole.USER, true, Instant.now(), Instant.now());
+
+		Loan loan = new Loan(
+				loanId, "Client", "TermLoan", 10000.0, 10.0, 12, null,
+				LoanStatus.DRAFT, null, null, userId, userId, null, null,
+				Instant.now(), Instant.now(), false, null
+		);
+
+		when(loanRepository.findById(loanId)).thenReturn(Optional.of(loan));
+		when(loanRepository.save(any(Loan.class))).thenAnswer(inv -> inv.getArgument(0));
+
+		loanService.changeStatus(loanId.toHexString(), new ChangeStatusRequest("SUBMITTED", null), user);
+
+		ArgumentCaptor<LoanLifecycleEvent> captor = ArgumentCaptor.forClass(LoanLifecycleEvent.class);
+		verify(eventPublisher).publishEvent(captor.capture());
+		LoanLifecycleEvent event = captor.getValue();
+		assertThat(event.type()).isEqualTo(LoanLifecycleEvent.Type.STATUS_CHANGED);
+		assertThat(event.loanId()).isEqualTo(loanId.toHexString());
+		assertThat(event.before().status()).isEqualTo(LoanStatus.DRAFT);
+		assertThat(event.after().status()).isEqualTo(LoanStatus.SUBMITTED);
+		assertThat(event.actorId()).isEqualTo(userId.toHexString());
+	}
 }
@@ -3,6 +3,10 @@ package com.banking_system.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.Instant;
@@ -12,19 +16,25 @@ import java.util.Optional;
 import org.bson.types.ObjectId;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import com.banking_system.exception.LoanEditNotAllowedException;
 import com.banking_system.exception.LoanNotFoundException;
 import com.banking_system.model.Loan;
 import com.banking_system.model.Loan.Financials;
 import com.banking_system.model.LoanStatus;
+import com.banking_system.model.RepaymentStructure;
 import com.banking_system.model.User;
 import com.banking_system.model.UserRole;
 import com.banking_system.model.dto.CreateLoanRequest;
+import com.banking_system.model.dto.GridRange;
 import com.banking_system.model.dto.LoanResponse;
+import com.banking_system.model.dto.PricingGridRequest;
+import com.banking_system.model.dto.PricingRequest;
 import com.banking_system.model.dto.PricingResponse;
 import com.banking_system.model.dto.UpdateLoanAdminRequest;
 import com.banking_system.model.dto.UpdateLoanRequest;
@@ -39,6 +49,21 @@ class LoanServiceTest {
 	@Mock
 	PricingService pricingService;
 
+	@Mock
+	LoanCache loanCache;
+
+	@Mock
+	AmortizationEngine amortizationEngine;
+
+	@Mock
+	PricingMemo pricingMemo;
+
+	@Mock
+	CreditScoringService creditScoringService;
+
+	@Mock
+	ApplicationEventPublisher eventPublisher;
+
 	@InjectMocks
 	LoanService loanService;
 
@@ -55,6 +80,7 @@ class LoanServiceTest {
 				financials
 		);
 
+		when(pricingService.calculatePricing(any())).thenReturn(new PricingResponse(11.5, 1650000.0, 9400000.0, "LOW"));
 		when(loanRepository.save(any(Loan.class))).thenAnswer(inv -> {
 			Loan l = inv.getArgument(0);
 			l.setId(new ObjectId());
@@ -68,6 +94,30 @@ class LoanServiceTest {
 		assertThat(response.requestedAmount()).isEqualTo(50000000.0);
 	}
 
+	@Test
+	void createLoan_pricesOnModelRatingInsteadOfEnteredRating() {
+		User user = new User(new ObjectId(), "user@bank.com", "hash", UserRole.USER, true, Instant.now(), Instant.now());
+		CreateLoanRequest request = new CreateLoanRequest(
+				"OmniTech Pvt Ltd", "TermLoan", 50000000.0, 11.5, 36, new Financials(120000000.0, 14000000.0, "A"));
+		Loan.CreditScore score = new Loan.CreditScore(52.0, "C", 42L, CreditScoringModel.VERSION, Instant.now());
+
+		when(creditScoringService.score(any(Loan.class))).thenReturn(score);
+		when(pricingService.calculatePricing(any())).thenReturn(new PricingResponse(12.5, 1670000.0, 10120000.0, "HIGH"));
+		when(loanRepository.save(any(Loan.class))).thenAnswer(inv -> {
+			Loan l = inv.getArgument(0);
+			l.setId(new ObjectId());
+			return l;
+		});
+
+		LoanResponse response = loanService.createLoan(request, user);
+
+		ArgumentCaptor<PricingRequest> priced = ArgumentCaptor.forClass(PricingRequest.class);
+		verify(pricingService).calculatePricing(priced.capture());
+		assertThat(priced.getValue().rating()).isEqualTo("C");
+		assertThat(response.creditScore()).isSameAs(score);
+		assertThat(response.financials().getRating()).isEqualTo("A");
+	}
+
 	@Test
 	void getLoanById_found_returnsLoan() {
 		ObjectId id = new ObjectId();
@@ -126,6 +176,7 @@ class LoanServiceTest {
 				Instant.now(), Instant.now(), false, null
 		);
 
+		when(pricingService.calculatePricing(any())).thenReturn(new PricingResponse(11.5, 1650000.0, 9400000.0, "LOW"));
 		when(loanRepository.findById(id)).thenReturn(Optional.of(loan));
 		when(loanRepository.save(any(Loan.class))).thenAnswer(inv -> inv.getArgument(0));
 
@@ -133,6 +184,7 @@ class LoanServiceTest {
 		LoanResponse response = loanService.updateLoan(id.toHexString(), request, user);
 
 		assertThat(response.clientName()).isEqualTo("NewClient");
+		verify(pricingMemo).invalidate(id);
 	}
 
 	@Test
@@ -194,4 +246,164 @@ class LoanServiceTest {
 		assertThat(response.recommendedRate()).isEqualTo(11.5);
 		assertThat(response.riskCategory()).isEqualTo("LOW");
 	}
+
+	@Test
+	void calculatePricing_memoHit_skipsPricingService() {
+		ObjectId id = new ObjectId();
+		Loan loan = new Loan(
+				id, "Client", "TermLoan", 50000000.0, 11.5, 36, new Financials(120000000.0, 14000000.0, "A"),
+				LoanStatus.DRAFT, null, null, new ObjectId(), new ObjectId(), null, null,
+				Instant.now(), Instant.now(), false, null
+		);
+		PricingResponse memoized = new PricingResponse(11.5, 1650000.0, 9400000.0, "LOW");
+
+		when(loanRepository.findById(id)).thenReturn(Optional.of(loan));
+		when(pricingMemo.get(any(), anyLong())).thenReturn(memoized);
+
+		assertThat(loanService.calculatePricing(id.toHexString())).isSameAs(memoized);
+		verify(pricingService, never()).calculatePricing(any());
+		verify(loanRepository, never()).updatePricingById(any(), any());
+	}
+
+	@Test
+	void calculatePricing_matchingSnapshot_isReusedWithoutRepricing() {
+		ObjectId id = new ObjectId();
+		Loan loan = new Loan(
+				id, "Client", "TermLoan", 50000000.0, 11.5, 36, new Financials(120000000.0, 14000000.0, "A"),
+				LoanStatus.DRAFT, null, null, new ObjectId(), new ObjectId(), null, null,
+				Instant.now(), Instant.now(), false, null
+		);
+		long inputsHash = PricingMemo.inputsHash(
+				new PricingRequest(50000000.0, 11.5, 36, "A", "TermLoan"), 0L);
+		loan.setPricing(new Loan.PricingSnapshot(11.5, 1650000.0, 9400000.0, "LOW", inputsHash, 0L, Instant.now()));
+
+		when(loanRepository.findById(id)).thenReturn(Optional.of(loan));
+
+		PricingResponse response = loanService.calculatePricing(id.toHexString());
+
+		assertThat(response.emi()).isEqualTo(1650000.0);
+		verify(pricingService, never()).calculatePricing(any());
+		verify(pricingMemo).put(id, inputsHash, response);
+	}
+
+	@Test
+	void calculatePricing_staleSnapshot_repricesAndPersists() {
+		ObjectId id = new ObjectId();
+		Loan loan = new Loan(
+				id, "Client", "TermLoan", 50000000.0, 11.5, 36, new Financials(120000000.0, 14000000.0, "A"),
+				LoanStatus.DRAFT, null, null, new ObjectId(), new ObjectId(), null, null,
+				Instant.now(), Instant.now(), false, null
+		);
+		Loan.PricingSnapshot stale = new Loan.PricingSnapshot(10.0, 1.0, 1.0, "LOW", 42L, 0L, Instant.now());
+		loan.setPricing(stale);
+
+		when(loanCache.getIfPresent(id)).thenReturn(loan);
+		when(pricingService.calculatePricing(any())).thenReturn(
+				new PricingResponse(11.5, 1650000.0, 9400000.0, "LOW")
+		);
+
+		loanService.calculatePricing(id.toHexString());
+
+		// The cached instance is shared with other readers and is only evicted, never edited
+		assertThat(loan.getPricing()).isSameAs(stale);
+
+		ArgumentCaptor<Loan.PricingSnapshot> snapshot = ArgumentCaptor.forClass(Loan.PricingSnapshot.class);
+		verify(loanRepository).updatePricingById(eq(id), snapshot.capture());
+		assertThat(snapshot.getValue().getEmi()).isEqualTo(1650000.0);
+		assertThat(snapshot.getValue().getInputsHash()).isNotEqualTo(42L);
+		verify(loanCache).invalidate(id);
+	}
+
+	@Test
+	void calculatePricingGrid_omittedAxesUseLoanValues() {
+		ObjectId id = new ObjectId();
+		Financials financials = new Financials(120000000.0, 14000000.0, "A");
+		Loan loan = new Loan(
+				id, "Client", "TermLoan", 50000000.0, 11.5, 36, financials,
+				LoanStatus.DRAFT, null, null, new ObjectId(), new ObjectId(), null, null,
+				Instant.now(), Instant.now(), false, null
+		);
+		when(loanRepository.findById(id)).thenReturn(Optional.of(loan));
+
+		loanService.calculatePricingGrid(id.toHexString(),
+				new PricingGridRequest(new GridRange(10.0, 11.0, 0.5, null), null, null));
+
+		verify(pricingService).priceGrid(id.toHexString(), "A", "TermLoan",
+				new double[] { 10.0, 10.5, 11.0 }, new int[] { 36 }, new double[] { 50000000.0 });
+	}
+
+	@Test
+	void getAmortizationSchedule_usesRecommendedRate() {
+		ObjectId id = new ObjectId();
+		Financials financials = new Financials(120000000.0, 14000000.0, "B");
+		Loan loan = new Loan(
+				id, "Client", "TermLoan", 50000000.0, 11.5, 36, financials,
+				LoanStatus.DRAFT, null, null, new ObjectId(), new ObjectId(), null, null,
+				Instant.now(), Instant.now(), false, null
+		);
+
+		when(loanRepository.findById(id)).thenReturn(Optional.of(loan));
+		when(pricingService.calculatePricing(any())).thenReturn(
+				new PricingResponse(12.0, 1660000.0, 9800000.0, "MEDIUM")
+		);
+
+		loanService.getAmortizationSchedule(id.toHexString(), RepaymentStructure.BALLOON, 20.0, 0);
+
+		verify(amortizationEngine).schedule(50000000.0, 12.0, 36, RepaymentStructure.BALLOON, 20.0, 0);
+	}
+
+	@Test
+	void getLoanById_cached_skipsRepository() {
+		ObjectId id = new ObjectId();
+		Loan loan = new Loan(
+				id, "Cached Client", "TermLoan", 10000.0, 10.0, 12, null,
+				LoanStatus.DRAFT, null, null, new ObjectId(), new ObjectId(), null, null,
+				Instant.now(), Instant.now(), false, null
+		);
+
+		when(loanCache.getIfPresent(id)).thenReturn(loan);
+
+		LoanResponse response = loanService.getLoanById(id.toHexString());
+
+		assertThat(response.clientName()).isEqualTo("Cached Client");
+		verify(loanRepository, never()).findById(any());
+	}
+
+	@Test
+	void getLoanById_cacheMiss_populatesCache() {
+		ObjectId id = new ObjectId();
+		Loan loan = new Loan(
+				id, "Client", "TermLoan", 10000.0, 10.0, 12, null,
+				LoanStatus.DRAFT, null, null, new ObjectId(), new ObjectId(), null, null,
+				Instant.now(), Instant.now(), false, null
+		);
+
+		when(loanCache.writeStamp(id)).thenReturn(3L);
+		when(loanRepository.findById(id)).thenReturn(Optional.of(loan));
+
+		loanService.getLoanById(id.toHexString());
+
+		verify(loanCache).putIfUnchanged(loan, 3L);
+		verify(loanCache, never()).put(any());
+	}
+
+	@Test
+	void updateLoan_writesSavedLoanThroughCache() {
+		ObjectId id = new ObjectId();
+		User user = new User(new ObjectId(), "user@bank.com", "hash", UserRole.USER, true, Instant.now(), Instant.now());
+		Loan loan = new Loan(
+				id, "OldClient", "TermLoan", 10000.0, 10.0, 12, null,
+				LoanStatus.DRAFT, null, null, user.getId(), user.getId(), null, null,
+				Instant.now(), Instant.now(), false, null
+		);
+
+		when(pricingService.calculatePricing(any())).thenReturn(new PricingResponse(11.5, 1650000.0, 9400000.0, "LOW"));
+		when(loanRepository.findById(id)).thenReturn(Optional.of(loan));
+		when(loanRepository.save(any(Loan.class))).thenAnswer(inv -> inv.getArgument(0));
+
+		loanService.updateLoan(id.toHexString(), new UpdateLoanRequest(null, null, 20000.0, null, null, null), user);
+
+		verify(loanCache).put(loan);
+		verify(loanCache, never()).getIfPresent(any());
+	}
 }
@@ -0,0 +1,181 @@
+package com.banking_system.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.banking_system.model.LoanStatsBucket;
+import com.banking_system.model.LoanStatus;
+import com.banking_system.model.dto.ApprovalStats;
+import com.banking_system.model.dto.LoanKpiResponse;
+import com.banking_system.model.dto.LoanStatsConsistencyReport;
+import com.banking_system.model.dto.PortfolioAnalyticsResponse;
+import com.banking_system.model.dto.PortfolioBucket;
+import com.banking_system.service.LoanLifecycleEvent.LoanSnapshot;
+
+@ExtendWith(MockitoExtension.class)
+class LoanStatsServiceTest {
+
+	@Mock
+	private MongoTemplate mongoTemplate;
+
+	@Mock
+	private LoanAnalyticsService loanAnalyticsService;
+
+	@Mock
+	private BulkOperations bulkOperations;
+
+	@InjectMocks
+	private LoanStatsService loanStatsService;
+
+	@Test
+	void deltas_create_incrementsEveryDimension() {
+		LoanSnapshot created = snapshot(LoanStatus.DRAFT, 1000.0, 0.0, false);
+
+		Map<String, LoanStatsService.Delta> deltas = LoanStatsService.deltas(null, created);
+
+		assertThat(deltas).containsOnlyKeys("total:ALL", "status:DRAFT", "loanType:TermLoan", "rating:A");
+		assertThat(deltas.get("status:DRAFT").count()).isEqualTo(1);
+		assertThat(deltas.get("total:ALL").requested()).isEqualTo(1000.0);
+	}
+
+	@Test
+	void deltas_statusChange_movesOnlyStatusBuckets() {
+		LoanSnapshot before = snapshot(LoanStatus.DRAFT, 1000.0, 0.0, false);
+		LoanSnapshot after = snapshot(LoanStatus.SUBMITTED, 1000.0, 0.0, false);
+
+		Map<String, LoanStatsService.Delta> deltas = LoanStatsService.deltas(before, after);
+
+		assertThat(deltas).containsOnlyKeys("status:DRAFT", "status:SUBMITTED");
+		assertThat(deltas.get("status:DRAFT").count()).isEqualTo(-1);
+		assertThat(deltas.get("status:SUBMITTED").count()).isEqualTo(1);
+	}
+
+	@Test
+	void deltas_sanctionChange_adjustsAmountsWithoutCount() {
+		LoanSnapshot before = snapshot(LoanStatus.UNDER_REVIEW, 1000.0, 0.0, false);
+		LoanSnapshot after = snapshot(LoanStatus.UNDER_REVIEW, 1000.0, 800.0, false);
+
+		Map<String, LoanStatsService.Delta> deltas = LoanStatsService.deltas(before, after);
+
+		assertThat(deltas.get("total:ALL").count()).isZero();
+		assertThat(deltas.get("total:ALL").sanctioned()).isEqualTo(800.0);
+	}
+
+	@Test
+	void deltas_softDelete_removesContribution() {
+		LoanSnapshot before = snapshot(LoanStatus.DRAFT, 1000.0, 0.0, false);
+		LoanSnapshot after = snapshot(LoanStatus.DRAFT, 1000.0, 0.0, true);
+
+		Map<String, LoanStatsService.Delta> deltas = LoanStatsService.deltas(before, after);
+
+		assertThat(deltas.get("total:ALL").count()).isEqualTo(-1);
+		assertThat(deltas.get("total:ALL").requested()).isEqualTo(-1000.0);
+	}
+
+	@Test
+	void onLoanEvent_noOpUpdate_skipsWrite() {
+		LoanSnapshot same = snapshot(LoanStatus.DRAFT, 1000.0, 0.0, false);
+
+		loanStatsService.onLoanEvent(new LoanLifecycleEvent(
+				LoanLifecycleEvent.Type.UPDATED, "id", same, same, "user", Instant.now()));
+
+		verify(mongoTemplate, never()).bulkOps(any(), any(Class.class));
+	}
+
+	@Test
+	void onLoanEvent_upsertsEachChangedBucketInOneBulkWrite() {
+		when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, LoanStatsBucket.class)).thenReturn(bulkOperations);
+
+		loanStatsService.onLoanEvent(new LoanLifecycleEvent(
+				LoanLifecycleEvent.Type.CREATED, "id", null,
+				snapshot(LoanStatus.DRAFT, 1000.0, 0.0, false), "user", Instant.now()));
+
+		verify(bulkOperations, times(4)).upsert(any(Query.class), any(Update.class));
+		verify(bulkOperations).execute();
+	}
+
+	@Test
+	void getKpis_readsSummaryAndHidesEmptyBuckets() {
+		Instant updated = Instant.parse("2026-05-01T10:00:00Z");
+		when(mongoTemplate.findAll(LoanStatsBucket.class)).thenReturn(List.of(
+				new LoanStatsBucket("total:ALL", "total", "ALL", 3, 3000.0, 800.0, updated),
+				new LoanStatsBucket("status:SUBMITTED", "status", "SUBMITTED", 1, 1000.0, 0.0, updated),
+				new LoanStatsBucket("status:DRAFT", "status", "DRAFT", 2, 2000.0, 0.0, updated),
+				new LoanStatsBucket("status:APPROVED", "status", "APPROVED", 0, 0.0, 0.0, updated)));
+
+		LoanKpiResponse kpis = loanStatsService.getKpis();
+
+		assertThat(kpis.totalLoans()).isEqualTo(3);
+		assertThat(kpis.totalSanctionedExposure()).isEqualTo(800.0);
+		assertThat(kpis.byStatus()).extracting(PortfolioBucket::key).containsExactly("DRAFT", "SUBMITTED");
+		assertThat(kpis.lastUpdatedAt()).isEqualTo(updated);
+	}
+
+	@Test
+	void checkConsistency_reportsDriftAgainstSource() {
+		when(loanAnalyticsService.getPortfolioAnalytics(null, null)).thenReturn(new PortfolioAnalyticsResponse(
+				2, 2000.0, 0.0,
+				List.of(new PortfolioBucket("DRAFT", 2, 2000.0, 0.0)),
+				List.of(new PortfolioBucket("TermLoan", 2, 2000.0, 0.0)),
+				List.of(new PortfolioBucket("A", 2, 2000.0, 0.0)),
+				new ApprovalStats(0, null, null, null, null),
+				Instant.now()));
+		when(mongoTemplate.findAll(LoanStatsBucket.class)).thenReturn(List.of(
+				new LoanStatsBucket("total:ALL", "total", "ALL", 2, 2000.0, 0.0, null),
+				new LoanStatsBucket("status:DRAFT", "status", "DRAFT", 1, 1000.0, 0.0, null),
+				new LoanStatsBucket("status:SUBMITTED", "status", "SUBMITTED", 0, 0.0, 0.0, null),
+				new LoanStatsBucket("loanType:TermLoan", "loanType", "TermLoan", 2, 2000.0, 0.0, null),
+				new LoanStatsBucket("rating:A", "rating", "A", 2, 2000.0, 0.0, null)));
+
+		LoanStatsConsistencyReport report = loanStatsService.checkConsistency();
+
+		assertThat(report.consistent()).isFalse();
+		assertThat(report.mismatches()).singleElement()
+				.satisfies(m -> {
+					assertThat(m.bucket()).isEqualTo("status:DRAFT");
+					assertThat(m.expectedCount()).isEqualTo(2);
+					assertThat(m.actualCount()).isEqualTo(1);
+				});
+	}
+
+	@Test
+	void rebuild_replacesSummaryFromSource() {
+		when(loanAnalyticsService.getPortfolioAnalytics(null, null)).thenReturn(new PortfolioAnalyticsResponse(
+				1, 500.0, 0.0,
+				List.of(new PortfolioBucket("DRAFT", 1, 500.0, 0.0)),
+				List.of(new PortfolioBucket("TermLoan", 1, 500.0, 0.0)),
+				List.of(new PortfolioBucket("UNKNOWN", 1, 500.0, 0.0)),
+				new ApprovalStats(0, null, null, null, null),
+				Instant.now()));
+
+		LoanKpiResponse kpis = loanStatsService.rebuild();
+
+		verify(mongoTemplate).remove(any(Query.class), eq(LoanStatsBucket.class));
+		verify(mongoTemplate).insertAll(any());
+		assertThat(kpis.totalLoans()).isEqualTo(1);
+		assertThat(kpis.byRating()).extracting(PortfolioBucket::key).containsExactly("UNKNOWN");
+	}
+
+	private static LoanSnapshot snapshot(LoanStatus status, double requested, double sanctioned, boolean deleted) {
+		return new LoanSnapshot("Client", "TermLoan", status, "A", requested, sanctioned, deleted);
+	}
+}
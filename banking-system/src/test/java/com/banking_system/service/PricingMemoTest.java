@@ -0,0 +1,56 @@
+package com.banking_system.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+
+import com.banking_system.config.PricingMemoProperties;
+import com.banking_system.model.dto.PricingRequest;
+import com.banking_system.model.dto.PricingResponse;
+
+class PricingMemoTest {
+
+	private static final PricingRequest REQUEST = new PricingRequest(50000000.0, 11.5, 36, "A", "TermLoan");
+	private static final PricingResponse RESPONSE = new PricingResponse(11.5, 1650000.0, 9400000.0, "LOW");
+
+	@Test
+	void get_hitsOnlyForSameInputsHash() {
+		PricingMemo memo = new PricingMemo(new PricingMemoProperties(true, 100));
+		ObjectId id = new ObjectId();
+		long hash = PricingMemo.inputsHash(REQUEST, 1L);
+
+		memo.put(id, hash, RESPONSE);
+
+		assertThat(memo.get(id, hash)).isSameAs(RESPONSE);
+		assertThat(memo.get(id, hash + 1)).isNull();
+		memo.invalidate(id);
+		assertThat(memo.get(id, hash)).isNull();
+	}
+
+	@Test
+	void inputsHash_changesWithInputsAndRulesVersion() {
+		long base = PricingMemo.inputsHash(REQUEST, 1L);
+
+		assertThat(PricingMemo.inputsHash(new PricingRequest(50000000.0, 11.5, 36, "a", "termloan"), 1L))
+				.isEqualTo(base);
+		assertThat(PricingMemo.inputsHash(REQUEST, 2L)).isNotEqualTo(base);
+		assertThat(PricingMemo.inputsHash(new PricingRequest(50000000.0, 11.5, 48, "A", "TermLoan"), 1L))
+				.isNotEqualTo(base);
+		assertThat(PricingMemo.inputsHash(new PricingRequest(50000001.0, 11.5, 36, "A", "TermLoan"), 1L))
+				.isNotEqualTo(base);
+		assertThat(PricingMemo.inputsHash(new PricingRequest(50000000.0, 11.5, 36, "B", "TermLoan"), 1L))
+				.isNotEqualTo(base);
+	}
+
+	@Test
+	void disabled_neverStores() {
+		PricingMemo memo = new PricingMemo(new PricingMemoProperties(false, 100));
+		ObjectId id = new ObjectId();
+
+		memo.put(id, 7L, RESPONSE);
+
+		assertThat(memo.get(id, 7L)).isNull();
+		assertThat(memo.stats().estimatedEntries()).isZero();
+	}
+}
@@ -0,0 +1,89 @@
+package com.banking_system.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import com.banking_system.config.PricingRulesProperties;
+import com.banking_system.exception.InvalidPricingRulesException;
+import com.banking_system.model.PricingRule;
+import com.banking_system.model.dto.PricingRequest;
+import com.banking_system.model.dto.PricingRulesStatus;
+import com.banking_system.repository.PricingRuleRepository;
+
+@ExtendWith(MockitoExtension.class)
+class PricingRuleEngineTest {
+
+	@Mock
+	private PricingRuleRepository pricingRuleRepository;
+
+	private final List<Object> events = new ArrayList<>();
+
+	@Test
+	void reload_bundledFileMatchesBuiltInTable() {
+		PricingRuleEngine engine = engine("file");
+
+		PricingRulesStatus status = engine.reload();
+
+		assertThat(status.version()).isZero();
+		assertThat(status.source()).isEqualTo(PricingRuleEngine.DEFAULT_FILE);
+		assertThat(status.ruleCount()).isEqualTo(4);
+	}
+
+	@Test
+	void reload_swapsInChangedRulesAndPricingUsesThem() {
+		PricingRuleEngine engine = engine("mongo");
+		PricingRule flat = new PricingRule(PricingRule.ANY, PricingRule.ANY, 0.75, "MEDIUM");
+		when(pricingRuleRepository.findAll()).thenReturn(List.of(flat));
+		PricingService pricingService = new PricingService(engine);
+
+		PricingRulesStatus status = engine.reload();
+
+		assertThat(status.version()).isEqualTo(1L);
+		assertThat(status.source()).isEqualTo("mongo:pricing_rules");
+		assertThat(pricingService.rulesVersion()).isEqualTo(1L);
+		assertThat(pricingService.calculatePricing(new PricingRequest(1_000_000.0, 10.0, 12, "A")).recommendedRate())
+				.isEqualTo(10.75);
+
+		assertThat(events).containsExactly(new PricingRulesChangedEvent(
+				0L, 1L, engine.current().fingerprint(), "mongo:pricing_rules"));
+
+		// Unchanged source keeps the version
+		assertThat(engine.reload().version()).isEqualTo(1L);
+		assertThat(events).hasSize(1);
+	}
+
+	@Test
+	void reload_emptyCollectionFallsBackToFile() {
+		PricingRuleEngine engine = engine("mongo");
+		when(pricingRuleRepository.findAll()).thenReturn(List.of());
+
+		assertThat(engine.reload().source()).isEqualTo(PricingRuleEngine.DEFAULT_FILE);
+	}
+
+	@Test
+	void reload_invalidRulesKeepCurrentTable() {
+		PricingRuleEngine engine = engine("mongo");
+		PricingRule gap = new PricingRule("A", PricingRule.ANY, 0.0, "LOW");
+		when(pricingRuleRepository.findAll()).thenReturn(List.of(gap));
+		String before = engine.current().fingerprint();
+
+		assertThatThrownBy(engine::reload).isInstanceOf(InvalidPricingRulesException.class);
+		assertThat(engine.current().fingerprint()).isEqualTo(before);
+	}
+
+	private PricingRuleEngine engine(String source) {
+		return new PricingRuleEngine(
+				new PricingRulesProperties(source, null), pricingRuleRepository, new DefaultResourceLoader(),
+				events::add);
+	}
+}
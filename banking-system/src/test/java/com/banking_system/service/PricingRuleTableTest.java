@@ -0,0 +1,94 @@
+package com.banking_system.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.banking_system.model.PricingRule;
+
+class PricingRuleTableTest {
+
+	@Test
+	void defaults_reproduceRatingSpreads() {
+		PricingRuleTable table = PricingRuleTable.defaults();
+
+		assertSpread(table, "A", "TermLoan", 36, 1_000_000.0, 0.0, "LOW");
+		assertSpread(table, "b", "WorkingCapital", 12, 10.0, 0.5, "MEDIUM");
+		assertSpread(table, "C", null, 360, 1e9, 1.0, "HIGH");
+		assertSpread(table, "D", "TermLoan", 36, 1_000_000.0, 1.5, "VERY_HIGH");
+		assertSpread(table, "AA", "TermLoan", 36, 1_000_000.0, 1.5, "VERY_HIGH");
+	}
+
+	@Test
+	void compile_mostSpecificRuleWins() {
+		PricingRule base = new PricingRule("A", PricingRule.ANY, 0.0, "LOW");
+		PricingRule longTenure = new PricingRule("A", PricingRule.ANY, 0.25, "LOW");
+		longTenure.setMinTenureMonths(60);
+		PricingRule termLoan = new PricingRule("A", "TERM_LOAN", 0.1, "LOW");
+		PricingRule largeTermLoan = new PricingRule("A", "TERM_LOAN", 0.05, "LOW");
+		largeTermLoan.setMinAmount(100_000_000.0);
+		PricingRule fallback = new PricingRule(PricingRule.ANY, PricingRule.ANY, 2.0, "VERY_HIGH");
+
+		PricingRuleTable table = PricingRuleTable.compile(
+				List.of(fallback, base, longTenure, termLoan, largeTermLoan), 3L, "test");
+
+		assertSpread(table, "A", "WORKING_CAPITAL", 36, 1_000.0, 0.0, "LOW");
+		assertSpread(table, "A", "WORKING_CAPITAL", 60, 1_000.0, 0.25, "LOW");
+		assertSpread(table, "A", "WORKING_CAPITAL", 59, 1_000.0, 0.0, "LOW");
+		assertSpread(table, "A", "term_loan", 120, 1_000.0, 0.1, "LOW");
+		assertSpread(table, "A", "TERM_LOAN", 12, 100_000_000.0, 0.05, "LOW");
+		assertSpread(table, "A", "TERM_LOAN", 12, 99_999_999.0, 0.1, "LOW");
+		assertSpread(table, "B", "TERM_LOAN", 12, 1_000.0, 2.0, "VERY_HIGH");
+		assertThat(table.version()).isEqualTo(3L);
+	}
+
+	@Test
+	void compile_priorityBreaksTies() {
+		PricingRule low = new PricingRule(PricingRule.ANY, PricingRule.ANY, 1.0, "HIGH");
+		PricingRule high = new PricingRule(PricingRule.ANY, PricingRule.ANY, 0.75, "MEDIUM");
+		high.setPriority(5);
+
+		PricingRuleTable table = PricingRuleTable.compile(List.of(low, high), 1L, "test");
+
+		assertSpread(table, "A", "TERM_LOAN", 12, 1_000.0, 0.75, "MEDIUM");
+	}
+
+	@Test
+	void compile_rejectsGaps() {
+		PricingRule onlyShort = new PricingRule(PricingRule.ANY, PricingRule.ANY, 1.0, "HIGH");
+		onlyShort.setMaxTenureMonths(60);
+
+		assertThatThrownBy(() -> PricingRuleTable.compile(List.of(onlyShort), 1L, "test"))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("tenure 60");
+	}
+
+	@Test
+	void compile_rejectsInvertedBounds() {
+		PricingRule inverted = new PricingRule(PricingRule.ANY, PricingRule.ANY, 1.0, "HIGH");
+		inverted.setMinAmount(10.0);
+		inverted.setMaxAmount(5.0);
+
+		assertThatThrownBy(() -> PricingRuleTable.compile(List.of(inverted), 1L, "test"))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void fingerprint_changesWithContent() {
+		List<PricingRule> rules = PricingRuleTable.defaultRules();
+		PricingRule changed = new PricingRule("A", PricingRule.ANY, 0.1, "LOW");
+
+		assertThat(PricingRuleTable.fingerprint(rules)).isEqualTo(PricingRuleTable.fingerprint(PricingRuleTable.defaultRules()));
+		assertThat(PricingRuleTable.fingerprint(List.of(changed))).isNotEqualTo(PricingRuleTable.fingerprint(rules));
+	}
+
+	private static void assertSpread(PricingRuleTable table, String rating, String loanType, int tenure, double amount,
+			double spread, String riskCategory) {
+		int cell = table.cell(rating, loanType, tenure, amount);
+		assertThat(table.spreadAt(cell)).isEqualTo(spread);
+		assertThat(table.riskCategoryAt(cell)).isEqualTo(riskCategory);
+	}
+}
@@ -1,9 +1,17 @@
 package com.banking_system.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import com.banking_system.exception.InvalidPricingGridException;
+import com.banking_system.model.dto.GridRange;
+import com.banking_system.model.dto.PricingGridResponse;
 import com.banking_system.model.dto.PricingRequest;
 import com.banking_system.model.dto.PricingResponse;
 
@@ -65,4 +73,77 @@ class PricingServiceTest {
 		assertThat(response.emi()).isBetween(880.0, 900.0);
 		assertThat(response.totalInterest()).isBetween(600.0, 700.0);
 	}
+
+	@Test
+	void priceGrid_matchesSingleCellPricing() {
+		double[] rates = { 9.0, 10.5, 12.0 };
+		int[] tenures = { 12, 36, 360 };
+		double[] amounts = { 10000.0, 2500000.0, 50000000.0 };
+
+		PricingGridResponse grid = pricingService.priceGrid("loan", "B", "TERM_LOAN", rates, tenures, amounts);
+
+		assertThat(grid.emi()).hasSize(27);
+		for (int i = 0; i < rates.length; i++) {
+			for (int j = 0; j < tenures.length; j++) {
+				for (int k = 0; k < amounts.length; k++) {
+					int cell = (i * tenures.length + j) * amounts.length + k;
+					PricingResponse single = pricingService.calculatePricing(
+							new PricingRequest(amounts[k], rates[i], tenures[j], "B", "TERM_LOAN"));
+					assertThat(grid.recommendedRate()[cell]).isEqualTo(single.recommendedRate());
+					assertThat(grid.emi()[cell]).isCloseTo(single.emi(), within(0.01));
+					assertThat(grid.totalInterest()[cell]).isCloseTo(single.totalInterest(), within(0.01 * tenures[j]));
+					assertThat(grid.riskCategories().get(grid.riskCategoryIndex()[cell])).isEqualTo("MEDIUM");
+				}
+			}
+		}
+	}
+
+	@Test
+	void priceBatch_matchesSingleLoanPricing() {
+		String[] ratings = { "A", "B", "C", null };
+		PricingBatch batch = new PricingBatch(40);
+		for (int i = 0; i < batch.size(); i++) {
+			batch.set(i, 250000.0 * (i + 1), 9.0 + 0.1 * i, 12 * (1 + i % 30), ratings[i % 4], "TermLoan");
+		}
+
+		pricingService.priceBatch(batch);
+
+		for (int i = 0; i < batch.size(); i++) {
+			PricingResponse single = pricingService.calculatePricing(new PricingRequest(
+					250000.0 * (i + 1), 9.0 + 0.1 * i, 12 * (1 + i % 30), ratings[i % 4], "TermLoan"));
+			assertThat(batch.recommendedRate(i)).isEqualTo(single.recommendedRate());
+			assertThat(batch.emi(i)).isCloseTo(single.emi(), within(0.01));
+			assertThat(batch.riskCategory(i)).isEqualTo(single.riskCategory());
+		}
+	}
+
+	@Test
+	void priceGrid_rejectsOversizedGrid() {
+		double[] axis = new double[PricingService.MAX_GRID_AXIS_POINTS];
+		Arrays.fill(axis, 10.0);
+
+		assertThatThrownBy(() -> pricingService.priceGrid("loan", "A", null, axis, new int[] { 12 }, axis))
+				.isInstanceOf(InvalidPricingGridException.class);
+	}
+
+	@Test
+	void gridAxis_expandsRangesAndDefaults() {
+		assertThat(PricingService.gridAxis(null, 11.5, "rate")).containsExactly(11.5);
+		assertThat(PricingService.gridAxis(new GridRange(10.0, 12.0, 0.5, null), 11.5, "rate"))
+				.containsExactly(10.0, 10.5, 11.0, 11.5, 12.0);
+		assertThat(PricingService.gridAxis(new GridRange(null, null, null, List.of(9.0, 13.0)), 11.5, "rate"))
+				.containsExactly(9.0, 13.0);
+		assertThat(PricingService.tenureAxis(new GridRange(12.0, 36.0, 12.0, null), 60))
+				.containsExactly(12, 24, 36);
+	}
+
+	@Test
+	void gridAxis_rejectsInvalidRanges() {
+		assertThatThrownBy(() -> PricingService.gridAxis(new GridRange(12.0, 10.0, 0.5, null), 11.5, "rate"))
+				.isInstanceOf(InvalidPricingGridException.class);
+		assertThatThrownBy(() -> PricingService.gridAxis(new GridRange(10.0, 12.0, null, null), 11.5, "rate"))
+				.isInstanceOf(InvalidPricingGridException.class);
+		assertThatThrownBy(() -> PricingService.tenureAxis(new GridRange(12.0, 13.0, 0.5, null), 12))
+				.isInstanceOf(InvalidPricingGridException.class);
+	}
 }
@@ -0,0 +1,66 @@
+package com.banking_system.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.Test;
+
+class QueryShapeTest {
+
+	@Test
+	void find_redactsLiteralsAndKeepsSort() {
+		BsonDocument command = BsonDocument.parse("""
+				{ "find": "loans", "filter": { "deleted": false, "clientName": { "$regex": "^Acme" },
+				  "status": { "$in": ["DRAFT", "SUBMITTED", "UNDER_REVIEW"] } },
+				  "sort": { "createdAt": -1 }, "limit": 20, "lsid": { "id": 1 }, "$db": "bankingsystem" }
+				""");
+
+		String shape = QueryShape.of("find", command);
+
+		assertThat(shape).isEqualTo(BsonDocument.parse("""
+				{ "filter": { "deleted": "?", "clientName": { "$regex": "?" }, "status": { "$in": ["?"] } },
+				  "sort": { "createdAt": -1 } }
+				""").toJson());
+		assertThat(shape).doesNotContain("Acme", "DRAFT", "lsid");
+	}
+
+	@Test
+	void sameQueryWithDifferentArguments_sharesShape() {
+		BsonDocument first = BsonDocument.parse(
+				"{ \"find\": \"transactions\", \"filter\": { \"$or\": [ { \"sourceAccount\": \"ACC-1\" }, { \"destinationAccount\": \"ACC-1\" } ] } }");
+		BsonDocument second = BsonDocument.parse(
+				"{ \"find\": \"transactions\", \"filter\": { \"$or\": [ { \"sourceAccount\": \"ACC-9\" }, { \"destinationAccount\": \"ACC-9\" } ] } }");
+
+		assertThat(QueryShape.of("find", first)).isEqualTo(QueryShape.of("find", second));
+	}
+
+	@Test
+	void aggregate_keepsFieldReferencesAndGroupSpec() {
+		BsonDocument command = BsonDocument.parse("""
+				{ "aggregate": "loans", "pipeline": [
+				  { "$match": { "deleted": false, "loanType": "TERM_LOAN" } },
+				  { "$group": { "_id": "$status", "total": { "$sum": "$requestedAmount" } } } ],
+				  "cursor": {} }
+				""");
+
+		String shape = QueryShape.of("aggregate", command);
+
+		assertThat(shape).contains("$status", "$requestedAmount").doesNotContain("TERM_LOAN");
+	}
+
+	@Test
+	void update_usesFirstStatementFilter() {
+		BsonDocument command = BsonDocument.parse("""
+				{ "update": "loans", "updates": [ { "q": { "_id": { "$oid": "65a000000000000000000001" } },
+				  "u": { "$set": { "pricing": { "emi": 12.5 } } } } ] }
+				""");
+
+		assertThat(QueryShape.of("update", command)).isEqualTo(BsonDocument.parse("{ \"q\": { \"_id\": \"?\" } }").toJson());
+	}
+
+	@Test
+	void untrackedCommand_hasEmptyShape() {
+		assertThat(QueryShape.isTracked("hello")).isFalse();
+		assertThat(QueryShape.of("hello", BsonDocument.parse("{ \"hello\": 1 }"))).isEqualTo("{}");
+	}
+}
@@ -0,0 +1,141 @@
+package com.banking_system.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import com.banking_system.config.ReactiveLoansProperties;
+import com.banking_system.exception.LoanNotFoundException;
+import com.banking_system.model.Loan;
+import com.banking_system.model.LoanStatus;
+import com.banking_system.repository.ReactiveLoanRepository;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.test.publisher.TestPublisher;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveLoanServiceTest {
+
+	private static final int PREFETCH = 4;
+
+	@Mock
+	private ReactiveLoanRepository loanRepository;
+
+	@Mock
+	private ReactiveMongoTemplate mongoTemplate;
+
+	@Mock
+	private LoanCache loanCache;
+
+	private ReactiveLoanService reactiveLoanService;
+
+	@BeforeEach
+	void setUp() {
+		// Only the response mapping of LoanService is used
+		LoanService loanService = new LoanService(null, null, null, null, null, null, null);
+		reactiveLoanService = new ReactiveLoanService(
+				loanRepository, mongoTemplate, loanCache, loanService, new ReactiveLoansProperties(true, PREFETCH));
+	}
+
+	@Test
+	void getLoanById_loadsMissFromRepositoryAndCachesIt() {
+		Loan loan = loan("Acme", false);
+		when(loanCache.writeStamp(loan.getId())).thenReturn(7L);
+		when(loanRepository.findById(loan.getId())).thenReturn(Mono.just(loan));
+
+		StepVerifier.create(reactiveLoanService.getLoanById(loan.getId().toHexString()))
+				.assertNext(response -> assertThat(response.clientName()).isEqualTo("Acme"))
+				.verifyComplete();
+		// Guarded by the stamp taken before the read, never a bare put
+		verify(loanCache).putIfUnchanged(loan, 7L);
+	}
+
+	@Test
+	void getLoanById_deletedMissingOrMalformed_failsWithLoanNotFound() {
+		Loan deleted = loan("Gone", true);
+		when(loanCache.getIfPresent(deleted.getId())).thenReturn(deleted);
+		ObjectId missing = new ObjectId();
+		when(loanRepository.findById(missing)).thenReturn(Mono.empty());
+
+		StepVerifier.create(reactiveLoanService.getLoanById(deleted.getId().toHexString()))
+				.verifyError(LoanNotFoundException.class);
+		StepVerifier.create(reactiveLoanService.getLoanById(missing.toHexString()))
+				.verifyError(LoanNotFoundException.class);
+		StepVerifier.create(reactiveLoanService.getLoanById("not-an-id"))
+				.verifyError(LoanNotFoundException.class);
+	}
+
+	@Test
+	void getAllLoans_paginated_appliesFiltersAndTotal() {
+		Loan loan = loan("Acme Steel", false);
+		when(mongoTemplate.find(any(Query.class), eq(Loan.class))).thenReturn(Flux.just(loan));
+		when(mongoTemplate.count(any(Query.class), eq(Loan.class))).thenReturn(Mono.just(11L));
+
+		StepVerifier.create(reactiveLoanService.getAllLoans(false, "approved", "acme", "TermLoan", PageRequest.of(1, 10)))
+				.assertNext(page -> {
+					assertThat(page.getContent()).extracting("clientName").containsExactly("Acme Steel");
+					assertThat(page.getTotalElements()).isEqualTo(11);
+					assertThat(page.getNumber()).isEqualTo(1);
+				})
+				.verifyComplete();
+
+		ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+		verify(mongoTemplate).find(query.capture(), eq(Loan.class));
+		Document filter = query.getValue().getQueryObject();
+		assertThat(filter.get("deleted")).isEqualTo(false);
+		assertThat(filter.get("status")).isEqualTo(LoanStatus.APPROVED);
+		assertThat(filter.get("loanType")).isEqualTo("TermLoan");
+		assertThat(filter).containsKey("clientNameTokens");
+		assertThat(query.getValue().getSkip()).isEqualTo(10);
+		assertThat(query.getValue().getLimit()).isEqualTo(10);
+	}
+
+	@Test
+	void exportLoans_requestsAtMostPrefetchAheadOfSubscriber() {
+		ObjectId after = new ObjectId();
+		TestPublisher<Loan> cursor = TestPublisher.create();
+		when(loanRepository.streamActiveAfter(after)).thenReturn(cursor.flux());
+
+		StepVerifier.create(reactiveLoanService.exportLoans(after.toHexString()), 1)
+				.then(() -> cursor.assertMaxRequested(PREFETCH))
+				.then(() -> cursor.next(loan("A", false)))
+				.expectNextCount(1)
+				.then(() -> cursor.assertMaxRequested(PREFETCH))
+				.thenCancel()
+				.verify();
+		cursor.assertCancelled();
+	}
+
+	@Test
+	void exportLoans_malformedResumeId_failsWithoutQuerying() {
+		StepVerifier.create(reactiveLoanService.exportLoans("bogus"))
+				.verifyError(LoanNotFoundException.class);
+		verifyNoInteractions(loanRepository);
+	}
+
+	private static Loan loan(String clientName, boolean deleted) {
+		return new Loan(
+				new ObjectId(), clientName, "TermLoan", 10000.0, 10.0, 12, null,
+				LoanStatus.APPROVED, null, null, new ObjectId(), new ObjectId(), null, null,
+				Instant.now(), Instant.now(), deleted, null);
+	}
+}
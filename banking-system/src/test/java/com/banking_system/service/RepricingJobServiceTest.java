@@ -0,0 +1,244 @@
+package com.banking_system.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+
+import com.banking_system.config.RepricingProperties;
+import com.banking_system.exception.RepricingJobConflictException;
+import com.banking_system.model.Loan;
+import com.banking_system.model.Loan.Financials;
+import com.banking_system.model.LoanStatus;
+import com.banking_system.model.RepricingJob;
+import com.banking_system.model.RepricingJobState;
+import com.banking_system.model.dto.RepricingJobStatus;
+import com.banking_system.model.dto.StartRepricingRequest;
+import com.banking_system.repository.LoanRepository;
+import com.banking_system.repository.RepricingJobRepository;
+import com.mongodb.bulk.BulkWriteResult;
+
+@ExtendWith(MockitoExtension.class)
+class RepricingJobServiceTest {
+
+	@Mock
+	private LoanRepository loanRepository;
+
+	@Mock
+	private RepricingJobRepository repricingJobRepository;
+
+	@Mock
+	private MongoTemplate mongoTemplate;
+
+	@Mock
+	private LoanCache loanCache;
+
+	@Mock
+	private PricingMemo pricingMemo;
+
+	private final PricingService pricingService = new PricingService();
+
+	@Test
+	void start_repricesStaleLoansInChunksAndCheckpoints() {
+		Loan stale = loan();
+		Loan current = loan();
+		current.setPricing(LoanService.toSnapshot(
+				pricingService.calculatePricing(LoanService.pricingRequest(current)),
+				PricingMemo.inputsHash(LoanService.pricingRequest(current), pricingService.rulesKey()),
+				0L));
+		Loan unpriceable = loan();
+		unpriceable.setRequestedAmount(null);
+		List<Loan> loans = List.of(stale, current, unpriceable);
+
+		when(loanRepository.countForRepricing(RepricingJobService.OPEN_STATUSES, RepricingJobService.START)).thenReturn(3L);
+		when(loanRepository.streamForRepricing(RepricingJobService.OPEN_STATUSES, RepricingJobService.START))
+				.thenReturn(loans.stream());
+		savesNewJobs();
+		List<ObjectId> checkpoints = recordCheckpoints();
+		BulkOperations bulk = bulkMatching(1);
+
+		RepricingJobStatus status = service(Runnable::run).start(null);
+
+		assertThat(status.state()).isEqualTo(RepricingJobState.COMPLETED);
+		assertThat(status.total()).isEqualTo(3);
+		assertThat(status.processed()).isEqualTo(3);
+		assertThat(status.repriced()).isEqualTo(1);
+		assertThat(status.unchanged()).isEqualTo(1);
+		assertThat(status.failed()).isEqualTo(1);
+		assertThat(status.percentComplete()).isEqualTo(100.0);
+		assertThat(status.lastLoanId()).isEqualTo(unpriceable.getId().toHexString());
+		// One checkpoint per chunk of two, then the final state
+		assertThat(checkpoints).containsExactly(current.getId(), unpriceable.getId(), unpriceable.getId());
+		verify(bulk, times(1)).updateOne(any(Query.class), any(Update.class));
+		verify(loanCache).invalidate(stale.getId());
+		verify(loanCache, never()).invalidate(current.getId());
+	}
+
+	@Test
+	void start_countsLoansEditedDuringTheRunAsConflicts() {
+		List<Loan> loans = List.of(loan(), loan());
+		when(loanRepository.countForRepricing(any(), any())).thenReturn(2L);
+		when(loanRepository.streamForRepricing(any(), any())).thenReturn(loans.stream());
+		savesNewJobs();
+		recordCheckpoints();
+		bulkMatching(1);
+
+		RepricingJobStatus status = service(Runnable::run).start(new StartRepricingRequest(List.of(LoanStatus.DRAFT), 0));
+
+		assertThat(status.statuses()).containsExactly(LoanStatus.DRAFT);
+		assertThat(status.repriced()).isEqualTo(1);
+		assertThat(status.conflicts()).isEqualTo(1);
+	}
+
+	@Test
+	void start_whileRunning_isRejected() {
+		List<Runnable> queued = new ArrayList<>();
+		when(loanRepository.countForRepricing(any(), any())).thenReturn(0L);
+		savesNewJobs();
+		RepricingJobService service = service(queued::add);
+
+		RepricingJobStatus first = service.start(null);
+
+		assertThat(first.state()).isEqualTo(RepricingJobState.RUNNING);
+		assertThat(service.status()).contains(first);
+		assertThatThrownBy(() -> service.start(null)).isInstanceOf(RepricingJobConflictException.class);
+		assertThat(queued).hasSize(1);
+	}
+
+	@Test
+	void start_whileAnotherNodeHoldsARunningJob_isRejected() {
+		RepricingJob elsewhere = new RepricingJob(RepricingJobService.OPEN_STATUSES, "rules v2", 2L, Instant.now());
+		elsewhere.setId(new ObjectId());
+		when(repricingJobRepository.findByStateOrderByStartedAtAsc(RepricingJobState.RUNNING)).thenReturn(List.of(elsewhere));
+		claims(null);
+
+		assertThatThrownBy(() -> service(Runnable::run).start(null)).isInstanceOf(RepricingJobConflictException.class);
+		verify(repricingJobRepository, never()).save(any(RepricingJob.class));
+	}
+
+	@Test
+	void start_stopsWithoutFinishingWhenAnotherNodeTakesTheJobOver() {
+		List<Loan> loans = List.of(loan(), loan(), loan());
+		when(loanRepository.countForRepricing(any(), any())).thenReturn(3L);
+		when(loanRepository.streamForRepricing(any(), any())).thenReturn(loans.stream());
+		savesNewJobs();
+		when(mongoTemplate.findAndReplace(any(Query.class), any(RepricingJob.class))).thenReturn(null);
+		bulkMatching(2);
+
+		RepricingJobStatus status = service(Runnable::run).start(null);
+
+		assertThat(status.state()).isEqualTo(RepricingJobState.RUNNING);
+		assertThat(status.processed()).isEqualTo(2);
+		// The first checkpoint found the job owned elsewhere: no second chunk, no final state
+		verify(mongoTemplate, times(1)).findAndReplace(any(Query.class), any(RepricingJob.class));
+		verify(mongoTemplate, times(1)).bulkOps(BulkOperations.BulkMode.UNORDERED, Loan.class);
+	}
+
+	@Test
+	void resumeInterrupted_continuesFromCheckpoint() {
+		ObjectId checkpoint = new ObjectId();
+		RepricingJob job = new RepricingJob(RepricingJobService.OPEN_STATUSES, "manual", 1L, Instant.now());
+		job.setId(new ObjectId());
+		job.setProcessed(5);
+		job.setLastLoanId(checkpoint);
+		Loan remaining = loan();
+		when(repricingJobRepository.findByStateOrderByStartedAtAsc(RepricingJobState.RUNNING)).thenReturn(List.of(job));
+		claims(job);
+		when(loanRepository.countForRepricing(RepricingJobService.OPEN_STATUSES, checkpoint)).thenReturn(1L);
+		when(loanRepository.streamForRepricing(RepricingJobService.OPEN_STATUSES, checkpoint))
+				.thenReturn(Stream.of(remaining));
+		recordCheckpoints();
+		bulkMatching(1);
+
+		service(Runnable::run).resumeInterrupted();
+
+		assertThat(job.getState()).isEqualTo(RepricingJobState.COMPLETED);
+		assertThat(job.getTotal()).isEqualTo(6);
+		assertThat(job.getProcessed()).isEqualTo(6);
+		assertThat(job.getLastLoanId()).isEqualTo(remaining.getId());
+	}
+
+	@Test
+	void resumeInterrupted_leavesJobsHeldByAnotherNodeAlone() {
+		RepricingJob job = new RepricingJob(RepricingJobService.OPEN_STATUSES, "manual", 1L, Instant.now());
+		job.setId(new ObjectId());
+		when(repricingJobRepository.findByStateOrderByStartedAtAsc(RepricingJobState.RUNNING)).thenReturn(List.of(job));
+		claims(null);
+
+		RepricingJobService service = service(Runnable::run);
+		service.resumeInterrupted();
+
+		assertThat(job.getState()).isEqualTo(RepricingJobState.RUNNING);
+		verify(loanRepository, never()).streamForRepricing(any(), any());
+		verify(mongoTemplate, never()).findAndReplace(any(Query.class), any(RepricingJob.class));
+	}
+
+	private RepricingJobService service(TaskExecutor executor) {
+		return new RepricingJobService(loanRepository, repricingJobRepository, mongoTemplate, pricingService,
+				loanCache, pricingMemo, new RepricingProperties(2, 1, 0, true, Duration.ofMinutes(5)), executor);
+	}
+
+	private void savesNewJobs() {
+		when(repricingJobRepository.save(any(RepricingJob.class))).thenAnswer(inv -> {
+			RepricingJob job = inv.getArgument(0);
+			job.setId(new ObjectId());
+			return job;
+		});
+	}
+
+	// Null stands for a job another node holds
+	private void claims(RepricingJob job) {
+		when(mongoTemplate.findAndModify(any(Query.class), any(UpdateDefinition.class), any(FindAndModifyOptions.class),
+				eq(RepricingJob.class))).thenReturn(job);
+	}
+
+	private List<ObjectId> recordCheckpoints() {
+		List<ObjectId> checkpoints = new ArrayList<>();
+		when(mongoTemplate.findAndReplace(any(Query.class), any(RepricingJob.class))).thenAnswer(inv -> {
+			RepricingJob job = inv.getArgument(1);
+			checkpoints.add(job.getLastLoanId());
+			return job;
+		});
+		return checkpoints;
+	}
+
+	private BulkOperations bulkMatching(int matched) {
+		BulkOperations bulk = mock(BulkOperations.class);
+		BulkWriteResult result = mock(BulkWriteResult.class);
+		when(result.getMatchedCount()).thenReturn(matched);
+		when(bulk.execute()).thenReturn(result);
+		when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Loan.class)).thenReturn(bulk);
+		return bulk;
+	}
+
+	private static Loan loan() {
+		return new Loan(
+				new ObjectId(), "Client", "TermLoan", 10_000_000.0, 10.0, 36, new Financials(50_000_000.0, 8_000_000.0, "B"),
+				LoanStatus.SUBMITTED, null, null, new ObjectId(), new ObjectId(), null, null,
+				Instant.now(), Instant.now(), false, null);
+	}
+}
@@ -0,0 +1,55 @@
+package com.banking_system.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import com.banking_system.exception.InvalidPricingGridException;
+import com.banking_system.model.dto.PricingRequest;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ServiceMetricsTest {
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+	@Test
+	void timedService_recordsEachPublicMethodByClassAndMethod() {
+		PricingService pricing = timed(new PricingService());
+
+		pricing.calculatePricing(new PricingRequest(1_000_000.0, 10.0, 12, "B"));
+		pricing.calculatePricing(new PricingRequest(2_000_000.0, 10.0, 24, "A"));
+
+		Timer timer = registry.get("banking.service")
+				.tag("class", PricingService.class.getName())
+				.tag("method", "calculatePricing")
+				.tag("exception", "none")
+				.timer();
+		assertThat(timer.count()).isEqualTo(2);
+	}
+
+	@Test
+	void timedService_tagsFailuresWithTheExceptionType() {
+		PricingService pricing = timed(new PricingService());
+
+		assertThatThrownBy(() -> pricing.priceGrid("id", "B", null, new double[1000], new int[1000], new double[1000]))
+				.isInstanceOf(InvalidPricingGridException.class);
+
+		assertThat(registry.get("banking.service")
+				.tag("method", "priceGrid")
+				.tag("exception", InvalidPricingGridException.class.getSimpleName())
+				.timer()
+				.count()).isEqualTo(1);
+	}
+
+	private <T> T timed(T target) {
+		AspectJProxyFactory factory = new AspectJProxyFactory(target);
+		factory.setProxyTargetClass(true);
+		factory.addAspect(new TimedAspect(registry));
+		return factory.getProxy();
+	}
+}
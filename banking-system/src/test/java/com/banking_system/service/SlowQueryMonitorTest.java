@@ -0,0 +1,72 @@
+package com.banking_system.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import com.banking_system.config.MongoProfilingProperties;
+import com.banking_system.model.dto.SlowQueryEntry;
+import com.banking_system.model.dto.SlowQueryReport;
+
+class SlowQueryMonitorTest {
+
+	private static final long MS = 1_000_000L;
+
+	@SuppressWarnings("unchecked")
+	private final SlowQueryMonitor monitor = new SlowQueryMonitor(
+			new MongoProfilingProperties(true, Duration.ofMillis(100), false, 2, Duration.ofMinutes(15), 3),
+			mock(ObjectProvider.class),
+			Runnable::run);
+
+	private static SlowQueryMonitor.Key key(String method, String shape) {
+		return new SlowQueryMonitor.Key(method, "find", "bankingsystem.loans", shape);
+	}
+
+	@Test
+	void report_aggregatesPerShapeAndOrdersBySlowest() {
+		SlowQueryMonitor.Key byStatus = key("LoanRepository.findByDeletedFalseAndStatus", "{\"filter\": {\"status\": \"?\"}}");
+		SlowQueryMonitor.Key byId = key("LoanRepository.findById", "{\"filter\": {\"_id\": \"?\"}}");
+		monitor.record(byStatus, 40 * MS, false, null);
+		monitor.record(byStatus, 160 * MS, false, null);
+		monitor.record(byId, 2 * MS, true, null);
+
+		SlowQueryReport report = monitor.report();
+
+		assertThat(report.queries()).extracting(SlowQueryEntry::repositoryMethod)
+				.containsExactly("LoanRepository.findByDeletedFalseAndStatus", "LoanRepository.findById");
+		SlowQueryEntry slowest = report.queries().get(0);
+		assertThat(slowest.count()).isEqualTo(2);
+		assertThat(slowest.slowCount()).isEqualTo(1);
+		assertThat(slowest.meanMillis()).isEqualTo(100.0);
+		assertThat(slowest.maxMillis()).isEqualTo(160.0);
+		assertThat(slowest.lastSlowAt()).isNotNull();
+		assertThat(report.queries().get(1).failures()).isEqualTo(1);
+	}
+
+	@Test
+	void report_keepsTopNAndCountsShapesOverTheCap() {
+		for (int i = 0; i < 5; i++) {
+			monitor.record(key("LoanRepository.q" + i, "{}"), (i + 1) * MS, false, null);
+		}
+
+		SlowQueryReport report = monitor.report();
+
+		assertThat(report.queries()).extracting(SlowQueryEntry::repositoryMethod)
+				.containsExactly("LoanRepository.q2", "LoanRepository.q1");
+		assertThat(report.untrackedShapes()).isEqualTo(2);
+	}
+
+	@Test
+	void reset_clearsTheTable() {
+		monitor.record(key("LoanRepository.findById", "{}"), 500 * MS, false, null);
+
+		monitor.reset();
+
+		assertThat(monitor.report().queries()).isEmpty();
+	}
+}
@@ -0,0 +1,83 @@
+package com.banking_system.service;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vector API implementation of {@link EmiKernel}, compiled only by the {@code vector}
+ * profile. Only loaded once {@link EmiKernel} has checked that
+ * {@code jdk.incubator.vector} is in the boot layer.
+ *
+ * {@code (1 + r)^n} is computed by square-and-multiply over the bits of each lane's
+ * tenure: every step squares the base and multiplies it into the lanes whose current
+ * bit is set, so a 600-month tenure takes ten multiply steps and no transcendental calls.
+ */
+final class VectorEmiKernel {
+
+	private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+	// Same lane count as DOUBLES, null when the preferred shape is too narrow to split
+	private static final VectorSpecies<Integer> INTS = intSpecies();
+
+	private VectorEmiKernel() {
+	}
+
+	static boolean supported() {
+		return INTS != null && DOUBLES.length() > 1;
+	}
+
+	static void compute(
+			double[] principal,
+			double[] annualRatePercent,
+			int[] tenureMonths,
+			double[] emi,
+			double[] totalInterest,
+			int from,
+			int to) {
+		int i = from;
+		int bound = from + DOUBLES.loopBound(to - from);
+		for (; i < bound; i += DOUBLES.length()) {
+			DoubleVector p = DoubleVector.fromArray(DOUBLES, principal, i);
+			DoubleVector r = DoubleVector.fromArray(DOUBLES, annualRatePercent, i).div(100.0).div(12.0);
+			IntVector n = IntVector.fromArray(INTS, tenureMonths, i);
+			DoubleVector months = (DoubleVector) n.castShape(DOUBLES, 0);
+
+			DoubleVector power = DoubleVector.broadcast(DOUBLES, 1.0);
+			DoubleVector base = r.add(1.0);
+			IntVector remaining = n;
+			while (true) {
+				// Casting the lane values keeps the mask in the double species; casting an int
+				// mask across species is not intrinsified on JDK 17 and is ~10x slower
+				VectorMask<Double> bitSet = ((DoubleVector) remaining.and(1).castShape(DOUBLES, 0))
+						.compare(VectorOperators.NE, 0.0);
+				power = power.mul(base, bitSet);
+				remaining = remaining.lanewise(VectorOperators.LSHR, 1);
+				if (!remaining.compare(VectorOperators.NE, 0).anyTrue()) {
+					break;
+				}
+				base = base.mul(base);
+			}
+
+			VectorMask<Double> positive = r.compare(VectorOperators.GT, 0.0);
+			DoubleVector amortizing = p.mul(r).mul(power).div(power.sub(1.0));
+			DoubleVector interestFree = p.div(months);
+			DoubleVector e = interestFree.blend(amortizing, positive);
+			DoubleVector interest = DoubleVector.zero(DOUBLES).blend(e.mul(months).sub(p), positive);
+			e.intoArray(emi, i);
+			interest.intoArray(totalInterest, i);
+		}
+		EmiKernel.computeScalar(principal, annualRatePercent, tenureMonths, emi, totalInterest, i, to);
+	}
+
+	private static VectorSpecies<Integer> intSpecies() {
+		try {
+			VectorSpecies<Integer> ints = VectorSpecies.of(int.class, VectorShape.forBitSize(DOUBLES.vectorBitSize() / 2));
+			return ints.length() == DOUBLES.length() ? ints : null;
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
+	}
+}